@@ -1,5 +1,8 @@
 package com.hermes.approvalservice.client;
 
+import com.hermes.api.common.ApiResult;
+import com.hermes.approvalservice.client.dto.OrganizationAssignment;
+import com.hermes.approvalservice.client.dto.OrganizationInfo;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
@@ -11,33 +14,14 @@ import java.util.List;
 public class OrganizationServiceClientFallback implements OrganizationServiceClient {
 
     @Override
-    public OrganizationInfo getOrganizationById(Long id) {
-        log.warn("Organization service is unavailable. Returning fallback for organization id: {}", id);
-        OrganizationInfo fallback = new OrganizationInfo();
-        fallback.setId(id);
-        fallback.setName("Unknown Organization");
-        return fallback;
+    public ApiResult<List<OrganizationInfo>> getAllOrganizations() {
+        log.error("OrganizationServiceClient fallback triggered for getAllOrganizations");
+        return ApiResult.failure("org-service connection failed", Collections.emptyList());
     }
 
     @Override
-    public List<Long> getOrganizationMembers(Long id) {
-        log.warn("Organization service is unavailable. Returning empty members list for organization id: {}", id);
-        return Collections.emptyList();
+    public ApiResult<List<OrganizationAssignment>> getAllAssignments() {
+        log.error("OrganizationServiceClient fallback triggered for getAllAssignments");
+        return ApiResult.failure("org-service connection failed", Collections.emptyList());
     }
-
-    @Override
-    public List<ManagerInfo> getOrganizationManagers(Long id) {
-        log.warn("Organization service is unavailable. Returning empty managers list for organization id: {}", id);
-        return Collections.emptyList();
-    }
-
-    @Override
-    public ManagerInfo getNthLevelManager(Long userId, Integer level) {
-        log.warn("Organization service is unavailable. Returning fallback manager for user {} level {}", userId, level);
-        ManagerInfo fallback = new ManagerInfo();
-        fallback.setUserId(userId);
-        fallback.setName("Unknown Manager");
-        fallback.setLevel(level);
-        return fallback;
-    }
-}
\ No newline at end of file
+}
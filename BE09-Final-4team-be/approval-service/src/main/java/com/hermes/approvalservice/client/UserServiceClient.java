@@ -1,10 +1,13 @@
 package com.hermes.approvalservice.client;
 
 import com.hermes.api.common.ApiResult;
+import com.hermes.approvalservice.client.dto.UserBulkLookupRequest;
 import com.hermes.approvalservice.client.dto.UserProfile;
 import org.springframework.cloud.openfeign.FeignClient;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestParam;
 
 import java.util.List;
@@ -15,6 +18,9 @@ public interface UserServiceClient {
     @GetMapping("/api/users/{userId}/profile")
     ApiResult<UserProfile> getUserProfile(@PathVariable("userId") Long userId);
 
+    @PostMapping("/api/users/profiles/bulk")
+    ApiResult<List<UserProfile>> getUserProfiles(@RequestBody UserBulkLookupRequest request);
+
     @GetMapping("/api/users/search-ids")
     List<Long> searchUserIds(@RequestParam("name") String name);
 
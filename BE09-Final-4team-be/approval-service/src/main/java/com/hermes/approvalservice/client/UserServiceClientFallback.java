@@ -1,6 +1,7 @@
 package com.hermes.approvalservice.client;
 
 import com.hermes.api.common.ApiResult;
+import com.hermes.approvalservice.client.dto.UserBulkLookupRequest;
 import com.hermes.approvalservice.client.dto.UserProfile;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
@@ -24,7 +25,14 @@ public class UserServiceClientFallback implements UserServiceClient {
                 .profileImageUrl("")
                 .build();
         
-        return ApiResult.success(fallbackUserProfile);
+        // 표시용 기본값은 유지하되, 호출 측이 실패를 구분할 수 있도록 FAILURE로 반환
+        return ApiResult.failure("user-service connection failed", fallbackUserProfile);
+    }
+
+    @Override
+    public ApiResult<List<UserProfile>> getUserProfiles(UserBulkLookupRequest request) {
+        log.error("UserServiceClient fallback triggered for getUserProfiles, count: {}", request.getUserIds().size());
+        return ApiResult.failure("user-service connection failed", Collections.emptyList());
     }
 
     @Override
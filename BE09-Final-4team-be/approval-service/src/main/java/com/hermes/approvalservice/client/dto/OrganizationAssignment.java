@@ -0,0 +1,16 @@
+package com.hermes.approvalservice.client.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class OrganizationAssignment {
+
+    private Long employeeId;
+    private Long organizationId;
+    private Boolean isPrimary;
+    private Boolean isLeader;
+}
@@ -0,0 +1,15 @@
+package com.hermes.approvalservice.client.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class OrganizationInfo {
+
+    private Long organizationId;
+    private String name;
+    private Long parentId;
+}
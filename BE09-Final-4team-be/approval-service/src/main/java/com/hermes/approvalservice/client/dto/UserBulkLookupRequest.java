@@ -0,0 +1,17 @@
+package com.hermes.approvalservice.client.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserBulkLookupRequest {
+
+    public static final int MAX_USER_IDS = 1000;
+
+    private List<Long> userIds;
+}
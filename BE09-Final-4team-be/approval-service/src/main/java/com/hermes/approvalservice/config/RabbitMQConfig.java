@@ -0,0 +1,91 @@
+package com.hermes.approvalservice.config;
+
+import org.springframework.amqp.core.Binding;
+import org.springframework.amqp.core.BindingBuilder;
+import org.springframework.amqp.core.ExchangeBuilder;
+import org.springframework.amqp.core.Queue;
+import org.springframework.amqp.core.QueueBuilder;
+import org.springframework.amqp.core.TopicExchange;
+import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
+import org.springframework.amqp.support.converter.MessageConverter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class RabbitMQConfig {
+
+    @Value("${hermes.organization.events.exchange:organization.events}")
+    private String organizationExchange;
+
+    @Value("${hermes.organization.events.queue:organization.events.approval-service}")
+    private String organizationQueue;
+
+    @Value("${hermes.user.events.exchange:user.events}")
+    private String userExchange;
+
+    @Value("${hermes.user.events.queue:user.events.approval-service}")
+    private String userQueue;
+
+    /**
+     * JSON 메시지 컨버터 (RabbitTemplate 자동 구성에서 사용)
+     */
+    @Bean
+    public MessageConverter jackson2JsonMessageConverter() {
+        return new Jackson2JsonMessageConverter();
+    }
+
+    /**
+     * 조직 이벤트 Exchange (org-service에서 발행)
+     */
+    @Bean
+    public TopicExchange organizationEventExchange() {
+        return ExchangeBuilder
+                .topicExchange(organizationExchange)
+                .durable(true)
+                .build();
+    }
+
+    /**
+     * approval-service 전용 조직 이벤트 Queue (결재 대상 조직 스냅샷 무효화)
+     */
+    @Bean
+    public Queue organizationEventQueue() {
+        return QueueBuilder.durable(organizationQueue).build();
+    }
+
+    @Bean
+    public Binding organizationEventBinding(Queue organizationEventQueue, TopicExchange organizationEventExchange) {
+        return BindingBuilder
+                .bind(organizationEventQueue)
+                .to(organizationEventExchange)
+                .with("organization.#"); // 조직/인사발령 변경 이벤트를 모두 받음
+    }
+
+    /**
+     * 사용자 이벤트 Exchange (user-service에서 발행)
+     */
+    @Bean
+    public TopicExchange userEventExchange() {
+        return ExchangeBuilder
+                .topicExchange(userExchange)
+                .durable(true)
+                .build();
+    }
+
+    /**
+     * approval-service 전용 사용자 이벤트 Queue (결재 문서함 작성자 이름 갱신)
+     */
+    @Bean
+    public Queue userEventQueue() {
+        return QueueBuilder.durable(userQueue).build();
+    }
+
+    @Bean
+    public Binding userEventBinding(Queue userEventQueue, TopicExchange userEventExchange) {
+        return BindingBuilder
+                .bind(userEventQueue)
+                .to(userEventExchange)
+                .with("user.*"); // 모든 사용자 이벤트를 받음
+    }
+}
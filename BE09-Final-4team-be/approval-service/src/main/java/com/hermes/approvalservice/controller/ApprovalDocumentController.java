@@ -3,9 +3,12 @@ package com.hermes.approvalservice.controller;
 import com.hermes.approvalservice.dto.request.ApprovalActionRequest;
 import com.hermes.approvalservice.dto.request.CreateDocumentRequest;
 import com.hermes.approvalservice.dto.request.UpdateDocumentRequest;
+import com.hermes.approvalservice.dto.response.ApprovalInboxPageResponse;
 import com.hermes.approvalservice.dto.response.DocumentResponse;
 import com.hermes.approvalservice.dto.response.DocumentSummaryResponse;
+import com.hermes.approvalservice.enums.DocumentRole;
 import com.hermes.approvalservice.enums.DocumentStatus;
+import com.hermes.approvalservice.service.ApprovalInboxService;
 import com.hermes.approvalservice.service.ApprovalDocumentService;
 import com.hermes.approvalservice.service.ApprovalProcessService;
 import com.hermes.auth.principal.UserPrincipal;
@@ -21,11 +24,13 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
 
 @RestController
@@ -36,6 +41,7 @@ public class ApprovalDocumentController {
 
     private final ApprovalDocumentService documentService;
     private final ApprovalProcessService approvalProcessService;
+    private final ApprovalInboxService inboxService;
 
     @Operation(summary = "문서 목록 조회", description = "현재 사용자가 접근할 수 있는 문서 목록을 필터링하여 페이지네이션으로 조회합니다.")
     @GetMapping
@@ -52,6 +58,24 @@ public class ApprovalDocumentController {
     }
 
 
+    @Operation(summary = "문서함 조회", description = "현재 사용자의 문서함을 커서 기반으로 조회합니다. 첫 페이지는 커서 없이 요청하고, 이후에는 응답의 nextCursorCreatedAt/nextCursorId를 전달합니다.")
+    @GetMapping("/inbox")
+    public ResponseEntity<ApprovalInboxPageResponse> getInbox(
+            @AuthenticationPrincipal UserPrincipal user,
+            @Parameter(description = "문서 상태 필터 (여러 개 선택 가능)") @RequestParam(required = false) List<DocumentStatus> status,
+            @Parameter(description = "내 역할 필터 (AUTHOR, APPROVER, REFERENCE)") @RequestParam(required = false) List<DocumentRole> role,
+            @Parameter(description = "내 승인 대기 문서만 조회") @RequestParam(required = false) Boolean actionRequired,
+            @Parameter(description = "검색 키워드 (템플릿 제목 또는 작성자 이름)") @RequestParam(required = false) String search,
+            @Parameter(description = "조회 시작 날짜 (yyyy-MM-dd)") @RequestParam(required = false) LocalDate startDate,
+            @Parameter(description = "조회 종료 날짜 (yyyy-MM-dd)") @RequestParam(required = false) LocalDate endDate,
+            @Parameter(description = "커서: 이전 페이지 마지막 문서의 작성 일시") @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime cursorCreatedAt,
+            @Parameter(description = "커서: 이전 페이지 마지막 문서 ID") @RequestParam(required = false) Long cursorId,
+            @Parameter(description = "페이지 크기 (기본 20, 최대 100)") @RequestParam(required = false) Integer size) {
+        ApprovalInboxPageResponse inbox = inboxService.getInbox(user.getId(), status, role, actionRequired, search,
+                startDate, endDate, cursorCreatedAt, cursorId, size);
+        return ResponseEntity.ok(inbox);
+    }
+
     @Operation(summary = "문서 상세 조회", description = "지정한 ID의 문서 상세 정보를 조회합니다.")
     @GetMapping("/{id}")
     public ResponseEntity<DocumentResponse> getDocumentById(
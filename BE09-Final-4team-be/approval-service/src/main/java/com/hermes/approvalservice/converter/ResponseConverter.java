@@ -1,12 +1,10 @@
 package com.hermes.approvalservice.converter;
 
-import com.hermes.api.common.ApiResult;
 import com.hermes.attachment.service.AttachmentClientService;
-import com.hermes.approvalservice.client.UserServiceClient;
-import com.hermes.approvalservice.client.dto.UserProfile;
 import com.hermes.approvalservice.dto.response.*;
 import com.hermes.approvalservice.entity.*;
 import com.hermes.approvalservice.enums.ApprovalStatus;
+import com.hermes.approvalservice.service.UserProfileResolver;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
@@ -14,7 +12,7 @@ import org.springframework.stereotype.Component;
 @RequiredArgsConstructor
 public class ResponseConverter {
 
-    private final UserServiceClient userServiceClient;
+    private final UserProfileResolver userProfileResolver;
     private final AttachmentClientService attachmentClientService;
 
     public DocumentActivityResponse convertToDocumentActivityResponse(DocumentActivity activity) {
@@ -22,8 +20,7 @@ public class ResponseConverter {
         response.setId(activity.getId());
         response.setActivityType(activity.getActivityType());
         
-        ApiResult<UserProfile> userResult = userServiceClient.getUserProfile(activity.getUserId());
-        response.setUser(userResult.getData());
+        response.setUser(userProfileResolver.resolve(activity.getUserId()));
         
         response.setDescription(activity.getDescription());
         response.setReason(activity.getReason());
@@ -36,8 +33,7 @@ public class ResponseConverter {
         response.setId(comment.getId());
         response.setContent(comment.getContent());
         
-        ApiResult<UserProfile> userResult = userServiceClient.getUserProfile(comment.getAuthorId());
-        response.setAuthor(userResult.getData());
+        response.setAuthor(userProfileResolver.resolve(comment.getAuthorId()));
         
         response.setCreatedAt(comment.getCreatedAt());
         response.setUpdatedAt(comment.getUpdatedAt());
@@ -76,13 +72,11 @@ public class ResponseConverter {
         response.setProcessedAt(target.getProcessedAt());
         
         if (target.getUserId() != null) {
-            ApiResult<UserProfile> userResult = userServiceClient.getUserProfile(target.getUserId());
-            response.setUser(userResult.getData());
+            response.setUser(userProfileResolver.resolve(target.getUserId()));
         }
         
         if (target.getProcessedBy() != null) {
-            ApiResult<UserProfile> processorResult = userServiceClient.getUserProfile(target.getProcessedBy());
-            response.setProcessor(processorResult.getData());
+            response.setProcessor(userProfileResolver.resolve(target.getProcessedBy()));
         }
         
         return response;
@@ -99,8 +93,7 @@ public class ResponseConverter {
         response.setProcessedAt(null);
         
         if (target.getUserId() != null) {
-            ApiResult<UserProfile> userResult = userServiceClient.getUserProfile(target.getUserId());
-            response.setUser(userResult.getData());
+            response.setUser(userProfileResolver.resolve(target.getUserId()));
         }
         
         return response;
@@ -0,0 +1,28 @@
+package com.hermes.approvalservice.dto.response;
+
+import com.hermes.approvalservice.enums.ApprovalStatus;
+import com.hermes.approvalservice.enums.DocumentRole;
+import com.hermes.approvalservice.enums.DocumentStatus;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+@Data
+public class ApprovalInboxItemResponse {
+
+    private Long documentId;
+    private DocumentStatus status;
+    private DocumentRole myRole;
+    private Integer currentStage;
+    private Integer totalStages;
+    private Integer myApprovalStage;
+    private ApprovalStatus myApprovalStatus;
+    private Boolean isApprovalRequired;
+    private Long authorId;
+    private String authorName;
+    private Long templateId;
+    private String templateTitle;
+    private LocalDateTime createdAt;
+    private LocalDateTime submittedAt;
+    private LocalDateTime approvedAt;
+}
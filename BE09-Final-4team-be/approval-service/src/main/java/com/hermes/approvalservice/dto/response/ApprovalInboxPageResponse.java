@@ -0,0 +1,20 @@
+package com.hermes.approvalservice.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 문서함 키셋 페이지 (다음 페이지 요청 시 nextCursorCreatedAt/nextCursorId를 그대로 전달, 마지막 페이지면 null)
+ */
+@Data
+@AllArgsConstructor
+public class ApprovalInboxPageResponse {
+
+    private List<ApprovalInboxItemResponse> items;
+    private LocalDateTime nextCursorCreatedAt;
+    private Long nextCursorId;
+    private boolean hasNext;
+}
@@ -4,6 +4,7 @@ import com.hermes.attachment.entity.AttachmentInfo;
 import com.hermes.approvalservice.enums.DocumentStatus;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.BatchSize;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
@@ -41,29 +42,35 @@ public class ApprovalDocument {
     @JoinColumn(name = "template_id", nullable = false)
     private DocumentTemplate template;
 
+    @BatchSize(size = 100) // 목록/상세 조회 시 문서별 컬렉션 로딩을 IN 쿼리로 묶음
     @OneToMany(mappedBy = "document", cascade = CascadeType.ALL, orphanRemoval = true, fetch = FetchType.LAZY)
     @Builder.Default
     private List<DocumentFieldValue> fieldValues = new ArrayList<>();
 
+    @BatchSize(size = 100)
     @OneToMany(mappedBy = "document", cascade = CascadeType.ALL, orphanRemoval = true, fetch = FetchType.LAZY)
     @OrderBy("stageOrder ASC")
     @Builder.Default
     private List<DocumentApprovalStage> approvalStages = new ArrayList<>();
 
+    @BatchSize(size = 100)
     @OneToMany(mappedBy = "document", cascade = CascadeType.ALL, orphanRemoval = true, fetch = FetchType.LAZY)
     @Builder.Default
     private List<DocumentApprovalTarget> referenceTargets = new ArrayList<>();
 
+    @BatchSize(size = 100)
     @OneToMany(mappedBy = "document", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
     @OrderBy("createdAt ASC")
     @Builder.Default
     private List<DocumentActivity> activities = new ArrayList<>();
 
+    @BatchSize(size = 100)
     @OneToMany(mappedBy = "document", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
     @OrderBy("createdAt ASC")
     @Builder.Default
     private List<DocumentComment> comments = new ArrayList<>();
 
+    @BatchSize(size = 100)
     @ElementCollection
     @CollectionTable(name = "document_attachments", joinColumns = @JoinColumn(name = "document_id"))
     @Builder.Default
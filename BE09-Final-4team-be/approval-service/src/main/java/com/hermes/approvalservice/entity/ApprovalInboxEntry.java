@@ -0,0 +1,99 @@
+package com.hermes.approvalservice.entity;
+
+import com.hermes.approvalservice.enums.ApprovalStatus;
+import com.hermes.approvalservice.enums.DocumentRole;
+import com.hermes.approvalservice.enums.DocumentStatus;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 사용자별 결재 문서함 조회 모델 (문서 x 관련 사용자 1행)
+ * 문서/결재 처리 트랜잭션 안에서 함께 갱신되며, 목록 조회는 이 테이블만 읽는다.
+ */
+@Entity
+@Table(name = "approval_inbox",
+        uniqueConstraints = @UniqueConstraint(name = "uk_approval_inbox_user_document", columnNames = {"user_id", "document_id"}),
+        indexes = {
+                @Index(name = "idx_approval_inbox_user_created", columnList = "user_id, document_created_at DESC, document_id DESC"),
+                @Index(name = "idx_approval_inbox_user_status", columnList = "user_id, document_status, document_created_at DESC, document_id DESC"),
+                @Index(name = "idx_approval_inbox_user_action", columnList = "user_id, action_required, document_created_at DESC, document_id DESC"),
+                @Index(name = "idx_approval_inbox_user_role", columnList = "user_id, role, document_created_at DESC, document_id DESC"),
+                @Index(name = "idx_approval_inbox_document", columnList = "document_id"),
+                @Index(name = "idx_approval_inbox_template", columnList = "template_id"),
+                @Index(name = "idx_approval_inbox_author", columnList = "author_id")
+        })
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ApprovalInboxEntry {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "document_id", nullable = false)
+    private Long documentId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private DocumentRole role;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "document_status", nullable = false, length = 20)
+    private DocumentStatus documentStatus;
+
+    @Column(nullable = false)
+    private Integer currentStage;
+
+    @Column(nullable = false)
+    private Integer totalStages;
+
+    // 승인자인 경우 본인이 속한 단계와 처리 상태
+    @Column
+    private Integer myStageOrder;
+
+    @Enumerated(EnumType.STRING)
+    @Column(length = 20)
+    private ApprovalStatus myApprovalStatus;
+
+    // 진행중 문서의 현재 단계에서 본인 승인이 대기 중인지 여부
+    @Column(name = "action_required", nullable = false)
+    private Boolean actionRequired;
+
+    @Column(nullable = false)
+    private Long authorId;
+
+    @Column(length = 100)
+    private String authorName;
+
+    @Column(length = 100)
+    private String authorNameKey; // 검색용 소문자
+
+    @Column(name = "template_id", nullable = false)
+    private Long templateId;
+
+    @Column(nullable = false, length = 200)
+    private String templateTitle;
+
+    @Column(nullable = false, length = 200)
+    private String templateTitleKey; // 검색용 소문자
+
+    @Column(name = "document_created_at", nullable = false)
+    private LocalDateTime documentCreatedAt;
+
+    @Column
+    private LocalDateTime submittedAt;
+
+    @Column
+    private LocalDateTime approvedAt;
+
+    @Column(nullable = false)
+    private LocalDateTime updatedAt;
+}
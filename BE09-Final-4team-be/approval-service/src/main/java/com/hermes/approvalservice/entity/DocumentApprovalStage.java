@@ -2,6 +2,7 @@ package com.hermes.approvalservice.entity;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.BatchSize;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
@@ -37,6 +38,7 @@ public class DocumentApprovalStage {
     @JoinColumn(name = "document_id", nullable = false)
     private ApprovalDocument document;
 
+    @BatchSize(size = 100)
     @OneToMany(mappedBy = "approvalStage", cascade = CascadeType.ALL, orphanRemoval = true, fetch = FetchType.LAZY)
     @Builder.Default
     private List<DocumentApprovalTarget> approvalTargets = new ArrayList<>();
@@ -4,8 +4,11 @@ import com.hermes.approvalservice.enums.ApprovalStatus;
 import com.hermes.approvalservice.enums.TargetType;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.BatchSize;
 
 import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.Set;
 
 @Entity
 @Table(name = "document_approval_target")
@@ -33,6 +36,14 @@ public class DocumentApprovalTarget {
     @Column
     private Integer managerLevel;
 
+    // 조직/n차 조직장 대상을 제출 시점에 펼친 실제 사용자 ID (권한 확인 시 원격 조회 없이 사용)
+    @ElementCollection
+    @CollectionTable(name = "document_approval_target_user", joinColumns = @JoinColumn(name = "target_id"))
+    @Column(name = "user_id", nullable = false)
+    @BatchSize(size = 100)
+    @Builder.Default
+    private Set<Long> resolvedUserIds = new HashSet<>();
+
     @Column(nullable = false)
     @Builder.Default
     private Boolean isReference = false;
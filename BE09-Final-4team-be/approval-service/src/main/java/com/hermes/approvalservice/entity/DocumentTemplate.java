@@ -4,6 +4,7 @@ import com.hermes.approvalservice.enums.AttachmentUsageType;
 import com.hermes.attachment.entity.AttachmentInfo;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.BatchSize;
 import org.hibernate.annotations.OnDelete;
 import org.hibernate.annotations.OnDeleteAction;
 
@@ -56,6 +57,7 @@ public class DocumentTemplate {
     @Builder.Default
     private Boolean isHidden = false;
 
+    @BatchSize(size = 100)
     @ElementCollection
     @CollectionTable(name = "template_reference_files", joinColumns = @JoinColumn(name = "template_id"))
     @Builder.Default
@@ -66,15 +68,18 @@ public class DocumentTemplate {
     @OnDelete(action = OnDeleteAction.SET_NULL)
     private TemplateCategory category;
 
+    @BatchSize(size = 100)
     @OneToMany(mappedBy = "template", cascade = CascadeType.ALL, orphanRemoval = true, fetch = FetchType.LAZY)
     @Builder.Default
     private List<TemplateField> fields = new ArrayList<>();
 
+    @BatchSize(size = 100)
     @OneToMany(mappedBy = "template", cascade = CascadeType.ALL, orphanRemoval = true, fetch = FetchType.LAZY)
     @OrderBy("stageOrder ASC")
     @Builder.Default
     private List<TemplateApprovalStage> approvalStages = new ArrayList<>();
 
+    @BatchSize(size = 100)
     @OneToMany(mappedBy = "template", cascade = CascadeType.ALL, orphanRemoval = true, fetch = FetchType.LAZY)
     @Builder.Default
     private List<TemplateApprovalTarget> referenceTargets = new ArrayList<>();
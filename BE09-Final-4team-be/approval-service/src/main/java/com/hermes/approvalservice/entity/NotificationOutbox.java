@@ -0,0 +1,58 @@
+package com.hermes.approvalservice.entity;
+
+import com.hermes.notification.enums.NotificationType;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 결재 알림 아웃박스 (수신자 1명 = 1행)
+ * 결재 상태 변경과 같은 트랜잭션에서 기록되고, NotificationOutboxRelay가 발행 확인(publisher confirm)을 받은 뒤 sentAt을 채운다.
+ */
+@Entity
+@Table(name = "notification_outbox",
+        indexes = {
+                @Index(name = "idx_notification_outbox_pending", columnList = "sent_at, next_attempt_at, id"),
+                @Index(name = "idx_notification_outbox_sent", columnList = "sent_at")
+        })
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class NotificationOutbox {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 30)
+    private NotificationType type;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(length = 500)
+    private String content;
+
+    @Column(name = "reference_id")
+    private Long referenceId;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    @Column(nullable = false)
+    @Builder.Default
+    private Integer attempts = 0;
+
+    @Column(name = "last_error", length = 500)
+    private String lastError;
+
+    @Column(name = "sent_at")
+    private LocalDateTime sentAt;
+}
@@ -2,6 +2,7 @@ package com.hermes.approvalservice.entity;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.BatchSize;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -29,6 +30,7 @@ public class TemplateApprovalStage {
     @JoinColumn(name = "template_id", nullable = false)
     private DocumentTemplate template;
 
+    @BatchSize(size = 100)
     @OneToMany(mappedBy = "approvalStage", cascade = CascadeType.ALL, orphanRemoval = true, fetch = FetchType.LAZY)
     @Builder.Default
     private List<TemplateApprovalTarget> approvalTargets = new ArrayList<>();
@@ -0,0 +1,188 @@
+package com.hermes.approvalservice.messaging;
+
+import com.hermes.approvalservice.entity.NotificationOutbox;
+import com.hermes.approvalservice.repository.NotificationOutboxRepository;
+import com.hermes.notification.event.NotificationEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.AmqpException;
+import org.springframework.amqp.rabbit.connection.CorrelationData;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 결재 알림 아웃박스 발행
+ * 대기 중인 행을 잠금(SKIP LOCKED)으로 묶어 가져와 한 번에 발행하고, 발행 확인(ack)을 받은 행만 발송 완료로 표시한다.
+ * 브로커 장애·nack·확인 시간 초과 시에는 지수 백오프로 다음 시도 시각을 미루며, 행은 발송될 때까지 남는다.
+ * 메시지 ID에 아웃박스 ID를 담아 재발행 시 수신 측에서 중복을 구분할 수 있게 한다.
+ */
+@Slf4j
+@Component
+public class NotificationOutboxRelay {
+
+    private static final String MESSAGE_ID_PREFIX = "approval-notification-";
+    private static final int MAX_ERROR_LENGTH = 500;
+
+    private final NotificationOutboxRepository outboxRepository;
+    private final RabbitTemplate rabbitTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final String exchange;
+    private final String routingKey;
+    private final int batchSize;
+    private final long confirmTimeoutMillis;
+    private final long maxBackoffSeconds;
+    private final int retentionDays;
+
+    public NotificationOutboxRelay(NotificationOutboxRepository outboxRepository,
+                                   RabbitTemplate rabbitTemplate,
+                                   PlatformTransactionManager transactionManager,
+                                   @Value("${hermes.notification.exchange:notification.exchange}") String exchange,
+                                   @Value("${hermes.notification.routing-key:notification.create}") String routingKey,
+                                   @Value("${hermes.approval.notification.relay.batch-size:100}") int batchSize,
+                                   @Value("${hermes.approval.notification.relay.confirm-timeout-ms:5000}") long confirmTimeoutMillis,
+                                   @Value("${hermes.approval.notification.relay.max-backoff-seconds:300}") long maxBackoffSeconds,
+                                   @Value("${hermes.approval.notification.outbox.retention-days:7}") int retentionDays) {
+        this.outboxRepository = outboxRepository;
+        this.rabbitTemplate = rabbitTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.exchange = exchange;
+        this.routingKey = routingKey;
+        this.batchSize = batchSize;
+        this.confirmTimeoutMillis = confirmTimeoutMillis;
+        this.maxBackoffSeconds = maxBackoffSeconds;
+        this.retentionDays = retentionDays;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void checkPublisherConfirms() {
+        if (!rabbitTemplate.getConnectionFactory().isPublisherConfirms()) {
+            log.warn("RabbitMQ publisher confirm이 비활성화되어 결재 알림이 발송 완료로 표시되지 않습니다. " +
+                    "spring.rabbitmq.publisher-confirm-type=correlated 설정이 필요합니다.");
+        }
+    }
+
+    /**
+     * 대기 중인 알림 발행 (배치가 가득 차고 모두 성공하면 이어서 다음 배치 처리)
+     */
+    @Scheduled(fixedDelayString = "${hermes.approval.notification.relay.interval-ms:1000}")
+    public void relay() {
+        Integer sent;
+        do {
+            sent = transactionTemplate.execute(status -> relayBatch());
+        } while (sent != null && sent == batchSize);
+    }
+
+    /**
+     * 보관 기간이 지난 발송 완료 행 삭제
+     */
+    @Scheduled(cron = "${hermes.approval.notification.outbox.purge-cron:0 30 3 * * *}")
+    public void purgeSent() {
+        Integer deleted = transactionTemplate.execute(status ->
+                outboxRepository.deleteSentBefore(LocalDateTime.now().minusDays(retentionDays)));
+        log.info("발송 완료 결재 알림 정리: {}건", deleted);
+    }
+
+    private int relayBatch() {
+        LocalDateTime now = LocalDateTime.now();
+        List<NotificationOutbox> batch = outboxRepository.lockPending(now, batchSize);
+        if (batch.isEmpty()) {
+            return 0;
+        }
+
+        Map<NotificationOutbox, CorrelationData> inFlight = new LinkedHashMap<>();
+        for (NotificationOutbox row : batch) {
+            CorrelationData correlation = new CorrelationData(String.valueOf(row.getId()));
+            try {
+                rabbitTemplate.convertAndSend(exchange, routingKey, toEvent(row), message -> {
+                    message.getMessageProperties().setMessageId(MESSAGE_ID_PREFIX + row.getId());
+                    return message;
+                }, correlation);
+                inFlight.put(row, correlation);
+            } catch (AmqpException e) {
+                // 브로커 연결 불가: 남은 행은 모두 다음 시도로 미룸
+                log.warn("결재 알림 발행 실패, 재시도 예약: outboxId={}, error={}", row.getId(), e.getMessage());
+                batch.stream()
+                        .filter(pending -> !inFlight.containsKey(pending))
+                        .forEach(pending -> markFailed(pending, e.getMessage(), now));
+                break;
+            }
+        }
+
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(confirmTimeoutMillis);
+        List<Long> sentIds = new ArrayList<>();
+        inFlight.forEach((row, correlation) -> {
+            String failure = awaitConfirm(correlation, deadline);
+            if (failure == null) {
+                sentIds.add(row.getId());
+            } else {
+                markFailed(row, failure, now);
+            }
+        });
+
+        if (!sentIds.isEmpty()) {
+            outboxRepository.markSent(sentIds, LocalDateTime.now());
+        }
+        if (sentIds.size() < batch.size()) {
+            log.warn("결재 알림 일부 발행 실패: 성공 {}/{}", sentIds.size(), batch.size());
+        } else {
+            log.debug("결재 알림 발행 완료: {}건", sentIds.size());
+        }
+        return sentIds.size();
+    }
+
+    /**
+     * 발행 확인 대기 (성공 시 null, 실패 시 사유 반환)
+     */
+    private String awaitConfirm(CorrelationData correlation, long deadline) {
+        try {
+            CorrelationData.Confirm confirm = correlation.getFuture()
+                    .get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+            if (!confirm.isAck()) {
+                return "nack: " + confirm.getReason();
+            }
+            if (correlation.getReturned() != null) {
+                return "returned: " + correlation.getReturned().getReplyText();
+            }
+            return null;
+        } catch (TimeoutException e) {
+            return "confirm timeout";
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return "interrupted";
+        } catch (ExecutionException e) {
+            return e.getCause() != null ? e.getCause().getMessage() : e.getMessage();
+        }
+    }
+
+    private void markFailed(NotificationOutbox row, String error, LocalDateTime now) {
+        int attempts = row.getAttempts() + 1;
+        long backoffSeconds = Math.min(maxBackoffSeconds, 1L << Math.min(attempts, 20));
+        row.setAttempts(attempts);
+        row.setLastError(error != null && error.length() > MAX_ERROR_LENGTH ? error.substring(0, MAX_ERROR_LENGTH) : error);
+        row.setNextAttemptAt(now.plusSeconds(backoffSeconds));
+    }
+
+    private static NotificationEvent toEvent(NotificationOutbox row) {
+        return NotificationEvent.builder()
+                .userId(row.getUserId())
+                .type(row.getType())
+                .content(row.getContent())
+                .referenceId(row.getReferenceId())
+                .createdAt(row.getCreatedAt())
+                .build();
+    }
+}
@@ -0,0 +1,29 @@
+package com.hermes.approvalservice.messaging;
+
+import com.hermes.approvalservice.service.ApprovalTargetResolver;
+import com.hermes.events.organization.OrganizationEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * org-service 조직/인사발령 변경 이벤트 구독 (결재 대상 조직 스냅샷 무효화)
+ * 이미 제출된 문서의 결재 대상은 제출 시점 기준으로 유지되며, 이후 제출되는 문서부터 반영된다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OrganizationEventListener {
+
+    private final ApprovalTargetResolver targetResolver;
+
+    @RabbitListener(queues = "${hermes.organization.events.queue:organization.events.approval-service}")
+    public void handleOrganizationEvent(OrganizationEvent event) {
+        log.info("Organization Event Received: Type={}, OrganizationId={}, EmployeeIds={}",
+                event.getEventType(), event.getOrganizationId(), event.getEmployeeIds());
+
+        // 스냅샷은 테넌트 단위로 구성되므로 종류와 관계없이 테넌트 전체를 무효화
+        targetResolver.evictTenant(event.getTenantId());
+    }
+}
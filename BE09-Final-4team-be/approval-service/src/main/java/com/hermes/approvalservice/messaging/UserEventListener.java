@@ -0,0 +1,29 @@
+package com.hermes.approvalservice.messaging;
+
+import com.hermes.approvalservice.service.ApprovalInboxService;
+import com.hermes.events.user.UserEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * user-service 사용자 생명주기 이벤트 구독 (결재 문서함 작성자 이름 갱신)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class UserEventListener {
+
+    private final ApprovalInboxService approvalInboxService;
+
+    @RabbitListener(queues = "${hermes.user.events.queue:user.events.approval-service}")
+    public void handleUserEvent(UserEvent event) {
+        log.info("User Event Received: Type={}, UserId={}", event.getEventType(), event.getUserId());
+        if (event.getEventType() == UserEvent.EventType.USER_DELETED) {
+            // 삭제된 사용자의 문서는 마지막으로 저장된 이름을 유지
+            return;
+        }
+        approvalInboxService.refreshAuthorName(event.getUserId());
+    }
+}
@@ -4,6 +4,7 @@ import com.hermes.approvalservice.entity.ApprovalDocument;
 import com.hermes.approvalservice.enums.DocumentStatus;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -11,6 +12,7 @@ import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface ApprovalDocumentRepository extends JpaRepository<ApprovalDocument, Long> {
@@ -21,8 +23,15 @@ public interface ApprovalDocumentRepository extends JpaRepository<ApprovalDocume
 
     List<ApprovalDocument> findByTemplateId(Long templateId);
 
+    // 상세 조회: 템플릿/카테고리는 조인으로 함께 읽고, 컬렉션은 @BatchSize로 컬렉션마다 한 번씩 로딩 (카테시안 곱 방지)
+    @EntityGraph(attributePaths = {"template", "template.category"})
+    @Query("SELECT d FROM ApprovalDocument d WHERE d.id = :id")
+    Optional<ApprovalDocument> findDetailById(@Param("id") Long id);
+
+    // 목록 조회: 요약에 필요한 템플릿/카테고리를 조인으로 함께 읽음
+    @EntityGraph(attributePaths = {"template", "template.category"})
     @Query("SELECT d FROM ApprovalDocument d WHERE " +
-           "(d.authorId = :userId OR EXISTS (SELECT 1 FROM DocumentApprovalTarget t WHERE t.document = d AND t.userId = :userId)) " +
+           "(d.authorId = :userId OR EXISTS (SELECT 1 FROM DocumentApprovalTarget t WHERE t.document = d AND (t.userId = :userId OR :userId MEMBER OF t.resolvedUserIds))) " +
            "AND (:statuses IS NULL OR d.status IN :statuses) " +
            "AND (:search IS NULL OR LOWER(d.template.title) LIKE LOWER(CONCAT('%', CAST(:search AS STRING), '%')) " +
            "    OR (:authorIds IS NOT NULL AND d.authorId IN :authorIds)) " +
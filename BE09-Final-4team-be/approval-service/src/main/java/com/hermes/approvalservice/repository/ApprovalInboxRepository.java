@@ -0,0 +1,34 @@
+package com.hermes.approvalservice.repository;
+
+import com.hermes.approvalservice.entity.ApprovalInboxEntry;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface ApprovalInboxRepository extends JpaRepository<ApprovalInboxEntry, Long>, ApprovalInboxRepositoryCustom {
+
+    List<ApprovalInboxEntry> findByDocumentId(Long documentId);
+
+    /**
+     * 작성자의 저장된 이름 (문서 트랜잭션 안에서 원격 조회 없이 재사용)
+     */
+    Optional<ApprovalInboxEntry> findFirstByAuthorIdAndAuthorNameIsNotNull(Long authorId);
+
+    @Modifying
+    @Query("DELETE FROM ApprovalInboxEntry e WHERE e.documentId = :documentId")
+    int deleteByDocumentId(@Param("documentId") Long documentId);
+
+    @Modifying
+    @Query("UPDATE ApprovalInboxEntry e SET e.templateTitle = :title, e.templateTitleKey = :titleKey WHERE e.templateId = :templateId")
+    int updateTemplateTitle(@Param("templateId") Long templateId, @Param("title") String title, @Param("titleKey") String titleKey);
+
+    @Modifying
+    @Query("UPDATE ApprovalInboxEntry e SET e.authorName = :name, e.authorNameKey = :nameKey WHERE e.authorId = :authorId")
+    int updateAuthorName(@Param("authorId") Long authorId, @Param("name") String name, @Param("nameKey") String nameKey);
+}
@@ -0,0 +1,28 @@
+package com.hermes.approvalservice.repository;
+
+import com.hermes.approvalservice.entity.ApprovalInboxEntry;
+import com.hermes.approvalservice.enums.DocumentRole;
+import com.hermes.approvalservice.enums.DocumentStatus;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface ApprovalInboxRepositoryCustom {
+
+    /**
+     * 문서함 키셋 조회 (작성일 내림차순, 같은 작성일은 문서 ID 내림차순)
+     * 지정된 조건만 WHERE 절에 포함한다.
+     */
+    List<ApprovalInboxEntry> findInbox(InboxFilter filter, int limit);
+
+    record InboxFilter(Long userId,
+                       List<DocumentStatus> statuses,
+                       List<DocumentRole> roles,
+                       Boolean actionRequired,
+                       String searchKey,
+                       LocalDateTime startDateTime,
+                       LocalDateTime endDateTime,
+                       LocalDateTime cursorCreatedAt,
+                       Long cursorId) {
+    }
+}
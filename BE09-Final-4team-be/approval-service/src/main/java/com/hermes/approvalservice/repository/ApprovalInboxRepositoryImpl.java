@@ -0,0 +1,59 @@
+package com.hermes.approvalservice.repository;
+
+import com.hermes.approvalservice.entity.ApprovalInboxEntry;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+import lombok.RequiredArgsConstructor;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@RequiredArgsConstructor
+public class ApprovalInboxRepositoryImpl implements ApprovalInboxRepositoryCustom {
+
+    private final EntityManager entityManager;
+
+    @Override
+    public List<ApprovalInboxEntry> findInbox(InboxFilter filter, int limit) {
+        StringBuilder jpql = new StringBuilder("SELECT e FROM ApprovalInboxEntry e WHERE e.userId = :userId");
+        Map<String, Object> parameters = new HashMap<>();
+        parameters.put("userId", filter.userId());
+
+        if (filter.statuses() != null && !filter.statuses().isEmpty()) {
+            jpql.append(" AND e.documentStatus IN :statuses");
+            parameters.put("statuses", filter.statuses());
+        }
+        if (filter.roles() != null && !filter.roles().isEmpty()) {
+            jpql.append(" AND e.role IN :roles");
+            parameters.put("roles", filter.roles());
+        }
+        if (filter.actionRequired() != null) {
+            jpql.append(" AND e.actionRequired = :actionRequired");
+            parameters.put("actionRequired", filter.actionRequired());
+        }
+        if (filter.searchKey() != null) {
+            jpql.append(" AND (e.templateTitleKey LIKE :pattern OR e.authorNameKey LIKE :pattern)");
+            parameters.put("pattern", "%" + filter.searchKey() + "%");
+        }
+        if (filter.startDateTime() != null) {
+            jpql.append(" AND e.documentCreatedAt >= :startDateTime");
+            parameters.put("startDateTime", filter.startDateTime());
+        }
+        if (filter.endDateTime() != null) {
+            jpql.append(" AND e.documentCreatedAt <= :endDateTime");
+            parameters.put("endDateTime", filter.endDateTime());
+        }
+        if (filter.cursorCreatedAt() != null && filter.cursorId() != null) {
+            jpql.append(" AND (e.documentCreatedAt < :cursorCreatedAt" +
+                    " OR (e.documentCreatedAt = :cursorCreatedAt AND e.documentId < :cursorId))");
+            parameters.put("cursorCreatedAt", filter.cursorCreatedAt());
+            parameters.put("cursorId", filter.cursorId());
+        }
+        jpql.append(" ORDER BY e.documentCreatedAt DESC, e.documentId DESC");
+
+        TypedQuery<ApprovalInboxEntry> query = entityManager.createQuery(jpql.toString(), ApprovalInboxEntry.class);
+        parameters.forEach(query::setParameter);
+        return query.setMaxResults(limit).getResultList();
+    }
+}
@@ -7,7 +7,7 @@ import org.springframework.stereotype.Repository;
 import java.util.List;
 
 @Repository
-public interface DocumentFieldValueRepository extends JpaRepository<DocumentFieldValue, Long> {
+public interface DocumentFieldValueRepository extends JpaRepository<DocumentFieldValue, Long>, DocumentFieldValueRepositoryCustom {
 
     List<DocumentFieldValue> findByDocumentId(Long documentId);
 
@@ -0,0 +1,14 @@
+package com.hermes.approvalservice.repository;
+
+import com.hermes.approvalservice.entity.DocumentFieldValue;
+
+import java.util.List;
+
+public interface DocumentFieldValueRepositoryCustom {
+
+    /**
+     * 필드 값 일괄 INSERT (JDBC 배치 1회)
+     * IDENTITY 키는 Hibernate 배치 INSERT가 불가능하므로 직접 배치로 실행하고, 생성된 ID를 입력 순서대로 반환한다.
+     */
+    List<Long> insertAll(Long documentId, List<DocumentFieldValue> fieldValues);
+}
@@ -0,0 +1,50 @@
+package com.hermes.approvalservice.repository;
+
+import com.hermes.approvalservice.entity.DocumentFieldValue;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.List;
+
+@RequiredArgsConstructor
+public class DocumentFieldValueRepositoryImpl implements DocumentFieldValueRepositoryCustom {
+
+    private static final String INSERT_SQL = "INSERT INTO document_field_value " +
+            "(document_id, field_name, field_type, field_value) VALUES (?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public List<Long> insertAll(Long documentId, List<DocumentFieldValue> fieldValues) {
+        if (fieldValues.isEmpty()) {
+            return List.of();
+        }
+
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.batchUpdate(con -> con.prepareStatement(INSERT_SQL, new String[]{"id"}),
+                new BatchPreparedStatementSetter() {
+                    @Override
+                    public void setValues(PreparedStatement ps, int i) throws SQLException {
+                        DocumentFieldValue fieldValue = fieldValues.get(i);
+                        ps.setLong(1, documentId);
+                        ps.setString(2, fieldValue.getFieldName());
+                        ps.setString(3, fieldValue.getFieldType().name());
+                        ps.setString(4, fieldValue.getFieldValue());
+                    }
+
+                    @Override
+                    public int getBatchSize() {
+                        return fieldValues.size();
+                    }
+                }, keyHolder);
+
+        return keyHolder.getKeyList().stream()
+                .map(keys -> ((Number) keys.get("id")).longValue())
+                .toList();
+    }
+}
@@ -1,6 +1,5 @@
 package com.hermes.approvalservice.service;
 
-import com.hermes.api.common.ApiResult;
 import com.hermes.approvalservice.dto.request.*;
 import com.hermes.approvalservice.enums.DocumentRole;
 import com.hermes.attachment.entity.AttachmentInfo;
@@ -13,6 +12,7 @@ import com.hermes.approvalservice.entity.*;
 import com.hermes.approvalservice.enums.ActivityType;
 import com.hermes.approvalservice.enums.AttachmentUsageType;
 import com.hermes.approvalservice.enums.DocumentStatus;
+import com.hermes.approvalservice.enums.FieldType;
 import com.hermes.approvalservice.exception.BusinessException;
 import com.hermes.approvalservice.exception.NotFoundException;
 import com.hermes.approvalservice.exception.UnauthorizedException;
@@ -28,7 +28,16 @@ import org.springframework.util.StringUtils;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Slf4j
 @Service
@@ -38,12 +47,17 @@ public class ApprovalDocumentService {
 
     private final ApprovalDocumentRepository documentRepository;
     private final DocumentTemplateRepository templateRepository;
-    private final TemplateFieldRepository templateFieldRepository;
+    private final DocumentFieldValueRepository fieldValueRepository;
+    private final TemplateFieldCache templateFieldCache;
     private final DocumentPermissionService permissionService;
     private final DocumentActivityService activityService;
     private final AttachmentClientService attachmentService;
     private final UserServiceClient userServiceClient;
     private final ResponseConverter responseConverter;
+    private final UserProfileResolver userProfileResolver;
+    private final ApprovalInboxService inboxService;
+    private final ApprovalTargetResolver targetResolver;
+    private final ApprovalNotificationService notificationService;
 
 
     public Page<DocumentSummaryResponse> getDocumentsForUser(UserPrincipal user, 
@@ -64,14 +78,18 @@ public class ApprovalDocumentService {
             }
         }
         
-        return documentRepository.findDocumentsForUserWithFilters(userId, statuses, search, 
-                                                                 authorIds, startDateTime, endDateTime, pageable)
-                .map(document -> convertToSummaryResponse(document, user));
+        Page<ApprovalDocument> documents = documentRepository.findDocumentsForUserWithFilters(userId, statuses, search,
+                                                                 authorIds, startDateTime, endDateTime, pageable);
+
+        // 페이지의 작성자를 한 번에 조회
+        Map<Long, UserProfile> authors = userProfileResolver.resolveAll(
+                documents.getContent().stream().map(ApprovalDocument::getAuthorId).toList());
+        return documents.map(document -> convertToSummaryResponse(document, authors.get(document.getAuthorId()), user));
     }
 
 
     public DocumentResponse getDocumentById(Long id, UserPrincipal user) {
-        ApprovalDocument document = documentRepository.findById(id)
+        ApprovalDocument document = documentRepository.findDetailById(id)
                 .orElseThrow(() -> new NotFoundException("문서를 찾을 수 없습니다."));
 
         if (!permissionService.canViewDocument(document, user)) {
@@ -112,19 +130,22 @@ public class ApprovalDocumentService {
 
         // 즉시 제출 옵션 처리
         if (request.isSubmitImmediately()) {
+            targetResolver.expandTargets(savedDocument);
             savedDocument.setStatus(DocumentStatus.IN_PROGRESS);
             savedDocument.setSubmittedAt(LocalDateTime.now());
             savedDocument.setCurrentStage(1);
             
             activityService.recordActivity(savedDocument, user.getId(), ActivityType.SUBMIT, "결재를 요청했습니다.");
+            notificationService.notifySubmitted(savedDocument);
         }
+        inboxService.refresh(savedDocument);
 
         return convertToResponse(savedDocument, user);
     }
 
     @Transactional
     public DocumentResponse updateDocument(Long id, UpdateDocumentRequest request, UserPrincipal user) {
-        ApprovalDocument document = documentRepository.findById(id)
+        ApprovalDocument document = documentRepository.findDetailById(id)
                 .orElseThrow(() -> new NotFoundException("문서를 찾을 수 없습니다."));
 
         if (!permissionService.canEditDocument(document, user)) {
@@ -149,7 +170,6 @@ public class ApprovalDocumentService {
 
         // Update related entities using helper methods
         if (request.getFieldValues() != null) {
-            document.getFieldValues().clear();
             saveFieldValues(document, request.getFieldValues());
         }
         
@@ -164,6 +184,7 @@ public class ApprovalDocumentService {
         }
 
         activityService.recordActivity(document, user.getId(), ActivityType.UPDATE, "문서를 수정했습니다.");
+        inboxService.refresh(document);
 
         return convertToResponse(document, user);
     }
@@ -181,11 +202,16 @@ public class ApprovalDocumentService {
             throw new BusinessException("임시저장 상태의 문서만 제출할 수 있습니다.");
         }
 
+        // 조직/n차 조직장 대상을 현재 조직 구성 기준으로 확정
+        targetResolver.expandTargets(document);
+
         document.setStatus(DocumentStatus.IN_PROGRESS);
         document.setSubmittedAt(LocalDateTime.now());
         document.setCurrentStage(1);
 
         activityService.recordActivity(document, userId, ActivityType.SUBMIT, "결재를 요청했습니다.");
+        notificationService.notifySubmitted(document);
+        inboxService.refresh(document);
     }
 
     @Transactional
@@ -199,11 +225,12 @@ public class ApprovalDocumentService {
 
         activityService.recordActivity(document, user.getId(), ActivityType.DELETE, "문서를 삭제했습니다.");
         documentRepository.delete(document);
+        inboxService.remove(id);
     }
 
-    private DocumentSummaryResponse convertToSummaryResponse(ApprovalDocument document, UserPrincipal user) {
+    private DocumentSummaryResponse convertToSummaryResponse(ApprovalDocument document, UserProfile author, UserPrincipal user) {
         DocumentSummaryResponse response = new DocumentSummaryResponse();
-        setCommonFields(response, document, user);
+        setCommonFields(response, document, author, user);
         
         response.setTemplate(responseConverter.convertToTemplateSummaryResponse(document.getTemplate()));
         response.setTotalStages(document.getApprovalStages().size());
@@ -212,8 +239,11 @@ public class ApprovalDocumentService {
     }
 
     private DocumentResponse convertToResponse(ApprovalDocument document, UserPrincipal user) {
+        // 문서에 등장하는 사용자 프로필을 한 번에 조회해 두고, 이후 변환에서는 캐시를 사용
+        Map<Long, UserProfile> profiles = userProfileResolver.resolveAll(collectUserIds(document));
+
         DocumentResponse response = new DocumentResponse();
-        setCommonFields(response, document, user);
+        setCommonFields(response, document, profiles.get(document.getAuthorId()), user);
         
         // Template 정보 변환
         response.setTemplate(responseConverter.convertToTemplateResponse(document.getTemplate()));
@@ -249,14 +279,26 @@ public class ApprovalDocumentService {
         return response;
     }
 
-    private void setCommonFields(BaseDocumentResponse response, ApprovalDocument document, UserPrincipal user) {
+    private List<Long> collectUserIds(ApprovalDocument document) {
+        List<Long> userIds = new ArrayList<>();
+        userIds.add(document.getAuthorId());
+        Stream.concat(document.getApprovalStages().stream().flatMap(stage -> stage.getApprovalTargets().stream()),
+                        document.getReferenceTargets().stream())
+                .forEach(target -> {
+                    userIds.add(target.getUserId());
+                    userIds.add(target.getProcessedBy());
+                });
+        document.getActivities().forEach(activity -> userIds.add(activity.getUserId()));
+        document.getComments().forEach(comment -> userIds.add(comment.getAuthorId()));
+        return userIds;
+    }
+
+    private void setCommonFields(BaseDocumentResponse response, ApprovalDocument document, UserProfile author, UserPrincipal user) {
         response.setId(document.getId());
         response.setContent(document.getContent());
         response.setStatus(document.getStatus());
         response.setCurrentStage(document.getCurrentStage());
-        
-        ApiResult<UserProfile> authorResult = userServiceClient.getUserProfile(document.getAuthorId());
-        response.setAuthor(authorResult.getData());
+        response.setAuthor(author);
         
         if (user != null) {
             DocumentRole myRole = permissionService.getMyRole(user, document);
@@ -273,21 +315,69 @@ public class ApprovalDocumentService {
         response.setApprovedAt(document.getApprovedAt());
     }
 
+    /**
+     * 필드 값 저장 (요청 목록으로 교체)
+     * 템플릿 필드는 캐시된 정의로 메모리에서 검증하고, 기존 값과 필드명/타입 기준으로 비교하여
+     * 바뀐 값만 UPDATE, 빠진 값은 DELETE, 새 값은 JDBC 배치 INSERT 1회로 저장한다.
+     */
     private void saveFieldValues(ApprovalDocument document, List<DocumentFieldValueRequest> fieldValues) {
-        if (fieldValues != null) {
-            for (DocumentFieldValueRequest fieldValueRequest : fieldValues) {
-                TemplateField templateField = templateFieldRepository.findById(fieldValueRequest.getTemplateFieldId())
-                        .orElseThrow(() -> new NotFoundException("템플릿 필드를 찾을 수 없습니다."));
-                
-                DocumentFieldValue fieldValue = DocumentFieldValue.builder()
-                        .fieldName(templateField.getName())
-                        .fieldType(templateField.getFieldType())
+        if (fieldValues == null) {
+            return;
+        }
+        Map<Long, TemplateFieldCache.FieldDefinition> templateFields = templateFieldCache.getFields(document.getTemplate());
+
+        // 같은 필드가 여러 번 오면 기존 값과 순서대로 짝지음
+        Map<String, Deque<DocumentFieldValue>> existing = new HashMap<>();
+        for (DocumentFieldValue fieldValue : document.getFieldValues()) {
+            existing.computeIfAbsent(fieldKey(fieldValue.getFieldName(), fieldValue.getFieldType()), k -> new ArrayDeque<>())
+                    .add(fieldValue);
+        }
+
+        List<DocumentFieldValue> ordered = new ArrayList<>();
+        List<DocumentFieldValue> toInsert = new ArrayList<>();
+        List<Integer> insertPositions = new ArrayList<>();
+        for (DocumentFieldValueRequest fieldValueRequest : fieldValues) {
+            TemplateFieldCache.FieldDefinition templateField = templateFields.get(fieldValueRequest.getTemplateFieldId());
+            if (templateField == null) {
+                throw new NotFoundException("템플릿 필드를 찾을 수 없습니다.");
+            }
+
+            Deque<DocumentFieldValue> candidates = existing.get(fieldKey(templateField.name(), templateField.fieldType()));
+            DocumentFieldValue fieldValue = candidates != null ? candidates.pollFirst() : null;
+            if (fieldValue != null) {
+                if (!Objects.equals(fieldValue.getFieldValue(), fieldValueRequest.getFieldValue())) {
+                    fieldValue.setFieldValue(fieldValueRequest.getFieldValue());
+                }
+            } else {
+                fieldValue = DocumentFieldValue.builder()
+                        .fieldName(templateField.name())
+                        .fieldType(templateField.fieldType())
                         .fieldValue(fieldValueRequest.getFieldValue())
                         .document(document)
                         .build();
-                document.getFieldValues().add(fieldValue);
+                toInsert.add(fieldValue);
+                insertPositions.add(ordered.size());
             }
+            ordered.add(fieldValue);
         }
+
+        if (!toInsert.isEmpty()) {
+            // 배치로 넣은 행은 한 번에 다시 읽어 영속 상태로 컬렉션에 연결
+            List<Long> insertedIds = fieldValueRepository.insertAll(document.getId(), toInsert);
+            Map<Long, DocumentFieldValue> inserted = fieldValueRepository.findAllById(insertedIds).stream()
+                    .collect(Collectors.toMap(DocumentFieldValue::getId, Function.identity()));
+            for (int i = 0; i < insertedIds.size(); i++) {
+                ordered.set(insertPositions.get(i), inserted.get(insertedIds.get(i)));
+            }
+        }
+
+        // 요청에 없는 기존 값은 orphanRemoval로 삭제
+        document.getFieldValues().clear();
+        document.getFieldValues().addAll(ordered);
+    }
+
+    private static String fieldKey(String fieldName, FieldType fieldType) {
+        return fieldType + ":" + fieldName;
     }
 
     private void saveApprovalStages(ApprovalDocument document, List<ApprovalStageRequest> approvalStages) {
@@ -0,0 +1,368 @@
+package com.hermes.approvalservice.service;
+
+import com.hermes.approvalservice.client.dto.UserProfile;
+import com.hermes.approvalservice.dto.response.ApprovalInboxItemResponse;
+import com.hermes.approvalservice.dto.response.ApprovalInboxPageResponse;
+import com.hermes.approvalservice.entity.ApprovalDocument;
+import com.hermes.approvalservice.entity.ApprovalInboxEntry;
+import com.hermes.approvalservice.entity.DocumentApprovalStage;
+import com.hermes.approvalservice.entity.DocumentApprovalTarget;
+import com.hermes.approvalservice.enums.ApprovalStatus;
+import com.hermes.approvalservice.enums.DocumentRole;
+import com.hermes.approvalservice.enums.DocumentStatus;
+import com.hermes.approvalservice.repository.ApprovalDocumentRepository;
+import com.hermes.approvalservice.repository.ApprovalInboxRepository;
+import com.hermes.approvalservice.repository.ApprovalInboxRepositoryCustom.InboxFilter;
+import com.hermes.auth.jwt.ServiceTokenProvider;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.StringUtils;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * 사용자별 결재 문서함 조회 모델 관리 및 조회
+ * 문서 작성/수정/제출/승인/반려/삭제 트랜잭션 안에서 해당 문서의 행을 다시 계산하여 반영한다.
+ * 역할은 DocumentPermissionService.getMyRole과 같은 우선순위(작성자 > 승인자 > 참조자)로 한 사용자당 한 행만 둔다.
+ * 문서 트랜잭션 안에서는 user-service를 호출하지 않는다. 작성자 이름은 같은 작성자의 기존 행에 저장된 값을 쓰고,
+ * 저장된 이름이 없으면 커밋 후 백그라운드에서 조회하여 채운다(사용자 변경 이벤트의 refreshAuthorName과 같은 경로).
+ * 이름이 채워지기 전까지는 조회 시 표시용으로만 채운다.
+ * 기동 시 초기 재구축은 별도 스레드에서 페이지마다 커밋하며 수행한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class ApprovalInboxService {
+
+    private static final int REBUILD_PAGE_SIZE = 200;
+    private static final int DEFAULT_PAGE_SIZE = 20;
+    private static final int MAX_PAGE_SIZE = 100;
+
+    private final ApprovalInboxRepository inboxRepository;
+    private final ApprovalDocumentRepository documentRepository;
+    private final UserProfileResolver userProfileResolver;
+    private final DocumentPermissionService permissionService;
+    private final ServiceTokenProvider serviceTokenProvider;
+    private final PlatformTransactionManager transactionManager;
+    private final ExecutorService backgroundExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "approval-inbox-background");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    @Transactional(readOnly = true)
+    public ApprovalInboxPageResponse getInbox(Long userId, List<DocumentStatus> statuses, List<DocumentRole> roles,
+                                              Boolean actionRequired, String search,
+                                              LocalDate startDate, LocalDate endDate,
+                                              LocalDateTime cursorCreatedAt, Long cursorId, Integer size) {
+        int pageSize = size == null || size <= 0 ? DEFAULT_PAGE_SIZE : Math.min(size, MAX_PAGE_SIZE);
+        InboxFilter filter = new InboxFilter(
+                userId,
+                statuses,
+                roles,
+                actionRequired,
+                StringUtils.hasText(search) ? toKey(search.trim()) : null,
+                startDate != null ? startDate.atStartOfDay() : null,
+                endDate != null ? endDate.atTime(23, 59, 59) : null,
+                cursorCreatedAt,
+                cursorId);
+
+        List<ApprovalInboxEntry> entries = inboxRepository.findInbox(filter, pageSize + 1);
+        boolean hasNext = entries.size() > pageSize;
+        if (hasNext) {
+            entries = entries.subList(0, pageSize);
+        }
+        ApprovalInboxEntry last = hasNext ? entries.get(entries.size() - 1) : null;
+
+        // 이름이 비어 있는 행은 표시용으로만 조회 (저장하지 않음)
+        Map<Long, UserProfile> missingAuthors = userProfileResolver.resolveAll(entries.stream()
+                .filter(entry -> entry.getAuthorName() == null)
+                .map(ApprovalInboxEntry::getAuthorId)
+                .toList());
+
+        return new ApprovalInboxPageResponse(
+                entries.stream().map(entry -> toResponse(entry, missingAuthors)).toList(),
+                last != null ? last.getDocumentCreatedAt() : null,
+                last != null ? last.getDocumentId() : null,
+                hasNext);
+    }
+
+    /**
+     * 문서의 문서함 행 갱신 (관련 사용자 추가/제거, 상태/단계/역할 변경 반영)
+     * 원격 호출 없이 저장된 작성자 이름을 사용하고, 없으면 커밋 후 채우도록 예약한다.
+     */
+    public void refresh(ApprovalDocument document) {
+        Long authorId = document.getAuthorId();
+        String authorName = inboxRepository.findFirstByAuthorIdAndAuthorNameIsNotNull(authorId)
+                .map(ApprovalInboxEntry::getAuthorName)
+                .orElse(null);
+        refresh(document, authorName);
+        if (authorName == null) {
+            fillAuthorNameAfterCommit(authorId);
+        }
+    }
+
+    public void remove(Long documentId) {
+        inboxRepository.deleteByDocumentId(documentId);
+    }
+
+    /**
+     * 템플릿 제목 변경 반영
+     */
+    public void updateTemplateTitle(Long templateId, String title) {
+        inboxRepository.updateTemplateTitle(templateId, title, toKey(title));
+    }
+
+    /**
+     * 사용자 정보 변경 반영 (작성자 이름 갱신, 비어 있던 이름도 이때 채움)
+     * 사용자 이벤트에는 요청 컨텍스트가 없으므로 서비스 토큰으로 조회한다.
+     */
+    public void refreshAuthorName(Long userId) {
+        userProfileResolver.evict(userId);
+        storeAuthorName(userId);
+    }
+
+    private void storeAuthorName(Long userId) {
+        UserProfile profile = serviceTokenProvider.callAsService(null,
+                () -> userProfileResolver.resolveKnown(List.of(userId)).get(userId));
+        if (profile == null || profile.getName() == null) {
+            log.warn("작성자 이름 갱신 건너뜀, 사용자 조회 실패: userId={}", userId);
+            return;
+        }
+        // 원격 조회가 끝난 뒤 갱신만 트랜잭션으로 수행 (호출자의 트랜잭션이 있으면 참여)
+        Integer updated = new TransactionTemplate(transactionManager).execute(status ->
+                inboxRepository.updateAuthorName(userId, profile.getName(), toKey(profile.getName())));
+        log.debug("작성자 이름 갱신: userId={}, rows={}", userId, updated);
+    }
+
+    /**
+     * 전체 문서로 문서함 재구성 (페이지마다 별도 트랜잭션으로 커밋)
+     * 작성자 이름은 페이지마다 트랜잭션 밖에서 한 번에 조회한다.
+     * @return 처리한 문서 수
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public int rebuild() {
+        log.info("결재 문서함 재구성 시작");
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.executeWithoutResult(status -> inboxRepository.deleteAllInBatch());
+
+        int processed = 0;
+        Pageable pageable = PageRequest.of(0, REBUILD_PAGE_SIZE, Sort.by("id"));
+        Page<ApprovalDocument> page;
+        do {
+            page = documentRepository.findAll(pageable);
+            List<ApprovalDocument> documents = page.getContent();
+            Map<Long, UserProfile> authors = userProfileResolver.resolveKnown(
+                    documents.stream().map(ApprovalDocument::getAuthorId).toList());
+            List<Long> documentIds = documents.stream().map(ApprovalDocument::getId).toList();
+
+            transactionTemplate.executeWithoutResult(status -> {
+                for (ApprovalDocument document : documentRepository.findAllById(documentIds)) {
+                    UserProfile author = authors.get(document.getAuthorId());
+                    refresh(document, author != null ? author.getName() : null);
+                }
+            });
+            processed += documents.size();
+            pageable = page.nextPageable();
+        } while (page.hasNext());
+
+        log.info("결재 문서함 재구성 완료: {}건", processed);
+        return processed;
+    }
+
+    /**
+     * 기동 완료 시 초기 재구축을 백그라운드로 시작 (문서 전체 재구성이 기동 스레드를 막지 않도록)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        backgroundExecutor.execute(() -> {
+            try {
+                initializeIfEmpty();
+            } catch (Exception e) {
+                log.error("결재 문서함 초기 재구성 실패", e);
+            }
+        });
+    }
+
+    /**
+     * 문서함이 비어 있으면 기존 문서로 채움 (최초 배포 대응)
+     * 요청 컨텍스트가 없으므로 작성자 조회는 서비스 토큰으로 수행한다.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void initializeIfEmpty() {
+        if (inboxRepository.count() == 0 && documentRepository.count() > 0) {
+            serviceTokenProvider.runAsService(null, this::rebuild);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        backgroundExecutor.shutdownNow();
+    }
+
+    /**
+     * 저장된 이름이 없는 작성자는 커밋 후 백그라운드에서 조회하여 채움 (문서 트랜잭션이 원격 호출을 기다리지 않도록)
+     */
+    private void fillAuthorNameAfterCommit(Long authorId) {
+        Runnable fill = () -> backgroundExecutor.execute(() -> {
+            try {
+                storeAuthorName(authorId);
+            } catch (Exception e) {
+                log.warn("작성자 이름 채우기 실패: userId={}, error={}", authorId, e.getMessage());
+            }
+        });
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    fill.run();
+                }
+            });
+        } else {
+            fill.run();
+        }
+    }
+
+    private void refresh(ApprovalDocument document, String authorName) {
+        Map<Long, EntryState> desired = computeEntries(document);
+        LocalDateTime now = LocalDateTime.now();
+
+        List<ApprovalInboxEntry> toSave = new ArrayList<>();
+        List<ApprovalInboxEntry> toDelete = new ArrayList<>();
+        for (ApprovalInboxEntry entry : inboxRepository.findByDocumentId(document.getId())) {
+            EntryState state = desired.remove(entry.getUserId());
+            if (state == null) {
+                toDelete.add(entry);
+            } else {
+                apply(entry, document, state, authorName, now);
+                toSave.add(entry);
+            }
+        }
+        desired.forEach((userId, state) -> {
+            ApprovalInboxEntry entry = ApprovalInboxEntry.builder()
+                    .userId(userId)
+                    .documentId(document.getId())
+                    .build();
+            apply(entry, document, state, authorName, now);
+            toSave.add(entry);
+        });
+
+        if (!toDelete.isEmpty()) {
+            inboxRepository.deleteAllInBatch(toDelete);
+        }
+        inboxRepository.saveAll(toSave);
+    }
+
+    /**
+     * 문서와 관련된 사용자별 역할 계산 (작성자 > 승인자 > 참조자)
+     */
+    private Map<Long, EntryState> computeEntries(ApprovalDocument document) {
+        Map<Long, EntryState> entries = new LinkedHashMap<>();
+        entries.put(document.getAuthorId(), new EntryState(DocumentRole.AUTHOR, null, null));
+
+        for (DocumentApprovalStage stage : document.getApprovalStages()) {
+            for (DocumentApprovalTarget target : stage.getApprovalTargets()) {
+                if (target.getIsReference()) {
+                    continue;
+                }
+                for (Long userId : permissionService.getTargetUserIds(target)) {
+                    entries.putIfAbsent(userId,
+                            new EntryState(DocumentRole.APPROVER, stage.getStageOrder(), target.getApprovalStatus()));
+                }
+            }
+        }
+        for (DocumentApprovalStage stage : document.getApprovalStages()) {
+            for (DocumentApprovalTarget target : stage.getApprovalTargets()) {
+                if (target.getIsReference()) {
+                    permissionService.getTargetUserIds(target).forEach(userId ->
+                            entries.putIfAbsent(userId, new EntryState(DocumentRole.REFERENCE, null, null)));
+                }
+            }
+        }
+        for (DocumentApprovalTarget target : document.getReferenceTargets()) {
+            permissionService.getTargetUserIds(target).forEach(userId ->
+                    entries.putIfAbsent(userId, new EntryState(DocumentRole.REFERENCE, null, null)));
+        }
+        return entries;
+    }
+
+    private void apply(ApprovalInboxEntry entry, ApprovalDocument document, EntryState state,
+                       String authorName, LocalDateTime now) {
+        boolean actionRequired = state.role() == DocumentRole.APPROVER
+                && document.getStatus() == DocumentStatus.IN_PROGRESS
+                && state.stageOrder() != null && state.stageOrder().equals(document.getCurrentStage())
+                && state.approvalStatus() == ApprovalStatus.PENDING;
+
+        entry.setRole(state.role());
+        entry.setDocumentStatus(document.getStatus());
+        entry.setCurrentStage(document.getCurrentStage());
+        entry.setTotalStages(document.getApprovalStages().size());
+        entry.setMyStageOrder(state.stageOrder());
+        entry.setMyApprovalStatus(state.approvalStatus());
+        entry.setActionRequired(actionRequired);
+        entry.setAuthorId(document.getAuthorId());
+        if (authorName != null) {
+            // 조회에 실패한 경우 기존 이름 유지
+            entry.setAuthorName(authorName);
+            entry.setAuthorNameKey(toKey(authorName));
+        }
+        entry.setTemplateId(document.getTemplate().getId());
+        entry.setTemplateTitle(document.getTemplate().getTitle());
+        entry.setTemplateTitleKey(toKey(document.getTemplate().getTitle()));
+        entry.setDocumentCreatedAt(document.getCreatedAt());
+        entry.setSubmittedAt(document.getSubmittedAt());
+        entry.setApprovedAt(document.getApprovedAt());
+        entry.setUpdatedAt(now);
+    }
+
+    private ApprovalInboxItemResponse toResponse(ApprovalInboxEntry entry, Map<Long, UserProfile> missingAuthors) {
+        ApprovalInboxItemResponse response = new ApprovalInboxItemResponse();
+        response.setDocumentId(entry.getDocumentId());
+        response.setStatus(entry.getDocumentStatus());
+        response.setMyRole(entry.getRole());
+        response.setCurrentStage(entry.getCurrentStage());
+        response.setTotalStages(entry.getTotalStages());
+        response.setMyApprovalStage(entry.getMyStageOrder());
+        response.setMyApprovalStatus(entry.getMyApprovalStatus());
+        response.setIsApprovalRequired(entry.getActionRequired());
+        response.setAuthorId(entry.getAuthorId());
+        UserProfile missingAuthor = entry.getAuthorName() == null ? missingAuthors.get(entry.getAuthorId()) : null;
+        response.setAuthorName(missingAuthor != null ? missingAuthor.getName() : entry.getAuthorName());
+        response.setTemplateId(entry.getTemplateId());
+        response.setTemplateTitle(entry.getTemplateTitle());
+        response.setCreatedAt(entry.getDocumentCreatedAt());
+        response.setSubmittedAt(entry.getSubmittedAt());
+        response.setApprovedAt(entry.getApprovedAt());
+        return response;
+    }
+
+    private static String toKey(String value) {
+        return value.toLowerCase(Locale.ROOT);
+    }
+
+    private record EntryState(DocumentRole role, Integer stageOrder, ApprovalStatus approvalStatus) {
+    }
+}
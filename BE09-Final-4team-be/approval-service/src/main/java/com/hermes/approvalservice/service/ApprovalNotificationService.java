@@ -0,0 +1,115 @@
+package com.hermes.approvalservice.service;
+
+import com.hermes.approvalservice.entity.ApprovalDocument;
+import com.hermes.approvalservice.entity.DocumentApprovalStage;
+import com.hermes.approvalservice.entity.DocumentApprovalTarget;
+import com.hermes.approvalservice.entity.NotificationOutbox;
+import com.hermes.approvalservice.repository.NotificationOutboxRepository;
+import com.hermes.notification.enums.NotificationType;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
+
+/**
+ * 결재 진행 알림을 아웃박스에 기록
+ * 호출한 트랜잭션 안에서 행만 추가하므로 결재 처리 응답 시간에 메시지 브로커 호출이 포함되지 않으며,
+ * 결재 상태 변경이 롤백되면 알림도 함께 사라진다. 실제 발행은 NotificationOutboxRelay가 담당한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(propagation = Propagation.MANDATORY)
+public class ApprovalNotificationService {
+
+    private final NotificationOutboxRepository outboxRepository;
+    private final DocumentPermissionService permissionService;
+
+    /**
+     * 결재 요청 (제출 시 1단계 승인자, 참조자 전체)
+     */
+    public void notifySubmitted(ApprovalDocument document) {
+        enqueue(document, NotificationType.APPROVAL_REQUEST, currentStageApprovers(document));
+
+        Stream<DocumentApprovalTarget> references = Stream.concat(
+                document.getApprovalStages().stream()
+                        .flatMap(stage -> stage.getApprovalTargets().stream())
+                        .filter(DocumentApprovalTarget::getIsReference),
+                document.getReferenceTargets().stream());
+        enqueue(document, NotificationType.APPROVAL_REFERENCE, userIds(references));
+    }
+
+    /**
+     * 다음 단계 진행 시 해당 단계 승인자에게 결재 요청
+     */
+    public void notifyStageAdvanced(ApprovalDocument document) {
+        enqueue(document, NotificationType.APPROVAL_REQUEST, currentStageApprovers(document));
+    }
+
+    /**
+     * 최종 승인 시 작성자에게 알림
+     */
+    public void notifyApproved(ApprovalDocument document) {
+        enqueue(document, NotificationType.APPROVAL_APPROVED, List.of(document.getAuthorId()));
+    }
+
+    /**
+     * 반려 시 작성자에게 알림
+     */
+    public void notifyRejected(ApprovalDocument document) {
+        enqueue(document, NotificationType.APPROVAL_REJECTED, List.of(document.getAuthorId()));
+    }
+
+    private Set<Long> currentStageApprovers(ApprovalDocument document) {
+        Stream<DocumentApprovalTarget> approvers = document.getApprovalStages().stream()
+                .filter(stage -> stage.getStageOrder().equals(document.getCurrentStage()))
+                .map(DocumentApprovalStage::getApprovalTargets)
+                .flatMap(List::stream)
+                .filter(target -> !target.getIsReference());
+        return userIds(approvers);
+    }
+
+    private Set<Long> userIds(Stream<DocumentApprovalTarget> targets) {
+        Set<Long> userIds = new LinkedHashSet<>();
+        targets.forEach(target -> userIds.addAll(permissionService.getTargetUserIds(target)));
+        return userIds;
+    }
+
+    private void enqueue(ApprovalDocument document, NotificationType type, Collection<Long> userIds) {
+        if (userIds.isEmpty()) {
+            return;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        String content = "[" + label(type) + "] " + document.getTemplate().getTitle();
+        List<NotificationOutbox> rows = userIds.stream()
+                .map(userId -> NotificationOutbox.builder()
+                        .type(type)
+                        .userId(userId)
+                        .content(content)
+                        .referenceId(document.getId())
+                        .createdAt(now)
+                        .nextAttemptAt(now)
+                        .build())
+                .toList();
+        outboxRepository.saveAll(rows);
+        log.debug("결재 알림 아웃박스 기록: documentId={}, type={}, 대상자 수={}", document.getId(), type, rows.size());
+    }
+
+    private static String label(NotificationType type) {
+        return switch (type) {
+            case APPROVAL_REQUEST -> "결재 요청";
+            case APPROVAL_APPROVED -> "결재 승인";
+            case APPROVAL_REJECTED -> "결재 반려";
+            case APPROVAL_REFERENCE -> "결재 참조";
+            default -> "알림";
+        };
+    }
+}
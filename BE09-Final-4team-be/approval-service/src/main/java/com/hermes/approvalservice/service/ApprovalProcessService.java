@@ -3,7 +3,6 @@ package com.hermes.approvalservice.service;
 import com.hermes.approvalservice.dto.request.ApprovalActionRequest;
 import com.hermes.approvalservice.entity.ApprovalDocument;
 import com.hermes.approvalservice.entity.DocumentApprovalStage;
-import com.hermes.approvalservice.entity.DocumentApprovalTarget;
 import com.hermes.approvalservice.enums.ActivityType;
 import com.hermes.approvalservice.enums.ApprovalStatus;
 import com.hermes.approvalservice.enums.DocumentStatus;
@@ -25,6 +24,8 @@ public class ApprovalProcessService {
     private final ApprovalDocumentRepository documentRepository;
     private final DocumentPermissionService permissionService;
     private final DocumentActivityService activityService;
+    private final ApprovalInboxService inboxService;
+    private final ApprovalNotificationService notificationService;
 
     public void approveDocument(Long documentId, UserPrincipal user, ApprovalActionRequest request) {
         ApprovalDocument document = documentRepository.findById(documentId)
@@ -44,7 +45,7 @@ public class ApprovalProcessService {
 
         // 해당 사용자의 승인 처리
         currentStage.getApprovalTargets().stream()
-                .filter(target -> !target.getIsReference() && isTargetUser(target, userId))
+                .filter(target -> !target.getIsReference() && permissionService.isTargetUser(target, userId))
                 .forEach(target -> {
                     target.setApprovalStatus(ApprovalStatus.APPROVED);
                     target.setProcessedBy(userId);
@@ -65,16 +66,19 @@ public class ApprovalProcessService {
                 document.setCurrentStage(document.getCurrentStage() + 1);
                 activityService.recordActivity(document, userId, ActivityType.APPROVE, 
                     String.format("%d단계 승인 완료", currentStage.getStageOrder()), request.getReason());
+                notificationService.notifyStageAdvanced(document);
             } else {
                 document.setStatus(DocumentStatus.APPROVED);
                 document.setApprovedAt(LocalDateTime.now());
                 activityService.recordActivity(document, userId, ActivityType.APPROVE, 
                     "최종 승인 완료", request.getReason());
+                notificationService.notifyApproved(document);
             }
         } else {
             activityService.recordActivity(document, userId, ActivityType.APPROVE, 
                 String.format("%d단계 승인", currentStage.getStageOrder()), request.getReason());
         }
+        inboxService.refresh(document);
     }
 
     public void rejectDocument(Long documentId, UserPrincipal user, ApprovalActionRequest request) {
@@ -95,7 +99,7 @@ public class ApprovalProcessService {
 
         // 해당 사용자의 반려 처리
         currentStage.getApprovalTargets().stream()
-                .filter(target -> !target.getIsReference() && isTargetUser(target, userId))
+                .filter(target -> !target.getIsReference() && permissionService.isTargetUser(target, userId))
                 .forEach(target -> {
                     target.setApprovalStatus(ApprovalStatus.REJECTED);
                     target.setProcessedBy(userId);
@@ -104,14 +108,7 @@ public class ApprovalProcessService {
 
         document.setStatus(DocumentStatus.REJECTED);
         activityService.recordActivity(document, userId, ActivityType.REJECT, "문서를 반려했습니다.", request.getReason());
+        notificationService.notifyRejected(document);
+        inboxService.refresh(document);
     }
-
-    private boolean isTargetUser(DocumentApprovalTarget target, Long userId) {
-        if (target.getUserId() != null) {
-            return target.getUserId().equals(userId);
-        }
-        
-        // 조직 또는 n차 조직장 로직은 추후 구현
-        return false;
-    }
-}
\ No newline at end of file
+}
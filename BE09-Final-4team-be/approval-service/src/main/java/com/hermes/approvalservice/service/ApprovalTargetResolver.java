@@ -0,0 +1,210 @@
+package com.hermes.approvalservice.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.hermes.api.common.ApiResult;
+import com.hermes.approvalservice.client.OrganizationServiceClient;
+import com.hermes.approvalservice.client.dto.OrganizationAssignment;
+import com.hermes.approvalservice.client.dto.OrganizationInfo;
+import com.hermes.approvalservice.entity.ApprovalDocument;
+import com.hermes.approvalservice.entity.DocumentApprovalTarget;
+import com.hermes.approvalservice.enums.TargetType;
+import com.hermes.approvalservice.exception.BusinessException;
+import com.hermes.auth.principal.UserPrincipal;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * 조직/n차 조직장 결재 대상을 실제 사용자 ID로 펼침
+ * 테넌트별로 조직 구조와 배정 전체를 한 번 읽어 스냅샷으로 캐시하고(org-service 변경 이벤트로 무효화),
+ * 조직장 체인은 스냅샷 안에서 직원별로 한 번만 계산한다.
+ * 문서 제출 시점에 펼친 결과를 대상에 저장하므로 이후 권한 확인은 원격 조회 없이 처리된다.
+ */
+@Slf4j
+@Component
+public class ApprovalTargetResolver {
+
+    private static final String DEFAULT_TENANT_ID = "default";
+
+    private final OrganizationServiceClient organizationServiceClient;
+    private final Cache<String, OrgSnapshot> cache;
+
+    public ApprovalTargetResolver(
+            OrganizationServiceClient organizationServiceClient,
+            @Value("${hermes.approval.org-cache.ttl-seconds:600}") long ttlSeconds) {
+        this.organizationServiceClient = organizationServiceClient;
+        this.cache = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .build();
+    }
+
+    /**
+     * 문서의 조직/n차 조직장 대상을 모두 펼쳐 resolvedUserIds에 저장 (문서 제출 시 호출)
+     * 승인 대상이 아무도 없으면 결재가 진행될 수 없으므로 예외를 던진다.
+     */
+    public void expandTargets(ApprovalDocument document) {
+        List<DocumentApprovalTarget> targets = Stream.concat(
+                        document.getApprovalStages().stream().flatMap(stage -> stage.getApprovalTargets().stream()),
+                        document.getReferenceTargets().stream())
+                .filter(target -> target.getTargetType() != TargetType.USER)
+                .toList();
+        if (targets.isEmpty()) {
+            return;
+        }
+
+        OrgSnapshot snapshot = snapshot();
+        for (DocumentApprovalTarget target : targets) {
+            Set<Long> userIds = resolve(snapshot, target, document.getAuthorId());
+            if (userIds.isEmpty() && !target.getIsReference()) {
+                throw new BusinessException(String.format("%s 결재 대상에 해당하는 사용자가 없습니다.",
+                        target.getTargetType().getDescription()));
+            }
+            target.getResolvedUserIds().clear();
+            target.getResolvedUserIds().addAll(userIds);
+        }
+    }
+
+    /**
+     * 테넌트 스냅샷 무효화 (조직/인사발령 변경 이벤트 수신 시)
+     */
+    public void evictTenant(String tenantId) {
+        cache.invalidate(tenantId != null ? tenantId : DEFAULT_TENANT_ID);
+    }
+
+    private Set<Long> resolve(OrgSnapshot snapshot, DocumentApprovalTarget target, Long authorId) {
+        return switch (target.getTargetType()) {
+            case USER -> target.getUserId() != null ? Set.of(target.getUserId()) : Set.of();
+            case ORGANIZATION -> {
+                if (target.getOrganizationId() == null) {
+                    throw new BusinessException("조직 결재 대상에 조직이 지정되지 않았습니다.");
+                }
+                Set<Long> members = new HashSet<>(snapshot.membersByOrg().getOrDefault(target.getOrganizationId(), Set.of()));
+                members.remove(authorId);
+                yield members;
+            }
+            case N_LEVEL_MANAGER -> {
+                Integer level = target.getManagerLevel();
+                if (level == null || level < 1) {
+                    throw new BusinessException("n차 조직장 결재 대상의 차수는 1 이상이어야 합니다.");
+                }
+                List<Set<Long>> chain = snapshot.managerChain(authorId);
+                yield level <= chain.size() ? chain.get(level - 1) : Set.of();
+            }
+        };
+    }
+
+    private OrgSnapshot snapshot() {
+        OrgSnapshot snapshot = cache.get(currentTenantId(), tenantId -> load());
+        if (snapshot == null) {
+            throw new BusinessException("조직 정보를 조회할 수 없어 결재선을 확정할 수 없습니다.");
+        }
+        return snapshot;
+    }
+
+    /**
+     * 조직 목록과 배정 목록을 한 번씩 조회하여 스냅샷 구성 (실패 시 null을 반환하여 캐시하지 않음)
+     */
+    private OrgSnapshot load() {
+        List<OrganizationInfo> organizations = fetch(organizationServiceClient::getAllOrganizations, "organizations");
+        List<OrganizationAssignment> assignments = fetch(organizationServiceClient::getAllAssignments, "assignments");
+        if (organizations == null || assignments == null) {
+            return null;
+        }
+
+        Map<Long, Long> parentByOrg = new HashMap<>();
+        for (OrganizationInfo organization : organizations) {
+            if (organization.getParentId() != null) {
+                parentByOrg.put(organization.getOrganizationId(), organization.getParentId());
+            }
+        }
+
+        Map<Long, Set<Long>> membersByOrg = new HashMap<>();
+        Map<Long, Set<Long>> leadersByOrg = new HashMap<>();
+        Map<Long, Long> primaryOrgByEmployee = new HashMap<>();
+        for (OrganizationAssignment assignment : assignments) {
+            if (assignment.getEmployeeId() == null || assignment.getOrganizationId() == null) {
+                continue;
+            }
+            membersByOrg.computeIfAbsent(assignment.getOrganizationId(), k -> new HashSet<>()).add(assignment.getEmployeeId());
+            if (Boolean.TRUE.equals(assignment.getIsLeader())) {
+                leadersByOrg.computeIfAbsent(assignment.getOrganizationId(), k -> new HashSet<>()).add(assignment.getEmployeeId());
+            }
+            if (Boolean.TRUE.equals(assignment.getIsPrimary())) {
+                primaryOrgByEmployee.put(assignment.getEmployeeId(), assignment.getOrganizationId());
+            } else {
+                primaryOrgByEmployee.putIfAbsent(assignment.getEmployeeId(), assignment.getOrganizationId());
+            }
+        }
+
+        log.info("조직 스냅샷 로드: organizations={}, assignments={}", organizations.size(), assignments.size());
+        return new OrgSnapshot(parentByOrg, membersByOrg, leadersByOrg, primaryOrgByEmployee, new ConcurrentHashMap<>());
+    }
+
+    private <T> List<T> fetch(Supplier<ApiResult<List<T>>> call, String description) {
+        try {
+            ApiResult<List<T>> result = call.get();
+            if (result != null && "SUCCESS".equals(result.getStatus()) && result.getData() != null) {
+                return result.getData();
+            }
+            log.warn("org-service {} 조회 실패: message={}", description, result != null ? result.getMessage() : null);
+        } catch (Exception e) {
+            log.warn("org-service {} 조회 오류: error={}", description, e.getMessage());
+        }
+        return null;
+    }
+
+    private static String currentTenantId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof UserPrincipal principal
+                && principal.getTenantId() != null) {
+            return principal.getTenantId();
+        }
+        return DEFAULT_TENANT_ID;
+    }
+
+    /**
+     * 테넌트 조직 스냅샷 (불변 맵 + 직원별 조직장 체인 메모)
+     */
+    private record OrgSnapshot(Map<Long, Long> parentByOrg,
+                               Map<Long, Set<Long>> membersByOrg,
+                               Map<Long, Set<Long>> leadersByOrg,
+                               Map<Long, Long> primaryOrgByEmployee,
+                               Map<Long, List<Set<Long>>> managerChains) {
+
+        /**
+         * 직원의 주 소속 조직부터 상위로 올라가며 본인을 제외한 조직장이 있는 조직만 차례로 모은 목록
+         * (1차 조직장 = 첫 번째 원소)
+         */
+        List<Set<Long>> managerChain(Long employeeId) {
+            return managerChains.computeIfAbsent(employeeId, id -> {
+                List<Set<Long>> chain = new ArrayList<>();
+                Set<Long> visited = new LinkedHashSet<>();
+                Long organizationId = primaryOrgByEmployee.get(id);
+                while (organizationId != null && visited.add(organizationId)) {
+                    Set<Long> leaders = new HashSet<>(leadersByOrg.getOrDefault(organizationId, Set.of()));
+                    leaders.remove(id);
+                    if (!leaders.isEmpty()) {
+                        chain.add(Set.copyOf(leaders));
+                    }
+                    organizationId = parentByOrg.get(organizationId);
+                }
+                return List.copyOf(chain);
+            });
+        }
+    }
+}
@@ -10,6 +10,9 @@ import com.hermes.auth.principal.UserPrincipal;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
+import java.util.Collection;
+import java.util.List;
+
 @Service
 @RequiredArgsConstructor
 public class DocumentPermissionService {
@@ -121,14 +124,20 @@ public class DocumentPermissionService {
         return approvalInfo;
     }
 
-    private boolean isTargetUser(DocumentApprovalTarget target, Long userId) {
+    /**
+     * 결재/참조 대상 해당 여부 (조직/n차 조직장 대상은 제출 시 펼쳐 둔 사용자 ID로 확인)
+     */
+    public boolean isTargetUser(DocumentApprovalTarget target, Long userId) {
         if (target.getUserId() != null) {
             return target.getUserId().equals(userId);
         }
-        
-        // 조직 또는 n차 조직장 로직은 추후 구현
-        // OrganizationService와 연동 필요
-        
-        return false;
+        return target.getResolvedUserIds().contains(userId);
+    }
+
+    /**
+     * 대상에 해당하는 사용자 ID 목록 (조직/n차 조직장 대상은 제출 시 펼쳐 둔 값)
+     */
+    public Collection<Long> getTargetUserIds(DocumentApprovalTarget target) {
+        return target.getUserId() != null ? List.of(target.getUserId()) : target.getResolvedUserIds();
     }
 }
\ No newline at end of file
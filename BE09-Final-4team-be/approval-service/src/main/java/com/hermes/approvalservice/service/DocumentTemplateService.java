@@ -15,10 +15,8 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.ArrayList;
+import java.time.LocalDateTime;
 import java.util.List;
-import java.util.Map;
-import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -32,72 +30,24 @@ public class DocumentTemplateService {
     private final TemplateApprovalTargetRepository targetRepository;
     private final AttachmentClientService attachmentService;
     private final ResponseConverter responseConverter;
+    private final ApprovalInboxService inboxService;
+    private final TemplateCatalog templateCatalog;
 
     public List<TemplateSummaryResponse> getAllTemplates(boolean isAdmin) {
-        List<DocumentTemplate> templates = isAdmin 
-            ? templateRepository.findAll()
-            : templateRepository.findByIsHiddenFalse();
-        
-        return templates.stream()
-                .map(responseConverter::convertToTemplateSummaryResponse)
-                .toList();
+        return templateCatalog.getTemplates(isAdmin);
     }
 
     public List<TemplateSummaryResponse> getTemplatesByCategory(Long categoryId, boolean isAdmin) {
-        List<DocumentTemplate> templates = isAdmin
-            ? templateRepository.findByCategoryId(categoryId)
-            : templateRepository.findByCategoryIdAndIsHiddenFalse(categoryId);
-        
-        return templates.stream()
-                .map(responseConverter::convertToTemplateSummaryResponse)
-                .toList();
+        return templateCatalog.getTemplatesByCategory(categoryId, isAdmin);
     }
 
     public List<TemplatesByCategoryResponse> getTemplatesByCategory(boolean isAdmin) {
-        List<DocumentTemplate> templates = isAdmin
-            ? templateRepository.findAll()
-            : templateRepository.findVisibleTemplatesWithCategory();
-
-        // null category와 non-null category 분리
-        Map<Boolean, List<DocumentTemplate>> partitioned = templates.stream()
-                .collect(Collectors.partitioningBy(template -> template.getCategory() != null));
-
-        List<TemplatesByCategoryResponse> result = new ArrayList<>();
-
-        // null category 템플릿들 처리 (분류되지 않음)
-        List<DocumentTemplate> uncategorizedTemplates = partitioned.get(false);
-        if (!uncategorizedTemplates.isEmpty()) {
-            TemplatesByCategoryResponse uncategorizedResponse = new TemplatesByCategoryResponse();
-            uncategorizedResponse.setTemplates(uncategorizedTemplates.stream()
-                    .map(responseConverter::convertToTemplateSummaryResponse)
-                    .toList());
-            result.add(uncategorizedResponse);
-        }
-
-        // non-null category 템플릿들 그룹핑
-        Map<TemplateCategory, List<DocumentTemplate>> groupedTemplates = partitioned.get(true).stream()
-                .collect(Collectors.groupingBy(DocumentTemplate::getCategory));
-
-        List<TemplatesByCategoryResponse> categorizedResponses = groupedTemplates.entrySet().stream()
-                .map(entry -> {
-                    TemplatesByCategoryResponse response = new TemplatesByCategoryResponse();
-                    response.setCategoryId(entry.getKey().getId());
-                    response.setCategoryName(entry.getKey().getName());
-                    response.setTemplates(entry.getValue().stream()
-                            .map(responseConverter::convertToTemplateSummaryResponse)
-                            .toList());
-                    return response;
-                })
-                .toList();
-
-        result.addAll(categorizedResponses);
-        return result;
+        return templateCatalog.getGroupedTemplates(isAdmin);
     }
 
     public TemplateResponse getTemplateById(Long id) {
-        DocumentTemplate template = templateRepository.findById(id)
+        return templateCatalog.getTemplate(id)
                 .orElseThrow(() -> new NotFoundException("템플릿을 찾을 수 없습니다."));
-        return responseConverter.convertToTemplateResponse(template);
     }
 
     @Transactional
@@ -141,7 +91,8 @@ public class DocumentTemplateService {
             saveReferenceTargets(savedTemplate, request.getReferenceTargets());
         }
 
-        return getTemplateById(savedTemplate.getId());
+        templateCatalog.invalidate();
+        return responseConverter.convertToTemplateResponse(savedTemplate);
     }
 
     @Transactional
@@ -162,6 +113,9 @@ public class DocumentTemplateService {
             template.getReferenceFiles().addAll(referenceFiles);
         }
 
+        if (!template.getTitle().equals(request.getTitle())) {
+            inboxService.updateTemplateTitle(template.getId(), request.getTitle());
+        }
         template.setTitle(request.getTitle());
         template.setIcon(request.getIcon());
         template.setColor(request.getColor());
@@ -171,6 +125,8 @@ public class DocumentTemplateService {
         template.setUseAttachment(request.getUseAttachment());
         template.setAllowTargetChange(request.getAllowTargetChange());
         template.setCategory(category);
+        // 필드만 바뀌어도 수정 시각이 갱신되도록 직접 설정 (TemplateFieldCache 버전 키)
+        template.setUpdatedAt(LocalDateTime.now());
 
         // Clear existing fields, stages, and targets using orphanRemoval
         template.getFields().clear();
@@ -192,7 +148,8 @@ public class DocumentTemplateService {
             saveReferenceTargets(template, request.getReferenceTargets());
         }
 
-        return getTemplateById(template.getId());
+        templateCatalog.invalidate();
+        return responseConverter.convertToTemplateResponse(template);
     }
 
     @Transactional
@@ -201,6 +158,7 @@ public class DocumentTemplateService {
                 .orElseThrow(() -> new NotFoundException("템플릿을 찾을 수 없습니다."));
         
         template.setIsHidden(isHidden);
+        templateCatalog.invalidate();
     }
 
     @Transactional
@@ -209,6 +167,7 @@ public class DocumentTemplateService {
             throw new NotFoundException("템플릿을 찾을 수 없습니다.");
         }
         templateRepository.deleteById(id);
+        templateCatalog.invalidate();
     }
 
     private void saveTemplateFields(DocumentTemplate template, List<TemplateFieldRequest> fieldRequests) {
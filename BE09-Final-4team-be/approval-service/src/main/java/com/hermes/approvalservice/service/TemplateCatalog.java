@@ -0,0 +1,238 @@
+package com.hermes.approvalservice.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.hermes.approvalservice.converter.ResponseConverter;
+import com.hermes.approvalservice.dto.response.CategoryResponse;
+import com.hermes.approvalservice.dto.response.TemplateResponse;
+import com.hermes.approvalservice.dto.response.TemplateSummaryResponse;
+import com.hermes.approvalservice.dto.response.TemplatesByCategoryResponse;
+import com.hermes.approvalservice.entity.DocumentTemplate;
+import com.hermes.approvalservice.entity.TemplateApprovalTarget;
+import com.hermes.approvalservice.entity.TemplateCategory;
+import com.hermes.approvalservice.repository.DocumentTemplateRepository;
+import com.hermes.approvalservice.repository.TemplateCategoryRepository;
+import com.hermes.auth.principal.UserPrincipal;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * 테넌트별 결재 템플릿 카탈로그 (목록/카테고리별 목록/상세/카테고리 응답을 미리 만들어 두고 DB 조회 없이 반환)
+ * 템플릿·카테고리 변경 트랜잭션이 커밋되면 테넌트 버전을 올리고 스냅샷을 버리며,
+ * 로드 도중 버전이 바뀐 스냅샷은 캐시에 넣지 않는다. 다른 인스턴스의 변경은 TTL 이후 반영된다.
+ * 반환하는 응답 객체는 캐시와 공유되므로 호출 측에서 수정하지 않는다.
+ */
+@Slf4j
+@Component
+public class TemplateCatalog {
+
+    private static final String DEFAULT_TENANT_ID = "default";
+
+    private final DocumentTemplateRepository templateRepository;
+    private final TemplateCategoryRepository categoryRepository;
+    private final ResponseConverter responseConverter;
+    private final UserProfileResolver userProfileResolver;
+    private final Cache<String, Snapshot> cache;
+    private final Map<String, AtomicLong> versions = new ConcurrentHashMap<>();
+
+    public TemplateCatalog(
+            DocumentTemplateRepository templateRepository,
+            TemplateCategoryRepository categoryRepository,
+            ResponseConverter responseConverter,
+            UserProfileResolver userProfileResolver,
+            @Value("${hermes.approval.template-catalog.ttl-seconds:300}") long ttlSeconds) {
+        this.templateRepository = templateRepository;
+        this.categoryRepository = categoryRepository;
+        this.responseConverter = responseConverter;
+        this.userProfileResolver = userProfileResolver;
+        this.cache = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .build();
+    }
+
+    public List<TemplateSummaryResponse> getTemplates(boolean includeHidden) {
+        return includeHidden ? snapshot().templates() : snapshot().visibleTemplates();
+    }
+
+    public List<TemplateSummaryResponse> getTemplatesByCategory(Long categoryId, boolean includeHidden) {
+        return getTemplates(includeHidden).stream()
+                .filter(template -> template.getCategory() != null && categoryId.equals(template.getCategory().getId()))
+                .toList();
+    }
+
+    public List<TemplatesByCategoryResponse> getGroupedTemplates(boolean includeHidden) {
+        return includeHidden ? snapshot().groupedTemplates() : snapshot().groupedVisibleTemplates();
+    }
+
+    public Optional<TemplateResponse> getTemplate(Long id) {
+        return Optional.ofNullable(snapshot().details().get(id));
+    }
+
+    public List<CategoryResponse> getCategories(boolean withVisibleTemplatesOnly) {
+        return withVisibleTemplatesOnly ? snapshot().categoriesWithVisibleTemplates() : snapshot().categories();
+    }
+
+    /**
+     * 템플릿/카테고리 변경 시 호출 (트랜잭션 안이면 커밋 후, 아니면 즉시 무효화)
+     */
+    public void invalidate() {
+        String tenantId = currentTenantId();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evict(tenantId);
+                }
+            });
+        } else {
+            evict(tenantId);
+        }
+    }
+
+    private void evict(String tenantId) {
+        // 버전을 먼저 올려 진행 중인 로드 결과가 캐시에 들어가지 않게 한 뒤 스냅샷 제거
+        version(tenantId).incrementAndGet();
+        cache.invalidate(tenantId);
+    }
+
+    private Snapshot snapshot() {
+        String tenantId = currentTenantId();
+        Snapshot snapshot = cache.getIfPresent(tenantId);
+        if (snapshot != null) {
+            return snapshot;
+        }
+
+        long version = version(tenantId).get();
+        Snapshot loaded = load(version);
+        cache.asMap().compute(tenantId, (key, existing) ->
+                version(tenantId).get() == version ? loaded : existing);
+        return loaded;
+    }
+
+    private AtomicLong version(String tenantId) {
+        return versions.computeIfAbsent(tenantId, key -> new AtomicLong());
+    }
+
+    /**
+     * 카테고리와 템플릿 전체를 읽어 응답 형태로 변환 (하위 컬렉션은 @BatchSize로 묶어 로딩)
+     */
+    private Snapshot load(long version) {
+        List<TemplateCategory> categories = categoryRepository.findAllByOrderBySortOrderAsc();
+        Map<Long, Integer> categoryOrder = new LinkedHashMap<>();
+        for (int i = 0; i < categories.size(); i++) {
+            categoryOrder.put(categories.get(i).getId(), i);
+        }
+
+        List<DocumentTemplate> templates = templateRepository.findAll().stream()
+                .sorted(Comparator.comparing((DocumentTemplate template) -> template.getCategory() != null
+                                ? categoryOrder.getOrDefault(template.getCategory().getId(), Integer.MAX_VALUE) : -1)
+                        .thenComparing(DocumentTemplate::getCreatedAt))
+                .toList();
+
+        // 템플릿 참조 대상 사용자 프로필을 한 번에 조회해 두어 변환 중 단건 조회가 없도록 함
+        userProfileResolver.resolveAll(templates.stream()
+                .flatMap(template -> Stream.concat(
+                        template.getApprovalStages().stream().flatMap(stage -> stage.getApprovalTargets().stream()),
+                        template.getReferenceTargets().stream()))
+                .map(TemplateApprovalTarget::getUserId)
+                .filter(Objects::nonNull)
+                .toList());
+
+        List<TemplateSummaryResponse> summaries = templates.stream()
+                .map(responseConverter::convertToTemplateSummaryResponse)
+                .toList();
+        List<TemplateSummaryResponse> visibleSummaries = summaries.stream()
+                .filter(summary -> !Boolean.TRUE.equals(summary.getIsHidden()))
+                .toList();
+        Map<Long, TemplateResponse> details = templates.stream()
+                .map(responseConverter::convertToTemplateResponse)
+                .collect(Collectors.toUnmodifiableMap(TemplateResponse::getId, Function.identity()));
+
+        List<CategoryResponse> categoryResponses = categories.stream()
+                .map(TemplateCatalog::toCategoryResponse)
+                .toList();
+        List<CategoryResponse> categoriesWithVisibleTemplates = categoryResponses.stream()
+                .filter(category -> visibleSummaries.stream().anyMatch(summary ->
+                        summary.getCategory() != null && category.getId().equals(summary.getCategory().getId())))
+                .toList();
+
+        log.info("템플릿 카탈로그 로드: tenant={}, version={}, templates={}, categories={}",
+                currentTenantId(), version, templates.size(), categories.size());
+        return new Snapshot(version, summaries, visibleSummaries, group(summaries), group(visibleSummaries),
+                details, categoryResponses, categoriesWithVisibleTemplates);
+    }
+
+    /**
+     * 카테고리별 묶음 (분류되지 않은 템플릿이 먼저, 이후 카테고리 정렬 순서)
+     */
+    private static List<TemplatesByCategoryResponse> group(List<TemplateSummaryResponse> summaries) {
+        List<TemplatesByCategoryResponse> result = new ArrayList<>();
+
+        List<TemplateSummaryResponse> uncategorized = summaries.stream()
+                .filter(summary -> summary.getCategory() == null)
+                .toList();
+        if (!uncategorized.isEmpty()) {
+            TemplatesByCategoryResponse uncategorizedResponse = new TemplatesByCategoryResponse();
+            uncategorizedResponse.setTemplates(uncategorized);
+            result.add(uncategorizedResponse);
+        }
+
+        Map<Long, List<TemplateSummaryResponse>> byCategory = summaries.stream()
+                .filter(summary -> summary.getCategory() != null)
+                .collect(Collectors.groupingBy(summary -> summary.getCategory().getId(), LinkedHashMap::new, Collectors.toList()));
+        byCategory.forEach((categoryId, templates) -> {
+            TemplatesByCategoryResponse response = new TemplatesByCategoryResponse();
+            response.setCategoryId(categoryId);
+            response.setCategoryName(templates.get(0).getCategory().getName());
+            response.setTemplates(List.copyOf(templates));
+            result.add(response);
+        });
+        return List.copyOf(result);
+    }
+
+    private static CategoryResponse toCategoryResponse(TemplateCategory category) {
+        CategoryResponse response = new CategoryResponse();
+        response.setId(category.getId());
+        response.setName(category.getName());
+        response.setSortOrder(category.getSortOrder());
+        return response;
+    }
+
+    private static String currentTenantId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof UserPrincipal principal
+                && principal.getTenantId() != null) {
+            return principal.getTenantId();
+        }
+        return DEFAULT_TENANT_ID;
+    }
+
+    private record Snapshot(long version,
+                            List<TemplateSummaryResponse> templates,
+                            List<TemplateSummaryResponse> visibleTemplates,
+                            List<TemplatesByCategoryResponse> groupedTemplates,
+                            List<TemplatesByCategoryResponse> groupedVisibleTemplates,
+                            Map<Long, TemplateResponse> details,
+                            List<CategoryResponse> categories,
+                            List<CategoryResponse> categoriesWithVisibleTemplates) {
+    }
+}
@@ -23,25 +23,21 @@ import java.util.ArrayList;
 public class TemplateCategoryService {
 
     private final TemplateCategoryRepository categoryRepository;
+    private final TemplateCatalog templateCatalog;
 
     public List<CategoryResponse> getAllCategories() {
-        return categoryRepository.findAllByOrderBySortOrderAsc()
-                .stream()
-                .map(this::convertToResponse)
-                .toList();
+        return templateCatalog.getCategories(false);
     }
 
     public List<CategoryResponse> getCategoriesWithVisibleTemplates() {
-        return categoryRepository.findCategoriesWithVisibleTemplates()
-                .stream()
-                .map(this::convertToResponse)
-                .toList();
+        return templateCatalog.getCategories(true);
     }
 
     public CategoryResponse getCategoryById(Long id) {
-        TemplateCategory category = categoryRepository.findById(id)
+        return templateCatalog.getCategories(false).stream()
+                .filter(category -> category.getId().equals(id))
+                .findFirst()
                 .orElseThrow(() -> new NotFoundException("카테고리를 찾을 수 없습니다."));
-        return convertToResponse(category);
     }
 
     @Transactional
@@ -52,6 +48,7 @@ public class TemplateCategoryService {
                 .build();
 
         TemplateCategory savedCategory = categoryRepository.save(category);
+        templateCatalog.invalidate();
         return convertToResponse(savedCategory);
     }
 
@@ -62,6 +59,7 @@ public class TemplateCategoryService {
 
         category.setName(request.getName());
         category.setSortOrder(request.getSortOrder());
+        templateCatalog.invalidate();
 
         return convertToResponse(category);
     }
@@ -72,6 +70,7 @@ public class TemplateCategoryService {
             throw new NotFoundException("카테고리를 찾을 수 없습니다.");
         }
         categoryRepository.deleteById(id);
+        templateCatalog.invalidate();
     }
 
     @Transactional
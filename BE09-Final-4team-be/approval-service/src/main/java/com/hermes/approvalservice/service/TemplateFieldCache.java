@@ -0,0 +1,63 @@
+package com.hermes.approvalservice.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.hermes.approvalservice.entity.DocumentTemplate;
+import com.hermes.approvalservice.enums.FieldType;
+import com.hermes.approvalservice.repository.TemplateFieldRepository;
+import com.hermes.auth.principal.UserPrincipal;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 템플릿 필드 정의 캐시 (문서 필드 값 검증용)
+ * 키에 템플릿 수정 시각을 포함하므로 템플릿이 수정되면 다른 인스턴스에서도 새 버전을 읽는다.
+ */
+@Component
+public class TemplateFieldCache {
+
+    private static final String DEFAULT_TENANT_ID = "default";
+
+    private final TemplateFieldRepository templateFieldRepository;
+    private final Cache<String, Map<Long, FieldDefinition>> cache;
+
+    public TemplateFieldCache(
+            TemplateFieldRepository templateFieldRepository,
+            @Value("${hermes.approval.template-field.cache.ttl-seconds:3600}") long ttlSeconds,
+            @Value("${hermes.approval.template-field.cache.max-size:1000}") long maxSize) {
+        this.templateFieldRepository = templateFieldRepository;
+        this.cache = Caffeine.newBuilder()
+                .expireAfterAccess(Duration.ofSeconds(ttlSeconds))
+                .maximumSize(maxSize)
+                .build();
+    }
+
+    /**
+     * 템플릿의 필드 정의 (필드 ID -> 정의), 캐시에 없으면 한 번의 쿼리로 읽음
+     */
+    public Map<Long, FieldDefinition> getFields(DocumentTemplate template) {
+        String key = tenantPrefix() + template.getId() + ":" + template.getUpdatedAt();
+        return cache.get(key, k -> templateFieldRepository.findByTemplateIdOrderByFieldOrderAsc(template.getId()).stream()
+                .map(field -> new FieldDefinition(field.getId(), field.getName(), field.getFieldType()))
+                .collect(Collectors.toUnmodifiableMap(FieldDefinition::id, Function.identity())));
+    }
+
+    private static String tenantPrefix() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        String tenantId = null;
+        if (authentication != null && authentication.getPrincipal() instanceof UserPrincipal principal) {
+            tenantId = principal.getTenantId();
+        }
+        return (tenantId != null ? tenantId : DEFAULT_TENANT_ID) + ":";
+    }
+
+    public record FieldDefinition(Long id, String name, FieldType fieldType) {
+    }
+}
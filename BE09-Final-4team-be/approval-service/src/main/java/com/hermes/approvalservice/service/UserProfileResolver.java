@@ -0,0 +1,212 @@
+package com.hermes.approvalservice.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.hermes.api.common.ApiResult;
+import com.hermes.approvalservice.client.UserServiceClient;
+import com.hermes.approvalservice.client.dto.UserBulkLookupRequest;
+import com.hermes.approvalservice.client.dto.UserProfile;
+import com.hermes.auth.principal.UserPrincipal;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 문서 응답에 필요한 사용자 프로필 조회
+ * 테넌트별 짧은 TTL 캐시를 먼저 확인하고, 없는 ID만 user-service 일괄 조회 1회로 가져온다.
+ * 일괄 조회가 실패하면 단건 조회를 병렬로 수행하며, 끝내 조회하지 못한 사용자는 캐시하지 않고 기본값으로 표시한다.
+ */
+@Slf4j
+@Component
+public class UserProfileResolver {
+
+    private static final String DEFAULT_TENANT_ID = "default";
+    private static final String UNKNOWN_USER_NAME = "사용자 정보 없음";
+
+    private final UserServiceClient userServiceClient;
+    private final Cache<String, UserProfile> cache;
+    private final ExecutorService executor;
+
+    public UserProfileResolver(
+            UserServiceClient userServiceClient,
+            @Value("${hermes.approval.user-profile.cache.ttl-seconds:60}") long ttlSeconds,
+            @Value("${hermes.approval.user-profile.cache.max-size:10000}") long maxSize,
+            @Value("${hermes.approval.user-profile.fallback-parallelism:8}") int parallelism) {
+        this.userServiceClient = userServiceClient;
+        this.cache = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .maximumSize(maxSize)
+                .build();
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = Executors.newFixedThreadPool(parallelism, runnable -> {
+            Thread thread = new Thread(runnable, "user-profile-fetch-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    public UserProfile resolve(Long userId) {
+        if (userId == null) {
+            return null;
+        }
+        return resolveAll(List.of(userId)).get(userId);
+    }
+
+    /**
+     * 여러 사용자 프로필 조회 (중복 제거, 요청한 모든 ID에 대해 값이 채워진 Map 반환)
+     */
+    public Map<Long, UserProfile> resolveAll(Collection<Long> userIds) {
+        Map<Long, UserProfile> profiles = resolveKnown(userIds);
+        userIds.stream()
+                .filter(Objects::nonNull)
+                .forEach(userId -> profiles.computeIfAbsent(userId, UserProfileResolver::unknownUser));
+        return profiles;
+    }
+
+    /**
+     * 실제로 조회된 프로필만 반환 (조회하지 못한 사용자는 기본값 없이 빠짐, 저장용 조회에 사용)
+     */
+    public Map<Long, UserProfile> resolveKnown(Collection<Long> userIds) {
+        String prefix = tenantPrefix();
+        Map<Long, UserProfile> profiles = new HashMap<>();
+        List<Long> missing = new ArrayList<>();
+        userIds.stream().filter(Objects::nonNull).distinct().forEach(userId -> {
+            UserProfile cached = cache.getIfPresent(prefix + userId);
+            if (cached != null) {
+                profiles.put(userId, cached);
+            } else {
+                missing.add(userId);
+            }
+        });
+
+        if (!missing.isEmpty()) {
+            Map<Long, UserProfile> fetched = fetchBulk(missing);
+            if (fetched == null) {
+                fetched = fetchInParallel(missing);
+            }
+            fetched.forEach((userId, profile) -> cache.put(prefix + userId, profile));
+            profiles.putAll(fetched);
+        }
+        return profiles;
+    }
+
+    /**
+     * 사용자 정보 변경 시 모든 테넌트의 캐시 항목 제거
+     */
+    public void evict(Long userId) {
+        String suffix = ":" + userId;
+        cache.asMap().keySet().removeIf(key -> key.endsWith(suffix));
+    }
+
+    /**
+     * 일괄 조회 (실패 시 null을 반환하여 단건 병렬 조회로 전환)
+     */
+    private Map<Long, UserProfile> fetchBulk(List<Long> userIds) {
+        Map<Long, UserProfile> profiles = new HashMap<>();
+        try {
+            for (int from = 0; from < userIds.size(); from += UserBulkLookupRequest.MAX_USER_IDS) {
+                List<Long> chunk = userIds.subList(from, Math.min(from + UserBulkLookupRequest.MAX_USER_IDS, userIds.size()));
+                ApiResult<List<UserProfile>> result = userServiceClient.getUserProfiles(new UserBulkLookupRequest(List.copyOf(chunk)));
+                if (result == null || !"SUCCESS".equals(result.getStatus()) || result.getData() == null) {
+                    log.warn("사용자 프로필 일괄 조회 실패, 단건 조회로 전환: count={}, message={}",
+                            userIds.size(), result != null ? result.getMessage() : null);
+                    return null;
+                }
+                result.getData().stream()
+                        .filter(profile -> profile.getId() != null)
+                        .forEach(profile -> profiles.put(profile.getId(), profile));
+            }
+            return profiles;
+        } catch (Exception e) {
+            log.warn("사용자 프로필 일괄 조회 오류, 단건 조회로 전환: count={}, error={}", userIds.size(), e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * 단건 조회 병렬 수행 (인증 헤더 전달을 위해 요청/보안 컨텍스트를 작업 스레드로 전파)
+     */
+    private Map<Long, UserProfile> fetchInParallel(List<Long> userIds) {
+        RequestAttributes requestAttributes = RequestContextHolder.getRequestAttributes();
+        SecurityContext securityContext = SecurityContextHolder.getContext();
+
+        List<CompletableFuture<UserProfile>> futures = userIds.stream()
+                .map(userId -> CompletableFuture.supplyAsync(() -> {
+                    RequestContextHolder.setRequestAttributes(requestAttributes);
+                    SecurityContextHolder.setContext(securityContext);
+                    try {
+                        return fetchOne(userId);
+                    } finally {
+                        RequestContextHolder.resetRequestAttributes();
+                        SecurityContextHolder.clearContext();
+                    }
+                }, executor))
+                .toList();
+
+        Map<Long, UserProfile> profiles = new HashMap<>();
+        for (CompletableFuture<UserProfile> future : futures) {
+            UserProfile profile = future.join();
+            if (profile != null) {
+                profiles.put(profile.getId(), profile);
+            }
+        }
+        return profiles;
+    }
+
+    private UserProfile fetchOne(Long userId) {
+        try {
+            ApiResult<UserProfile> result = userServiceClient.getUserProfile(userId);
+            if (result != null && "SUCCESS".equals(result.getStatus()) && result.getData() != null) {
+                UserProfile profile = result.getData();
+                profile.setId(userId);
+                return profile;
+            }
+            log.warn("사용자 프로필 조회 실패: userId={}, message={}", userId, result != null ? result.getMessage() : null);
+        } catch (Exception e) {
+            log.warn("사용자 프로필 조회 오류: userId={}, error={}", userId, e.getMessage());
+        }
+        return null;
+    }
+
+    private static UserProfile unknownUser(Long userId) {
+        return UserProfile.builder()
+                .id(userId)
+                .name(UNKNOWN_USER_NAME)
+                .email("")
+                .phone("")
+                .profileImageUrl("")
+                .build();
+    }
+
+    private static String tenantPrefix() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        String tenantId = null;
+        if (authentication != null && authentication.getPrincipal() instanceof UserPrincipal principal) {
+            tenantId = principal.getTenantId();
+        }
+        return (tenantId != null ? tenantId : DEFAULT_TENANT_ID) + ":";
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+}
@@ -0,0 +1,221 @@
+package com.hermes.approvalservice.messaging;
+
+import com.hermes.approvalservice.entity.ApprovalDocument;
+import com.hermes.approvalservice.entity.DocumentApprovalStage;
+import com.hermes.approvalservice.entity.DocumentApprovalTarget;
+import com.hermes.approvalservice.entity.DocumentTemplate;
+import com.hermes.approvalservice.entity.NotificationOutbox;
+import com.hermes.approvalservice.enums.TargetType;
+import com.hermes.approvalservice.repository.NotificationOutboxRepository;
+import com.hermes.approvalservice.service.ApprovalNotificationService;
+import com.hermes.approvalservice.service.DocumentPermissionService;
+import com.hermes.approvalservice.support.JpaTestConfiguration;
+import com.hermes.notification.enums.NotificationType;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestReporter;
+import org.springframework.amqp.AmqpConnectException;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessagePostProcessor;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.rabbit.connection.CorrelationData;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.net.ConnectException;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+/**
+ * 결재 알림 아웃박스 검증: 브로커 장애 중에도 결재 처리는 지연 없이 끝나고, 복구 후 모든 알림이 발송된다.
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ContextConfiguration(classes = {JpaTestConfiguration.class, ApprovalNotificationService.class, DocumentPermissionService.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class NotificationOutboxRelayTest {
+
+    private static final int BATCH_SIZE = 100;
+
+    @Autowired
+    private ApprovalNotificationService notificationService;
+
+    @Autowired
+    private NotificationOutboxRepository outboxRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private final RabbitTemplate rabbitTemplate = mock(RabbitTemplate.class);
+    private final AtomicBoolean brokerDown = new AtomicBoolean();
+    private final ConcurrentLinkedQueue<String> publishedMessageIds = new ConcurrentLinkedQueue<>();
+    private TransactionTemplate transactionTemplate;
+
+    @BeforeEach
+    void setUp() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        doAnswer(invocation -> {
+            if (brokerDown.get()) {
+                throw new AmqpConnectException(new ConnectException("Connection refused"));
+            }
+            MessagePostProcessor postProcessor = invocation.getArgument(3);
+            Message message = postProcessor.postProcessMessage(new Message(new byte[0], new MessageProperties()));
+            publishedMessageIds.add(message.getMessageProperties().getMessageId());
+            CorrelationData correlation = invocation.getArgument(4);
+            correlation.getFuture().complete(new CorrelationData.Confirm(true, null));
+            return null;
+        }).when(rabbitTemplate).convertAndSend(anyString(), anyString(), any(Object.class),
+                any(MessagePostProcessor.class), any(CorrelationData.class));
+    }
+
+    @AfterEach
+    void tearDown() {
+        outboxRepository.deleteAll();
+    }
+
+    @Test
+    void testBrokerOutageDeliversEveryNotificationAfterRecovery(TestReporter reporter) {
+        // 백오프 없이 바로 재시도하도록 최대 백오프 0초
+        NotificationOutboxRelay relay = relay(0, 1000);
+        brokerDown.set(true);
+
+        long startedAt = System.nanoTime();
+        transactionTemplate.executeWithoutResult(status -> notificationService.notifySubmitted(document()));
+        long submitMillis = (System.nanoTime() - startedAt) / 1_000_000;
+
+        // 결재 처리 경로는 브로커를 호출하지 않음
+        verifyNoInteractions(rabbitTemplate);
+        assertEquals(3, outboxRepository.count());
+        reporter.publishEntry("submit ms (broker down)", String.valueOf(submitMillis));
+        assertTrue(submitMillis < 1000, "브로커 장애가 결재 처리 시간에 영향을 주지 않아야 한다: " + submitMillis + "ms");
+
+        for (int i = 0; i < 3; i++) {
+            relay.relay();
+        }
+        List<NotificationOutbox> pending = outboxRepository.findAll();
+        assertTrue(pending.stream().allMatch(row -> row.getSentAt() == null));
+        assertTrue(pending.stream().allMatch(row -> row.getAttempts() == 3 && row.getLastError() != null));
+        assertTrue(publishedMessageIds.isEmpty());
+
+        brokerDown.set(false);
+        relay.relay();
+
+        List<NotificationOutbox> sent = outboxRepository.findAll();
+        assertTrue(sent.stream().allMatch(row -> row.getSentAt() != null && row.getLastError() == null));
+        assertEquals(sent.stream().map(row -> "approval-notification-" + row.getId()).collect(Collectors.toSet()),
+                Set.copyOf(publishedMessageIds));
+        assertEquals(Set.of(20L, 21L, 30L), sent.stream().map(NotificationOutbox::getUserId).collect(Collectors.toSet()));
+        assertEquals(2, sent.stream().filter(row -> row.getType() == NotificationType.APPROVAL_REQUEST).count());
+
+        // 발송 완료 행은 다시 발행하지 않음
+        relay.relay();
+        assertEquals(3, publishedMessageIds.size());
+    }
+
+    @Test
+    void testOutageBacksOffInsteadOfRetryingEveryTick() {
+        NotificationOutboxRelay relay = relay(300, 1000);
+        transactionTemplate.executeWithoutResult(status -> notificationService.notifyApproved(document()));
+        brokerDown.set(true);
+
+        LocalDateTime failedAt = LocalDateTime.now();
+        relay.relay();
+        relay.relay();
+
+        NotificationOutbox row = outboxRepository.findAll().get(0);
+        assertEquals(1, row.getAttempts());
+        assertFalse(row.getNextAttemptAt().isBefore(failedAt.plusSeconds(1)));
+        verify(rabbitTemplate, times(1)).convertAndSend(anyString(), anyString(), any(Object.class),
+                any(MessagePostProcessor.class), any(CorrelationData.class));
+    }
+
+    @Test
+    void testNackAndMissingConfirmStayPending() {
+        NotificationOutboxRelay relay = relay(0, 200);
+        transactionTemplate.executeWithoutResult(status -> {
+            notificationService.notifyApproved(document());
+            notificationService.notifyRejected(document());
+        });
+        AtomicBoolean first = new AtomicBoolean(true);
+        doAnswer(invocation -> {
+            CorrelationData correlation = invocation.getArgument(4);
+            if (first.getAndSet(false)) {
+                correlation.getFuture().complete(new CorrelationData.Confirm(false, "queue full"));
+            }
+            // 두 번째 메시지는 확인이 오지 않음
+            return null;
+        }).when(rabbitTemplate).convertAndSend(anyString(), anyString(), any(Object.class),
+                any(MessagePostProcessor.class), any(CorrelationData.class));
+
+        relay.relay();
+
+        List<NotificationOutbox> rows = outboxRepository.findAll().stream()
+                .sorted(Comparator.comparing(NotificationOutbox::getId))
+                .toList();
+        assertTrue(rows.stream().allMatch(row -> row.getSentAt() == null));
+        assertEquals(List.of("nack: queue full", "confirm timeout"),
+                rows.stream().map(NotificationOutbox::getLastError).toList());
+    }
+
+    private NotificationOutboxRelay relay(long maxBackoffSeconds, long confirmTimeoutMillis) {
+        return new NotificationOutboxRelay(outboxRepository, rabbitTemplate, transactionManager,
+                "notification.exchange", "notification.create", BATCH_SIZE, confirmTimeoutMillis, maxBackoffSeconds, 7);
+    }
+
+    /**
+     * 1단계 승인자 2명(20, 21)과 참조자 1명(30)이 있는 제출된 문서
+     */
+    private static ApprovalDocument document() {
+        ApprovalDocument document = ApprovalDocument.builder()
+                .id(1L)
+                .authorId(10L)
+                .currentStage(1)
+                .template(DocumentTemplate.builder().title("휴가 신청서").build())
+                .build();
+        DocumentApprovalStage stage = DocumentApprovalStage.builder()
+                .stageOrder(1)
+                .stageName("1차 결재")
+                .document(document)
+                .build();
+        for (Long userId : List.of(20L, 21L)) {
+            stage.getApprovalTargets().add(DocumentApprovalTarget.builder()
+                    .targetType(TargetType.USER)
+                    .userId(userId)
+                    .document(document)
+                    .approvalStage(stage)
+                    .build());
+        }
+        document.getApprovalStages().add(stage);
+        document.getReferenceTargets().add(DocumentApprovalTarget.builder()
+                .targetType(TargetType.USER)
+                .userId(30L)
+                .isReference(true)
+                .document(document)
+                .build());
+        return document;
+    }
+}
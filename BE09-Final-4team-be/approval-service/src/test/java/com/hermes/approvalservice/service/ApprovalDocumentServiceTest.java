@@ -0,0 +1,391 @@
+package com.hermes.approvalservice.service;
+
+import com.hermes.api.common.ApiResult;
+import com.hermes.approvalservice.client.UserServiceClient;
+import com.hermes.approvalservice.client.dto.UserBulkLookupRequest;
+import com.hermes.approvalservice.client.dto.UserProfile;
+import com.hermes.approvalservice.converter.ResponseConverter;
+import com.hermes.approvalservice.dto.request.CreateDocumentRequest;
+import com.hermes.approvalservice.dto.request.DocumentFieldValueRequest;
+import com.hermes.approvalservice.dto.request.UpdateDocumentRequest;
+import com.hermes.approvalservice.dto.response.DocumentResponse;
+import com.hermes.approvalservice.dto.response.DocumentFieldValueResponse;
+import com.hermes.approvalservice.dto.response.DocumentSummaryResponse;
+import com.hermes.approvalservice.entity.ApprovalDocument;
+import com.hermes.approvalservice.entity.DocumentActivity;
+import com.hermes.approvalservice.entity.DocumentApprovalStage;
+import com.hermes.approvalservice.entity.DocumentApprovalTarget;
+import com.hermes.approvalservice.entity.DocumentComment;
+import com.hermes.approvalservice.entity.DocumentFieldValue;
+import com.hermes.approvalservice.entity.DocumentTemplate;
+import com.hermes.approvalservice.entity.TemplateApprovalStage;
+import com.hermes.approvalservice.entity.TemplateApprovalTarget;
+import com.hermes.approvalservice.entity.TemplateCategory;
+import com.hermes.approvalservice.entity.TemplateField;
+import com.hermes.approvalservice.enums.ActivityType;
+import com.hermes.approvalservice.enums.DocumentRole;
+import com.hermes.approvalservice.enums.DocumentStatus;
+import com.hermes.approvalservice.enums.FieldType;
+import com.hermes.approvalservice.enums.TargetType;
+import com.hermes.approvalservice.repository.ApprovalDocumentRepository;
+import com.hermes.approvalservice.repository.DocumentTemplateRepository;
+import com.hermes.approvalservice.repository.TemplateCategoryRepository;
+import com.hermes.approvalservice.support.JpaTestConfiguration;
+import com.hermes.attachment.service.AttachmentClientService;
+import com.hermes.auth.enums.Role;
+import com.hermes.auth.principal.UserPrincipal;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementCreator;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 문서 조회/저장의 문장 수 검증
+ * 상세/목록 조회는 결재 단계, 대상, 의견 수나 페이지 크기와 관계없이, 필드 값 저장은 필드 수와 관계없이 일정해야 한다.
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ContextConfiguration(classes = {JpaTestConfiguration.class, ApprovalDocumentService.class, ResponseConverter.class,
+        DocumentPermissionService.class, TemplateFieldCache.class, UserProfileResolver.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class ApprovalDocumentServiceTest {
+
+    private static final Long APPROVER_ID = 99L;
+    private static final Long AUTHOR_ID = 500L;
+    private static final int PAGE_SIZE = 50;
+    private static final int FIELDS = 100;
+
+    @Autowired
+    private ApprovalDocumentService documentService;
+
+    @Autowired
+    private ApprovalDocumentRepository documentRepository;
+
+    @Autowired
+    private DocumentTemplateRepository templateRepository;
+
+    @Autowired
+    private TemplateCategoryRepository categoryRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @MockitoSpyBean
+    private JdbcTemplate jdbcTemplate;
+
+    @MockitoBean
+    private UserServiceClient userServiceClient;
+
+    @MockitoBean
+    private AttachmentClientService attachmentService;
+
+    @MockitoBean
+    private DocumentActivityService activityService;
+
+    @MockitoBean
+    private ApprovalInboxService inboxService;
+
+    @MockitoBean
+    private ApprovalTargetResolver targetResolver;
+
+    @MockitoBean
+    private ApprovalNotificationService notificationService;
+
+    private DocumentTemplate template;
+
+    @BeforeEach
+    void setUp() {
+        TemplateCategory category = categoryRepository.save(TemplateCategory.builder().name("근태").build());
+        DocumentTemplate newTemplate = DocumentTemplate.builder()
+                .title("휴가 신청서")
+                .category(category)
+                .build();
+        newTemplate.getFields().add(TemplateField.builder()
+                .name("사유")
+                .fieldType(FieldType.TEXT)
+                .template(newTemplate)
+                .build());
+        TemplateApprovalStage stage = TemplateApprovalStage.builder()
+                .stageOrder(1)
+                .stageName("팀장 결재")
+                .template(newTemplate)
+                .build();
+        stage.getApprovalTargets().add(TemplateApprovalTarget.builder()
+                .targetType(TargetType.USER)
+                .userId(APPROVER_ID)
+                .template(newTemplate)
+                .approvalStage(stage)
+                .build());
+        newTemplate.getApprovalStages().add(stage);
+        newTemplate.getReferenceTargets().add(TemplateApprovalTarget.builder()
+                .targetType(TargetType.USER)
+                .userId(APPROVER_ID)
+                .isReference(true)
+                .template(newTemplate)
+                .build());
+        template = templateRepository.save(newTemplate);
+
+        when(userServiceClient.getUserProfiles(any(UserBulkLookupRequest.class))).thenAnswer(invocation -> {
+            UserBulkLookupRequest request = invocation.getArgument(0);
+            return ApiResult.success(request.getUserIds().stream()
+                    .map(id -> UserProfile.builder().id(id).name("직원" + id).build())
+                    .toList());
+        });
+        when(attachmentService.validateAndConvertAttachments(any())).thenAnswer(invocation -> new ArrayList<>());
+    }
+
+    @AfterEach
+    void tearDown() {
+        documentRepository.deleteAll();
+        templateRepository.deleteAll();
+        categoryRepository.deleteAll();
+    }
+
+    @Test
+    void testDetailStatementCountDoesNotGrowWithDocumentSize() {
+        Long small = saveDocument(1000L, 1, 1, 1);
+        Long large = saveDocument(2000L, 5, 4, 10);
+
+        long smallCount = detailStatements(small, 1000L);
+        DocumentResponse response = documentService.getDocumentById(large, author(2000L));
+        long largeCount = detailStatements(large, 2000L);
+
+        assertEquals(5, response.getApprovalStages().size());
+        assertEquals(4, response.getApprovalStages().get(4).getApprovalTargets().size());
+        assertEquals(10, response.getComments().size());
+        assertTrue(response.getComments().stream().allMatch(comment -> comment.getAuthor().getName().startsWith("직원")));
+        assertEquals(smallCount, largeCount, "상세 조회 문장 수는 문서 크기와 무관해야 한다");
+        // 문서 1회 + 문서/템플릿 컬렉션마다 최대 1회
+        assertTrue(largeCount <= 13, "상세 조회 문장 수: " + largeCount);
+        // 문서마다 사용자 일괄 조회 1회 (두 번째 상세 조회는 캐시 사용)
+        verify(userServiceClient, times(2)).getUserProfiles(any());
+        verify(userServiceClient, never()).getUserProfile(anyLong());
+    }
+
+    @Test
+    void testListStatementCountDoesNotGrowWithPageSize() {
+        for (int i = 0; i < 5; i++) {
+            saveDocument(1000L * (i + 1), 2, 2, 1);
+        }
+        long fiveCount = listStatements(5);
+
+        for (int i = 5; i < 25; i++) {
+            saveDocument(1000L * (i + 1), 2, 2, 1);
+        }
+        long twentyFiveCount = listStatements(25);
+
+        assertEquals(fiveCount, twentyFiveCount, "목록 조회 문장 수는 페이지 크기와 무관해야 한다");
+        // 페이지마다 작성자 일괄 조회 1회
+        verify(userServiceClient, times(2)).getUserProfiles(any());
+        verify(userServiceClient, never()).getUserProfile(anyLong());
+    }
+
+    @Test
+    void testCreateStatementCountDoesNotGrowWithFieldCount() {
+        DocumentTemplate form = saveFormTemplate();
+        List<TemplateField> fields = form.getFields();
+        // 필드 정의 캐시 적재
+        create(form, fields.subList(0, 1), "값");
+
+        Statistics statistics = statistics();
+        create(form, fields.subList(0, 10), "값");
+        long tenFields = statistics.getPrepareStatementCount();
+
+        statistics.clear();
+        DocumentResponse response = create(form, fields, "값");
+        long hundredFields = statistics.getPrepareStatementCount();
+
+        assertEquals(FIELDS, response.getFieldValues().size());
+        assertEquals("항목" + FIELDS, response.getFieldValues().get(FIELDS - 1).getFieldName());
+        assertTrue(response.getFieldValues().stream().allMatch(value -> value.getId() != null));
+        assertEquals(tenFields, hundredFields, "작성 문장 수는 필드 수와 무관해야 한다");
+        // 새 값은 문서마다 JDBC 배치 INSERT 1회
+        verify(jdbcTemplate, times(3)).batchUpdate(any(PreparedStatementCreator.class),
+                any(BatchPreparedStatementSetter.class), any(KeyHolder.class));
+    }
+
+    @Test
+    void testUpdateStatementCountDoesNotGrowWithChangedFields() {
+        DocumentTemplate form = saveFormTemplate();
+        List<TemplateField> fields = form.getFields();
+        Long small = create(form, fields.subList(0, 90), "원래 값").getId();
+        Long large = create(form, fields.subList(0, 90), "원래 값").getId();
+
+        // 두 문서 모두 85~89번 필드 삭제, 작은 수정은 5건 변경 + 5건 추가, 큰 수정은 50건 변경 + 10건 추가
+        Statistics statistics = statistics();
+        DocumentResponse smallResponse = update(small, fields, 5, 95);
+        long smallCount = statistics.getPrepareStatementCount();
+
+        statistics.clear();
+        DocumentResponse largeResponse = update(large, fields, 50, FIELDS);
+        long largeCount = statistics.getPrepareStatementCount();
+
+        assertEquals(90, smallResponse.getFieldValues().size());
+        assertEquals(95, largeResponse.getFieldValues().size());
+        assertEquals(50, largeResponse.getFieldValues().stream().filter(value -> "변경".equals(value.getFieldValue())).count());
+        assertEquals(smallCount, largeCount, "수정 문장 수는 변경/추가/삭제 필드 수와 무관해야 한다");
+
+        // 다시 읽어도 요청한 값만 남음
+        List<String> names = documentService.getDocumentById(large, author(AUTHOR_ID)).getFieldValues().stream()
+                .map(DocumentFieldValueResponse::getFieldName)
+                .sorted()
+                .toList();
+        assertEquals(Stream.concat(fields.subList(0, 85).stream(), fields.subList(90, FIELDS).stream())
+                .map(TemplateField::getName).sorted().toList(), names);
+    }
+
+    private long detailStatements(Long documentId, Long authorId) {
+        Statistics statistics = statistics();
+        documentService.getDocumentById(documentId, author(authorId));
+        return statistics.getPrepareStatementCount();
+    }
+
+    private long listStatements(int expectedDocuments) {
+        Statistics statistics = statistics();
+        Page<DocumentSummaryResponse> page = documentService.getDocumentsForUser(
+                author(APPROVER_ID), null, null, null, null, PageRequest.of(0, PAGE_SIZE));
+        long count = statistics.getPrepareStatementCount();
+
+        assertEquals(expectedDocuments, page.getNumberOfElements());
+        assertTrue(page.getContent().stream().allMatch(document -> document.getMyRole() == DocumentRole.APPROVER));
+        assertTrue(page.getContent().stream().allMatch(document -> document.getTemplate().getCategory() != null));
+        return count;
+    }
+
+    private DocumentResponse create(DocumentTemplate form, List<TemplateField> fields, String value) {
+        CreateDocumentRequest request = new CreateDocumentRequest();
+        request.setTemplateId(form.getId());
+        request.setFieldValues(fields.stream().map(field -> fieldValue(field, value)).toList());
+        return documentService.createDocument(request, author(AUTHOR_ID));
+    }
+
+    /**
+     * 85~89번 필드를 빼고 90번부터 end 전까지 새 필드를 추가하며, 앞의 changed개 값을 변경
+     */
+    private DocumentResponse update(Long documentId, List<TemplateField> fields, int changed, int end) {
+        List<DocumentFieldValueRequest> values = new ArrayList<>();
+        for (int i = 0; i < 85; i++) {
+            values.add(fieldValue(fields.get(i), i < changed ? "변경" : "원래 값"));
+        }
+        for (int i = 90; i < end; i++) {
+            values.add(fieldValue(fields.get(i), "추가"));
+        }
+        UpdateDocumentRequest request = new UpdateDocumentRequest();
+        request.setFieldValues(values);
+        return documentService.updateDocument(documentId, request, author(AUTHOR_ID));
+    }
+
+    private static DocumentFieldValueRequest fieldValue(TemplateField field, String value) {
+        DocumentFieldValueRequest request = new DocumentFieldValueRequest();
+        request.setTemplateFieldId(field.getId());
+        request.setFieldValue(value);
+        return request;
+    }
+
+    private DocumentTemplate saveFormTemplate() {
+        DocumentTemplate form = DocumentTemplate.builder().title("지출 결의서").build();
+        for (int i = 1; i <= FIELDS; i++) {
+            form.getFields().add(TemplateField.builder()
+                    .name("항목" + i)
+                    .fieldType(FieldType.TEXT)
+                    .fieldOrder(i)
+                    .template(form)
+                    .build());
+        }
+        return templateRepository.save(form);
+    }
+
+    private Statistics statistics() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        return statistics;
+    }
+
+    /**
+     * 결재 단계/대상, 참조, 의견, 이력을 가진 문서 저장 (사용자 ID는 userBase부터 문서마다 겹치지 않게 부여)
+     */
+    private Long saveDocument(long userBase, int stages, int targetsPerStage, int comments) {
+        ApprovalDocument document = ApprovalDocument.builder()
+                .authorId(userBase)
+                .template(template)
+                .status(DocumentStatus.IN_PROGRESS)
+                .currentStage(1)
+                .build();
+        for (int order = 1; order <= stages; order++) {
+            DocumentApprovalStage stage = DocumentApprovalStage.builder()
+                    .stageOrder(order)
+                    .stageName(order + "차 결재")
+                    .document(document)
+                    .build();
+            for (int i = 0; i < targetsPerStage; i++) {
+                stage.getApprovalTargets().add(DocumentApprovalTarget.builder()
+                        .targetType(TargetType.USER)
+                        .userId(order == 1 && i == 0 ? APPROVER_ID : userBase + order * 10 + i)
+                        .document(document)
+                        .approvalStage(stage)
+                        .build());
+            }
+            document.getApprovalStages().add(stage);
+            document.getFieldValues().add(DocumentFieldValue.builder()
+                    .fieldName("사유")
+                    .fieldType(FieldType.TEXT)
+                    .fieldValue("개인 사유 " + order)
+                    .document(document)
+                    .build());
+        }
+        document.getReferenceTargets().add(DocumentApprovalTarget.builder()
+                .targetType(TargetType.USER)
+                .userId(userBase + 1)
+                .isReference(true)
+                .document(document)
+                .build());
+        for (int i = 0; i < comments; i++) {
+            document.getComments().add(DocumentComment.builder()
+                    .content("의견 " + i)
+                    .authorId(userBase + 10 + i)
+                    .document(document)
+                    .build());
+            document.getActivities().add(DocumentActivity.builder()
+                    .activityType(ActivityType.COMMENT)
+                    .userId(userBase + 200 + i)
+                    .description("댓글을 작성했습니다.")
+                    .document(document)
+                    .build());
+        }
+        return documentRepository.save(document).getId();
+    }
+
+    private static UserPrincipal author(Long userId) {
+        return new UserPrincipal(userId, Role.USER, "default");
+    }
+}
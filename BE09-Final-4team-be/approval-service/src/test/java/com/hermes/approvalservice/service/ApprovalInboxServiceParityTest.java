@@ -0,0 +1,437 @@
+package com.hermes.approvalservice.service;
+
+import com.hermes.approvalservice.client.dto.UserProfile;
+import com.hermes.approvalservice.dto.response.ApprovalInboxItemResponse;
+import com.hermes.approvalservice.dto.response.ApprovalInboxPageResponse;
+import com.hermes.approvalservice.dto.response.MyApprovalInfo;
+import com.hermes.approvalservice.entity.ApprovalDocument;
+import com.hermes.approvalservice.entity.ApprovalInboxEntry;
+import com.hermes.approvalservice.entity.DocumentApprovalStage;
+import com.hermes.approvalservice.entity.DocumentApprovalTarget;
+import com.hermes.approvalservice.entity.DocumentTemplate;
+import com.hermes.approvalservice.enums.ApprovalStatus;
+import com.hermes.approvalservice.enums.DocumentRole;
+import com.hermes.approvalservice.enums.DocumentStatus;
+import com.hermes.approvalservice.enums.TargetType;
+import com.hermes.approvalservice.repository.ApprovalDocumentRepository;
+import com.hermes.approvalservice.repository.ApprovalInboxRepository;
+import com.hermes.approvalservice.repository.DocumentTemplateRepository;
+import com.hermes.approvalservice.support.JpaTestConfiguration;
+import com.hermes.auth.enums.Role;
+import com.hermes.auth.jwt.ServiceTokenProvider;
+import com.hermes.auth.principal.UserPrincipal;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+/**
+ * 결재 문서함 조회 모델과 기존 목록 쿼리(findDocumentsForUserWithFilters + DocumentPermissionService) 비교
+ * 무작위 결재선/상태 변경/삭제를 적용한 뒤 모든 사용자에 대해 문서, 역할, 처리 필요 여부가 일치하는지 확인한다.
+ * 문서 트랜잭션 안에서 user-service를 호출하지 않는지, 초기 재구성이 기동 스레드를 막지 않는지도 확인한다.
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ContextConfiguration(classes = {JpaTestConfiguration.class, ApprovalInboxService.class, DocumentPermissionService.class})
+class ApprovalInboxServiceParityTest {
+
+    private static final long[] SEEDS = {7L, 42L, 2025L};
+    private static final int USERS = 12;
+    private static final int DOCUMENTS = 30;
+    private static final int PAGE_SIZE = 7;
+
+    @Autowired
+    private ApprovalInboxService inboxService;
+
+    @Autowired
+    private DocumentPermissionService permissionService;
+
+    @Autowired
+    private ApprovalDocumentRepository documentRepository;
+
+    @Autowired
+    private ApprovalInboxRepository inboxRepository;
+
+    @Autowired
+    private DocumentTemplateRepository templateRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @MockitoBean
+    private UserProfileResolver userProfileResolver;
+
+    @MockitoBean
+    private ServiceTokenProvider serviceTokenProvider;
+
+    private DocumentTemplate template;
+
+    @BeforeEach
+    void setUp() {
+        template = templateRepository.save(DocumentTemplate.builder().title("휴가 신청서").build());
+    }
+
+    @Test
+    void testInboxMatchesLiveQueryForRandomWorkflows() {
+        for (long seed : SEEDS) {
+            Random random = new Random(seed);
+            List<Long> documentIds = new ArrayList<>();
+            for (int i = 0; i < DOCUMENTS; i++) {
+                ApprovalDocument document = documentRepository.save(randomDocument(random));
+                inboxService.refresh(document);
+                documentIds.add(document.getId());
+            }
+            entityManager.flush();
+
+            for (Long documentId : documentIds) {
+                ApprovalDocument document = documentRepository.findById(documentId).orElseThrow();
+                switch (random.nextInt(4)) {
+                    case 0 -> {
+                        documentRepository.delete(document);
+                        inboxService.remove(documentId);
+                    }
+                    case 1 -> {
+                        advance(document, random);
+                        inboxService.refresh(document);
+                    }
+                    case 2 -> {
+                        dropTarget(document, random);
+                        inboxService.refresh(document);
+                    }
+                    default -> {
+                        // 변경 없음
+                    }
+                }
+            }
+            entityManager.flush();
+            entityManager.clear();
+
+            for (long userId = 1; userId <= USERS; userId++) {
+                assertEquals(liveView(userId), inboxView(userId), "seed=" + seed + ", userId=" + userId);
+            }
+        }
+    }
+
+    @Test
+    void testUnresolvedAuthorNameIsNeverStored() {
+        ApprovalDocument document = documentRepository.save(ApprovalDocument.builder()
+                .authorId(1L)
+                .template(template)
+                .build());
+        inboxService.refresh(document);
+        entityManager.flush();
+
+        ApprovalInboxEntry entry = inboxRepository.findByDocumentId(document.getId()).get(0);
+        assertNull(entry.getAuthorName());
+        assertNull(entry.getAuthorNameKey());
+
+        // 조회 시에는 표시용 이름으로 채움
+        when(userProfileResolver.resolveAll(anyCollection()))
+                .thenReturn(Map.of(1L, profile(1L, "사용자 정보 없음")));
+        ApprovalInboxPageResponse page = inboxService.getInbox(1L, null, null, null, null, null, null, null, null, 10);
+        assertEquals("사용자 정보 없음", page.getItems().get(0).getAuthorName());
+        entityManager.flush();
+        entityManager.clear();
+        assertNull(inboxRepository.findByDocumentId(document.getId()).get(0).getAuthorName());
+    }
+
+    @Test
+    void testUserEventUpdatesAuthorName() {
+        when(serviceTokenProvider.callAsService(isNull(), any()))
+                .thenAnswer(invocation -> ((Supplier<?>) invocation.getArgument(1)).get());
+        ApprovalDocument document = documentRepository.save(ApprovalDocument.builder()
+                .authorId(1L)
+                .template(template)
+                .build());
+        inboxService.refresh(document);
+        entityManager.flush();
+
+        when(userProfileResolver.resolveKnown(anyCollection())).thenReturn(Map.of(1L, profile(1L, "Kim Chulsoo")));
+        inboxService.refreshAuthorName(1L);
+        entityManager.clear();
+
+        ApprovalInboxEntry entry = inboxRepository.findByDocumentId(document.getId()).get(0);
+        assertEquals("Kim Chulsoo", entry.getAuthorName());
+        assertEquals("kim chulsoo", entry.getAuthorNameKey());
+
+        // 조회에 실패하면 기존 이름 유지
+        when(userProfileResolver.resolveKnown(anyCollection())).thenReturn(new HashMap<>());
+        inboxService.refreshAuthorName(1L);
+        entityManager.clear();
+        assertEquals("Kim Chulsoo", inboxRepository.findByDocumentId(document.getId()).get(0).getAuthorName());
+    }
+
+    @Test
+    void testRefreshReusesStoredAuthorNameWithoutRemoteCall() {
+        when(serviceTokenProvider.callAsService(isNull(), any()))
+                .thenAnswer(invocation -> ((Supplier<?>) invocation.getArgument(1)).get());
+        when(userProfileResolver.resolveKnown(anyCollection())).thenReturn(Map.of(1L, profile(1L, "홍길동")));
+        ApprovalDocument first = documentRepository.save(ApprovalDocument.builder()
+                .authorId(1L)
+                .template(template)
+                .build());
+        inboxService.refresh(first);
+        inboxService.refreshAuthorName(1L);
+        entityManager.clear();
+        clearInvocations(userProfileResolver);
+
+        ApprovalDocument second = documentRepository.save(ApprovalDocument.builder()
+                .authorId(1L)
+                .template(template)
+                .build());
+        inboxService.refresh(second);
+        entityManager.flush();
+
+        assertEquals("홍길동", inboxRepository.findByDocumentId(second.getId()).get(0).getAuthorName());
+        verifyNoInteractions(userProfileResolver);
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    void testMissingAuthorNameIsFilledAfterCommit() throws Exception {
+        List<Boolean> transactionActiveDuringLookup = new CopyOnWriteArrayList<>();
+        when(serviceTokenProvider.callAsService(isNull(), any()))
+                .thenAnswer(invocation -> ((Supplier<?>) invocation.getArgument(1)).get());
+        when(userProfileResolver.resolveKnown(anyCollection())).thenAnswer(invocation -> {
+            transactionActiveDuringLookup.add(TransactionSynchronizationManager.isActualTransactionActive());
+            return Map.of(1L, profile(1L, "홍길동"));
+        });
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+
+        Long documentId = transactionTemplate.execute(status -> {
+            ApprovalDocument document = documentRepository.save(ApprovalDocument.builder()
+                    .authorId(1L)
+                    .template(template)
+                    .build());
+            inboxService.refresh(document);
+            return document.getId();
+        });
+        try {
+            // 문서 트랜잭션 안에서는 조회하지 않고, 커밋 후 트랜잭션 밖에서 한 번 조회하여 저장
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+            while (inboxRepository.findByDocumentId(documentId).get(0).getAuthorName() == null
+                    && System.nanoTime() < deadline) {
+                Thread.sleep(20);
+            }
+            assertEquals("홍길동", inboxRepository.findByDocumentId(documentId).get(0).getAuthorName());
+            assertEquals(List.of(false), transactionActiveDuringLookup);
+        } finally {
+            transactionTemplate.executeWithoutResult(status -> {
+                inboxRepository.deleteByDocumentId(documentId);
+                documentRepository.deleteById(documentId);
+            });
+            templateRepository.delete(template);
+        }
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    void testStartupRebuildDoesNotBlockCaller() throws Exception {
+        List<Boolean> transactionActiveDuringLookup = new CopyOnWriteArrayList<>();
+        when(userProfileResolver.resolveKnown(anyCollection())).thenAnswer(invocation -> {
+            transactionActiveDuringLookup.add(TransactionSynchronizationManager.isActualTransactionActive());
+            return Map.of(1L, profile(1L, "홍길동"));
+        });
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicReference<String> rebuildThread = new AtomicReference<>();
+        doAnswer(invocation -> {
+            rebuildThread.set(Thread.currentThread().getName());
+            assertTrue(release.await(10, TimeUnit.SECONDS));
+            ((Runnable) invocation.getArgument(1)).run();
+            return null;
+        }).when(serviceTokenProvider).runAsService(isNull(), any());
+        List<Long> documentIds = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            documentIds.add(documentRepository.save(ApprovalDocument.builder()
+                    .authorId(1L)
+                    .template(template)
+                    .build()).getId());
+        }
+
+        try {
+            // 재구성이 막혀 있어도 기동 이벤트 처리는 바로 반환된다
+            inboxService.onApplicationReady();
+            assertEquals(0, inboxRepository.count());
+
+            release.countDown();
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+            while (inboxRepository.count() < documentIds.size() && System.nanoTime() < deadline) {
+                Thread.sleep(20);
+            }
+            assertEquals(documentIds.size(), inboxRepository.count());
+            assertEquals("approval-inbox-background", rebuildThread.get());
+            // 작성자 조회는 페이지 트랜잭션 밖에서 수행
+            assertEquals(List.of(false), transactionActiveDuringLookup);
+            assertTrue(inboxRepository.findAll().stream().allMatch(entry -> "홍길동".equals(entry.getAuthorName())));
+        } finally {
+            inboxRepository.deleteAllInBatch();
+            documentRepository.deleteAllById(documentIds);
+            templateRepository.delete(template);
+        }
+    }
+
+    private Map<Long, View> liveView(Long userId) {
+        UserPrincipal user = new UserPrincipal(userId, Role.USER, "default");
+        Map<Long, View> views = new HashMap<>();
+        for (ApprovalDocument document : documentRepository.findDocumentsForUserWithFilters(
+                userId, null, null, null, null, null, Pageable.unpaged())) {
+            DocumentRole role = permissionService.getMyRole(user, document);
+            MyApprovalInfo info = permissionService.getMyApprovalInfo(user, document);
+            boolean actionRequired = role == DocumentRole.APPROVER
+                    && document.getStatus() == DocumentStatus.IN_PROGRESS
+                    && Boolean.TRUE.equals(info.getIsApprovalRequired());
+            views.put(document.getId(), new View(role, document.getStatus(), actionRequired));
+        }
+        return views;
+    }
+
+    private Map<Long, View> inboxView(Long userId) {
+        Map<Long, View> views = new HashMap<>();
+        ApprovalInboxPageResponse page = null;
+        do {
+            page = inboxService.getInbox(userId, null, null, null, null, null, null,
+                    page != null ? page.getNextCursorCreatedAt() : null,
+                    page != null ? page.getNextCursorId() : null,
+                    PAGE_SIZE);
+            for (ApprovalInboxItemResponse item : page.getItems()) {
+                View previous = views.put(item.getDocumentId(),
+                        new View(item.getMyRole(), item.getStatus(), item.getIsApprovalRequired()));
+                assertNull(previous, "문서가 여러 페이지에 중복됨: documentId=" + item.getDocumentId());
+            }
+        } while (page.isHasNext());
+        return views;
+    }
+
+    private ApprovalDocument randomDocument(Random random) {
+        ApprovalDocument document = ApprovalDocument.builder()
+                .authorId(randomUser(random))
+                .template(template)
+                .build();
+
+        int stages = random.nextInt(4);
+        for (int order = 1; order <= stages; order++) {
+            DocumentApprovalStage stage = DocumentApprovalStage.builder()
+                    .stageOrder(order)
+                    .stageName(order + "차 결재")
+                    .document(document)
+                    .build();
+            int targets = 1 + random.nextInt(2);
+            for (int i = 0; i < targets; i++) {
+                DocumentApprovalTarget target = randomTarget(random, document, random.nextInt(5) == 0);
+                target.setApprovalStage(stage);
+                target.setApprovalStatus(ApprovalStatus.values()[random.nextInt(ApprovalStatus.values().length)]);
+                stage.getApprovalTargets().add(target);
+                document.getReferenceTargets().add(target);
+            }
+            document.getApprovalStages().add(stage);
+        }
+        for (int i = random.nextInt(3); i > 0; i--) {
+            document.getReferenceTargets().add(randomTarget(random, document, true));
+        }
+
+        document.setStatus(stages == 0 ? DocumentStatus.DRAFT
+                : DocumentStatus.values()[random.nextInt(DocumentStatus.values().length)]);
+        document.setCurrentStage(stages == 0 ? 0 : 1 + random.nextInt(stages));
+        return document;
+    }
+
+    private DocumentApprovalTarget randomTarget(Random random, ApprovalDocument document, boolean reference) {
+        DocumentApprovalTarget.DocumentApprovalTargetBuilder target = DocumentApprovalTarget.builder()
+                .document(document)
+                .isReference(reference);
+        if (random.nextBoolean()) {
+            return target.targetType(TargetType.USER).userId(randomUser(random)).build();
+        }
+        Set<Long> members = new HashSet<>();
+        for (int i = 1 + random.nextInt(3); i > 0; i--) {
+            members.add(randomUser(random));
+        }
+        return target.targetType(TargetType.ORGANIZATION)
+                .organizationId((long) random.nextInt(5) + 1)
+                .resolvedUserIds(members)
+                .build();
+    }
+
+    /**
+     * 승인 처리 흐름 흉내 (현재 단계 대상 처리 후 다음 단계로 진행하거나 완료/반려)
+     */
+    private void advance(ApprovalDocument document, Random random) {
+        if (document.getApprovalStages().isEmpty()) {
+            return;
+        }
+        document.setStatus(DocumentStatus.IN_PROGRESS);
+        for (DocumentApprovalStage stage : document.getApprovalStages()) {
+            if (stage.getStageOrder().equals(document.getCurrentStage())) {
+                stage.getApprovalTargets().forEach(target -> target.setApprovalStatus(
+                        random.nextInt(4) == 0 ? ApprovalStatus.REJECTED : ApprovalStatus.APPROVED));
+            }
+        }
+        if (document.getCurrentStage() < document.getApprovalStages().size()) {
+            document.setCurrentStage(document.getCurrentStage() + 1);
+        } else {
+            document.setStatus(random.nextBoolean() ? DocumentStatus.APPROVED : DocumentStatus.REJECTED);
+        }
+    }
+
+    /**
+     * 결재선 수정 흉내 (대상 하나 제거)
+     */
+    private void dropTarget(ApprovalDocument document, Random random) {
+        List<DocumentApprovalTarget> targets = document.getReferenceTargets();
+        if (targets.isEmpty()) {
+            return;
+        }
+        DocumentApprovalTarget removed = targets.remove(random.nextInt(targets.size()));
+        if (removed.getApprovalStage() != null) {
+            removed.getApprovalStage().getApprovalTargets().remove(removed);
+        }
+    }
+
+    private static Long randomUser(Random random) {
+        return (long) random.nextInt(USERS) + 1;
+    }
+
+    private static UserProfile profile(Long id, String name) {
+        return UserProfile.builder().id(id).name(name).build();
+    }
+
+    private record View(DocumentRole role, DocumentStatus status, Boolean actionRequired) {
+    }
+}
@@ -0,0 +1,219 @@
+package com.hermes.approvalservice.service;
+
+import com.hermes.api.common.ApiResult;
+import com.hermes.approvalservice.client.OrganizationServiceClient;
+import com.hermes.approvalservice.client.dto.OrganizationAssignment;
+import com.hermes.approvalservice.client.dto.OrganizationInfo;
+import com.hermes.approvalservice.entity.ApprovalDocument;
+import com.hermes.approvalservice.entity.DocumentApprovalStage;
+import com.hermes.approvalservice.entity.DocumentApprovalTarget;
+import com.hermes.approvalservice.enums.DocumentRole;
+import com.hermes.approvalservice.enums.TargetType;
+import com.hermes.approvalservice.exception.BusinessException;
+import com.hermes.auth.enums.Role;
+import com.hermes.auth.principal.UserPrincipal;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+/**
+ * 조직/n차 조직장 결재 대상 펼침 검증
+ * 조직 구조: 본부(1, 조직장 10) > 개발팀(2, 조직장 20) > 백엔드파트(3, 조직장 없음, 구성원 30~32)
+ */
+class ApprovalTargetResolverTest {
+
+    private final OrganizationServiceClient organizationServiceClient = mock(OrganizationServiceClient.class);
+    private final ApprovalTargetResolver resolver = new ApprovalTargetResolver(organizationServiceClient, 600);
+    private final DocumentPermissionService permissionService = new DocumentPermissionService();
+
+    @BeforeEach
+    void setUp() {
+        when(organizationServiceClient.getAllOrganizations()).thenReturn(ApiResult.success(List.of(
+                new OrganizationInfo(1L, "본부", null),
+                new OrganizationInfo(2L, "개발팀", 1L),
+                new OrganizationInfo(3L, "백엔드파트", 2L))));
+        when(organizationServiceClient.getAllAssignments()).thenReturn(ApiResult.success(List.of(
+                new OrganizationAssignment(10L, 1L, true, true),
+                new OrganizationAssignment(20L, 2L, true, true),
+                new OrganizationAssignment(30L, 3L, true, false),
+                new OrganizationAssignment(31L, 3L, true, false),
+                new OrganizationAssignment(32L, 3L, true, false),
+                // 겸직: 주 소속은 백엔드파트
+                new OrganizationAssignment(32L, 1L, false, false))));
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void testOrganizationTargetExpandsToMembersExceptAuthor() {
+        DocumentApprovalTarget target = organizationTarget(3L);
+        ApprovalDocument document = document(30L, target);
+
+        resolver.expandTargets(document);
+
+        assertEquals(Set.of(31L, 32L), target.getResolvedUserIds());
+    }
+
+    @Test
+    void testManagerLevelsSkipOrganizationsWithoutLeader() {
+        DocumentApprovalTarget first = managerTarget(1);
+        DocumentApprovalTarget second = managerTarget(2);
+        ApprovalDocument document = document(30L, first, second);
+
+        resolver.expandTargets(document);
+
+        assertEquals(Set.of(20L), first.getResolvedUserIds());
+        assertEquals(Set.of(10L), second.getResolvedUserIds());
+    }
+
+    @Test
+    void testLeaderAuthorIsNotOwnManager() {
+        DocumentApprovalTarget first = managerTarget(1);
+        ApprovalDocument document = document(20L, first);
+
+        resolver.expandTargets(document);
+
+        assertEquals(Set.of(10L), first.getResolvedUserIds());
+    }
+
+    @Test
+    void testApprovalTargetWithNobodyIsRejected() {
+        ApprovalDocument document = document(30L, managerTarget(3));
+
+        assertThrows(BusinessException.class, () -> resolver.expandTargets(document));
+    }
+
+    @Test
+    void testReferenceTargetWithNobodyIsAllowed() {
+        DocumentApprovalTarget reference = managerTarget(3);
+        reference.setIsReference(true);
+        ApprovalDocument document = document(30L, managerTarget(1));
+        document.getReferenceTargets().add(reference);
+
+        resolver.expandTargets(document);
+
+        assertTrue(reference.getResolvedUserIds().isEmpty());
+    }
+
+    @Test
+    void testRepeatedSubmitsAndChecksMakeNoRemoteCalls() {
+        DocumentApprovalTarget target = organizationTarget(3L);
+        ApprovalDocument document = document(30L, target, managerTarget(1));
+        resolver.expandTargets(document);
+        for (int i = 0; i < 10; i++) {
+            resolver.expandTargets(document(31L, organizationTarget(3L), managerTarget(2)));
+        }
+        verify(organizationServiceClient, times(1)).getAllOrganizations();
+        verify(organizationServiceClient, times(1)).getAllAssignments();
+        clearInvocations(organizationServiceClient);
+
+        // 제출 후 권한 확인은 저장된 사용자 ID만 사용
+        for (int i = 0; i < 10; i++) {
+            assertTrue(permissionService.canViewDocument(document, user(31L)));
+            assertTrue(permissionService.canApproveDocument(document, 1, user(20L)));
+            assertEquals(DocumentRole.APPROVER, permissionService.getMyRole(user(32L), document));
+            assertFalse(permissionService.canViewDocument(document, user(10L)));
+        }
+        verifyNoInteractions(organizationServiceClient);
+    }
+
+    @Test
+    void testSnapshotIsScopedPerTenantAndEvicted() {
+        authenticate("tenant-a");
+        resolver.expandTargets(document(30L, organizationTarget(3L)));
+        authenticate("tenant-b");
+        resolver.expandTargets(document(30L, organizationTarget(3L)));
+        authenticate("tenant-a");
+        resolver.expandTargets(document(30L, organizationTarget(3L)));
+        verify(organizationServiceClient, times(2)).getAllAssignments();
+
+        // 조직 변경 이벤트로 해당 테넌트만 다시 읽음
+        resolver.evictTenant("tenant-a");
+        resolver.expandTargets(document(30L, organizationTarget(3L)));
+        authenticate("tenant-b");
+        resolver.expandTargets(document(30L, organizationTarget(3L)));
+        verify(organizationServiceClient, times(3)).getAllAssignments();
+    }
+
+    @Test
+    void testUnavailableOrgServiceFailsSubmitWithoutCaching() {
+        when(organizationServiceClient.getAllAssignments())
+                .thenThrow(new IllegalStateException("org-service down"))
+                .thenReturn(ApiResult.success(List.of(new OrganizationAssignment(31L, 3L, true, false))));
+
+        assertThrows(BusinessException.class, () -> resolver.expandTargets(document(30L, organizationTarget(3L))));
+
+        DocumentApprovalTarget target = organizationTarget(3L);
+        resolver.expandTargets(document(30L, target));
+        assertEquals(Set.of(31L), target.getResolvedUserIds());
+        verify(organizationServiceClient, times(2)).getAllAssignments();
+    }
+
+    @Test
+    void testUserTargetsNeedNoOrgData() {
+        DocumentApprovalTarget target = DocumentApprovalTarget.builder()
+                .targetType(TargetType.USER)
+                .userId(20L)
+                .build();
+
+        resolver.expandTargets(document(30L, target));
+
+        verifyNoInteractions(organizationServiceClient);
+    }
+
+    private static ApprovalDocument document(Long authorId, DocumentApprovalTarget... targets) {
+        ApprovalDocument document = ApprovalDocument.builder().authorId(authorId).build();
+        DocumentApprovalStage stage = DocumentApprovalStage.builder()
+                .stageOrder(1)
+                .stageName("1차 결재")
+                .document(document)
+                .build();
+        for (DocumentApprovalTarget target : targets) {
+            target.setDocument(document);
+            target.setApprovalStage(stage);
+            stage.getApprovalTargets().add(target);
+        }
+        document.getApprovalStages().add(stage);
+        return document;
+    }
+
+    private static DocumentApprovalTarget organizationTarget(Long organizationId) {
+        return DocumentApprovalTarget.builder()
+                .targetType(TargetType.ORGANIZATION)
+                .organizationId(organizationId)
+                .build();
+    }
+
+    private static DocumentApprovalTarget managerTarget(int level) {
+        return DocumentApprovalTarget.builder()
+                .targetType(TargetType.N_LEVEL_MANAGER)
+                .managerLevel(level)
+                .build();
+    }
+
+    private static UserPrincipal user(Long userId) {
+        return new UserPrincipal(userId, Role.USER, "default");
+    }
+
+    private static void authenticate(String tenantId) {
+        UserPrincipal principal = new UserPrincipal(100L, Role.USER, tenantId);
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities()));
+    }
+}
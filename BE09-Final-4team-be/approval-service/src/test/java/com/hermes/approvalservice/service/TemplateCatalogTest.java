@@ -0,0 +1,314 @@
+package com.hermes.approvalservice.service;
+
+import com.hermes.api.common.ApiResult;
+import com.hermes.approvalservice.client.UserServiceClient;
+import com.hermes.approvalservice.client.dto.UserBulkLookupRequest;
+import com.hermes.approvalservice.client.dto.UserProfile;
+import com.hermes.approvalservice.converter.ResponseConverter;
+import com.hermes.approvalservice.dto.request.BulkCategoryOperation;
+import com.hermes.approvalservice.dto.request.BulkCategoryRequest;
+import com.hermes.approvalservice.dto.request.CreateCategoryRequest;
+import com.hermes.approvalservice.dto.request.CreateTemplateRequest;
+import com.hermes.approvalservice.dto.request.UpdateCategoryRequest;
+import com.hermes.approvalservice.dto.request.UpdateTemplateRequest;
+import com.hermes.approvalservice.dto.response.CategoryResponse;
+import com.hermes.approvalservice.dto.response.TemplateResponse;
+import com.hermes.approvalservice.dto.response.TemplateSummaryResponse;
+import com.hermes.approvalservice.dto.response.TemplatesByCategoryResponse;
+import com.hermes.approvalservice.entity.DocumentTemplate;
+import com.hermes.approvalservice.entity.TemplateApprovalStage;
+import com.hermes.approvalservice.entity.TemplateApprovalTarget;
+import com.hermes.approvalservice.entity.TemplateCategory;
+import com.hermes.approvalservice.enums.AttachmentUsageType;
+import com.hermes.approvalservice.enums.CategoryOperationType;
+import com.hermes.approvalservice.enums.TargetType;
+import com.hermes.approvalservice.exception.NotFoundException;
+import com.hermes.approvalservice.repository.DocumentTemplateRepository;
+import com.hermes.approvalservice.repository.TemplateCategoryRepository;
+import com.hermes.approvalservice.support.JpaTestConfiguration;
+import com.hermes.attachment.service.AttachmentClientService;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestReporter;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+/**
+ * 템플릿 카탈로그 검증: 반복 조회는 DB를 읽지 않고, 템플릿/카테고리 변경은 커밋 후 바로 반영된다.
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ContextConfiguration(classes = {JpaTestConfiguration.class, TemplateCatalog.class, DocumentTemplateService.class,
+        TemplateCategoryService.class, ResponseConverter.class, UserProfileResolver.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class TemplateCatalogTest {
+
+    private static final int READS = 1000;
+
+    @Autowired
+    private TemplateCatalog templateCatalog;
+
+    @Autowired
+    private DocumentTemplateService templateService;
+
+    @Autowired
+    private TemplateCategoryService categoryService;
+
+    @Autowired
+    private DocumentTemplateRepository templateRepository;
+
+    @Autowired
+    private TemplateCategoryRepository categoryRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @MockitoBean
+    private UserServiceClient userServiceClient;
+
+    @MockitoBean
+    private AttachmentClientService attachmentService;
+
+    @MockitoBean
+    private ApprovalInboxService inboxService;
+
+    private TemplateCategory leave;
+    private TemplateCategory expense;
+    private DocumentTemplate vacation;
+    private DocumentTemplate spending;
+    private DocumentTemplate hidden;
+
+    @BeforeEach
+    void setUp() {
+        leave = categoryRepository.save(TemplateCategory.builder().name("근태").sortOrder(1).build());
+        expense = categoryRepository.save(TemplateCategory.builder().name("경비").sortOrder(2).build());
+        vacation = templateRepository.save(templateWithApprover("휴가 신청서", leave, 7L));
+        spending = templateRepository.save(DocumentTemplate.builder().title("지출 결의서").category(expense).build());
+        hidden = templateRepository.save(DocumentTemplate.builder().title("비공개 양식").isHidden(true).build());
+
+        when(userServiceClient.getUserProfiles(any(UserBulkLookupRequest.class))).thenAnswer(invocation -> {
+            UserBulkLookupRequest request = invocation.getArgument(0);
+            return ApiResult.success(request.getUserIds().stream()
+                    .map(id -> UserProfile.builder().id(id).name("직원" + id).build())
+                    .toList());
+        });
+        when(attachmentService.validateAndConvertAttachments(any())).thenAnswer(invocation -> new ArrayList<>());
+        // 이전 테스트의 스냅샷 제거
+        templateCatalog.invalidate();
+    }
+
+    @AfterEach
+    void tearDown() {
+        templateRepository.deleteAll();
+        categoryRepository.deleteAll();
+        templateCatalog.invalidate();
+    }
+
+    @Test
+    void testRepeatedReadsAreServedFromSnapshot(TestReporter reporter) {
+        Statistics statistics = statistics();
+        readEverything();
+        long loadStatements = statistics.getPrepareStatementCount();
+        assertTrue(loadStatements > 0);
+
+        statistics.clear();
+        for (int i = 1; i < READS; i++) {
+            readEverything();
+        }
+        long cachedStatements = statistics.getPrepareStatementCount();
+
+        // 첫 조회에서만 스냅샷을 적재
+        assertEquals(0, cachedStatements, "캐시된 카탈로그 조회는 DB를 읽지 않아야 한다");
+        double hitRatio = (double) (READS - 1) / READS;
+        reporter.publishEntry("reads", String.valueOf(READS));
+        reporter.publishEntry("load statements", String.valueOf(loadStatements));
+        reporter.publishEntry("hit ratio", String.format("%.3f", hitRatio));
+
+        // 목록/묶음/상세/카테고리 내용 확인
+        assertEquals(List.of("휴가 신청서", "지출 결의서"), titles(templateService.getAllTemplates(false)));
+        assertEquals(List.of("비공개 양식", "휴가 신청서", "지출 결의서"), titles(templateService.getAllTemplates(true)));
+        assertEquals(List.of("근태", "경비"), templateService.getTemplatesByCategory(false).stream()
+                .map(TemplatesByCategoryResponse::getCategoryName).toList());
+        TemplateResponse detail = templateService.getTemplateById(vacation.getId());
+        assertEquals("직원7", detail.getApprovalStages().get(0).getApprovalTargets().get(0).getUser().getName());
+        assertEquals(List.of("근태", "경비"), names(categoryService.getCategoriesWithVisibleTemplates()));
+    }
+
+    @Test
+    void testTemplateChangesAreVisibleAfterCommit() {
+        readEverything();
+
+        templateService.updateTemplateVisibility(spending.getId(), true);
+        assertEquals(List.of("휴가 신청서"), titles(templateService.getAllTemplates(false)));
+        assertEquals(List.of("근태"), names(categoryService.getCategoriesWithVisibleTemplates()));
+
+        TemplateResponse created = templateService.createTemplate(createRequest("출장 신청서", expense.getId()));
+        assertEquals(List.of("휴가 신청서", "출장 신청서"), titles(templateService.getAllTemplates(false)));
+        assertEquals(List.of(created.getId()), templateService.getTemplatesByCategory(expense.getId(), false).stream()
+                .map(TemplateSummaryResponse::getId).toList());
+
+        templateService.updateTemplate(vacation.getId(), updateRequest("연차 신청서", leave.getId()));
+        assertEquals("연차 신청서", templateService.getTemplateById(vacation.getId()).getTitle());
+
+        templateService.deleteTemplate(vacation.getId());
+        assertThrows(NotFoundException.class, () -> templateService.getTemplateById(vacation.getId()));
+    }
+
+    @Test
+    void testCategoryChangesAreVisibleAfterCommit() {
+        readEverything();
+
+        categoryService.updateCategory(leave.getId(), updateCategoryRequest("휴가", 3));
+        assertEquals(List.of("경비", "휴가"), names(categoryService.getAllCategories()));
+        assertEquals(List.of("경비", "휴가"), templateService.getTemplatesByCategory(false).stream()
+                .map(TemplatesByCategoryResponse::getCategoryName).toList());
+
+        // 일괄 처리도 개별 변경과 같은 경로로 무효화
+        BulkCategoryOperation create = new BulkCategoryOperation();
+        create.setType(CategoryOperationType.CREATE);
+        create.setCreateRequest(createCategoryRequest("교육", 0));
+        BulkCategoryRequest request = new BulkCategoryRequest();
+        request.setOperations(List.of(create));
+        categoryService.bulkProcessCategories(request);
+
+        assertEquals(List.of("교육", "경비", "휴가"), names(categoryService.getAllCategories()));
+    }
+
+    @Test
+    void testRolledBackChangeKeepsSnapshot() {
+        readEverything();
+
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.executeWithoutResult(status -> {
+            templateService.updateTemplateVisibility(spending.getId(), true);
+            status.setRollbackOnly();
+        });
+
+        Statistics statistics = statistics();
+        assertEquals(List.of("휴가 신청서", "지출 결의서"), titles(templateService.getAllTemplates(false)));
+        assertEquals(0, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void testSnapshotLoadedDuringChangeIsNotCached() {
+        // 스냅샷 적재 도중 다른 요청의 변경이 커밋된 상황
+        AtomicBoolean changed = new AtomicBoolean();
+        when(attachmentService.convertToResponseList(any())).thenAnswer(invocation -> {
+            if (changed.compareAndSet(false, true)) {
+                CompletableFuture.runAsync(templateCatalog::invalidate).join();
+            }
+            return List.of();
+        });
+
+        templateService.getAllTemplates(false);
+
+        Statistics statistics = statistics();
+        templateService.getAllTemplates(false);
+        assertTrue(statistics.getPrepareStatementCount() > 0, "변경 전에 적재한 스냅샷은 캐시되지 않아야 한다");
+
+        statistics.clear();
+        templateService.getAllTemplates(false);
+        assertEquals(0, statistics.getPrepareStatementCount());
+    }
+
+    private void readEverything() {
+        templateService.getAllTemplates(false);
+        templateService.getAllTemplates(true);
+        templateService.getTemplatesByCategory(false);
+        templateService.getTemplatesByCategory(leave.getId(), false);
+        templateService.getTemplateById(vacation.getId());
+        templateService.getTemplateById(hidden.getId());
+        categoryService.getAllCategories();
+        categoryService.getCategoriesWithVisibleTemplates();
+    }
+
+    private Statistics statistics() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        return statistics;
+    }
+
+    private static DocumentTemplate templateWithApprover(String title, TemplateCategory category, Long approverId) {
+        DocumentTemplate template = DocumentTemplate.builder().title(title).category(category).build();
+        TemplateApprovalStage stage = TemplateApprovalStage.builder()
+                .stageOrder(1)
+                .stageName("팀장 결재")
+                .template(template)
+                .build();
+        stage.getApprovalTargets().add(TemplateApprovalTarget.builder()
+                .targetType(TargetType.USER)
+                .userId(approverId)
+                .template(template)
+                .approvalStage(stage)
+                .build());
+        template.getApprovalStages().add(stage);
+        return template;
+    }
+
+    private static CreateTemplateRequest createRequest(String title, Long categoryId) {
+        CreateTemplateRequest request = new CreateTemplateRequest();
+        request.setTitle(title);
+        request.setUseBody(true);
+        request.setUseAttachment(AttachmentUsageType.OPTIONAL);
+        request.setAllowTargetChange(false);
+        request.setCategoryId(categoryId);
+        return request;
+    }
+
+    private static UpdateTemplateRequest updateRequest(String title, Long categoryId) {
+        UpdateTemplateRequest request = new UpdateTemplateRequest();
+        request.setTitle(title);
+        request.setUseBody(true);
+        request.setUseAttachment(AttachmentUsageType.OPTIONAL);
+        request.setAllowTargetChange(false);
+        request.setCategoryId(categoryId);
+        return request;
+    }
+
+    private static CreateCategoryRequest createCategoryRequest(String name, int sortOrder) {
+        CreateCategoryRequest request = new CreateCategoryRequest();
+        request.setName(name);
+        request.setSortOrder(sortOrder);
+        return request;
+    }
+
+    private static UpdateCategoryRequest updateCategoryRequest(String name, int sortOrder) {
+        UpdateCategoryRequest request = new UpdateCategoryRequest();
+        request.setName(name);
+        request.setSortOrder(sortOrder);
+        return request;
+    }
+
+    private static List<String> titles(List<TemplateSummaryResponse> templates) {
+        return templates.stream().map(TemplateSummaryResponse::getTitle).toList();
+    }
+
+    private static List<String> names(List<CategoryResponse> categories) {
+        return categories.stream().map(CategoryResponse::getName).toList();
+    }
+}
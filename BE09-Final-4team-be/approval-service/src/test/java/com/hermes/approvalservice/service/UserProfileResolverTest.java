@@ -0,0 +1,225 @@
+package com.hermes.approvalservice.service;
+
+import com.hermes.api.common.ApiResult;
+import com.hermes.approvalservice.client.UserServiceClient;
+import com.hermes.approvalservice.client.dto.UserBulkLookupRequest;
+import com.hermes.approvalservice.client.dto.UserProfile;
+import com.hermes.auth.enums.Role;
+import com.hermes.auth.principal.UserPrincipal;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestReporter;
+import org.mockito.ArgumentCaptor;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 문서 목록 작성자 조회 검증: 한 페이지당 user-service 호출 1회, 캐시 적중 시 호출 없음, 실패 시 단건 조회 전환
+ */
+class UserProfileResolverTest {
+
+    private static final long SLOW_CALL_MILLIS = 20;
+    private static final int PAGE_SIZE = 20;
+
+    private final UserServiceClient userServiceClient = mock(UserServiceClient.class);
+    private UserProfileResolver resolver;
+
+    @BeforeEach
+    void setUp() {
+        resolver = new UserProfileResolver(userServiceClient, 60, 10_000, 4);
+        when(userServiceClient.getUserProfiles(any(UserBulkLookupRequest.class))).thenAnswer(invocation -> {
+            UserBulkLookupRequest request = invocation.getArgument(0);
+            return ApiResult.success(request.getUserIds().stream().map(id -> profile(id, "직원" + id)).toList());
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        resolver.shutdown();
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void testPageOfAuthorsIsResolvedWithOneCall() {
+        // 한 페이지(20건)의 작성자 ID: 중복과 null 포함
+        List<Long> authorIds = new ArrayList<>();
+        for (long i = 0; i < 20; i++) {
+            authorIds.add(i % 7 + 1);
+        }
+        authorIds.add(null);
+
+        Map<Long, UserProfile> profiles = resolver.resolveAll(authorIds);
+
+        assertEquals(7, profiles.size());
+        assertEquals("직원3", profiles.get(3L).getName());
+        ArgumentCaptor<UserBulkLookupRequest> request = ArgumentCaptor.forClass(UserBulkLookupRequest.class);
+        verify(userServiceClient, times(1)).getUserProfiles(request.capture());
+        assertEquals(List.of(1L, 2L, 3L, 4L, 5L, 6L, 7L), request.getValue().getUserIds().stream().sorted().toList());
+        verify(userServiceClient, never()).getUserProfile(anyLong());
+    }
+
+    @Test
+    void testRepeatedPageIsServedFromCache() {
+        resolver.resolveAll(List.of(1L, 2L, 3L));
+        resolver.resolveAll(List.of(3L, 2L, 1L));
+
+        verify(userServiceClient, times(1)).getUserProfiles(any());
+
+        // 새로 등장한 ID만 조회
+        resolver.resolveAll(List.of(1L, 2L, 3L, 4L));
+        ArgumentCaptor<UserBulkLookupRequest> request = ArgumentCaptor.forClass(UserBulkLookupRequest.class);
+        verify(userServiceClient, times(2)).getUserProfiles(request.capture());
+        assertEquals(List.of(4L), request.getValue().getUserIds());
+    }
+
+    @Test
+    void testCacheIsScopedPerTenant() {
+        authenticate("tenant-a");
+        resolver.resolveAll(List.of(1L));
+        authenticate("tenant-b");
+        resolver.resolveAll(List.of(1L));
+        authenticate("tenant-a");
+        resolver.resolveAll(List.of(1L));
+
+        verify(userServiceClient, times(2)).getUserProfiles(any());
+    }
+
+    @Test
+    void testEvictRemovesEntryForAllTenants() {
+        authenticate("tenant-a");
+        resolver.resolveAll(List.of(1L, 2L));
+        authenticate("tenant-b");
+        resolver.resolveAll(List.of(1L));
+
+        resolver.evict(1L);
+        resolver.resolveAll(List.of(1L));
+        authenticate("tenant-a");
+        resolver.resolveAll(List.of(1L, 2L));
+
+        ArgumentCaptor<UserBulkLookupRequest> request = ArgumentCaptor.forClass(UserBulkLookupRequest.class);
+        verify(userServiceClient, times(4)).getUserProfiles(request.capture());
+        assertEquals(List.of(1L), request.getValue().getUserIds());
+    }
+
+    @Test
+    void testLargeLookupIsChunked() {
+        int count = UserBulkLookupRequest.MAX_USER_IDS * 2 + 1;
+        List<Long> userIds = LongStream.rangeClosed(1, count).boxed().toList();
+
+        assertEquals(count, resolver.resolveAll(userIds).size());
+        verify(userServiceClient, times(3)).getUserProfiles(any());
+    }
+
+    @Test
+    void testBulkFailureFallsBackToSingleLookups() {
+        // 기존 스텁의 응답을 실행하지 않도록 doReturn 사용 (any()는 null 인자로 호출됨)
+        doReturn(ApiResult.failure("down")).when(userServiceClient).getUserProfiles(any());
+        when(userServiceClient.getUserProfile(1L)).thenReturn(ApiResult.success(profile(null, "홍길동")));
+        when(userServiceClient.getUserProfile(2L)).thenThrow(new IllegalStateException("timeout"));
+
+        Map<Long, UserProfile> profiles = resolver.resolveAll(Arrays.asList(1L, 2L));
+
+        assertEquals("홍길동", profiles.get(1L).getName());
+        assertEquals(1L, profiles.get(1L).getId());
+        assertEquals("사용자 정보 없음", profiles.get(2L).getName());
+        verify(userServiceClient, times(1)).getUserProfile(1L);
+        verify(userServiceClient, times(1)).getUserProfile(2L);
+
+        // 조회된 사용자만 캐시되고, 기본값으로 표시한 사용자는 다음 요청에서 다시 조회
+        assertTrue(resolver.resolveKnown(List.of(2L)).isEmpty());
+        assertEquals(1, resolver.resolveKnown(List.of(1L)).size());
+        verify(userServiceClient, times(2)).getUserProfiles(any());
+        verify(userServiceClient, times(1)).getUserProfile(1L);
+        verify(userServiceClient, times(2)).getUserProfile(2L);
+    }
+
+    /**
+     * 호출마다 20ms 걸리는 클라이언트로 한 페이지(작성자 20명) 조회 시간 비교
+     * 일괄 조회 1회 / 일괄 실패 후 단건 병렬(4스레드) / 단건 순차(변경 전 방식)
+     */
+    @Test
+    @Tag("benchmark")
+    void benchmarkSlowClientLatency(TestReporter reporter) {
+        UserServiceClient slowClient = mock(UserServiceClient.class);
+        when(slowClient.getUserProfiles(any(UserBulkLookupRequest.class))).thenAnswer(invocation -> {
+            sleep(SLOW_CALL_MILLIS);
+            UserBulkLookupRequest request = invocation.getArgument(0);
+            return ApiResult.success(request.getUserIds().stream().map(id -> profile(id, "직원" + id)).toList());
+        });
+        when(slowClient.getUserProfile(anyLong())).thenAnswer(invocation -> {
+            sleep(SLOW_CALL_MILLIS);
+            return ApiResult.success(profile(null, "직원" + invocation.getArgument(0)));
+        });
+        List<Long> authorIds = LongStream.rangeClosed(1, PAGE_SIZE).boxed().toList();
+
+        long bulk = timeResolve(slowClient, authorIds);
+
+        doReturn(ApiResult.failure("down")).when(slowClient).getUserProfiles(any(UserBulkLookupRequest.class));
+        long fallback = timeResolve(slowClient, authorIds);
+
+        long startedAt = System.nanoTime();
+        for (Long authorId : authorIds) {
+            assertNotNull(slowClient.getUserProfile(authorId).getData());
+        }
+        long sequential = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+
+        reporter.publishEntry("authors per page", String.valueOf(PAGE_SIZE));
+        reporter.publishEntry("call latency ms", String.valueOf(SLOW_CALL_MILLIS));
+        reporter.publishEntry("bulk ms", String.valueOf(bulk));
+        reporter.publishEntry("parallel fallback ms", String.valueOf(fallback));
+        reporter.publishEntry("sequential ms", String.valueOf(sequential));
+        assertTrue(bulk < fallback, "일괄 조회가 단건 병렬 조회보다 빨라야 한다");
+        assertTrue(fallback < sequential, "단건 병렬 조회가 순차 조회보다 빨라야 한다");
+    }
+
+    private static long timeResolve(UserServiceClient client, List<Long> userIds) {
+        // 캐시 영향을 없애기 위해 측정마다 새 인스턴스 사용
+        UserProfileResolver fresh = new UserProfileResolver(client, 60, 10_000, 4);
+        try {
+            long startedAt = System.nanoTime();
+            Map<Long, UserProfile> profiles = fresh.resolveAll(userIds);
+            long elapsed = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+            assertEquals("직원1", profiles.get(1L).getName());
+            return elapsed;
+        } finally {
+            fresh.shutdown();
+        }
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void authenticate(String tenantId) {
+        UserPrincipal principal = new UserPrincipal(100L, Role.USER, tenantId);
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities()));
+    }
+
+    private static UserProfile profile(Long id, String name) {
+        return UserProfile.builder().id(id).name(name).build();
+    }
+}
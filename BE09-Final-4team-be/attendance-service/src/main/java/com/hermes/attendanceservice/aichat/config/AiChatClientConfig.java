@@ -0,0 +1,23 @@
+package com.hermes.attendanceservice.aichat.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.net.http.HttpClient;
+import java.time.Duration;
+
+@Configuration
+public class AiChatClientConfig {
+
+    /**
+     * AI 채팅 전용 HttpClient (애플리케이션 전체에서 공유)
+     * 요청마다 새로 만들면 매번 TLS 핸드셰이크가 발생하므로, 하나의 인스턴스로 커넥션을 재사용한다.
+     */
+    @Bean
+    public HttpClient aiChatHttpClient(AiChatProperties props) {
+        return HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_2)
+                .connectTimeout(Duration.ofSeconds(props.getConnectTimeoutSeconds()))
+                .build();
+    }
+}
@@ -13,6 +13,13 @@ public class AiChatProperties {
     private String model = "gpt-4o-mini";
     private Double temperature = 0.2;
     private Integer maxTokens = 2048;
+    /** 연결 수립 타임아웃 (초) */
+    private Integer connectTimeoutSeconds = 10;
+    /** 요청 전체 타임아웃 (초), 스트리밍은 마지막 토큰까지의 시간 */
+    private Integer requestTimeoutSeconds = 60;
+    /** 동일 대화에 대한 응답 캐시 TTL (초), 0 이하이면 캐시 사용 안 함 */
+    private Integer cacheTtlSeconds = 300;
+    private Integer cacheMaxEntries = 500;
 
     public String getBaseUrl() { return baseUrl; }
     public void setBaseUrl(String baseUrl) { this.baseUrl = baseUrl; }
@@ -28,4 +35,16 @@ public class AiChatProperties {
 
     public Integer getMaxTokens() { return maxTokens; }
     public void setMaxTokens(Integer maxTokens) { this.maxTokens = maxTokens; }
+
+    public Integer getConnectTimeoutSeconds() { return connectTimeoutSeconds; }
+    public void setConnectTimeoutSeconds(Integer connectTimeoutSeconds) { this.connectTimeoutSeconds = connectTimeoutSeconds; }
+
+    public Integer getRequestTimeoutSeconds() { return requestTimeoutSeconds; }
+    public void setRequestTimeoutSeconds(Integer requestTimeoutSeconds) { this.requestTimeoutSeconds = requestTimeoutSeconds; }
+
+    public Integer getCacheTtlSeconds() { return cacheTtlSeconds; }
+    public void setCacheTtlSeconds(Integer cacheTtlSeconds) { this.cacheTtlSeconds = cacheTtlSeconds; }
+
+    public Integer getCacheMaxEntries() { return cacheMaxEntries; }
+    public void setCacheMaxEntries(Integer cacheMaxEntries) { this.cacheMaxEntries = cacheMaxEntries; }
 } 
\ No newline at end of file
@@ -6,8 +6,10 @@ import com.hermes.attendanceservice.aichat.dto.ChatResponse;
 import com.hermes.attendanceservice.aichat.service.AiChatService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 @Slf4j
 @RestController
@@ -27,4 +29,13 @@ public class AiChatController {
             return ResponseEntity.ok(ApiResult.failure("AI 요청 처리 중 오류가 발생했습니다."));
         }
     }
-} 
\ No newline at end of file
+
+    /**
+     * 스트리밍 채팅 (SSE)
+     * token 이벤트로 답변 텍스트를 즉시 전달하고, done 이벤트로 최종 응답(명령 포함)을 전달
+     */
+    @PostMapping(value = "/chat/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter chatStream(@RequestBody ChatRequest req) {
+        return aiChatService.streamChat(req);
+    }
+}
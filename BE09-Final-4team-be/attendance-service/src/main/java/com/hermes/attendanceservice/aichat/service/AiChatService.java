@@ -1,17 +1,27 @@
 package com.hermes.attendanceservice.aichat.service;
 
+import com.fasterxml.jackson.core.json.JsonReadFeature;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import com.hermes.attendanceservice.aichat.config.AiChatProperties;
 import com.hermes.attendanceservice.aichat.dto.ChatMessage;
 import com.hermes.attendanceservice.aichat.dto.ChatRequest;
 import com.hermes.attendanceservice.aichat.dto.ChatResponse;
 import com.hermes.attendanceservice.aichat.dto.CommandPayload;
 import com.hermes.attendanceservice.aichat.dto.CommandType;
+import com.hermes.auth.principal.UserPrincipal;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.io.IOException;
 import java.net.URI;
 import java.net.http.HttpClient;
 import java.net.http.HttpRequest;
@@ -19,80 +29,286 @@ import java.net.http.HttpResponse;
 import java.nio.charset.StandardCharsets;
 import java.time.Duration;
 import java.util.*;
+import java.util.concurrent.Flow;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class AiChatService {
 
+    private static final String SYSTEM_PROMPT = "반드시 엄격한 JSON만 출력하세요. 추가 설명이나 코드블록 없이 하나의 JSON 객체로만 답하십시오. 예: {\"type\":\"reply\",\"reply\":\"...\"} 또는 {\"type\":\"command\",\"command\":{\"type\":\"FILL_VACATION_FORM\",\"params\":{\"startDate\":\"2025-01-03\",\"endDate\":\"2025-01-03\",\"type\":\"연차\",\"reason\":\"가족여행\"}}}";
+    private static final String UNAVAILABLE_REPLY = "죄송해요, 지금은 요청을 처리할 수 없어요. 잠시 후 다시 시도해 주세요.";
+    private static final String EMPTY_REPLY = "응답이 비어 있습니다. 다시 시도해 주세요.";
+    private static final String ERROR_REPLY = "오류가 발생했어요. 잠시 후 다시 시도해 주세요.";
+
     private final AiChatProperties props;
+    private final HttpClient aiChatHttpClient;
     private final ObjectMapper objectMapper = new ObjectMapper();
+    // 따옴표 없는 키, 작은따옴표, 후행 쉼표 등 JS 스타일 객체를 그대로 파싱 (정규식 보정 대체)
+    private final ObjectMapper lenientMapper = JsonMapper.builder()
+            .enable(JsonReadFeature.ALLOW_UNQUOTED_FIELD_NAMES)
+            .enable(JsonReadFeature.ALLOW_SINGLE_QUOTES)
+            .enable(JsonReadFeature.ALLOW_TRAILING_COMMA)
+            .enable(JsonReadFeature.ALLOW_UNESCAPED_CONTROL_CHARS)
+            .build();
+
+    private Cache<String, ChatResponse> responseCache;
+
+    @PostConstruct
+    void initCache() {
+        int ttl = props.getCacheTtlSeconds() != null ? props.getCacheTtlSeconds() : 0;
+        responseCache = Caffeine.newBuilder()
+                .maximumSize(ttl > 0 ? props.getCacheMaxEntries() : 0)
+                .expireAfterWrite(Duration.ofSeconds(Math.max(ttl, 1)))
+                .build();
+    }
 
     public ChatResponse chat(ChatRequest req) {
         try {
-            Map<String, Object> body = new HashMap<>();
-            body.put("model", props.getModel());
-            body.put("temperature", props.getTemperature());
-            body.put("max_tokens", props.getMaxTokens());
-
-            List<Map<String, String>> messages = new ArrayList<>();
-            messages.add(Map.of(
-                    "role", "system",
-                    "content", "반드시 엄격한 JSON만 출력하세요. 추가 설명이나 코드블록 없이 하나의 JSON 객체로만 답하십시오. 예: {\"type\":\"reply\",\"reply\":\"...\"} 또는 {\"type\":\"command\",\"command\":{\"type\":\"FILL_VACATION_FORM\",\"params\":{\"startDate\":\"2025-01-03\",\"endDate\":\"2025-01-03\",\"type\":\"연차\",\"reason\":\"가족여행\"}}}"
-            ));
-            if (req.getMessages() != null) {
-                for (ChatMessage m : req.getMessages()) {
-                    messages.add(Map.of("role", m.getRole(), "content", m.getContent()));
-                }
+            String json = objectMapper.writeValueAsString(buildBody(req, false));
+            String cacheKey = cacheKey(req, json);
+            ChatResponse cached = cachedResponse(cacheKey);
+            if (cached != null) {
+                return cached;
             }
-            body.put("messages", messages);
 
-            String json = objectMapper.writeValueAsString(body);
-
-            HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(10)).build();
-            HttpRequest httpRequest = HttpRequest.newBuilder()
-                    .uri(URI.create(props.getBaseUrl() + "/chat/completions"))
-                    .timeout(Duration.ofSeconds(60))
-                    .header("Authorization", "Bearer " + props.getApiKey())
-                    .header("Content-Type", "application/json")
-                    .POST(HttpRequest.BodyPublishers.ofString(json, StandardCharsets.UTF_8))
-                    .build();
-
-            HttpResponse<String> response = client.send(httpRequest, HttpResponse.BodyHandlers.ofString(StandardCharsets.UTF_8));
+            HttpResponse<String> response = aiChatHttpClient.send(buildHttpRequest(json), HttpResponse.BodyHandlers.ofString(StandardCharsets.UTF_8));
 
             if (response.statusCode() >= 400) {
                 log.warn("OpenAI error: status={} body={}", response.statusCode(), response.body());
-                return ChatResponse.builder().type("reply").reply("죄송해요, 지금은 요청을 처리할 수 없어요. 잠시 후 다시 시도해 주세요.").build();
+                return ChatResponse.builder().type("reply").reply(UNAVAILABLE_REPLY).build();
             }
 
             JsonNode root = objectMapper.readTree(response.body());
             String content = root.path("choices").path(0).path("message").path("content").asText("");
             if (content == null || content.isBlank()) {
-                return ChatResponse.builder().type("reply").reply("응답이 비어 있습니다. 다시 시도해 주세요.").build();
+                return ChatResponse.builder().type("reply").reply(EMPTY_REPLY).build();
+            }
+
+            ChatResponse result = toChatResponse(content, req);
+            cacheResponse(cacheKey, result);
+            return result;
+        } catch (Exception e) {
+            log.error("AI chat failed", e);
+            return ChatResponse.builder().type("reply").reply(ERROR_REPLY).build();
+        }
+    }
+
+    /**
+     * 스트리밍 채팅 (SSE)
+     * - token 이벤트: reply 텍스트 조각 (도착하는 즉시 전달)
+     * - done 이벤트: 최종 ChatResponse (명령 포함)
+     */
+    public SseEmitter streamChat(ChatRequest req) {
+        SseEmitter emitter = new SseEmitter(Duration.ofSeconds(props.getRequestTimeoutSeconds()).toMillis());
+        try {
+            String cacheKey = cacheKey(req, objectMapper.writeValueAsString(buildBody(req, false)));
+            ChatResponse cached = cachedResponse(cacheKey);
+            if (cached != null) {
+                if (cached.getReply() != null) {
+                    emitter.send(SseEmitter.event().name("token").data(cached.getReply()));
+                }
+                emitter.send(SseEmitter.event().name("done").data(cached));
+                emitter.complete();
+                return emitter;
+            }
+
+            String json = objectMapper.writeValueAsString(buildBody(req, true));
+            SseRelaySubscriber relay = new SseRelaySubscriber(emitter, req, cacheKey);
+            emitter.onCompletion(relay::cancel);
+            emitter.onTimeout(relay::cancel);
+
+            aiChatHttpClient.sendAsync(buildHttpRequest(json), HttpResponse.BodyHandlers.fromLineSubscriber(relay))
+                    .whenComplete((response, error) -> relay.finish(response != null ? response.statusCode() : -1, error));
+        } catch (Exception e) {
+            log.error("AI chat stream failed", e);
+            sendDone(emitter, ChatResponse.builder().type("reply").reply(ERROR_REPLY).build());
+        }
+        return emitter;
+    }
+
+    private Map<String, Object> buildBody(ChatRequest req, boolean stream) {
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("model", props.getModel());
+        body.put("temperature", props.getTemperature());
+        body.put("max_tokens", props.getMaxTokens());
+
+        List<Map<String, String>> messages = new ArrayList<>();
+        messages.add(Map.of("role", "system", "content", SYSTEM_PROMPT));
+        if (req.getMessages() != null) {
+            for (ChatMessage m : req.getMessages()) {
+                messages.add(Map.of("role", m.getRole(), "content", m.getContent()));
+            }
+        }
+        body.put("messages", messages);
+        if (stream) {
+            body.put("stream", true);
+        }
+        return body;
+    }
+
+    /**
+     * 같은 테넌트의 같은 사용자가 동일 모델/파라미터/대화 내용으로 요청하면 같은 응답을 재사용 (명령 허용 여부 포함)
+     * 인증 정보가 없으면 다른 사용자와 응답을 공유하지 않도록 캐시하지 않는다 (null 반환).
+     */
+    private String cacheKey(ChatRequest req, String body) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !(authentication.getPrincipal() instanceof UserPrincipal principal)) {
+            return null;
+        }
+        return principal.getTenantId() + "|" + principal.getId() + "|" + Boolean.TRUE.equals(req.getAllowCommands()) + "|" + body;
+    }
+
+    private ChatResponse cachedResponse(String cacheKey) {
+        return cacheKey != null ? responseCache.getIfPresent(cacheKey) : null;
+    }
+
+    private void cacheResponse(String cacheKey, ChatResponse response) {
+        if (cacheKey != null) {
+            responseCache.put(cacheKey, response);
+        }
+    }
+
+    private HttpRequest buildHttpRequest(String json) {
+        return HttpRequest.newBuilder()
+                .uri(URI.create(props.getBaseUrl() + "/chat/completions"))
+                .timeout(Duration.ofSeconds(props.getRequestTimeoutSeconds()))
+                .header("Authorization", "Bearer " + props.getApiKey())
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(json, StandardCharsets.UTF_8))
+                .build();
+    }
+
+    private ChatResponse toChatResponse(String content, ChatRequest req) {
+        try {
+            return parseAssistantJson(content, req);
+        } catch (Exception e) {
+            // Fallback to plain text
+            return ChatResponse.builder().type("reply").reply(content).build();
+        }
+    }
+
+    private void sendDone(SseEmitter emitter, ChatResponse response) {
+        try {
+            emitter.send(SseEmitter.event().name("done").data(response));
+            emitter.complete();
+        } catch (Exception e) {
+            emitter.completeWithError(e);
+        }
+    }
+
+    /**
+     * OpenAI SSE 응답을 한 줄씩 받아 브라우저로 중계
+     * 한 줄 처리가 끝난 뒤에만 다음 줄을 요청하므로 느린 클라이언트에 맞춰 상류 수신 속도가 조절된다.
+     */
+    private class SseRelaySubscriber implements Flow.Subscriber<String> {
+
+        private final SseEmitter emitter;
+        private final ChatRequest req;
+        private final String cacheKey;
+        private final StreamingReplyExtractor extractor = new StreamingReplyExtractor();
+        private final StringBuilder content = new StringBuilder();
+        private final long startedAt = System.nanoTime();
+        private volatile Flow.Subscription subscription;
+        private volatile boolean cancelled;
+        private boolean firstToken = true;
+
+        SseRelaySubscriber(SseEmitter emitter, ChatRequest req, String cacheKey) {
+            this.emitter = emitter;
+            this.req = req;
+            this.cacheKey = cacheKey;
+        }
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.subscription = subscription;
+            if (cancelled) {
+                subscription.cancel();
+            } else {
+                subscription.request(1);
             }
+        }
 
-            // First try strict JSON
+        @Override
+        public void onNext(String line) {
             try {
-                return parseAssistantJson(content, req);
+                handleLine(line);
+                subscription.request(1);
+            } catch (IOException e) {
+                // 브라우저 연결 종료 시 상류 스트림도 중단
+                log.debug("AI chat stream client disconnected: {}", e.getMessage());
+                cancel();
             } catch (Exception e) {
-                // Try repair if got JS-like object
-                String repaired = repairJson(content);
-                if (repaired != null) {
-                    try {
-                        return parseAssistantJson(repaired, req);
-                    } catch (Exception ignore) {}
+                log.warn("AI chat stream chunk skipped: {}", e.getMessage());
+                subscription.request(1);
+            }
+        }
+
+        private void handleLine(String line) throws IOException {
+            if (line == null || !line.startsWith("data:")) return;
+            String data = line.substring(5).trim();
+            if (data.isEmpty() || "[DONE]".equals(data)) return;
+
+            String delta = objectMapper.readTree(data).path("choices").path(0).path("delta").path("content").asText("");
+            if (delta.isEmpty()) return;
+            content.append(delta);
+
+            String visible = extractor.feed(delta);
+            if (!visible.isEmpty()) {
+                if (firstToken) {
+                    firstToken = false;
+                    log.debug("AI chat first token latency: {} ms", Duration.ofNanos(System.nanoTime() - startedAt).toMillis());
                 }
-                // Fallback to plain text
-                return ChatResponse.builder().type("reply").reply(content).build();
+                emitter.send(SseEmitter.event().name("token").data(visible));
             }
-        } catch (Exception e) {
-            log.error("AI chat failed", e);
-            return ChatResponse.builder().type("reply").reply("오류가 발생했어요. 잠시 후 다시 시도해 주세요.").build();
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            // finish()에서 처리
+        }
+
+        @Override
+        public void onComplete() {
+            // finish()에서 처리 (상태 코드 확인 필요)
+        }
+
+        void finish(int statusCode, Throwable error) {
+            if (cancelled) return;
+            if (error != null) {
+                log.error("AI chat stream failed", error);
+                sendDone(emitter, ChatResponse.builder().type("reply").reply(ERROR_REPLY).build());
+                return;
+            }
+            if (statusCode >= 400) {
+                log.warn("OpenAI stream error: status={}", statusCode);
+                sendDone(emitter, ChatResponse.builder().type("reply").reply(UNAVAILABLE_REPLY).build());
+                return;
+            }
+            if (content.length() == 0) {
+                sendDone(emitter, ChatResponse.builder().type("reply").reply(EMPTY_REPLY).build());
+                return;
+            }
+            ChatResponse result = toChatResponse(content.toString(), req);
+            cacheResponse(cacheKey, result);
+            sendDone(emitter, result);
+        }
+
+        void cancel() {
+            cancelled = true;
+            Flow.Subscription s = subscription;
+            if (s != null) s.cancel();
         }
     }
 
     private ChatResponse parseAssistantJson(String jsonContent, ChatRequest req) throws Exception {
-        JsonNode node = objectMapper.readTree(jsonContent);
+        // 코드블록 등으로 감싸진 경우 가장 바깥 객체만 파싱
+        int first = jsonContent.indexOf('{');
+        int last = jsonContent.lastIndexOf('}');
+        if (first < 0 || last < first) {
+            throw new IllegalArgumentException("JSON 객체가 아닙니다.");
+        }
+        JsonNode node = lenientMapper.readTree(jsonContent.substring(first, last + 1));
         String type = node.path("type").asText("");
         if ("command".equalsIgnoreCase(type) && Boolean.TRUE.equals(req.getAllowCommands())) {
             String cmdTypeStr = node.path("command").path("type").asText("");
@@ -113,26 +329,6 @@ public class AiChatService {
         }
     }
 
-    private String repairJson(String raw) {
-        if (raw == null) return null;
-        String s = raw.trim();
-        // If already looks like strict JSON, skip
-        if (s.startsWith("{") && s.contains("\"type\"")) return null;
-        // Replace single quotes with double
-        s = s.replace('\'', '"');
-        // Quote common keys if unquoted
-        String[] keys = {"type", "command", "params", "startDate", "endDate", "start_date", "end_date", "date", "reason"};
-        for (String k : keys) {
-            s = s.replaceAll("(?<!\\\\)\\b" + k + ":", '"' + k + '"' + ":");
-        }
-        // Ensure outer braces
-        if (!s.trim().startsWith("{")) {
-            int first = s.indexOf('{');
-            if (first >= 0) s = s.substring(first);
-        }
-        return s;
-    }
-
     private CommandType safeCommandType(String value) {
         try { return CommandType.valueOf(Optional.ofNullable(value).orElse("")); }
         catch (Exception e) { return null; }
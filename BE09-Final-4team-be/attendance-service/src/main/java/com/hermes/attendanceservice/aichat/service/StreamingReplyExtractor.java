@@ -0,0 +1,166 @@
+package com.hermes.attendanceservice.aichat.service;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+/**
+ * 스트리밍으로 들어오는 assistant JSON에서 최상위 객체의 "reply" 문자열 값만 점진적으로 추출
+ * 전체 응답이 끝나기 전에 사용자에게 보여줄 텍스트를 토큰 단위로 흘려보내기 위해 사용한다.
+ * 객체/배열 중첩과 키/값 위치를 한 글자씩 추적하므로, 다른 문자열 안의 "reply:"나 중첩 객체의 reply 키는 무시한다.
+ * (lenientMapper와 같이 따옴표 없는 키, 작은따옴표 문자열도 허용)
+ */
+class StreamingReplyExtractor {
+
+    private static final String REPLY_KEY = "reply";
+
+    // 열린 컨테이너 (true: 객체, false: 배열)
+    private final Deque<Boolean> containers = new ArrayDeque<>();
+    private final StringBuilder key = new StringBuilder();
+    // 문자열 조각 경계에 걸린 이스케이프 시퀀스
+    private final StringBuilder escape = new StringBuilder();
+    private String topLevelKey;
+    private boolean expectKey;
+    private boolean inBareKey;
+    private boolean inString;
+    private boolean stringIsKey;
+    private boolean capturing;
+    private boolean done;
+    private char quote;
+
+    /**
+     * 새로 도착한 조각을 추가하고, 이번에 새로 확정된 reply 텍스트를 반환
+     */
+    String feed(String chunk) {
+        if (chunk == null || chunk.isEmpty() || done) return "";
+        StringBuilder out = new StringBuilder();
+        for (int i = 0; i < chunk.length() && !done; i++) {
+            char c = chunk.charAt(i);
+            if (inString) {
+                readString(c, out);
+            } else {
+                readStructure(c);
+            }
+        }
+        return out.toString();
+    }
+
+    private void readString(char c, StringBuilder out) {
+        if (escape.length() > 0) {
+            escape.append(c);
+            String decoded = decodeEscape();
+            if (decoded != null) {
+                escape.setLength(0);
+                append(decoded, out);
+            }
+            return;
+        }
+        if (c == '\\') {
+            escape.append(c);
+        } else if (c == quote) {
+            inString = false;
+            if (stringIsKey) {
+                finishKey();
+            } else if (capturing) {
+                capturing = false;
+                done = true;
+            }
+        } else {
+            append(String.valueOf(c), out);
+        }
+    }
+
+    private void readStructure(char c) {
+        if (inBareKey) {
+            if (isIdentifierPart(c)) {
+                key.append(c);
+                return;
+            }
+            inBareKey = false;
+            finishKey();
+        }
+        // 첫 객체가 열리기 전의 문장/코드블록 표시는 건너뜀
+        if (containers.isEmpty() && c != '{') return;
+
+        switch (c) {
+            case '{' -> {
+                containers.push(true);
+                expectKey = true;
+            }
+            case '[' -> {
+                containers.push(false);
+                expectKey = false;
+            }
+            case '}', ']' -> {
+                containers.poll();
+                expectKey = false;
+            }
+            case ',' -> expectKey = Boolean.TRUE.equals(containers.peek());
+            case ':' -> expectKey = false;
+            case '"', '\'' -> startString(c);
+            default -> {
+                if (expectKey && isIdentifierStart(c)) {
+                    inBareKey = true;
+                    key.setLength(0);
+                    key.append(c);
+                }
+            }
+        }
+    }
+
+    private void startString(char c) {
+        inString = true;
+        quote = c;
+        stringIsKey = expectKey;
+        if (stringIsKey) {
+            key.setLength(0);
+        } else {
+            capturing = containers.size() == 1 && REPLY_KEY.equals(topLevelKey);
+        }
+    }
+
+    private void finishKey() {
+        if (containers.size() == 1) {
+            topLevelKey = key.toString();
+        }
+        expectKey = false;
+    }
+
+    private void append(String text, StringBuilder out) {
+        if (stringIsKey) {
+            key.append(text);
+        } else if (capturing) {
+            out.append(text);
+        }
+    }
+
+    /**
+     * 완성된 이스케이프 시퀀스를 해석 (아직 다 도착하지 않았으면 null)
+     */
+    private String decodeEscape() {
+        char e = escape.charAt(1);
+        if (e != 'u') {
+            return switch (e) {
+                case 'n' -> "\n";
+                case 't' -> "\t";
+                case 'r' -> "\r";
+                case 'b' -> "\b";
+                case 'f' -> "\f";
+                default -> String.valueOf(e);
+            };
+        }
+        if (escape.length() < 6) return null;
+        try {
+            return String.valueOf((char) Integer.parseInt(escape.substring(2, 6), 16));
+        } catch (NumberFormatException ex) {
+            return escape.toString();
+        }
+    }
+
+    private static boolean isIdentifierStart(char c) {
+        return Character.isLetter(c) || c == '_' || c == '$';
+    }
+
+    private static boolean isIdentifierPart(char c) {
+        return Character.isLetterOrDigit(c) || c == '_' || c == '$';
+    }
+}
@@ -4,6 +4,7 @@ import org.springframework.cloud.openfeign.FeignClient;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 
+import java.util.List;
 import java.util.Map;
 
 @FeignClient(name = "user-service", url = "${user-service.url:http://localhost:8081}")
@@ -15,6 +16,9 @@ public interface UserServiceClient {
     @GetMapping("/api/users/count")
     Map<String, Object> getTotalEmployeesRaw();
 
+    @GetMapping("/api/users/ids")
+    Map<String, Object> getAllUserIdsRaw();
+
     @GetMapping("/api/users/{userId}/simple")
     Map<String, Object> getUserWorkPolicyRaw(@PathVariable("userId") Long userId);
 
@@ -35,4 +39,13 @@ public interface UserServiceClient {
         Object data = wrapper != null ? wrapper.get("data") : null;
         return data instanceof Map ? (Map<String, Object>) data : Map.of();
     }
-} 
\ No newline at end of file
+
+    default List<Long> getAllUserIds() {
+        Map<String, Object> wrapper = getAllUserIdsRaw();
+        Object data = wrapper != null ? wrapper.get("data") : null;
+        if (!(data instanceof List)) return List.of();
+        return ((List<?>) data).stream()
+                .map(id -> Long.valueOf(id.toString()))
+                .toList();
+    }
+}
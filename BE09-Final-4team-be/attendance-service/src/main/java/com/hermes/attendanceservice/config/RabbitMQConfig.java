@@ -0,0 +1,58 @@
+package com.hermes.attendanceservice.config;
+
+import org.springframework.amqp.core.Binding;
+import org.springframework.amqp.core.BindingBuilder;
+import org.springframework.amqp.core.ExchangeBuilder;
+import org.springframework.amqp.core.Queue;
+import org.springframework.amqp.core.QueueBuilder;
+import org.springframework.amqp.core.TopicExchange;
+import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
+import org.springframework.amqp.support.converter.MessageConverter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class RabbitMQConfig {
+
+    @Value("${hermes.user.events.exchange:user.events}")
+    private String userExchange;
+
+    @Value("${hermes.user.events.queue:user.events.attendance-service}")
+    private String userQueue;
+
+    /**
+     * JSON 메시지 컨버터 (리스너 컨테이너 자동 구성에서 사용)
+     */
+    @Bean
+    public MessageConverter jackson2JsonMessageConverter() {
+        return new Jackson2JsonMessageConverter();
+    }
+
+    /**
+     * 사용자 이벤트 Exchange (Topic Exchange)
+     */
+    @Bean
+    public TopicExchange userEventExchange() {
+        return ExchangeBuilder
+                .topicExchange(userExchange)
+                .durable(true)
+                .build();
+    }
+
+    /**
+     * attendance-service 전용 사용자 이벤트 Queue
+     */
+    @Bean
+    public Queue userEventQueue() {
+        return QueueBuilder.durable(userQueue).build();
+    }
+
+    @Bean
+    public Binding userEventBinding(Queue userEventQueue, TopicExchange userEventExchange) {
+        return BindingBuilder
+                .bind(userEventQueue)
+                .to(userEventExchange)
+                .with("user.*"); // 모든 사용자 이벤트를 받음
+    }
+}
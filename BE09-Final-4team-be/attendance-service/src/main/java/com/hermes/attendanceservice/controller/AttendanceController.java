@@ -4,6 +4,7 @@ import com.hermes.api.common.ApiResult;
 import com.hermes.attendanceservice.dto.attendance.AttendanceResponse;
 import com.hermes.attendanceservice.dto.attendance.WeeklyWorkSummary;
 import com.hermes.attendanceservice.dto.attendance.WeeklyWorkDetail;
+import com.hermes.attendanceservice.dto.attendance.MonthlyWorkSummary;
 import com.hermes.attendanceservice.dto.attendance.CheckInRequest;
 import com.hermes.attendanceservice.dto.attendance.CheckOutRequest;
 import com.hermes.attendanceservice.entity.attendance.AttendanceStatus;
@@ -26,6 +27,8 @@ import org.springframework.web.bind.annotation.*;
 
 import java.time.LocalDate;
 import java.time.Instant;
+import java.time.YearMonth;
+import java.util.List;
 import java.util.Map;
 
 @Slf4j
@@ -173,6 +176,62 @@ public class AttendanceController {
         }
     }
 
+    /** 팀 단위 특정 주 근무 요약 (여러 사용자 일괄 조회) */
+    @GetMapping("/weekly/team")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ApiResult<Map<Long, WeeklyWorkSummary>> getTeamWeek(
+            @RequestParam List<Long> userIds,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate weekStart) {
+        try {
+            Map<Long, WeeklyWorkSummary> summaries = attendanceService.getWeekSummaries(userIds, weekStart);
+            return ApiResult.success("팀 주간 근무 요약을 성공적으로 조회했습니다.", summaries);
+        } catch (Exception e) {
+            return ApiResult.failure("팀 주간 근무 요약 조회에 실패했습니다: " + e.getMessage());
+        }
+    }
+
+    /** 특정 월 근무 요약 */
+    @GetMapping("/monthly")
+    @PreAuthorize("hasRole('ADMIN') or #userId == authentication.principal.id")
+    public ApiResult<MonthlyWorkSummary> getMonth(
+            @RequestParam Long userId,
+            @RequestParam @DateTimeFormat(pattern = "yyyy-MM") YearMonth month) {
+        try {
+            MonthlyWorkSummary summary = attendanceService.getMonthSummary(userId, month);
+            return ApiResult.success("월간 근무 요약을 성공적으로 조회했습니다.", summary);
+        } catch (Exception e) {
+            return ApiResult.failure("월간 근무 요약 조회에 실패했습니다: " + e.getMessage());
+        }
+    }
+
+    /** 팀 단위 특정 월 근무 요약 (여러 사용자 일괄 조회) */
+    @GetMapping("/monthly/team")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ApiResult<Map<Long, MonthlyWorkSummary>> getTeamMonth(
+            @RequestParam List<Long> userIds,
+            @RequestParam @DateTimeFormat(pattern = "yyyy-MM") YearMonth month) {
+        try {
+            Map<Long, MonthlyWorkSummary> summaries = attendanceService.getMonthSummaries(userIds, month);
+            return ApiResult.success("팀 월간 근무 요약을 성공적으로 조회했습니다.", summaries);
+        } catch (Exception e) {
+            return ApiResult.failure("팀 월간 근무 요약 조회에 실패했습니다: " + e.getMessage());
+        }
+    }
+
+    /** 일자별 근태 요약 재구축 (backfill) */
+    @PostMapping("/summaries/rebuild")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ApiResult<Integer> rebuildDailySummaries(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate) {
+        try {
+            int rebuilt = attendanceService.rebuildDailySummaries(startDate, endDate);
+            return ApiResult.success("일자별 근태 요약을 성공적으로 재구축했습니다.", rebuilt);
+        } catch (Exception e) {
+            return ApiResult.failure("일자별 근태 요약 재구축에 실패했습니다: " + e.getMessage());
+        }
+    }
+
     /** 출근 가능 시간 조회 */
     @GetMapping("/check-in-available-time")
     @PreAuthorize("hasRole('ADMIN') or #userId == authentication.principal.id")
@@ -79,6 +79,27 @@ public class WorkPolicyController {
         }
     }
     
+    @Operation(summary = "근무 정책 일괄 조회", description = "여러 근무 정책을 ID 목록으로 한 번에 조회합니다. 존재하지 않는 ID는 결과에서 제외됩니다.")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "근무 정책 일괄 조회 성공",
+            content = @Content(schema = @Schema(implementation = WorkPolicyResponseDto.class))),
+        @ApiResponse(responseCode = "500", description = "서버 오류")
+    })
+    @GetMapping("/batch")
+    public ApiResult<List<WorkPolicyResponseDto>> getWorkPoliciesByIds(
+            @Parameter(description = "근무 정책 ID 목록") @RequestParam("ids") List<Long> ids) {
+        try {
+            log.info("Get work policies by ids: {}", ids.size());
+            
+            List<WorkPolicyResponseDto> responses = workPolicyService.getWorkPoliciesByIds(ids);
+            return ApiResult.success("근무 정책 목록을 성공적으로 조회했습니다.", responses);
+            
+        } catch (Exception e) {
+            log.error("Error getting work policies by ids: {}", ids, e);
+            return ApiResult.failure("근무 정책 일괄 조회에 실패했습니다: " + e.getMessage());
+        }
+    }
+    
     @Operation(summary = "근무 정책 조회", description = "ID로 특정 근무 정책을 조회합니다.")
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "근무 정책 조회 성공",
@@ -24,4 +24,6 @@ public class DailyWorkSummary {
     private String checkInTime;
     private String checkOutTime;
     private String workDuration; // 근무 시간 (예: "8시간 30분")
+    private Long lateMinutes; // 예정 출근 시간 대비 지각 시간(분)
+    private Long overtimeMinutes; // 예정 퇴근 시간 대비 초과 근무 시간(분)
 } 
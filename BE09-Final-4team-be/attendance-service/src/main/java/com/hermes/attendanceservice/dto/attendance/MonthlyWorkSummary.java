@@ -0,0 +1,35 @@
+package com.hermes.attendanceservice.dto.attendance;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class MonthlyWorkSummary {
+    private Long userId;
+
+    @JsonFormat(pattern = "yyyy-MM-dd")
+    private LocalDate monthStart; // 월의 시작일
+
+    @JsonFormat(pattern = "yyyy-MM-dd")
+    private LocalDate monthEnd; // 월의 종료일
+
+    private double totalWorkHours; // 총 근무시간 (시간 단위)
+    private double totalWorkMinutes; // 총 근무시간 (분 단위)
+    private int workDays; // 근무한 날짜 수
+
+    // 근무 상태별 시간
+    private double regularWorkHours; // 정상 근무 시간
+    private double lateWorkHours; // 지각 근무 시간
+    private double vacationHours; // 휴가 시간
+
+    private List<DailyWorkSummary> dailySummaries; // 일별 요약
+}
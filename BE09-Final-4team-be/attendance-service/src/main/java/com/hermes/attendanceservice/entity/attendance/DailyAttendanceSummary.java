@@ -0,0 +1,108 @@
+package com.hermes.attendanceservice.entity.attendance;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * 사용자/일자별 근태 요약 (materialized)
+ * 출근/퇴근/상태 변경 시 증분 갱신되며, 주간/월간/팀 조회는 이 테이블만 읽는다.
+ */
+@Entity
+@Table(name = "daily_attendance_summary",
+        uniqueConstraints = @UniqueConstraint(name = "uk_daily_attendance_summary_user_date", columnNames = {"user_id", "work_date"}),
+        indexes = @Index(name = "idx_daily_attendance_summary_date", columnList = "work_date, user_id"))
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class DailyAttendanceSummary {
+
+    private static final ZoneId ZONE_SEOUL = ZoneId.of("Asia/Seoul");
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId; // 사용자 ID
+
+    @Column(name = "work_date", nullable = false)
+    private LocalDate workDate; // 근무 날짜
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "attendance_status")
+    private AttendanceStatus attendanceStatus; // 출근 상태
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "work_status")
+    private WorkStatus workStatus; // 근무 상태
+
+    @Column(name = "check_in")
+    private Instant checkIn; // 출근 시간
+
+    @Column(name = "check_out")
+    private Instant checkOut; // 퇴근 시간
+
+    @Column(name = "work_minutes", nullable = false)
+    @Builder.Default
+    private Long workMinutes = 0L; // 근무 시간(분), 출퇴근이 모두 기록된 경우에만 계산
+
+    @Column(name = "late_minutes", nullable = false)
+    @Builder.Default
+    private Long lateMinutes = 0L; // 지각 시간(분), 예정 출근 시간 기준
+
+    @Column(name = "overtime_minutes", nullable = false)
+    @Builder.Default
+    private Long overtimeMinutes = 0L; // 초과 근무 시간(분), 예정 퇴근 시간 기준
+
+    @Column(name = "updated_at", nullable = false)
+    private Instant updatedAt;
+
+    @PrePersist
+    @PreUpdate
+    protected void onSave() {
+        updatedAt = Instant.now();
+    }
+
+    public static DailyAttendanceSummary of(Long userId, LocalDate workDate) {
+        return DailyAttendanceSummary.builder()
+                .userId(userId)
+                .workDate(workDate)
+                .build();
+    }
+
+    /**
+     * 출퇴근 기록과 예정 근무 시간으로 요약 값을 다시 계산
+     * @param scheduledStart 예정 출근 시간 (없으면 지각 시간 0)
+     * @param scheduledEnd 예정 퇴근 시간 (없으면 초과 근무 시간 0)
+     */
+    public void apply(Attendance attendance, LocalTime scheduledStart, LocalTime scheduledEnd) {
+        this.attendanceStatus = attendance.getAttendanceStatus();
+        this.workStatus = attendance.getWorkStatus();
+        this.checkIn = attendance.getCheckIn();
+        this.checkOut = attendance.getCheckOut();
+
+        this.workMinutes = 0L;
+        if (checkIn != null && checkOut != null) {
+            this.workMinutes = Math.max(0L, ChronoUnit.MINUTES.between(checkIn, checkOut));
+        }
+
+        this.lateMinutes = 0L;
+        if (checkIn != null && scheduledStart != null) {
+            Instant scheduled = workDate.atTime(scheduledStart).atZone(ZONE_SEOUL).toInstant();
+            this.lateMinutes = Math.max(0L, ChronoUnit.MINUTES.between(scheduled, checkIn));
+        }
+
+        this.overtimeMinutes = 0L;
+        if (checkOut != null && scheduledEnd != null) {
+            Instant scheduled = workDate.atTime(scheduledEnd).atZone(ZONE_SEOUL).toInstant();
+            this.overtimeMinutes = Math.max(0L, ChronoUnit.MINUTES.between(scheduled, checkOut));
+        }
+    }
+}
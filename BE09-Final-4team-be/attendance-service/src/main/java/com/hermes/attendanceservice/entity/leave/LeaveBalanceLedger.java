@@ -0,0 +1,56 @@
+package com.hermes.attendanceservice.entity.leave;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.Instant;
+
+/**
+ * 연차 잔액 변동 이력 (정산/대사용 원장)
+ * 잔액 행은 조건부 UPDATE로만 변경되므로, 변동 내역은 이 테이블에 append-only로 기록한다.
+ */
+@Entity
+@Table(name = "leave_balance_ledger",
+        indexes = @Index(name = "idx_leave_balance_ledger_employee", columnList = "employee_id, leave_type, created_at"))
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class LeaveBalanceLedger {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "employee_id", nullable = false)
+    private Long employeeId; // 직원 ID
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "leave_type", nullable = false)
+    private LeaveType leaveType; // 연차 종류
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "movement_type", nullable = false)
+    private LeaveBalanceMovementType movementType; // 변동 종류 (사용, 복구)
+
+    @Column(name = "days", nullable = false)
+    private Integer days; // 변동 일수
+
+    @Column(name = "created_at", nullable = false)
+    private Instant createdAt;
+
+    @PrePersist
+    protected void onCreate() {
+        createdAt = Instant.now();
+    }
+
+    public static LeaveBalanceLedger of(Long employeeId, LeaveType leaveType,
+                                        LeaveBalanceMovementType movementType, Integer days) {
+        return LeaveBalanceLedger.builder()
+                .employeeId(employeeId)
+                .leaveType(leaveType)
+                .movementType(movementType)
+                .days(days)
+                .build();
+    }
+}
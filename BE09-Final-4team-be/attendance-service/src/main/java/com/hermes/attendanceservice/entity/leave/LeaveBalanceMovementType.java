@@ -0,0 +1,16 @@
+package com.hermes.attendanceservice.entity.leave;
+
+public enum LeaveBalanceMovementType {
+    USE("사용"),
+    RESTORE("복구");
+
+    private final String name;
+
+    LeaveBalanceMovementType(String name) {
+        this.name = name;
+    }
+
+    public String getName() {
+        return name;
+    }
+}
@@ -11,7 +11,9 @@ import java.time.Instant;
 import java.time.LocalTime;
 
 @Entity
-@Table(name = "leave_requests")
+@Table(name = "leave_requests", indexes = {
+        @Index(name = "idx_leave_requests_status_dates", columnList = "status, start_date, end_date")
+})
 @Data
 @Builder
 @NoArgsConstructor
@@ -0,0 +1,36 @@
+package com.hermes.attendanceservice.entity.workmonitor;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+/**
+ * user-service 사용자 목록의 로컬 복제본 (재직 인원 집계용)
+ * 사용자 생명주기 이벤트로 갱신되며, 요청 컨텍스트 없이도 COUNT로 전체 직원 수를 구할 수 있다.
+ */
+@Entity
+@Table(name = "active_employee")
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ActiveEmployee {
+
+    @Id
+    @Column(name = "user_id")
+    private Long userId; // User 엔티티의 고유 식별자
+
+    @Column(name = "synced_at", nullable = false)
+    private Instant syncedAt; // 마지막 동기화 시각
+
+    public static ActiveEmployee of(Long userId) {
+        return ActiveEmployee.builder()
+                .userId(userId)
+                .syncedAt(Instant.now())
+                .build();
+    }
+}
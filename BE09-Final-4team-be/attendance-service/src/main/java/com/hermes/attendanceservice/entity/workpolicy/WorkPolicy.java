@@ -2,6 +2,7 @@ package com.hermes.attendanceservice.entity.workpolicy;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.BatchSize;
 
 import java.time.LocalDate;
 import java.time.LocalTime;
@@ -41,6 +42,7 @@ public class WorkPolicy {
     private Integer workCycleStartDay; // 근무 주기 시작일(1~31일, 선택 근무 용도, nullable)
     
     @ElementCollection
+    @BatchSize(size = 50) // 일괄 조회 시 정책별 컬렉션 로딩을 IN 쿼리로 묶음
     @Enumerated(EnumType.STRING)
     @CollectionTable(name = "work_policy_work_days", 
                     joinColumns = @JoinColumn(name = "work_policy_id"))
@@ -87,6 +89,7 @@ public class WorkPolicy {
     private Integer totalRequiredMinutes; // 단위기간 기준 근로 시간 (주동기준)
     
     @ElementCollection
+    @BatchSize(size = 50)
     @Enumerated(EnumType.STRING)
     @CollectionTable(name = "work_policy_holiday_days", 
                     joinColumns = @JoinColumn(name = "work_policy_id"))
@@ -94,6 +97,7 @@ public class WorkPolicy {
     private List<StartDayOfWeek> holidayDays; // 휴일 요일 리스트
     
     @ElementCollection
+    @BatchSize(size = 50)
     @CollectionTable(name = "work_policy_holidays", 
                     joinColumns = @JoinColumn(name = "work_policy_id"))
     @Column(name = "holiday_date")
@@ -107,6 +111,7 @@ public class WorkPolicy {
     @Builder.Default
     private Boolean isBreakFixed = true; // 휴식 시간 고정 여부
     
+    @BatchSize(size = 50)
     @OneToMany(mappedBy = "workPolicy", cascade = CascadeType.ALL, orphanRemoval = true)
     @Builder.Default
     private List<AnnualLeave> annualLeaves = new ArrayList<>();
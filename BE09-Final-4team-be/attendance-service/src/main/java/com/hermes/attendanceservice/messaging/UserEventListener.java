@@ -0,0 +1,25 @@
+package com.hermes.attendanceservice.messaging;
+
+import com.hermes.attendanceservice.service.workmonitor.EmployeeHeadcountService;
+import com.hermes.events.user.UserEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * user-service 사용자 생명주기 이벤트 구독
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class UserEventListener {
+
+    private final EmployeeHeadcountService employeeHeadcountService;
+
+    @RabbitListener(queues = "${hermes.user.events.queue:user.events.attendance-service}")
+    public void handleUserEvent(UserEvent event) {
+        log.info("User Event Received: Type={}, UserId={}", event.getEventType(), event.getUserId());
+        employeeHeadcountService.apply(event);
+    }
+}
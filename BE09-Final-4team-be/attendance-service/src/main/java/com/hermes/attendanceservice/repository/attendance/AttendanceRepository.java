@@ -1,6 +1,8 @@
 package com.hermes.attendanceservice.repository.attendance;
 
 import com.hermes.attendanceservice.entity.attendance.Attendance;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 
 import java.time.LocalDate;
@@ -15,4 +17,11 @@ public interface AttendanceRepository extends JpaRepository<Attendance, Long> {
     
     // 출근했지만 퇴근하지 않은 모든 기록 조회 (자동 퇴근 처리용)
     List<Attendance> findAllByCheckInIsNotNullAndCheckOutIsNullAndDate(LocalDate date);
-} 
\ No newline at end of file
+    
+    // 기간 내 출퇴근 기록 페이지 조회 (요약 재구축용)
+    Slice<Attendance> findAllByDateBetween(LocalDate start, LocalDate end, Pageable pageable);
+
+    // 가장 이른/늦은 출퇴근 기록 (기동 시 요약 재구축 범위)
+    Optional<Attendance> findFirstByOrderByDateAsc();
+    Optional<Attendance> findFirstByOrderByDateDesc();
+}
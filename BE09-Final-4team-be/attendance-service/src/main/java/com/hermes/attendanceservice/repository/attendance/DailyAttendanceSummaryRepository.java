@@ -0,0 +1,26 @@
+package com.hermes.attendanceservice.repository.attendance;
+
+import com.hermes.attendanceservice.entity.attendance.DailyAttendanceSummary;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+public interface DailyAttendanceSummaryRepository extends JpaRepository<DailyAttendanceSummary, Long>, DailyAttendanceSummaryRepositoryCustom {
+    Optional<DailyAttendanceSummary> findByUserIdAndWorkDate(Long userId, LocalDate workDate);
+
+    // 여러 사용자의 기간 요약 조회 (주간/월간/팀 조회용, 단일 쿼리)
+    List<DailyAttendanceSummary> findByUserIdInAndWorkDateBetweenOrderByUserIdAscWorkDateAsc(
+            Collection<Long> userIds, LocalDate start, LocalDate end);
+
+    // 재구축 시 원본 출퇴근 기록이 사라진 기간 내 요약 삭제
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("DELETE FROM DailyAttendanceSummary s WHERE s.workDate BETWEEN :start AND :end " +
+           "AND NOT EXISTS (SELECT 1 FROM Attendance a WHERE a.userId = s.userId AND a.date = s.workDate)")
+    int deleteOrphansByWorkDateBetween(@Param("start") LocalDate start, @Param("end") LocalDate end);
+}
@@ -0,0 +1,15 @@
+package com.hermes.attendanceservice.repository.attendance;
+
+import com.hermes.attendanceservice.entity.attendance.DailyAttendanceSummary;
+
+import java.util.List;
+
+public interface DailyAttendanceSummaryRepositoryCustom {
+
+    /**
+     * (user_id, work_date) 기준 일괄 upsert
+     * 동시에 같은 사용자/일자를 갱신해도 유니크 제약 위반 없이 마지막 값이 남는다.
+     * @return 처리한 행 수
+     */
+    int upsertAll(List<DailyAttendanceSummary> summaries);
+}
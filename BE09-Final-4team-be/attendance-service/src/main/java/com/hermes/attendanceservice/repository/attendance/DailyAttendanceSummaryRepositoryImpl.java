@@ -0,0 +1,90 @@
+package com.hermes.attendanceservice.repository.attendance;
+
+import com.hermes.attendanceservice.entity.attendance.DailyAttendanceSummary;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 일자별 근태 요약 upsert
+ * UPDATE 배치 → 없던 행만 INSERT ... ON CONFLICT DO NOTHING 배치 → 그 사이 다른 트랜잭션이 먼저 넣은 행만 다시 UPDATE.
+ * 충돌 대상은 uk_daily_attendance_summary_user_date 하나뿐이다 (id는 IDENTITY).
+ * 출퇴근 처리와 재구축이 같은 사용자/일자를 동시에 갱신해도 유니크 제약 위반 없이 수렴한다.
+ */
+@RequiredArgsConstructor
+public class DailyAttendanceSummaryRepositoryImpl implements DailyAttendanceSummaryRepositoryCustom {
+
+    private static final String UPDATE_SQL = "UPDATE daily_attendance_summary SET " +
+            "attendance_status = ?, work_status = ?, check_in = ?, check_out = ?, " +
+            "work_minutes = ?, late_minutes = ?, overtime_minutes = ?, updated_at = ? " +
+            "WHERE user_id = ? AND work_date = ?";
+
+    private static final String INSERT_SQL = "INSERT INTO daily_attendance_summary " +
+            "(attendance_status, work_status, check_in, check_out, work_minutes, late_minutes, overtime_minutes, updated_at, user_id, work_date) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?) " +
+            "ON CONFLICT DO NOTHING";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public int upsertAll(List<DailyAttendanceSummary> summaries) {
+        if (summaries.isEmpty()) {
+            return 0;
+        }
+        OffsetDateTime now = Instant.now().atOffset(ZoneOffset.UTC);
+
+        List<DailyAttendanceSummary> missing = unapplied(summaries, batch(UPDATE_SQL, summaries, now));
+        if (!missing.isEmpty()) {
+            // 드라이버가 개수를 알려주지 않는 경우(SUCCESS_NO_INFO)도 다시 UPDATE 하여 값이 남도록 함
+            List<DailyAttendanceSummary> conflicted = unapplied(missing, batch(INSERT_SQL, missing, now));
+            if (!conflicted.isEmpty()) {
+                batch(UPDATE_SQL, conflicted, now);
+            }
+        }
+        return summaries.size();
+    }
+
+    private int[] batch(String sql, List<DailyAttendanceSummary> summaries, OffsetDateTime now) {
+        return jdbcTemplate.batchUpdate(sql, summaries, summaries.size(),
+                (PreparedStatement ps, DailyAttendanceSummary summary) -> bind(ps, summary, now))[0];
+    }
+
+    private static List<DailyAttendanceSummary> unapplied(List<DailyAttendanceSummary> summaries, int[] counts) {
+        List<DailyAttendanceSummary> result = new ArrayList<>();
+        for (int i = 0; i < summaries.size(); i++) {
+            if (counts[i] != 1) {
+                result.add(summaries.get(i));
+            }
+        }
+        return result;
+    }
+
+    private static void bind(PreparedStatement ps, DailyAttendanceSummary summary, OffsetDateTime now) throws SQLException {
+        ps.setString(1, summary.getAttendanceStatus() != null ? summary.getAttendanceStatus().name() : null);
+        ps.setString(2, summary.getWorkStatus() != null ? summary.getWorkStatus().name() : null);
+        setInstant(ps, 3, summary.getCheckIn());
+        setInstant(ps, 4, summary.getCheckOut());
+        ps.setLong(5, summary.getWorkMinutes());
+        ps.setLong(6, summary.getLateMinutes());
+        ps.setLong(7, summary.getOvertimeMinutes());
+        ps.setObject(8, now);
+        ps.setLong(9, summary.getUserId());
+        ps.setObject(10, summary.getWorkDate());
+    }
+
+    private static void setInstant(PreparedStatement ps, int index, Instant instant) throws SQLException {
+        if (instant != null) {
+            ps.setObject(index, instant.atOffset(ZoneOffset.UTC));
+        } else {
+            ps.setNull(index, Types.TIMESTAMP_WITH_TIMEZONE);
+        }
+    }
+}
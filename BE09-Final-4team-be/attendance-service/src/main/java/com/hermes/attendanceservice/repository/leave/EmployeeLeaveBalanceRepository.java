@@ -3,10 +3,12 @@ package com.hermes.attendanceservice.repository.leave;
 import com.hermes.attendanceservice.entity.leave.EmployeeLeaveBalance;
 import com.hermes.attendanceservice.entity.leave.LeaveType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.Instant;
 import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
@@ -39,6 +41,36 @@ public interface EmployeeLeaveBalanceRepository extends JpaRepository<EmployeeLe
     @Query("SELECT COALESCE(SUM(elb.remainingDays), 0) FROM EmployeeLeaveBalance elb WHERE elb.employeeId = :employeeId")
     Integer calculateTotalRemainingDaysByEmployeeId(@Param("employeeId") Long employeeId);
     
+    /**
+     * 연차 차감 (원자적 조건부 UPDATE)
+     * 잔여 연차가 충분한 경우에만 차감하며, 갱신된 행 수를 반환한다. (0이면 잔여 부족 또는 잔액 없음)
+     */
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("UPDATE EmployeeLeaveBalance elb " +
+           "SET elb.remainingDays = elb.remainingDays - :days, " +
+           "    elb.usedLeaveDays = elb.usedLeaveDays + :days, " +
+           "    elb.updatedAt = :now " +
+           "WHERE elb.employeeId = :employeeId AND elb.leaveType = :leaveType AND elb.remainingDays >= :days")
+    int decrementRemainingDays(@Param("employeeId") Long employeeId,
+                               @Param("leaveType") LeaveType leaveType,
+                               @Param("days") Integer days,
+                               @Param("now") Instant now);
+    
+    /**
+     * 연차 복구 (원자적 조건부 UPDATE)
+     * 사용한 연차가 복구 일수 이상인 경우에만 복구하며, 갱신된 행 수를 반환한다.
+     */
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("UPDATE EmployeeLeaveBalance elb " +
+           "SET elb.remainingDays = elb.remainingDays + :days, " +
+           "    elb.usedLeaveDays = elb.usedLeaveDays - :days, " +
+           "    elb.updatedAt = :now " +
+           "WHERE elb.employeeId = :employeeId AND elb.leaveType = :leaveType AND elb.usedLeaveDays >= :days")
+    int incrementRemainingDays(@Param("employeeId") Long employeeId,
+                               @Param("leaveType") LeaveType leaveType,
+                               @Param("days") Integer days,
+                               @Param("now") Instant now);
+    
 
     
     /**
@@ -0,0 +1,29 @@
+package com.hermes.attendanceservice.repository.leave;
+
+import com.hermes.attendanceservice.entity.leave.LeaveBalanceLedger;
+import com.hermes.attendanceservice.entity.leave.LeaveBalanceMovementType;
+import com.hermes.attendanceservice.entity.leave.LeaveType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface LeaveBalanceLedgerRepository extends JpaRepository<LeaveBalanceLedger, Long> {
+
+    /**
+     * 직원의 연차 변동 이력 조회 (최신순)
+     */
+    List<LeaveBalanceLedger> findByEmployeeIdOrderByCreatedAtDesc(Long employeeId);
+
+    /**
+     * 직원/연차 타입/변동 종류별 누적 일수 (잔액 대사용)
+     */
+    @Query("SELECT COALESCE(SUM(l.days), 0) FROM LeaveBalanceLedger l " +
+           "WHERE l.employeeId = :employeeId AND l.leaveType = :leaveType AND l.movementType = :movementType")
+    Integer sumDays(@Param("employeeId") Long employeeId,
+                    @Param("leaveType") LeaveType leaveType,
+                    @Param("movementType") LeaveBalanceMovementType movementType);
+}
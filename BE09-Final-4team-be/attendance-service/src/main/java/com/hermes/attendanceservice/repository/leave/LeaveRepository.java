@@ -16,4 +16,8 @@ public interface LeaveRepository extends JpaRepository<LeaveRequest, Long> {
     List<LeaveRequest> findByStatusAndDateRange(@Param("status") LeaveRequest.RequestStatus status, 
                                                @Param("startDate") LocalDate startDate, 
                                                @Param("endDate") LocalDate endDate);
+
+    @Query("SELECT COUNT(l) FROM LeaveRequest l WHERE l.status = :status AND l.startDate <= :date AND l.endDate >= :date")
+    long countByStatusCoveringDate(@Param("status") LeaveRequest.RequestStatus status,
+                                   @Param("date") LocalDate date);
 } 
\ No newline at end of file
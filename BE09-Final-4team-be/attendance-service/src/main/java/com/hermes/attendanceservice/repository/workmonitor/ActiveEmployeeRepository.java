@@ -0,0 +1,16 @@
+package com.hermes.attendanceservice.repository.workmonitor;
+
+import com.hermes.attendanceservice.entity.workmonitor.ActiveEmployee;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface ActiveEmployeeRepository extends JpaRepository<ActiveEmployee, Long>, ActiveEmployeeRepositoryCustom {
+
+    // 재동기화 비교용 현재 복제본 ID 목록 (엔티티 로딩 없이 한 번에 조회)
+    @Query("SELECT e.userId FROM ActiveEmployee e")
+    List<Long> findAllUserIds();
+}
@@ -0,0 +1,13 @@
+package com.hermes.attendanceservice.repository.workmonitor;
+
+import java.util.Collection;
+
+public interface ActiveEmployeeRepositoryCustom {
+
+    /**
+     * 사용자 ID 일괄 추가 (JDBC 배치, 이미 있는 ID는 건너뜀)
+     * 수동 할당 ID 엔티티의 saveAll은 행마다 merge SELECT가 발생하므로 재동기화에서는 이 메서드를 사용한다.
+     * @return 요청한 ID 수
+     */
+    int insertAll(Collection<Long> userIds);
+}
@@ -0,0 +1,39 @@
+package com.hermes.attendanceservice.repository.workmonitor;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.PreparedStatement;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 재직 인원 복제본 일괄 추가
+ * 재동기화와 사용자 이벤트가 같은 ID를 동시에 넣어도 ON CONFLICT DO NOTHING으로 유니크 위반 없이 수렴한다.
+ */
+@RequiredArgsConstructor
+public class ActiveEmployeeRepositoryImpl implements ActiveEmployeeRepositoryCustom {
+
+    private static final String INSERT_SQL = "INSERT INTO active_employee (user_id, synced_at) VALUES (?, ?) " +
+            "ON CONFLICT DO NOTHING";
+    private static final int BATCH_SIZE = 1000;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public int insertAll(Collection<Long> userIds) {
+        if (userIds.isEmpty()) {
+            return 0;
+        }
+        OffsetDateTime now = Instant.now().atOffset(ZoneOffset.UTC);
+        jdbcTemplate.batchUpdate(INSERT_SQL, List.copyOf(userIds), BATCH_SIZE,
+                (PreparedStatement ps, Long userId) -> {
+                    ps.setLong(1, userId);
+                    ps.setObject(2, now);
+                });
+        return userIds.size();
+    }
+}
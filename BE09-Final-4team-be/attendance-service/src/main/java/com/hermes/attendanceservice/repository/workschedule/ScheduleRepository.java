@@ -10,6 +10,7 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -79,10 +80,21 @@ public interface ScheduleRepository extends JpaRepository<Schedule, Long> {
     // 특정 날짜의 사용자 근무 스케줄 조회
     @Query("SELECT s FROM Schedule s WHERE s.userId = :userId AND s.scheduleType = :scheduleType " +
            "AND s.status = 'ACTIVE' AND s.startDate <= :date AND s.endDate >= :date " +
-           "ORDER BY s.startTime ASC")
+           "ORDER BY s.startTime ASC, s.id ASC")
     List<Schedule> findByUserIdAndDateAndScheduleType(
             @Param("userId") Long userId, 
             @Param("date") LocalDate date, 
             @Param("scheduleType") ScheduleType scheduleType
     );
-} 
\ No newline at end of file
+
+    // 여러 사용자의 기간 내 근무 스케줄 일괄 조회 (요약 재구축용)
+    @Query("SELECT s FROM Schedule s WHERE s.userId IN :userIds AND s.scheduleType = :scheduleType " +
+           "AND s.status = 'ACTIVE' AND s.startDate <= :endDate AND s.endDate >= :startDate " +
+           "ORDER BY s.userId ASC, s.startTime ASC, s.id ASC")
+    List<Schedule> findByUserIdInAndDateRangeAndScheduleType(
+            @Param("userIds") Collection<Long> userIds,
+            @Param("startDate") LocalDate startDate,
+            @Param("endDate") LocalDate endDate,
+            @Param("scheduleType") ScheduleType scheduleType
+    );
+}
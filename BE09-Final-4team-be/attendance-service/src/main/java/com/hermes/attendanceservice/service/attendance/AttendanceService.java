@@ -1,12 +1,15 @@
 package com.hermes.attendanceservice.service.attendance;
 
 import com.hermes.attendanceservice.dto.attendance.AttendanceResponse;
+import com.hermes.attendanceservice.dto.attendance.MonthlyWorkSummary;
 import com.hermes.attendanceservice.dto.attendance.WeeklyWorkSummary;
 import com.hermes.attendanceservice.entity.attendance.AttendanceStatus;
 import com.hermes.attendanceservice.entity.attendance.WorkStatus;
 
 import java.time.LocalDate;
 import java.time.Instant;
+import java.time.YearMonth;
+import java.util.List;
 import java.util.Map;
 
 public interface AttendanceService {
@@ -36,6 +39,18 @@ public interface AttendanceService {
 
     /** 특정 주 (weekStart가 요일로 입력; 요일이 아니어도 자동 보정) */
     WeeklyWorkSummary getWeekSummary(Long userId, LocalDate weekStartSunday);
+
+    /** 여러 사용자의 특정 주 근무 요약 (팀 대시보드용, 단일 쿼리) */
+    Map<Long, WeeklyWorkSummary> getWeekSummaries(List<Long> userIds, LocalDate weekStartSunday);
+
+    /** 특정 월 근무 요약 */
+    MonthlyWorkSummary getMonthSummary(Long userId, YearMonth month);
+
+    /** 여러 사용자의 특정 월 근무 요약 (팀 대시보드용, 단일 쿼리) */
+    Map<Long, MonthlyWorkSummary> getMonthSummaries(List<Long> userIds, YearMonth month);
+    
+    /** 일자별 근태 요약 재구축 (backfill) */
+    int rebuildDailySummaries(LocalDate start, LocalDate end);
     
     /** 출근 가능 시간 조회 */
     Map<String, Object> getCheckInAvailableTime(Long userId);
@@ -3,8 +3,10 @@ package com.hermes.attendanceservice.service.attendance;
 import com.hermes.attendanceservice.dto.attendance.AttendanceResponse;
 import com.hermes.attendanceservice.dto.attendance.WeeklyWorkSummary;
 import com.hermes.attendanceservice.dto.attendance.DailyWorkSummary;
+import com.hermes.attendanceservice.dto.attendance.MonthlyWorkSummary;
 import com.hermes.attendanceservice.entity.attendance.Attendance;
 import com.hermes.attendanceservice.entity.attendance.AttendanceStatus;
+import com.hermes.attendanceservice.entity.attendance.DailyAttendanceSummary;
 import com.hermes.attendanceservice.entity.attendance.WorkStatus;
 import com.hermes.attendanceservice.repository.attendance.AttendanceRepository;
 import com.hermes.attendanceservice.service.workschedule.WorkScheduleService;
@@ -19,9 +21,10 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.time.*;
 import java.time.format.DateTimeFormatter;
-import java.time.temporal.ChronoUnit;
 import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
 import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
@@ -41,6 +44,7 @@ public class AttendanceServiceImpl implements AttendanceService {
     private final AttendanceRepository attendanceRepository;
     private final WorkScheduleService workScheduleService;
     private final WorkMonitorService workMonitorService;
+    private final DailyAttendanceSummaryService dailyAttendanceSummaryService;
 
     @Override
     public AttendanceResponse checkIn(Long userId, Instant checkInTime) {
@@ -85,7 +89,9 @@ public class AttendanceServiceImpl implements AttendanceService {
         }
 
         a.setAutoRecorded(false);
-        AttendanceResponse response = toResponse(attendanceRepository.save(a));
+        Attendance saved = attendanceRepository.save(a);
+        dailyAttendanceSummaryService.refresh(saved, workTime);
+        AttendanceResponse response = toResponse(saved);
         workMonitorService.refreshTodayWorkMonitor();
         return response;
     }
@@ -113,7 +119,9 @@ public class AttendanceServiceImpl implements AttendanceService {
             a.setWorkStatus(WorkStatus.EARLY_LEAVE);
         }
 
-        AttendanceResponse response = toResponse(attendanceRepository.save(a));
+        Attendance saved = attendanceRepository.save(a);
+        dailyAttendanceSummaryService.refresh(saved, workTime);
+        AttendanceResponse response = toResponse(saved);
         workMonitorService.refreshTodayWorkMonitor();
         return response;
     }
@@ -140,7 +148,9 @@ public class AttendanceServiceImpl implements AttendanceService {
         if (checkOutTime != null) a.setCheckOut(checkOutTime);
         a.setAutoRecorded(autoRecorded);
 
-        AttendanceResponse response = toResponse(attendanceRepository.save(a));
+        Attendance saved = attendanceRepository.save(a);
+        dailyAttendanceSummaryService.refresh(saved);
+        AttendanceResponse response = toResponse(saved);
         workMonitorService.refreshTodayWorkMonitor();
         return response;
     }
@@ -167,7 +177,9 @@ public class AttendanceServiceImpl implements AttendanceService {
         if (checkOutTime != null) a.setCheckOut(checkOutTime);
         a.setAutoRecorded(autoRecorded);
 
-        AttendanceResponse response = toResponse(attendanceRepository.save(a));
+        Attendance saved = attendanceRepository.save(a);
+        dailyAttendanceSummaryService.refresh(saved);
+        AttendanceResponse response = toResponse(saved);
         workMonitorService.refreshTodayWorkMonitor();
         return response;
     }
@@ -183,78 +195,78 @@ public class AttendanceServiceImpl implements AttendanceService {
     @Override
     @Transactional(readOnly = true)
     public WeeklyWorkSummary getWeekSummary(Long userId, LocalDate weekStartSunday) {
+        return getWeekSummaries(List.of(userId), weekStartSunday).get(userId);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Map<Long, WeeklyWorkSummary> getWeekSummaries(List<Long> userIds, LocalDate weekStartSunday) {
         // 입력값이 요일이 아니어도 자동 보정
         LocalDate weekStart = weekStartSunday.with(TemporalAdjusters.previousOrSame(SUNDAY));
         LocalDate weekEnd   = weekStart.with(TemporalAdjusters.nextOrSame(SATURDAY));
 
-        List<Attendance> records = attendanceRepository.findAllByUserIdAndDateBetween(userId, weekStart, weekEnd);
-
-        Map<LocalDate, Long> daily = new LinkedHashMap<>();
-        for (int i = 0; i < 7; i++) daily.put(weekStart.plusDays(i), 0L);
-
-        long totalMinutes = 0L;
-        double regularWorkHours = 0.0;
-        double lateWorkHours = 0.0;
-        double overtimeHours = 0.0;
-        double vacationHours = 0.0;
-
-        for (Attendance a : records) {
-            if (a.getCheckIn() == null || a.getCheckOut() == null) continue;
-
-            final long minutes = ChronoUnit.MINUTES.between(a.getCheckIn(), a.getCheckOut());
-            final long validMinutes = minutes < 0 ? 0 : minutes;
+        Map<Long, List<DailyAttendanceSummary>> rowsByUser = loadDailySummaries(userIds, weekStart, weekEnd);
+
+        Map<Long, WeeklyWorkSummary> result = new LinkedHashMap<>();
+        for (Long userId : userIds) {
+            PeriodTotals totals = summarize(rowsByUser.getOrDefault(userId, List.of()), weekStart, weekEnd);
+
+            // 초과근무 계산 (주 40시간 기준)
+            double overtimeHours = Math.max(0, totals.totalWorkHours() - 40.0);
+
+            result.put(userId, WeeklyWorkSummary.builder()
+                    .userId(userId)
+                    .weekStart(weekStart)
+                    .weekEnd(weekEnd)
+                    .totalWorkMinutes(totals.totalMinutes())
+                    .totalWorkHours(totals.totalWorkHours())
+                    .workDays(totals.workDays())
+                    .regularWorkHours(totals.regularWorkHours())
+                    .lateWorkHours(totals.lateWorkHours())
+                    .overtimeHours(overtimeHours)
+                    .vacationHours(totals.vacationHours())
+                    .dailySummaries(totals.dailySummaries())
+                    .build());
+        }
+        return result;
+    }
 
-            daily.computeIfPresent(a.getDate(), (d, m) -> m + validMinutes);
-            totalMinutes += validMinutes;
+    @Override
+    @Transactional(readOnly = true)
+    public MonthlyWorkSummary getMonthSummary(Long userId, YearMonth month) {
+        return getMonthSummaries(List.of(userId), month).get(userId);
+    }
 
-            // 상태별 시간 계산
-            double hours = validMinutes / 60.0;
-            
-            // 출근 상태에 따른 분류
-            switch (a.getAttendanceStatus()) {
-                case REGULAR:
-                    regularWorkHours += hours;
-                    break;
-                case LATE:
-                    lateWorkHours += hours;
-                    break;
-                default:
-                    // 기타 출근 상태는 regularWorkHours에 포함
-                    regularWorkHours += hours;
-                    break;
-            }
-            
-            // 근무 상태에 따른 추가 분류
-            switch (a.getWorkStatus()) {
-                case VACATION:
-                    vacationHours += hours;
-                    break;
-                case SICK_LEAVE:
-                    vacationHours += hours; // 병가도 휴가 시간으로 계산
-                    break;
-                default:
-                    // 기타 근무 상태는 별도 계산하지 않음
-                    break;
-            }
+    @Override
+    @Transactional(readOnly = true)
+    public Map<Long, MonthlyWorkSummary> getMonthSummaries(List<Long> userIds, YearMonth month) {
+        LocalDate monthStart = month.atDay(1);
+        LocalDate monthEnd = month.atEndOfMonth();
+
+        Map<Long, List<DailyAttendanceSummary>> rowsByUser = loadDailySummaries(userIds, monthStart, monthEnd);
+
+        Map<Long, MonthlyWorkSummary> result = new LinkedHashMap<>();
+        for (Long userId : userIds) {
+            PeriodTotals totals = summarize(rowsByUser.getOrDefault(userId, List.of()), monthStart, monthEnd);
+            result.put(userId, MonthlyWorkSummary.builder()
+                    .userId(userId)
+                    .monthStart(monthStart)
+                    .monthEnd(monthEnd)
+                    .totalWorkMinutes(totals.totalMinutes())
+                    .totalWorkHours(totals.totalWorkHours())
+                    .workDays(totals.workDays())
+                    .regularWorkHours(totals.regularWorkHours())
+                    .lateWorkHours(totals.lateWorkHours())
+                    .vacationHours(totals.vacationHours())
+                    .dailySummaries(totals.dailySummaries())
+                    .build());
         }
+        return result;
+    }
 
-        // 초과근무 계산 (주 40시간 기준)
-        double totalWorkHours = totalMinutes / 60.0;
-        overtimeHours = Math.max(0, totalWorkHours - 40.0);
-
-        return WeeklyWorkSummary.builder()
-                .userId(userId)
-                .weekStart(weekStart)
-                .weekEnd(weekEnd)
-                .totalWorkMinutes(totalMinutes)
-                .totalWorkHours(totalWorkHours)
-                .workDays((int) records.stream().filter(a -> a.getCheckIn() != null).count())
-                .regularWorkHours(regularWorkHours)
-                .lateWorkHours(lateWorkHours)
-                .overtimeHours(overtimeHours)
-                .vacationHours(vacationHours)
-                .dailySummaries(createDailySummaries(records, daily))
-                .build();
+    @Override
+    public int rebuildDailySummaries(LocalDate start, LocalDate end) {
+        return dailyAttendanceSummaryService.rebuild(start, end);
     }
 
     @Override
@@ -290,39 +302,84 @@ public class AttendanceServiceImpl implements AttendanceService {
                 .build();
     }
 
-    private List<DailyWorkSummary> createDailySummaries(List<Attendance> records, Map<LocalDate, Long> daily) {
+    /**
+     * 기간 내 사용자별 일자 요약을 요약 테이블에서 한 번의 쿼리로 조회
+     */
+    private Map<Long, List<DailyAttendanceSummary>> loadDailySummaries(List<Long> userIds, LocalDate start, LocalDate end) {
+        return dailyAttendanceSummaryService.findSummaries(new LinkedHashSet<>(userIds), start, end).stream()
+                .collect(Collectors.groupingBy(DailyAttendanceSummary::getUserId, LinkedHashMap::new, Collectors.toList()));
+    }
+
+    /**
+     * 일자 요약 목록을 기간 합계 및 일별 요약으로 변환 (단일 패스)
+     */
+    private PeriodTotals summarize(List<DailyAttendanceSummary> rows, LocalDate start, LocalDate end) {
         DateTimeFormatter timeFmt = DateTimeFormatter.ofPattern("HH:mm:ss");
-        return daily.entrySet().stream()
-                .map(entry -> {
-                    LocalDate date = entry.getKey();
-                    final Long minutes = entry.getValue();
-                    
-                    Attendance record = records.stream()
-                            .filter(r -> r.getDate().equals(date))
-                            .findFirst()
-                            .orElse(null);
-                    
-                    String checkInStr = null;
-                    String checkOutStr = null;
-                    if (record != null && record.getCheckIn() != null) {
-                        checkInStr = record.getCheckIn().atZone(ZONE_SEOUL).toLocalTime().format(timeFmt);
-                    }
-                    if (record != null && record.getCheckOut() != null) {
-                        checkOutStr = record.getCheckOut().atZone(ZONE_SEOUL).toLocalTime().format(timeFmt);
-                    }
-                    
-                    return DailyWorkSummary.builder()
-                            .date(date)
-                            .attendanceStatus(record != null ? record.getAttendanceStatus().name() : "NO_RECORD")
-                            .workStatus(record != null ? record.getWorkStatus().name() : "NO_RECORD")
-                            .workMinutes(minutes.doubleValue())
-                            .workHours(minutes / 60.0)
-                            .checkInTime(checkInStr)
-                            .checkOutTime(checkOutStr)
-                            .workDuration(human(minutes))
-                            .build();
-                })
-                .collect(Collectors.toList());
+        Map<LocalDate, DailyAttendanceSummary> byDate = new LinkedHashMap<>();
+        Map<LocalDate, Long> daily = new LinkedHashMap<>();
+        for (LocalDate d = start; !d.isAfter(end); d = d.plusDays(1)) daily.put(d, 0L);
+
+        long totalMinutes = 0L;
+        int workDays = 0;
+        double regularWorkHours = 0.0;
+        double lateWorkHours = 0.0;
+        double vacationHours = 0.0;
+
+        for (DailyAttendanceSummary row : rows) {
+            byDate.putIfAbsent(row.getWorkDate(), row);
+            if (row.getCheckIn() != null) workDays++;
+
+            final long minutes = row.getWorkMinutes() != null ? row.getWorkMinutes() : 0L;
+            if (minutes == 0L) continue;
+
+            daily.computeIfPresent(row.getWorkDate(), (d, m) -> m + minutes);
+            totalMinutes += minutes;
+
+            double hours = minutes / 60.0;
+
+            // 출근 상태에 따른 분류 (기타 출근 상태는 regularWorkHours에 포함)
+            if (row.getAttendanceStatus() == AttendanceStatus.LATE) {
+                lateWorkHours += hours;
+            } else {
+                regularWorkHours += hours;
+            }
+
+            // 근무 상태에 따른 추가 분류 (병가도 휴가 시간으로 계산)
+            if (row.getWorkStatus() == WorkStatus.VACATION || row.getWorkStatus() == WorkStatus.SICK_LEAVE) {
+                vacationHours += hours;
+            }
+        }
+
+        List<DailyWorkSummary> dailySummaries = new ArrayList<>(daily.size());
+        for (Map.Entry<LocalDate, Long> entry : daily.entrySet()) {
+            DailyAttendanceSummary record = byDate.get(entry.getKey());
+            long minutes = entry.getValue();
+            dailySummaries.add(DailyWorkSummary.builder()
+                    .date(entry.getKey())
+                    .attendanceStatus(record != null && record.getAttendanceStatus() != null ? record.getAttendanceStatus().name() : "NO_RECORD")
+                    .workStatus(record != null && record.getWorkStatus() != null ? record.getWorkStatus().name() : "NO_RECORD")
+                    .workMinutes((double) minutes)
+                    .workHours(minutes / 60.0)
+                    .checkInTime(record != null && record.getCheckIn() != null ? record.getCheckIn().atZone(ZONE_SEOUL).toLocalTime().format(timeFmt) : null)
+                    .checkOutTime(record != null && record.getCheckOut() != null ? record.getCheckOut().atZone(ZONE_SEOUL).toLocalTime().format(timeFmt) : null)
+                    .workDuration(human(minutes))
+                    .lateMinutes(record != null ? record.getLateMinutes() : 0L)
+                    .overtimeMinutes(record != null ? record.getOvertimeMinutes() : 0L)
+                    .build());
+        }
+
+        return new PeriodTotals(totalMinutes, workDays, regularWorkHours, lateWorkHours, vacationHours, dailySummaries);
+    }
+
+    private record PeriodTotals(long totalMinutes,
+                                int workDays,
+                                double regularWorkHours,
+                                double lateWorkHours,
+                                double vacationHours,
+                                List<DailyWorkSummary> dailySummaries) {
+        double totalWorkHours() {
+            return totalMinutes / 60.0;
+        }
     }
 
     private String human(long minutes) {
@@ -384,6 +441,7 @@ public class AttendanceServiceImpl implements AttendanceService {
                     // (조퇴 상태는 실제 퇴근 버튼을 누른 경우에만 적용)
                 
                 attendanceRepository.save(attendance);
+                dailyAttendanceSummaryService.refresh(attendance, workTime);
                 
                     log.info("자동 퇴근 처리 완료: 사용자 {}, 날짜: {}, 퇴근시간: {}", 
                         attendance.getUserId(), targetDate, autoZdt.format(DateTimeFormatter.ofPattern("HH:mm")));
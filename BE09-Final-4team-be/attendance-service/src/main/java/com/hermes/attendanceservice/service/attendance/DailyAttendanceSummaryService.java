@@ -0,0 +1,220 @@
+package com.hermes.attendanceservice.service.attendance;
+
+import com.hermes.attendanceservice.dto.workschedule.WorkTimeInfoDto;
+import com.hermes.attendanceservice.entity.attendance.Attendance;
+import com.hermes.attendanceservice.entity.attendance.DailyAttendanceSummary;
+import com.hermes.attendanceservice.entity.workschedule.Schedule;
+import com.hermes.attendanceservice.repository.attendance.AttendanceRepository;
+import com.hermes.attendanceservice.repository.attendance.DailyAttendanceSummaryRepository;
+import com.hermes.attendanceservice.service.workschedule.WorkScheduleService;
+import com.hermes.auth.jwt.ServiceTokenProvider;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * 일자별 근태 요약(daily_attendance_summary) 유지 관리
+ * - 출근/퇴근/상태 변경 시 해당 사용자/일자 행만 (user_id, work_date) 기준 upsert
+ * - 기간 재구축(backfill)은 원본 Attendance를 페이지 단위로 읽어 다시 계산하며, 페이지마다 별도 트랜잭션으로 처리
+ * - 기동 시 요약이 비어 있고 출퇴근 기록이 있으면 전체 기간을 별도 스레드에서 재구축 (최초 배포 대응, 기동/readiness 지연 없음)
+ *   운영 중 특정 기간 재구축은 POST /api/attendance/summaries/rebuild 사용
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class DailyAttendanceSummaryService {
+
+    private static final int REBUILD_PAGE_SIZE = 500;
+
+    private final DailyAttendanceSummaryRepository dailyAttendanceSummaryRepository;
+    private final AttendanceRepository attendanceRepository;
+    private final WorkScheduleService workScheduleService;
+    private final ServiceTokenProvider serviceTokenProvider;
+    private final PlatformTransactionManager transactionManager;
+    private final ExecutorService backfillExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "daily-summary-backfill");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /**
+     * 출퇴근 기록 변경 후 요약 갱신 (예정 근무 시간을 이미 조회한 경우)
+     */
+    public void refresh(Attendance attendance, WorkTimeInfoDto workTime) {
+        dailyAttendanceSummaryRepository.upsertAll(List.of(summarize(attendance, workTime)));
+    }
+
+    /**
+     * 출퇴근 기록 변경 후 요약 갱신 (예정 근무 시간을 조회하여 계산)
+     */
+    public void refresh(Attendance attendance) {
+        refresh(attendance, findWorkTime(attendance));
+    }
+
+    /**
+     * 기간 내 요약 조회 (주간/월간/팀 조회용)
+     */
+    @Transactional(readOnly = true)
+    public List<DailyAttendanceSummary> findSummaries(Collection<Long> userIds, LocalDate start, LocalDate end) {
+        if (userIds == null || userIds.isEmpty()) {
+            return List.of();
+        }
+        return dailyAttendanceSummaryRepository
+                .findByUserIdInAndWorkDateBetweenOrderByUserIdAscWorkDateAsc(userIds, start, end);
+    }
+
+    /**
+     * 기동 완료 시 초기 재구축을 백그라운드로 시작 (전체 기간 재구축이 기동 스레드를 막지 않도록)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        backfillExecutor.execute(() -> {
+            try {
+                initializeIfEmpty();
+            } catch (Exception e) {
+                log.error("일자별 근태 요약 초기 재구축 실패 (POST /api/attendance/summaries/rebuild 로 재시도)", e);
+            }
+        });
+    }
+
+    /**
+     * 요약이 비어 있으면 출퇴근 기록 전체 기간으로 재구축
+     * 요청 컨텍스트가 없으므로 근무 정책 조회는 서비스 토큰으로 수행한다.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void initializeIfEmpty() {
+        if (dailyAttendanceSummaryRepository.count() > 0) {
+            return;
+        }
+        Optional<Attendance> first = attendanceRepository.findFirstByOrderByDateAsc();
+        Optional<Attendance> last = attendanceRepository.findFirstByOrderByDateDesc();
+        if (first.isPresent() && last.isPresent()) {
+            serviceTokenProvider.runAsService(null, () -> rebuild(first.get().getDate(), last.get().getDate()));
+        }
+    }
+
+    /**
+     * 기간 내 요약을 원본 Attendance로부터 재구축 (backfill/대사용)
+     * 페이지마다 사용자들의 근무 스케줄을 한 번에 읽고, 스케줄이 없는 날의 근무 정책은 사용자당 한 번만
+     * 트랜잭션 밖에서 조회한 뒤 upsert 한다. 원본이 사라진 요약은 마지막에 삭제한다.
+     * @return 재구축된 요약 행 수
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public int rebuild(LocalDate start, LocalDate end) {
+        log.info("일자별 근태 요약 재구축 시작: {} ~ {}", start, end);
+
+        TransactionTemplate readTransaction = new TransactionTemplate(transactionManager);
+        readTransaction.setReadOnly(true);
+        TransactionTemplate writeTransaction = new TransactionTemplate(transactionManager);
+
+        Map<Long, WorkTimeInfoDto> policyWorkTimes = new HashMap<>();
+        int rebuilt = 0;
+        PageRequest pageRequest = PageRequest.of(0, REBUILD_PAGE_SIZE, Sort.by("id"));
+        boolean hasNext;
+        do {
+            PageRequest currentPage = pageRequest;
+            RebuildPage page = readTransaction.execute(status -> readPage(start, end, currentPage));
+
+            // 스케줄이 없는 날이 있는 사용자의 근무 정책 (원격 조회, 트랜잭션 밖)
+            for (Attendance attendance : page.attendances()) {
+                Long userId = attendance.getUserId();
+                if (WorkScheduleService.findWorkTime(page.schedules().get(userId), attendance.getDate()) == null
+                        && !policyWorkTimes.containsKey(userId)) {
+                    policyWorkTimes.put(userId, findPolicyWorkTime(userId));
+                }
+            }
+
+            List<DailyAttendanceSummary> summaries = new ArrayList<>(page.attendances().size());
+            for (Attendance attendance : page.attendances()) {
+                WorkTimeInfoDto workTime = WorkScheduleService.findWorkTime(
+                        page.schedules().get(attendance.getUserId()), attendance.getDate());
+                summaries.add(summarize(attendance, workTime != null ? workTime : policyWorkTimes.get(attendance.getUserId())));
+            }
+            writeTransaction.executeWithoutResult(status -> dailyAttendanceSummaryRepository.upsertAll(summaries));
+            rebuilt += summaries.size();
+
+            hasNext = page.hasNext();
+            pageRequest = pageRequest.next();
+        } while (hasNext);
+
+        Integer deleted = writeTransaction.execute(status ->
+                dailyAttendanceSummaryRepository.deleteOrphansByWorkDateBetween(start, end));
+        log.info("일자별 근태 요약 재구축 완료: {} ~ {}, {} 건 (원본 없는 요약 {} 건 삭제)", start, end, rebuilt, deleted);
+        return rebuilt;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        backfillExecutor.shutdownNow();
+    }
+
+    private RebuildPage readPage(LocalDate start, LocalDate end, PageRequest pageRequest) {
+        Slice<Attendance> slice = attendanceRepository.findAllByDateBetween(start, end, pageRequest);
+        List<Attendance> attendances = slice.getContent();
+        if (attendances.isEmpty()) {
+            return new RebuildPage(attendances, Map.of(), false);
+        }
+
+        Set<Long> userIds = new LinkedHashSet<>();
+        LocalDate pageStart = attendances.get(0).getDate();
+        LocalDate pageEnd = pageStart;
+        for (Attendance attendance : attendances) {
+            userIds.add(attendance.getUserId());
+            pageStart = attendance.getDate().isBefore(pageStart) ? attendance.getDate() : pageStart;
+            pageEnd = attendance.getDate().isAfter(pageEnd) ? attendance.getDate() : pageEnd;
+        }
+        return new RebuildPage(attendances, workScheduleService.getWorkSchedules(userIds, pageStart, pageEnd), slice.hasNext());
+    }
+
+    private static DailyAttendanceSummary summarize(Attendance attendance, WorkTimeInfoDto workTime) {
+        DailyAttendanceSummary summary = DailyAttendanceSummary.of(attendance.getUserId(), attendance.getDate());
+        summary.apply(attendance,
+                workTime != null ? workTime.getStartTime() : null,
+                workTime != null ? workTime.getEndTime() : null);
+        return summary;
+    }
+
+    private WorkTimeInfoDto findWorkTime(Attendance attendance) {
+        try {
+            return workScheduleService.getUserWorkTime(attendance.getUserId(), attendance.getDate());
+        } catch (Exception e) {
+            log.warn("예정 근무 시간 조회 실패: userId={}, date={}", attendance.getUserId(), attendance.getDate(), e);
+            return null;
+        }
+    }
+
+    private WorkTimeInfoDto findPolicyWorkTime(Long userId) {
+        try {
+            return workScheduleService.getPolicyWorkTime(userId);
+        } catch (Exception e) {
+            log.warn("근무 정책 근무 시간 조회 실패: userId={}", userId, e);
+            return null;
+        }
+    }
+
+    private record RebuildPage(List<Attendance> attendances, Map<Long, List<Schedule>> schedules, boolean hasNext) {
+    }
+}
@@ -3,9 +3,12 @@ package com.hermes.attendanceservice.service.leave;
 import com.hermes.attendanceservice.dto.leave.EmployeeLeaveBalanceResponseDto;
 import com.hermes.attendanceservice.dto.leave.EmployeeLeaveBalanceSummaryDto;
 import com.hermes.attendanceservice.entity.leave.EmployeeLeaveBalance;
+import com.hermes.attendanceservice.entity.leave.LeaveBalanceLedger;
+import com.hermes.attendanceservice.entity.leave.LeaveBalanceMovementType;
 import com.hermes.attendanceservice.entity.leave.LeaveType;
 import com.hermes.attendanceservice.entity.workpolicy.AnnualLeave;
 import com.hermes.attendanceservice.repository.leave.EmployeeLeaveBalanceRepository;
+import com.hermes.attendanceservice.repository.leave.LeaveBalanceLedgerRepository;
 import com.hermes.attendanceservice.repository.workpolicy.AnnualLeaveRepository;
 import com.hermes.attendanceservice.client.UserServiceClient;
 import lombok.RequiredArgsConstructor;
@@ -14,11 +17,11 @@ import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Instant;
 import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
-import java.util.Optional;
 import java.util.stream.Collectors;
 
 @Service
@@ -28,6 +31,7 @@ import java.util.stream.Collectors;
 public class EmployeeLeaveBalanceServiceImpl implements EmployeeLeaveBalanceService {
     
     private final EmployeeLeaveBalanceRepository employeeLeaveBalanceRepository;
+    private final LeaveBalanceLedgerRepository leaveBalanceLedgerRepository;
     private final AnnualLeaveRepository annualLeaveRepository;
     private final UserServiceClient userServiceClient;
     
@@ -134,36 +138,41 @@ public class EmployeeLeaveBalanceServiceImpl implements EmployeeLeaveBalanceServ
     public void useLeave(Long employeeId, LeaveType leaveType, Integer days) {
         log.info("연차 사용 시작: employeeId={}, leaveType={}, days={}", employeeId, leaveType, days);
         
-        Optional<EmployeeLeaveBalance> balanceOpt = employeeLeaveBalanceRepository
-                .findByEmployeeIdAndLeaveType(employeeId, leaveType);
-        
-        if (balanceOpt.isEmpty()) {
-            throw new IllegalArgumentException("사용 가능한 연차가 없습니다: employeeId=" + employeeId + ", leaveType=" + leaveType);
+        if (days == null || days <= 0) {
+            throw new IllegalArgumentException("사용할 연차 일수는 0보다 커야 합니다.");
         }
         
-        EmployeeLeaveBalance balance = balanceOpt.get();
-        balance.useLeave(days);
+        // 읽기-수정-쓰기 대신 조건부 UPDATE로 차감하여 동시 승인 시 갱신 유실 방지
+        int updated = employeeLeaveBalanceRepository.decrementRemainingDays(employeeId, leaveType, days, Instant.now());
+        if (updated == 0) {
+            Integer remaining = employeeLeaveBalanceRepository.findByEmployeeIdAndLeaveType(employeeId, leaveType)
+                    .map(EmployeeLeaveBalance::getRemainingDays)
+                    .orElseThrow(() -> new IllegalArgumentException("사용 가능한 연차가 없습니다: employeeId=" + employeeId + ", leaveType=" + leaveType));
+            throw new IllegalArgumentException("잔여 연차가 부족합니다. 잔여: " + remaining + "일, 요청: " + days + "일");
+        }
         
-        employeeLeaveBalanceRepository.save(balance);
-        log.info("연차 사용 완료: 잔여 연차={}", balance.getRemainingDays());
+        leaveBalanceLedgerRepository.save(LeaveBalanceLedger.of(employeeId, leaveType, LeaveBalanceMovementType.USE, days));
+        log.info("연차 사용 완료: employeeId={}, leaveType={}, days={}", employeeId, leaveType, days);
     }
     
     @Override
     public void restoreLeave(Long employeeId, LeaveType leaveType, Integer days) {
         log.info("연차 복구 시작: employeeId={}, leaveType={}, days={}", employeeId, leaveType, days);
         
-        Optional<EmployeeLeaveBalance> balanceOpt = employeeLeaveBalanceRepository
-                .findByEmployeeIdAndLeaveType(employeeId, leaveType);
-        
-        if (balanceOpt.isEmpty()) {
-            throw new IllegalArgumentException("연차 잔액이 없습니다: employeeId=" + employeeId + ", leaveType=" + leaveType);
+        if (days == null || days <= 0) {
+            throw new IllegalArgumentException("복구할 연차 일수는 0보다 커야 합니다.");
         }
         
-        EmployeeLeaveBalance balance = balanceOpt.get();
-        balance.restoreLeave(days);
+        int updated = employeeLeaveBalanceRepository.incrementRemainingDays(employeeId, leaveType, days, Instant.now());
+        if (updated == 0) {
+            Integer used = employeeLeaveBalanceRepository.findByEmployeeIdAndLeaveType(employeeId, leaveType)
+                    .map(EmployeeLeaveBalance::getUsedLeaveDays)
+                    .orElseThrow(() -> new IllegalArgumentException("연차 잔액이 없습니다: employeeId=" + employeeId + ", leaveType=" + leaveType));
+            throw new IllegalArgumentException("복구할 수 없습니다. 사용한 연차: " + used + "일, 복구 요청: " + days + "일");
+        }
         
-        employeeLeaveBalanceRepository.save(balance);
-        log.info("연차 복구 완료: 잔여 연차={}", balance.getRemainingDays());
+        leaveBalanceLedgerRepository.save(LeaveBalanceLedger.of(employeeId, leaveType, LeaveBalanceMovementType.RESTORE, days));
+        log.info("연차 복구 완료: employeeId={}, leaveType={}, days={}", employeeId, leaveType, days);
     }
     
     @Override
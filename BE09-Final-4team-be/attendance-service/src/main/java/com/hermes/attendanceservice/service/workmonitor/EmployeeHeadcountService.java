@@ -0,0 +1,133 @@
+package com.hermes.attendanceservice.service.workmonitor;
+
+import com.hermes.attendanceservice.client.UserServiceClient;
+import com.hermes.attendanceservice.entity.workmonitor.ActiveEmployee;
+import com.hermes.attendanceservice.repository.workmonitor.ActiveEmployeeRepository;
+import com.hermes.auth.jwt.ServiceTokenProvider;
+import com.hermes.events.user.UserEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 전체 직원 수 조회 (로컬 복제본 기반)
+ * 스케줄러처럼 서블릿 요청이 없는 경로에서도 정확한 인원을 반환한다.
+ * 복제본은 기동 시와 매일 새벽 서비스 토큰으로 user-service와 재동기화하고, 그 사이에는 사용자 이벤트로 갱신한다.
+ * 재동기화는 원격 조회를 트랜잭션 밖에서 마친 뒤, 현재 ID와의 차이만 짧은 트랜잭션 하나로 반영한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class EmployeeHeadcountService {
+
+    private static final int DELETE_CHUNK_SIZE = 1000;
+
+    private final ActiveEmployeeRepository activeEmployeeRepository;
+    private final UserServiceClient userServiceClient;
+    private final ServiceTokenProvider serviceTokenProvider;
+    private final PlatformTransactionManager transactionManager;
+
+    /**
+     * 전체 직원 수 (원격 호출 없이 복제본만 사용)
+     */
+    @Transactional(readOnly = true)
+    public int getTotalEmployees() {
+        return (int) activeEmployeeRepository.count();
+    }
+
+    /**
+     * 기동 시 복제본 재동기화 (최초 배포 및 중단 중 누락된 이벤트 보정)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void initialize() {
+        reconcile();
+    }
+
+    /**
+     * 매일 새벽 복제본 재동기화 (유실된 이벤트 보정)
+     */
+    @Scheduled(cron = "${hermes.attendance.headcount.reconcile-cron:0 30 3 * * *}", zone = "Asia/Seoul")
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void scheduledReconcile() {
+        reconcile();
+    }
+
+    /**
+     * 사용자 생명주기 이벤트 반영 (중복 수신되어도 결과가 같도록 멱등 처리)
+     */
+    public void apply(UserEvent event) {
+        if (event == null || event.getUserId() == null || event.getEventType() == null) {
+            log.warn("Ignoring malformed user event: {}", event);
+            return;
+        }
+        switch (event.getEventType()) {
+            case USER_CREATED:
+            case USER_UPDATED:
+                activeEmployeeRepository.save(ActiveEmployee.of(event.getUserId()));
+                break;
+            case USER_DELETED:
+                if (activeEmployeeRepository.existsById(event.getUserId())) {
+                    activeEmployeeRepository.deleteById(event.getUserId());
+                }
+                break;
+            default:
+                log.warn("Unhandled user event type: {}", event.getEventType());
+        }
+    }
+
+    /**
+     * user-service 전체 사용자 ID로 복제본 재동기화 (요청 컨텍스트와 무관하게 서비스 토큰으로 조회)
+     * 조회에 실패하거나 빈 목록이 오면 기존 복제본을 유지한다.
+     * @return 동기화 후 직원 수
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public long reconcile() {
+        List<Long> userIds;
+        try {
+            userIds = serviceTokenProvider.callAsService(null, userServiceClient::getAllUserIds);
+        } catch (Exception e) {
+            log.error("Failed to fetch user IDs from UserService for active employee reconcile", e);
+            return activeEmployeeRepository.count();
+        }
+        if (userIds == null || userIds.isEmpty()) {
+            return activeEmployeeRepository.count();
+        }
+
+        Set<Long> target = new LinkedHashSet<>(userIds);
+        try {
+            new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+                Set<Long> current = new HashSet<>(activeEmployeeRepository.findAllUserIds());
+                List<Long> removed = current.stream().filter(userId -> !target.contains(userId)).toList();
+                List<Long> added = new ArrayList<>(target);
+                added.removeAll(current);
+
+                for (int from = 0; from < removed.size(); from += DELETE_CHUNK_SIZE) {
+                    activeEmployeeRepository.deleteAllByIdInBatch(
+                            removed.subList(from, Math.min(from + DELETE_CHUNK_SIZE, removed.size())));
+                }
+                activeEmployeeRepository.insertAll(added);
+                log.info("Active employee replica reconciled: {} users ({} added, {} removed)",
+                        target.size(), added.size(), removed.size());
+            });
+            return target.size();
+        } catch (Exception e) {
+            log.error("Failed to reconcile active employee replica", e);
+            return activeEmployeeRepository.count();
+        }
+    }
+}
@@ -1,6 +1,5 @@
 package com.hermes.attendanceservice.service.workmonitor;
 
-import com.hermes.attendanceservice.client.UserServiceClient;
 import com.hermes.attendanceservice.dto.workmonitor.WorkMonitorDto;
 import com.hermes.attendanceservice.entity.attendance.Attendance;
 import com.hermes.attendanceservice.entity.attendance.WorkStatus;
@@ -13,15 +12,11 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.web.context.request.RequestContextHolder;
-import org.springframework.web.context.request.ServletRequestAttributes;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.scheduling.annotation.EnableScheduling;
 
-import jakarta.servlet.http.HttpServletRequest;
 import java.time.LocalDate;
 import java.util.List;
-import java.util.Map;
 import java.util.Optional;
 
 @Service
@@ -34,7 +29,7 @@ public class WorkMonitorService {
     private final WorkMonitorRepository workMonitorRepository;
     private final AttendanceRepository attendanceRepository;
     private final LeaveRepository leaveRepository;
-    private final UserServiceClient userServiceClient;
+    private final EmployeeHeadcountService employeeHeadcountService;
     
     /**
      * 특정 날짜의 근무 모니터링 데이터 조회
@@ -140,46 +135,19 @@ public class WorkMonitorService {
     }
     
     /**
-     * UserService에서 전체 직원 수 조회
+     * 전체 직원 수 조회 (로컬 복제본 COUNT, 스케줄러에서도 동작)
      */
     private int getTotalEmployees() {
-        try {
-            // 현재 요청의 Authorization 헤더를 가져옴
-            ServletRequestAttributes attributes = (ServletRequestAttributes) RequestContextHolder.getRequestAttributes();
-            if (attributes != null) {
-                HttpServletRequest request = attributes.getRequest();
-                String authorization = request.getHeader("Authorization");
-                
-                if (authorization == null || authorization.trim().isEmpty()) {
-                    log.warn("Authorization header is missing or empty");
-                    return 0;
-                }
-                
-                // UserService에서 전체 직원 수를 조회하는 API 호출
-                Map<String, Object> response = userServiceClient.getTotalEmployees();
-                return (Integer) response.get("totalUsers");
-            } else {
-                log.warn("Request context not available");
-                return 0;
-            }
-        } catch (Exception e) {
-            log.error("Failed to get total employees from UserService", e);
-            return 0;
-        }
+        return employeeHeadcountService.getTotalEmployees();
     }
     
     /**
-     * 특정 날짜의 휴가 신청 수 조회
+     * 특정 날짜의 휴가 인원 수 조회 (승인된 휴가 중 해당 날짜를 포함하는 건수)
      */
     private int getVacationCount(LocalDate date) {
-        // 승인된 휴가 신청 중 해당 날짜에 포함되는 것들의 수를 조회
-        List<LeaveRequest> approvedLeaves = leaveRepository.findByStatusAndDateRange(
-            LeaveRequest.RequestStatus.APPROVED, date, date);
-        return approvedLeaves.size();
+        return (int) leaveRepository.countByStatusCoveringDate(LeaveRequest.RequestStatus.APPROVED, date);
     }
     
-
-    
     /**
      * Entity를 DTO로 변환
      */
@@ -3,6 +3,9 @@ package com.hermes.attendanceservice.service.workpolicy;
 import com.hermes.attendanceservice.dto.workpolicy.*;
 import org.springframework.data.domain.Page;
 
+import java.util.Collection;
+import java.util.List;
+
 public interface WorkPolicyService {
     
     /**
@@ -15,6 +18,11 @@ public interface WorkPolicyService {
      */
     WorkPolicyResponseDto getWorkPolicyById(Long id);
     
+    /**
+     * 근무 정책 일괄 조회 (ID 목록으로, 존재하지 않는 ID는 제외)
+     */
+    List<WorkPolicyResponseDto> getWorkPoliciesByIds(Collection<Long> ids);
+    
     /**
      * 근무 정책 조회 (이름으로)
      */
@@ -16,6 +16,7 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalTime;
 import java.time.Duration;
+import java.util.Collection;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -86,6 +87,19 @@ public class WorkPolicyServiceImpl implements WorkPolicyService {
         return convertToResponseDto(workPolicy);
     }
     
+    @Override
+    @Transactional(readOnly = true)
+    public List<WorkPolicyResponseDto> getWorkPoliciesByIds(Collection<Long> ids) {
+        if (ids == null || ids.isEmpty()) {
+            return List.of();
+        }
+        log.info("근무 정책 일괄 조회 시작: {}건", ids.size());
+        
+        return workPolicyRepository.findAllById(ids.stream().distinct().toList()).stream()
+                .map(this::convertToResponseDto)
+                .collect(Collectors.toList());
+    }
+    
     @Override
     @Transactional(readOnly = true)
     public WorkPolicyResponseDto getWorkPolicyByName(String name) {
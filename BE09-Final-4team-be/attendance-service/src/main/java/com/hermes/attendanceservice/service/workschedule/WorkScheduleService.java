@@ -25,6 +25,7 @@ import java.time.LocalTime;
 import java.time.DayOfWeek;
 import java.time.Duration;
 import java.time.format.TextStyle;
+import java.util.Collection;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
@@ -60,13 +61,45 @@ public class WorkScheduleService {
         Schedule schedule = getUserWorkSchedule(userId, date);
         
         if (schedule != null) {
-            return WorkTimeInfoDto.builder()
-                .startTime(schedule.getStartTime())
-                .endTime(schedule.getEndTime())
-                .build();
+            return toWorkTime(schedule);
         }
         
-        // 스케줄이 없으면 근무 정책 사용 (하드코딩 제거: endTime 우선, 기본값 미사용)
+        // 스케줄이 없으면 근무 정책 사용
+        return getPolicyWorkTime(userId);
+    }
+
+    /**
+     * 여러 사용자의 기간 내 근무 스케줄 일괄 조회 (요약 재구축용, 사용자별 시작 시간 오름차순)
+     */
+    public Map<Long, List<Schedule>> getWorkSchedules(Collection<Long> userIds, LocalDate startDate, LocalDate endDate) {
+        if (userIds == null || userIds.isEmpty()) {
+            return Map.of();
+        }
+        return scheduleRepository.findByUserIdInAndDateRangeAndScheduleType(userIds, startDate, endDate, ScheduleType.WORK)
+                .stream()
+                .collect(Collectors.groupingBy(Schedule::getUserId));
+    }
+
+    /**
+     * 일괄 조회한 스케줄 중 해당 날짜의 근무 시간 (getUserWorkSchedule과 같은 규칙: 시작 시간이 가장 이른 스케줄)
+     * @return 해당 날짜 스케줄이 없으면 null
+     */
+    public static WorkTimeInfoDto findWorkTime(List<Schedule> userSchedules, LocalDate date) {
+        if (userSchedules == null) {
+            return null;
+        }
+        return userSchedules.stream()
+                .filter(schedule -> !schedule.getStartDate().isAfter(date) && !schedule.getEndDate().isBefore(date))
+                .findFirst()
+                .map(WorkScheduleService::toWorkTime)
+                .orElse(null);
+    }
+
+    /**
+     * 근무 정책 기준 근무 시작/종료 시간 (스케줄이 없는 날에 사용, user-service 조회 포함)
+     */
+    public WorkTimeInfoDto getPolicyWorkTime(Long userId) {
+        // 하드코딩 제거: endTime 우선, 기본값 미사용
         try {
             UserWorkPolicyDto userPolicy = getUserWorkPolicy(userId);
             if (userPolicy != null && userPolicy.getWorkPolicy() != null) {
@@ -85,7 +118,7 @@ public class WorkScheduleService {
                     .build();
             }
         } catch (Exception e) {
-            log.warn("Failed to get user work policy for userId: {}, date: {}", userId, date, e);
+            log.warn("Failed to get user work policy for userId: {}", userId, e);
         }
         
         // 정책/스케줄에서 결정 불가 시 null 반환 (기본 하드코딩 제거)
@@ -95,6 +128,13 @@ public class WorkScheduleService {
             .build();
     }
     
+    private static WorkTimeInfoDto toWorkTime(Schedule schedule) {
+        return WorkTimeInfoDto.builder()
+            .startTime(schedule.getStartTime())
+            .endTime(schedule.getEndTime())
+            .build();
+    }
+
     /**
      * 사용자 ID를 통해 해당 사용자의 근무 정책 정보를 조회
      */
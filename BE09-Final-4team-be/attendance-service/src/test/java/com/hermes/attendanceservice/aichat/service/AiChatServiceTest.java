@@ -0,0 +1,216 @@
+package com.hermes.attendanceservice.aichat.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hermes.attendanceservice.aichat.config.AiChatProperties;
+import com.hermes.attendanceservice.aichat.controller.AiChatController;
+import com.hermes.attendanceservice.aichat.dto.ChatMessage;
+import com.hermes.attendanceservice.aichat.dto.ChatRequest;
+import com.hermes.attendanceservice.aichat.dto.ChatResponse;
+import com.hermes.auth.enums.Role;
+import com.hermes.auth.principal.UserPrincipal;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestReporter;
+import org.springframework.http.MediaType;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.http.HttpClient;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+
+/**
+ * OpenAI 호환 스텁 서버로 AI 채팅의 응답 캐시 범위와 스트리밍 첫 토큰 전달 검증
+ */
+class AiChatServiceTest {
+
+    private static final String REPLY = "{\"type\":\"reply\",\"reply\":\"남은 연차는 3일이에요.\"}";
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final AtomicInteger hits = new AtomicInteger();
+    // 스트리밍 응답의 첫 조각 이후 나머지를 보내기 전까지 대기
+    private final CountDownLatch release = new CountDownLatch(1);
+    private ExecutorService executor;
+    private HttpServer server;
+    private AiChatService service;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        executor = Executors.newCachedThreadPool();
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/chat/completions", this::handle);
+        server.setExecutor(executor);
+        server.start();
+
+        AiChatProperties props = new AiChatProperties();
+        props.setBaseUrl("http://127.0.0.1:" + server.getAddress().getPort());
+        props.setApiKey("test-key");
+        props.setRequestTimeoutSeconds(10);
+        service = new AiChatService(props, HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build());
+        service.initCache();
+    }
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        SecurityContextHolder.clearContext();
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    @Test
+    void testResponseCacheIsScopedToTenantAndUser() {
+        ChatRequest req = request("연차 며칠 남았어?");
+
+        authenticate("tenant-a", 1L);
+        assertEquals("남은 연차는 3일이에요.", service.chat(req).getReply());
+        service.chat(req);
+        assertEquals(1, hits.get());
+
+        // 같은 질문이라도 다른 사용자, 다른 테넌트의 응답은 공유하지 않는다
+        authenticate("tenant-a", 2L);
+        service.chat(req);
+        assertEquals(2, hits.get());
+        authenticate("tenant-b", 1L);
+        service.chat(req);
+        assertEquals(3, hits.get());
+
+        authenticate("tenant-a", 1L);
+        service.chat(req);
+        assertEquals(3, hits.get());
+    }
+
+    @Test
+    void testUnauthenticatedRequestsAreNotCached() {
+        ChatRequest req = request("연차 며칠 남았어?");
+        service.chat(req);
+        service.chat(req);
+        assertEquals(2, hits.get());
+    }
+
+    @Test
+    void testStreamIsServedFromCacheAfterChat() throws Exception {
+        authenticate("tenant-a", 1L);
+        ChatRequest req = request("연차 며칠 남았어?");
+        service.chat(req);
+
+        MockMvc mockMvc = MockMvcBuilders.standaloneSetup(new AiChatController(service)).build();
+        MvcResult result = mockMvc.perform(post("/api/aichat/chat/stream")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(req)))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        String body = awaitContent(result, "event:done");
+        assertTrue(body.contains("data:남은 연차는 3일이에요."));
+        assertEquals(1, hits.get());
+    }
+
+    @Test
+    void testFirstTokenArrivesBeforeUpstreamCompletes(TestReporter reporter) throws Exception {
+        authenticate("tenant-a", 1L);
+        MockMvc mockMvc = MockMvcBuilders.standaloneSetup(new AiChatController(service)).build();
+
+        long startedAt = System.nanoTime();
+        MvcResult result = mockMvc.perform(post("/api/aichat/chat/stream")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request("연차 며칠 남았어?"))))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // 스텁은 아직 나머지 조각을 보내지 않았으므로 지금 보이는 토큰은 첫 조각에서 나온 것이다
+        String partial = awaitContent(result, "event:token");
+        long firstTokenMillis = Duration.ofNanos(System.nanoTime() - startedAt).toMillis();
+        assertTrue(partial.contains("data:남은 연차는"));
+        assertFalse(partial.contains("event:done"));
+        reporter.publishEntry("firstTokenMillis", String.valueOf(firstTokenMillis));
+
+        release.countDown();
+        String body = awaitContent(result, "event:done");
+        assertTrue(body.contains("3일이에요."));
+        assertEquals(1, hits.get());
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        hits.incrementAndGet();
+        String requestBody = new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8);
+        if (!requestBody.contains("\"stream\":true")) {
+            byte[] body = objectMapper.writeValueAsBytes(Map.of("choices",
+                    List.of(Map.of("message", Map.of("role", "assistant", "content", REPLY)))));
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+            return;
+        }
+
+        exchange.getResponseHeaders().add("Content-Type", "text/event-stream");
+        exchange.sendResponseHeaders(200, 0);
+        try (OutputStream out = exchange.getResponseBody()) {
+            writeDelta(out, "{\"type\":\"reply\",\"reply\":\"남은 연차는");
+            try {
+                release.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            writeDelta(out, " 3일이에요.\"}");
+            out.write("data: [DONE]\n\n".getBytes(StandardCharsets.UTF_8));
+        }
+    }
+
+    private void writeDelta(OutputStream out, String content) throws IOException {
+        String chunk = objectMapper.writeValueAsString(Map.of("choices", List.of(Map.of("delta", Map.of("content", content)))));
+        out.write(("data: " + chunk + "\n\n").getBytes(StandardCharsets.UTF_8));
+        out.flush();
+    }
+
+    private static String awaitContent(MvcResult result, String marker) throws Exception {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (System.nanoTime() < deadline) {
+            String content = result.getResponse().getContentAsString(StandardCharsets.UTF_8);
+            if (content.contains(marker)) {
+                return content;
+            }
+            Thread.sleep(10);
+        }
+        fail("SSE 응답에 " + marker + " 가 도착하지 않음: " + result.getResponse().getContentAsString(StandardCharsets.UTF_8));
+        return null;
+    }
+
+    private static ChatRequest request(String question) {
+        ChatRequest req = new ChatRequest();
+        req.setMessages(List.of(ChatMessage.builder().role("user").content(question).build()));
+        return req;
+    }
+
+    private static void authenticate(String tenantId, Long userId) {
+        UserPrincipal principal = new UserPrincipal(userId, Role.USER, tenantId);
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities()));
+    }
+}
@@ -0,0 +1,66 @@
+package com.hermes.attendanceservice.aichat.service;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 스트리밍 reply 추출 검증: 조각이 어디서 끊겨 도착해도 최상위 reply 값만 그대로 흘려보내야 한다.
+ */
+class StreamingReplyExtractorTest {
+
+    @Test
+    void testReplyIsSameForEverySplitPosition() {
+        String content = "{\"type\":\"reply\",\"reply\":\"안녕하세요, \\\"연차\\\"는\\n3일 남았어요 \\u263A\"}";
+        String expected = "안녕하세요, \"연차\"는\n3일 남았어요 \u263A";
+
+        assertEquals(expected, new StreamingReplyExtractor().feed(content));
+        for (int i = 1; i < content.length(); i++) {
+            StreamingReplyExtractor extractor = new StreamingReplyExtractor();
+            String out = extractor.feed(content.substring(0, i)) + extractor.feed(content.substring(i));
+            assertEquals(expected, out, "split at " + i);
+        }
+    }
+
+    @Test
+    void testCharByCharFeed() {
+        String content = "{\"reply\":\"a\\u00e9b\\\\c\"}";
+        StreamingReplyExtractor extractor = new StreamingReplyExtractor();
+        StringBuilder out = new StringBuilder();
+        for (char c : content.toCharArray()) {
+            out.append(extractor.feed(String.valueOf(c)));
+        }
+        assertEquals("a\u00e9b\\c", out.toString());
+    }
+
+    @Test
+    void testReplyTextInsideOtherStringIsIgnored() {
+        String content = "{\"note\":\"\\\"reply\\\":\\\"가짜\\\"\",\"reply\":\"진짜\"}";
+        assertEquals("진짜", new StreamingReplyExtractor().feed(content));
+    }
+
+    @Test
+    void testNestedReplyKeyIsIgnored() {
+        String content = "{\"type\":\"command\",\"command\":{\"type\":\"NAVIGATE\",\"params\":{\"reply\":\"내부\",\"path\":\"/a\"}}}";
+        assertEquals("", new StreamingReplyExtractor().feed(content));
+
+        String later = "{\"meta\":{\"reply\":\"내부\"},\"items\":[\"reply\",{\"reply\":\"x\"}],\"reply\":\"바깥\"}";
+        assertEquals("바깥", new StreamingReplyExtractor().feed(later));
+    }
+
+    @Test
+    void testUnquotedKeysAndSingleQuotes() {
+        assertEquals("it's ok", new StreamingReplyExtractor().feed("{type:'reply', reply:'it\\'s ok'}"));
+        assertEquals("", new StreamingReplyExtractor().feed("{replyText:'아님', type:'reply'}"));
+    }
+
+    @Test
+    void testTextBeforeObjectAndAfterReplyIsIgnored() {
+        StreamingReplyExtractor extractor = new StreamingReplyExtractor();
+        String out = extractor.feed("```json\n{\"reply\":\"")
+                + extractor.feed("확인했어요")
+                + extractor.feed("\",\"extra\":\"무시\"}\n```");
+        assertEquals("확인했어요", out);
+        assertEquals("", extractor.feed("{\"reply\":\"다음\"}"));
+    }
+}
@@ -0,0 +1,410 @@
+package com.hermes.attendanceservice.service.attendance;
+
+import com.hermes.attendanceservice.client.UserServiceClient;
+import com.hermes.attendanceservice.dto.attendance.DailyWorkSummary;
+import com.hermes.attendanceservice.dto.attendance.MonthlyWorkSummary;
+import com.hermes.attendanceservice.dto.attendance.WeeklyWorkSummary;
+import com.hermes.attendanceservice.dto.workpolicy.WorkPolicyResponseDto;
+import com.hermes.attendanceservice.entity.attendance.Attendance;
+import com.hermes.attendanceservice.entity.attendance.AttendanceStatus;
+import com.hermes.attendanceservice.entity.attendance.DailyAttendanceSummary;
+import com.hermes.attendanceservice.entity.attendance.WorkStatus;
+import com.hermes.attendanceservice.repository.attendance.AttendanceRepository;
+import com.hermes.attendanceservice.repository.attendance.DailyAttendanceSummaryRepository;
+import com.hermes.attendanceservice.service.workmonitor.WorkMonitorService;
+import com.hermes.attendanceservice.service.workpolicy.WorkPolicyService;
+import com.hermes.attendanceservice.service.workschedule.WorkScheduleService;
+import com.hermes.attendanceservice.support.JpaTestConfiguration;
+import com.hermes.auth.jwt.ServiceTokenProvider;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestReporter;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.DayOfWeek;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.YearMonth;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+
+/**
+ * 주간/월간/팀 근무 요약 검증: 요약 테이블 기반 결과가 변경 전 출퇴근 기록 행 단위 계산과 같고,
+ * 팀 조회 문장 수는 사용자 수와 무관하게 한 번이다.
+ * 짝수 사용자는 09:00~18:00 근무 정책, 홀수 사용자는 정책 없음 (지각/초과 근무 0)
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ContextConfiguration(classes = {JpaTestConfiguration.class, AttendanceServiceImpl.class,
+        DailyAttendanceSummaryService.class, WorkScheduleService.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class AttendanceServiceImplTest {
+
+    private static final ZoneId ZONE_SEOUL = ZoneId.of("Asia/Seoul");
+    private static final YearMonth MONTH = YearMonth.of(2025, 3);
+    // 3월 첫 주/마지막 주가 걸치는 2월 말 ~ 4월 초까지 기록
+    private static final LocalDate START = LocalDate.of(2025, 2, 23);
+    private static final LocalDate END = LocalDate.of(2025, 4, 5);
+    private static final long USERS = 12;
+    private static final long POLICY_ID = 10L;
+    private static final LocalTime POLICY_START = LocalTime.of(9, 0);
+    private static final LocalTime POLICY_END = LocalTime.of(18, 0);
+    private static final DateTimeFormatter TIME_FORMAT = DateTimeFormatter.ofPattern("HH:mm:ss");
+    private static final int BENCHMARK_USERS = 500;
+    private static final long MONTH_READ_BUDGET_MILLIS = 500;
+
+    @Autowired
+    private AttendanceService attendanceService;
+
+    @Autowired
+    private DailyAttendanceSummaryService dailyAttendanceSummaryService;
+
+    @Autowired
+    private DailyAttendanceSummaryRepository dailyAttendanceSummaryRepository;
+
+    @Autowired
+    private AttendanceRepository attendanceRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @MockitoBean
+    private UserServiceClient userServiceClient;
+
+    @MockitoBean
+    private WorkPolicyService workPolicyService;
+
+    @MockitoBean
+    private WorkMonitorService workMonitorService;
+
+    @MockitoBean
+    private ServiceTokenProvider serviceTokenProvider;
+
+    private final List<Long> userIds = LongStream.rangeClosed(1, USERS).boxed().toList();
+
+    @BeforeEach
+    void setUp() {
+        when(userServiceClient.getUserWorkPolicy(anyLong())).thenAnswer(invocation -> {
+            Long userId = invocation.getArgument(0);
+            return userId % 2 == 0 ? Map.of("workPolicyId", POLICY_ID) : Map.of();
+        });
+        when(userServiceClient.getUserById(anyLong())).thenReturn(Map.of());
+        when(workPolicyService.getWorkPolicyById(eq(POLICY_ID))).thenReturn(WorkPolicyResponseDto.builder()
+                .id(POLICY_ID)
+                .name("기본 근무")
+                .startTime(POLICY_START)
+                .endTime(POLICY_END)
+                .build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        dailyAttendanceSummaryRepository.deleteAll();
+        attendanceRepository.deleteAll();
+    }
+
+    @Test
+    void testWeekAndMonthSummariesMatchPerRowComputation() {
+        for (long seed : new long[] {7L, 42L, 2025L}) {
+            saveAttendances(new Random(seed)).forEach(dailyAttendanceSummaryService::refresh);
+
+            for (LocalDate weekStart = START; weekStart.isBefore(END); weekStart = weekStart.plusWeeks(1)) {
+                Map<Long, WeeklyWorkSummary> weeks = attendanceService.getWeekSummaries(userIds, weekStart);
+                for (Long userId : userIds) {
+                    WeeklyWorkSummary expected = perRowWeekSummary(userId, weekStart);
+                    String message = "seed=" + seed + ", userId=" + userId + ", week=" + weekStart;
+                    assertWeekEquals(expected, weeks.get(userId), message);
+                    assertWeekEquals(expected, attendanceService.getWeekSummary(userId, weekStart), message);
+                }
+            }
+
+            Map<Long, MonthlyWorkSummary> months = attendanceService.getMonthSummaries(userIds, MONTH);
+            for (Long userId : userIds) {
+                MonthlyWorkSummary expected = perRowMonthSummary(userId, MONTH);
+                String message = "seed=" + seed + ", userId=" + userId;
+                assertMonthEquals(expected, months.get(userId), message);
+                assertMonthEquals(expected, attendanceService.getMonthSummary(userId, MONTH), message);
+            }
+
+            tearDown();
+        }
+    }
+
+    @Test
+    void testTeamSummariesUseOneStatementRegardlessOfTeamSize() {
+        saveAttendances(new Random(7L)).forEach(dailyAttendanceSummaryService::refresh);
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        // 기록이 없는 사용자를 포함한 50명 팀
+        List<Long> largeTeam = LongStream.rangeClosed(1, 50).boxed().toList();
+        LocalDate weekStart = MONTH.atDay(2);
+
+        statistics.clear();
+        attendanceService.getWeekSummaries(userIds.subList(0, 3), weekStart);
+        long smallWeek = statistics.getPrepareStatementCount();
+        statistics.clear();
+        Map<Long, WeeklyWorkSummary> weeks = attendanceService.getWeekSummaries(largeTeam, weekStart);
+        long largeWeek = statistics.getPrepareStatementCount();
+
+        statistics.clear();
+        attendanceService.getMonthSummaries(userIds.subList(0, 3), MONTH);
+        long smallMonth = statistics.getPrepareStatementCount();
+        statistics.clear();
+        Map<Long, MonthlyWorkSummary> months = attendanceService.getMonthSummaries(largeTeam, MONTH);
+        long largeMonth = statistics.getPrepareStatementCount();
+
+        assertEquals(1, smallWeek);
+        assertEquals(smallWeek, largeWeek);
+        assertEquals(1, smallMonth);
+        assertEquals(smallMonth, largeMonth);
+        assertEquals(largeTeam, List.copyOf(weeks.keySet()));
+        assertEquals(largeTeam, List.copyOf(months.keySet()));
+        assertEquals(0, weeks.get(50L).getWorkDays());
+        assertEquals(MONTH.lengthOfMonth(), months.get(50L).getDailySummaries().size());
+    }
+
+    @Tag("benchmark")
+    @Test
+    void benchmarkMonthSummariesForFiveHundredUsers(TestReporter reporter) {
+        // 500명 x 3월 평일의 요약 행
+        List<DailyAttendanceSummary> summaries = new ArrayList<>();
+        for (long userId = 1; userId <= BENCHMARK_USERS; userId++) {
+            for (LocalDate date = MONTH.atDay(1); !date.isAfter(MONTH.atEndOfMonth()); date = date.plusDays(1)) {
+                if (date.getDayOfWeek() == DayOfWeek.SATURDAY || date.getDayOfWeek() == DayOfWeek.SUNDAY) {
+                    continue;
+                }
+                DailyAttendanceSummary summary = DailyAttendanceSummary.of(userId, date);
+                summary.apply(Attendance.builder()
+                        .userId(userId)
+                        .date(date)
+                        .checkIn(date.atTime(9, (int) (userId % 30)).atZone(ZONE_SEOUL).toInstant())
+                        .checkOut(date.atTime(18, (int) (userId % 45)).atZone(ZONE_SEOUL).toInstant())
+                        .attendanceStatus(userId % 10 == 0 ? AttendanceStatus.LATE : AttendanceStatus.REGULAR)
+                        .workStatus(WorkStatus.OFFICE)
+                        .build(), POLICY_START, POLICY_END);
+                summaries.add(summary);
+            }
+        }
+        for (int from = 0; from < summaries.size(); from += 1000) {
+            dailyAttendanceSummaryRepository.upsertAll(summaries.subList(from, Math.min(from + 1000, summaries.size())));
+        }
+        List<Long> team = LongStream.rangeClosed(1, BENCHMARK_USERS).boxed().toList();
+
+        for (int i = 0; i < 5; i++) {
+            attendanceService.getMonthSummaries(team, MONTH);
+        }
+        long[] millis = new long[20];
+        for (int i = 0; i < millis.length; i++) {
+            long startedAt = System.nanoTime();
+            Map<Long, MonthlyWorkSummary> months = attendanceService.getMonthSummaries(team, MONTH);
+            millis[i] = (System.nanoTime() - startedAt) / 1_000_000;
+            assertEquals(BENCHMARK_USERS, months.size());
+        }
+        Arrays.sort(millis);
+
+        reporter.publishEntry("users", String.valueOf(BENCHMARK_USERS));
+        reporter.publishEntry("summary rows", String.valueOf(summaries.size()));
+        reporter.publishEntry("month read p50 ms", String.valueOf(millis[millis.length / 2]));
+        reporter.publishEntry("month read max ms", String.valueOf(millis[millis.length - 1]));
+        assertTrue(millis[millis.length - 1] < MONTH_READ_BUDGET_MILLIS,
+                "500명 월간 요약 조회가 " + MONTH_READ_BUDGET_MILLIS + "ms 안에 끝나야 한다: " + millis[millis.length - 1] + "ms");
+    }
+
+    /**
+     * 변경 전 getWeekSummary의 계산: 사용자의 출퇴근 기록을 읽어 행마다 근무 시간을 구해 합산
+     * 지각/초과 근무 시간은 예정 근무 시간(근무 정책)과 출퇴근 시각으로 직접 계산
+     */
+    private WeeklyWorkSummary perRowWeekSummary(Long userId, LocalDate weekStart) {
+        LocalDate weekEnd = weekStart.plusDays(6);
+        PerRowTotals totals = perRowTotals(userId, weekStart, weekEnd);
+        return WeeklyWorkSummary.builder()
+                .userId(userId)
+                .weekStart(weekStart)
+                .weekEnd(weekEnd)
+                .totalWorkMinutes(totals.totalMinutes())
+                .totalWorkHours(totals.totalMinutes() / 60.0)
+                .workDays(totals.workDays())
+                .regularWorkHours(totals.regularWorkHours())
+                .lateWorkHours(totals.lateWorkHours())
+                .overtimeHours(Math.max(0, totals.totalMinutes() / 60.0 - 40.0))
+                .vacationHours(totals.vacationHours())
+                .dailySummaries(totals.dailySummaries())
+                .build();
+    }
+
+    private MonthlyWorkSummary perRowMonthSummary(Long userId, YearMonth month) {
+        PerRowTotals totals = perRowTotals(userId, month.atDay(1), month.atEndOfMonth());
+        return MonthlyWorkSummary.builder()
+                .userId(userId)
+                .monthStart(month.atDay(1))
+                .monthEnd(month.atEndOfMonth())
+                .totalWorkMinutes(totals.totalMinutes())
+                .totalWorkHours(totals.totalMinutes() / 60.0)
+                .workDays(totals.workDays())
+                .regularWorkHours(totals.regularWorkHours())
+                .lateWorkHours(totals.lateWorkHours())
+                .vacationHours(totals.vacationHours())
+                .dailySummaries(totals.dailySummaries())
+                .build();
+    }
+
+    private PerRowTotals perRowTotals(Long userId, LocalDate start, LocalDate end) {
+        List<Attendance> records = attendanceRepository.findAllByUserIdAndDateBetween(userId, start, end).stream()
+                .sorted(Comparator.comparing(Attendance::getDate))
+                .toList();
+
+        Map<LocalDate, Long> daily = new LinkedHashMap<>();
+        for (LocalDate d = start; !d.isAfter(end); d = d.plusDays(1)) daily.put(d, 0L);
+
+        long totalMinutes = 0L;
+        double regularWorkHours = 0.0;
+        double lateWorkHours = 0.0;
+        double vacationHours = 0.0;
+        for (Attendance a : records) {
+            if (a.getCheckIn() == null || a.getCheckOut() == null) continue;
+            long minutes = Math.max(0L, ChronoUnit.MINUTES.between(a.getCheckIn(), a.getCheckOut()));
+            daily.computeIfPresent(a.getDate(), (d, m) -> m + minutes);
+            totalMinutes += minutes;
+
+            double hours = minutes / 60.0;
+            if (a.getAttendanceStatus() == AttendanceStatus.LATE) {
+                lateWorkHours += hours;
+            } else {
+                regularWorkHours += hours;
+            }
+            if (a.getWorkStatus() == WorkStatus.VACATION || a.getWorkStatus() == WorkStatus.SICK_LEAVE) {
+                vacationHours += hours;
+            }
+        }
+
+        List<DailyWorkSummary> dailySummaries = new ArrayList<>();
+        for (Map.Entry<LocalDate, Long> entry : daily.entrySet()) {
+            Attendance record = records.stream()
+                    .filter(r -> r.getDate().equals(entry.getKey()))
+                    .findFirst()
+                    .orElse(null);
+            long minutes = entry.getValue();
+            dailySummaries.add(DailyWorkSummary.builder()
+                    .date(entry.getKey())
+                    .attendanceStatus(record != null ? record.getAttendanceStatus().name() : "NO_RECORD")
+                    .workStatus(record != null ? record.getWorkStatus().name() : "NO_RECORD")
+                    .workMinutes((double) minutes)
+                    .workHours(minutes / 60.0)
+                    .checkInTime(record != null && record.getCheckIn() != null ? localTime(record.getCheckIn()) : null)
+                    .checkOutTime(record != null && record.getCheckOut() != null ? localTime(record.getCheckOut()) : null)
+                    .workDuration(minutes / 60 + "시간 " + minutes % 60 + "분")
+                    .lateMinutes(record != null ? lateMinutes(record) : 0L)
+                    .overtimeMinutes(record != null ? overtimeMinutes(record) : 0L)
+                    .build());
+        }
+
+        int workDays = (int) records.stream().filter(a -> a.getCheckIn() != null).count();
+        return new PerRowTotals(totalMinutes, workDays, regularWorkHours, lateWorkHours, vacationHours, dailySummaries);
+    }
+
+    private static long lateMinutes(Attendance attendance) {
+        if (attendance.getUserId() % 2 != 0 || attendance.getCheckIn() == null) {
+            return 0L;
+        }
+        Instant scheduled = attendance.getDate().atTime(POLICY_START).atZone(ZONE_SEOUL).toInstant();
+        return Math.max(0L, ChronoUnit.MINUTES.between(scheduled, attendance.getCheckIn()));
+    }
+
+    private static long overtimeMinutes(Attendance attendance) {
+        if (attendance.getUserId() % 2 != 0 || attendance.getCheckOut() == null) {
+            return 0L;
+        }
+        Instant scheduled = attendance.getDate().atTime(POLICY_END).atZone(ZONE_SEOUL).toInstant();
+        return Math.max(0L, ChronoUnit.MINUTES.between(scheduled, attendance.getCheckOut()));
+    }
+
+    private static String localTime(Instant instant) {
+        return instant.atZone(ZONE_SEOUL).toLocalTime().format(TIME_FORMAT);
+    }
+
+    private static void assertWeekEquals(WeeklyWorkSummary expected, WeeklyWorkSummary actual, String message) {
+        assertEquals(expected.getWeekStart(), actual.getWeekStart(), message);
+        assertEquals(expected.getWeekEnd(), actual.getWeekEnd(), message);
+        assertEquals(expected.getTotalWorkMinutes(), actual.getTotalWorkMinutes(), 1e-9, message);
+        assertEquals(expected.getTotalWorkHours(), actual.getTotalWorkHours(), 1e-9, message);
+        assertEquals(expected.getWorkDays(), actual.getWorkDays(), message);
+        assertEquals(expected.getRegularWorkHours(), actual.getRegularWorkHours(), 1e-9, message);
+        assertEquals(expected.getLateWorkHours(), actual.getLateWorkHours(), 1e-9, message);
+        assertEquals(expected.getOvertimeHours(), actual.getOvertimeHours(), 1e-9, message);
+        assertEquals(expected.getVacationHours(), actual.getVacationHours(), 1e-9, message);
+        assertEquals(expected.getDailySummaries(), actual.getDailySummaries(), message);
+    }
+
+    private static void assertMonthEquals(MonthlyWorkSummary expected, MonthlyWorkSummary actual, String message) {
+        assertEquals(expected.getMonthStart(), actual.getMonthStart(), message);
+        assertEquals(expected.getMonthEnd(), actual.getMonthEnd(), message);
+        assertEquals(expected.getTotalWorkMinutes(), actual.getTotalWorkMinutes(), 1e-9, message);
+        assertEquals(expected.getTotalWorkHours(), actual.getTotalWorkHours(), 1e-9, message);
+        assertEquals(expected.getWorkDays(), actual.getWorkDays(), message);
+        assertEquals(expected.getRegularWorkHours(), actual.getRegularWorkHours(), 1e-9, message);
+        assertEquals(expected.getLateWorkHours(), actual.getLateWorkHours(), 1e-9, message);
+        assertEquals(expected.getVacationHours(), actual.getVacationHours(), 1e-9, message);
+        assertEquals(expected.getDailySummaries(), actual.getDailySummaries(), message);
+    }
+
+    /**
+     * 사용자별 하루 한 건, 30%는 기록 없음, 일부는 퇴근 누락 또는 출근 없이 상태만 기록
+     */
+    private List<Attendance> saveAttendances(Random random) {
+        List<Attendance> attendances = new ArrayList<>();
+        for (long userId = 1; userId <= USERS; userId++) {
+            for (LocalDate date = START; !date.isAfter(END); date = date.plusDays(1)) {
+                if (random.nextInt(10) < 3) {
+                    continue;
+                }
+                boolean checkedIn = random.nextInt(10) != 0;
+                Integer outHour = !checkedIn || random.nextInt(4) == 0 ? null : 16 + random.nextInt(5);
+                Attendance attendance = Attendance.builder()
+                        .userId(userId)
+                        .date(date)
+                        .checkIn(checkedIn ? date.atTime(8 + random.nextInt(3), random.nextInt(60)).atZone(ZONE_SEOUL).toInstant() : null)
+                        .checkOut(outHour != null ? date.atTime(outHour, random.nextInt(60)).atZone(ZONE_SEOUL).toInstant() : null)
+                        .attendanceStatus(AttendanceStatus.values()[random.nextInt(AttendanceStatus.values().length)])
+                        .workStatus(WorkStatus.values()[random.nextInt(WorkStatus.values().length)])
+                        .build();
+                attendances.add(attendanceRepository.save(attendance));
+            }
+        }
+        return attendances;
+    }
+
+    private record PerRowTotals(long totalMinutes,
+                                int workDays,
+                                double regularWorkHours,
+                                double lateWorkHours,
+                                double vacationHours,
+                                List<DailyWorkSummary> dailySummaries) {
+    }
+}
@@ -0,0 +1,318 @@
+package com.hermes.attendanceservice.service.attendance;
+
+import com.hermes.attendanceservice.client.UserServiceClient;
+import com.hermes.attendanceservice.dto.workpolicy.WorkPolicyResponseDto;
+import com.hermes.attendanceservice.entity.attendance.Attendance;
+import com.hermes.attendanceservice.entity.attendance.AttendanceStatus;
+import com.hermes.attendanceservice.entity.attendance.DailyAttendanceSummary;
+import com.hermes.attendanceservice.entity.attendance.WorkStatus;
+import com.hermes.attendanceservice.entity.workschedule.Schedule;
+import com.hermes.attendanceservice.entity.workschedule.ScheduleType;
+import com.hermes.attendanceservice.repository.attendance.AttendanceRepository;
+import com.hermes.attendanceservice.repository.attendance.DailyAttendanceSummaryRepository;
+import com.hermes.attendanceservice.repository.workschedule.ScheduleRepository;
+import com.hermes.attendanceservice.service.workpolicy.WorkPolicyService;
+import com.hermes.attendanceservice.service.workschedule.WorkScheduleService;
+import com.hermes.attendanceservice.support.JpaTestConfiguration;
+import com.hermes.auth.jwt.ServiceTokenProvider;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.atMost;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 일자별 근태 요약의 재구축 결과가 출퇴근 시점의 증분 갱신 결과와 같은지 검증
+ * 재구축은 페이지마다 별도 트랜잭션으로 커밋하므로 테스트 트랜잭션은 사용하지 않는다.
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ContextConfiguration(classes = {JpaTestConfiguration.class, DailyAttendanceSummaryService.class, WorkScheduleService.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class DailyAttendanceSummaryServiceTest {
+
+    private static final ZoneId ZONE_SEOUL = ZoneId.of("Asia/Seoul");
+    private static final LocalDate START = LocalDate.of(2025, 3, 3);
+    private static final LocalDate END = START.plusDays(13);
+    private static final long USERS = 8;
+    private static final long POLICY_ID = 10L;
+
+    @Autowired
+    private DailyAttendanceSummaryService dailyAttendanceSummaryService;
+
+    @Autowired
+    private DailyAttendanceSummaryRepository dailyAttendanceSummaryRepository;
+
+    @Autowired
+    private AttendanceRepository attendanceRepository;
+
+    @Autowired
+    private ScheduleRepository scheduleRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @MockitoBean
+    private UserServiceClient userServiceClient;
+
+    @MockitoBean
+    private WorkPolicyService workPolicyService;
+
+    @MockitoBean
+    private ServiceTokenProvider serviceTokenProvider;
+
+    @BeforeEach
+    void setUp() {
+        // 짝수 사용자만 근무 정책이 있고, 홀수 사용자는 user-service에서 조회되지 않는다
+        when(userServiceClient.getUserWorkPolicy(anyLong())).thenAnswer(invocation -> {
+            Long userId = invocation.getArgument(0);
+            return userId % 2 == 0 ? Map.of("workPolicyId", POLICY_ID) : Map.of();
+        });
+        when(userServiceClient.getUserById(anyLong())).thenReturn(Map.of());
+        when(workPolicyService.getWorkPolicyById(eq(POLICY_ID))).thenReturn(WorkPolicyResponseDto.builder()
+                .id(POLICY_ID)
+                .name("기본 근무")
+                .startTime(LocalTime.of(9, 0))
+                .endTime(LocalTime.of(18, 0))
+                .build());
+        doAnswer(invocation -> {
+            ((Runnable) invocation.getArgument(1)).run();
+            return null;
+        }).when(serviceTokenProvider).runAsService(isNull(), any());
+    }
+
+    @AfterEach
+    void tearDown() {
+        dailyAttendanceSummaryRepository.deleteAll();
+        attendanceRepository.deleteAll();
+        scheduleRepository.deleteAll();
+    }
+
+    @Test
+    void testRebuildMatchesIncrementalRefresh() {
+        for (long seed : new long[] {7L, 42L, 2025L}) {
+            Random random = new Random(seed);
+            saveSchedules(random);
+            List<Attendance> attendances = saveAttendances(random);
+
+            // 기존 경로: 출퇴근 기록마다 증분 갱신
+            attendances.forEach(dailyAttendanceSummaryService::refresh);
+            Map<String, String> incremental = snapshot();
+            assertEquals(attendances.size(), incremental.size(), "seed=" + seed);
+
+            // 원본 없는 요약은 재구축 시 삭제되어야 한다
+            dailyAttendanceSummaryRepository.upsertAll(List.of(DailyAttendanceSummary.of(999L, START.plusDays(1))));
+
+            clearInvocations(userServiceClient, workPolicyService);
+            Statistics statistics = statistics();
+            statistics.clear();
+
+            assertEquals(attendances.size(), dailyAttendanceSummaryService.rebuild(START, END), "seed=" + seed);
+            assertEquals(incremental, snapshot(), "seed=" + seed);
+
+            // 근무 정책은 사용자당 최대 한 번, 스케줄은 페이지당 한 번만 조회한다
+            for (long userId = 1; userId <= USERS; userId++) {
+                verify(userServiceClient, atMost(1)).getUserWorkPolicy(userId);
+                verify(userServiceClient, atMost(1)).getUserById(userId);
+            }
+            long scheduleQueries = Arrays.stream(statistics.getQueries())
+                    .filter(query -> query.contains("s.userId IN"))
+                    .mapToLong(query -> statistics.getQueryStatistics(query).getExecutionCount())
+                    .sum();
+            assertEquals(1, scheduleQueries, "seed=" + seed);
+
+            tearDown();
+        }
+    }
+
+    @Test
+    void testConcurrentRefreshKeepsSingleRow() throws Exception {
+        Attendance attendance = attendanceRepository.save(attendance(2L, START, 9, 10, 18, 30));
+        int threads = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch ready = new CountDownLatch(threads);
+        CountDownLatch go = new CountDownLatch(1);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                futures.add(executor.submit(() -> {
+                    ready.countDown();
+                    go.await();
+                    dailyAttendanceSummaryService.refresh(attendance, null);
+                    return null;
+                }));
+            }
+            ready.await();
+            go.countDown();
+            for (Future<?> future : futures) {
+                future.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        List<DailyAttendanceSummary> summaries = dailyAttendanceSummaryRepository.findAll();
+        assertEquals(1, summaries.size());
+        assertEquals(560L, summaries.get(0).getWorkMinutes());
+    }
+
+    @Test
+    void testRefreshUpdatesExistingRow() {
+        Attendance attendance = attendanceRepository.save(attendance(2L, START, 9, 10, null, null));
+        dailyAttendanceSummaryService.refresh(attendance);
+        assertEquals(10L, dailyAttendanceSummaryRepository.findAll().get(0).getLateMinutes());
+
+        attendance.setCheckOut(START.atTime(19, 0).atZone(ZONE_SEOUL).toInstant());
+        attendanceRepository.save(attendance);
+        dailyAttendanceSummaryService.refresh(attendance);
+
+        List<DailyAttendanceSummary> summaries = dailyAttendanceSummaryRepository.findAll();
+        assertEquals(1, summaries.size());
+        assertEquals(590L, summaries.get(0).getWorkMinutes());
+        assertEquals(60L, summaries.get(0).getOvertimeMinutes());
+    }
+
+    @Test
+    void testInitializeRebuildsOnlyWhenEmpty() {
+        attendanceRepository.save(attendance(2L, START, 9, 0, 18, 0));
+        attendanceRepository.save(attendance(3L, END, 9, 30, 18, 0));
+
+        dailyAttendanceSummaryService.initializeIfEmpty();
+        assertEquals(2, dailyAttendanceSummaryRepository.count());
+        verify(serviceTokenProvider).runAsService(isNull(), any());
+
+        attendanceRepository.save(attendance(4L, START, 9, 0, 18, 0));
+        dailyAttendanceSummaryService.initializeIfEmpty();
+        assertEquals(2, dailyAttendanceSummaryRepository.count());
+    }
+
+    @Test
+    void testStartupBackfillDoesNotBlockCaller() throws Exception {
+        attendanceRepository.save(attendance(2L, START, 9, 0, 18, 0));
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicReference<String> backfillThread = new AtomicReference<>();
+        doAnswer(invocation -> {
+            backfillThread.set(Thread.currentThread().getName());
+            assertTrue(release.await(10, TimeUnit.SECONDS));
+            ((Runnable) invocation.getArgument(1)).run();
+            return null;
+        }).when(serviceTokenProvider).runAsService(isNull(), any());
+
+        // 재구축이 막혀 있어도 기동 이벤트 처리는 바로 반환된다
+        dailyAttendanceSummaryService.onApplicationReady();
+        assertEquals(0, dailyAttendanceSummaryRepository.count());
+
+        release.countDown();
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (dailyAttendanceSummaryRepository.count() == 0 && System.nanoTime() < deadline) {
+            Thread.sleep(20);
+        }
+        assertEquals(1, dailyAttendanceSummaryRepository.count());
+        assertEquals("daily-summary-backfill", backfillThread.get());
+    }
+
+    private void saveSchedules(Random random) {
+        for (long userId = 1; userId <= USERS; userId++) {
+            int count = random.nextInt(3);
+            for (int i = 0; i < count; i++) {
+                LocalDate startDate = START.plusDays(random.nextInt(14));
+                LocalTime startTime = LocalTime.of(7 + random.nextInt(4), random.nextBoolean() ? 0 : 30);
+                Schedule schedule = scheduleRepository.save(Schedule.builder()
+                        .userId(userId)
+                        .title("근무")
+                        .startDate(startDate)
+                        .endDate(startDate.plusDays(random.nextInt(4)))
+                        .startTime(startTime)
+                        .endTime(startTime.plusHours(8 + random.nextInt(2)))
+                        .scheduleType(random.nextInt(4) == 0 ? ScheduleType.VACATION : ScheduleType.WORK)
+                        .build());
+                if (random.nextInt(5) == 0) {
+                    schedule.cancel();
+                    scheduleRepository.save(schedule);
+                }
+            }
+        }
+    }
+
+    private List<Attendance> saveAttendances(Random random) {
+        List<Attendance> attendances = new ArrayList<>();
+        for (long userId = 1; userId <= USERS; userId++) {
+            for (LocalDate date = START; !date.isAfter(END); date = date.plusDays(1)) {
+                if (random.nextInt(10) < 3) {
+                    continue;
+                }
+                Integer outHour = random.nextInt(4) == 0 ? null : 16 + random.nextInt(5);
+                Attendance attendance = attendance(userId, date, 8 + random.nextInt(3), random.nextInt(60),
+                        outHour, outHour != null ? random.nextInt(60) : null);
+                attendance.setAttendanceStatus(AttendanceStatus.values()[random.nextInt(AttendanceStatus.values().length)]);
+                attendance.setWorkStatus(WorkStatus.values()[random.nextInt(WorkStatus.values().length)]);
+                attendances.add(attendanceRepository.save(attendance));
+            }
+        }
+        return attendances;
+    }
+
+    private static Attendance attendance(Long userId, LocalDate date, int inHour, int inMinute, Integer outHour, Integer outMinute) {
+        Instant checkIn = date.atTime(inHour, inMinute).atZone(ZONE_SEOUL).toInstant();
+        Instant checkOut = outHour != null ? date.atTime(outHour, outMinute).atZone(ZONE_SEOUL).toInstant() : null;
+        return Attendance.builder()
+                .userId(userId)
+                .date(date)
+                .checkIn(checkIn)
+                .checkOut(checkOut)
+                .attendanceStatus(AttendanceStatus.REGULAR)
+                .build();
+    }
+
+    private Map<String, String> snapshot() {
+        return dailyAttendanceSummaryRepository.findAll().stream()
+                .collect(Collectors.toMap(
+                        summary -> summary.getUserId() + ":" + summary.getWorkDate(),
+                        summary -> summary.getAttendanceStatus() + "|" + summary.getWorkStatus()
+                                + "|" + summary.getCheckIn() + "|" + summary.getCheckOut()
+                                + "|" + summary.getWorkMinutes() + "|" + summary.getLateMinutes()
+                                + "|" + summary.getOvertimeMinutes()));
+    }
+
+    private Statistics statistics() {
+        return entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+}
@@ -0,0 +1,207 @@
+package com.hermes.attendanceservice.service.leave;
+
+import com.hermes.attendanceservice.client.UserServiceClient;
+import com.hermes.attendanceservice.entity.leave.EmployeeLeaveBalance;
+import com.hermes.attendanceservice.entity.leave.LeaveBalanceMovementType;
+import com.hermes.attendanceservice.entity.leave.LeaveType;
+import com.hermes.attendanceservice.repository.leave.EmployeeLeaveBalanceRepository;
+import com.hermes.attendanceservice.repository.leave.LeaveBalanceLedgerRepository;
+import com.hermes.attendanceservice.support.JpaTestConfiguration;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestReporter;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 연차 사용/복구의 조건부 UPDATE 동시성 검증
+ * 각 호출이 자기 트랜잭션에서 커밋되어야 하므로 테스트 트랜잭션은 사용하지 않는다.
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ContextConfiguration(classes = {JpaTestConfiguration.class, EmployeeLeaveBalanceServiceImpl.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class EmployeeLeaveBalanceServiceImplConcurrencyTest {
+
+    private static final Long EMPLOYEE_ID = 1L;
+    private static final int GRANTED_DAYS = 10;
+    private static final int THREADS = 16;
+    private static final int REQUESTS = 40;
+    private static final int BENCHMARK_REQUESTS = 4_000;
+
+    @Autowired
+    private EmployeeLeaveBalanceService employeeLeaveBalanceService;
+
+    @Autowired
+    private EmployeeLeaveBalanceRepository employeeLeaveBalanceRepository;
+
+    @Autowired
+    private LeaveBalanceLedgerRepository leaveBalanceLedgerRepository;
+
+    @MockitoBean
+    private UserServiceClient userServiceClient;
+
+    @AfterEach
+    void tearDown() {
+        leaveBalanceLedgerRepository.deleteAll();
+        employeeLeaveBalanceRepository.deleteAll();
+    }
+
+    @Test
+    void testConcurrentUseLeaveNeverOverdraws() throws Exception {
+        saveBalance(GRANTED_DAYS, 0);
+
+        AtomicInteger succeeded = new AtomicInteger();
+        AtomicInteger rejected = new AtomicInteger();
+        runConcurrently(() -> {
+            try {
+                employeeLeaveBalanceService.useLeave(EMPLOYEE_ID, LeaveType.BASIC_ANNUAL, 1);
+                succeeded.incrementAndGet();
+            } catch (IllegalArgumentException e) {
+                rejected.incrementAndGet();
+            }
+        });
+
+        EmployeeLeaveBalance balance = reloadBalance();
+        assertEquals(GRANTED_DAYS, succeeded.get());
+        assertEquals(REQUESTS - GRANTED_DAYS, rejected.get());
+        assertEquals(0, balance.getRemainingDays());
+        assertEquals(GRANTED_DAYS, balance.getUsedLeaveDays());
+        assertLedgerMatchesBalance(balance, 0);
+    }
+
+    @Test
+    void testConcurrentUseAndRestoreKeepLedgerInSync() throws Exception {
+        saveBalance(GRANTED_DAYS / 2, GRANTED_DAYS / 2);
+
+        AtomicInteger counter = new AtomicInteger();
+        runConcurrently(() -> {
+            try {
+                if (counter.getAndIncrement() % 2 == 0) {
+                    employeeLeaveBalanceService.useLeave(EMPLOYEE_ID, LeaveType.BASIC_ANNUAL, 1);
+                } else {
+                    employeeLeaveBalanceService.restoreLeave(EMPLOYEE_ID, LeaveType.BASIC_ANNUAL, 1);
+                }
+            } catch (IllegalArgumentException e) {
+                // 잔여/사용 일수가 부족한 요청은 거부되며 원장에도 기록되지 않는다
+            }
+        });
+
+        EmployeeLeaveBalance balance = reloadBalance();
+        assertTrue(balance.getRemainingDays() >= 0);
+        assertTrue(balance.getUsedLeaveDays() >= 0);
+        assertEquals(GRANTED_DAYS, balance.getRemainingDays() + balance.getUsedLeaveDays());
+        assertLedgerMatchesBalance(balance, GRANTED_DAYS / 2);
+    }
+
+    @Tag("benchmark")
+    @Test
+    void benchmarkConcurrentUseAndRestoreThroughput(TestReporter reporter) throws Exception {
+        // 사용/복구가 번갈아 들어오므로 잔여/사용 일수가 바닥나지 않도록 넉넉히 부여
+        saveBalance(BENCHMARK_REQUESTS, BENCHMARK_REQUESTS);
+
+        AtomicInteger counter = new AtomicInteger();
+        AtomicInteger rejected = new AtomicInteger();
+        long startedAt = System.nanoTime();
+        runConcurrently(BENCHMARK_REQUESTS, () -> {
+            try {
+                if (counter.getAndIncrement() % 2 == 0) {
+                    employeeLeaveBalanceService.useLeave(EMPLOYEE_ID, LeaveType.BASIC_ANNUAL, 1);
+                } else {
+                    employeeLeaveBalanceService.restoreLeave(EMPLOYEE_ID, LeaveType.BASIC_ANNUAL, 1);
+                }
+            } catch (IllegalArgumentException e) {
+                rejected.incrementAndGet();
+            }
+        });
+        long elapsedNanos = System.nanoTime() - startedAt;
+
+        EmployeeLeaveBalance balance = reloadBalance();
+        assertEquals(0, rejected.get());
+        assertEquals(BENCHMARK_REQUESTS, balance.getRemainingDays());
+        assertLedgerMatchesBalance(balance, BENCHMARK_REQUESTS);
+        assertEquals(BENCHMARK_REQUESTS, leaveBalanceLedgerRepository.count());
+
+        reporter.publishEntry("threads", String.valueOf(THREADS));
+        reporter.publishEntry("operations", String.valueOf(BENCHMARK_REQUESTS));
+        reporter.publishEntry("elapsed ms", String.valueOf(elapsedNanos / 1_000_000));
+        reporter.publishEntry("operations/s", String.format("%.0f", BENCHMARK_REQUESTS * 1_000_000_000.0 / elapsedNanos));
+    }
+
+    @Test
+    void testUseLeaveWithoutBalanceIsRejected() {
+        assertThrows(IllegalArgumentException.class,
+                () -> employeeLeaveBalanceService.useLeave(EMPLOYEE_ID, LeaveType.BASIC_ANNUAL, 1));
+        assertEquals(0, leaveBalanceLedgerRepository.count());
+    }
+
+    private void runConcurrently(Runnable task) throws Exception {
+        runConcurrently(REQUESTS, task);
+    }
+
+    private void runConcurrently(int requests, Runnable task) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < requests; i++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    task.run();
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(120, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * 원장의 사용/복구 누계가 초기 사용 일수 대비 잔액 변화와 일치하는지 확인
+     */
+    private void assertLedgerMatchesBalance(EmployeeLeaveBalance balance, int initialUsedDays) {
+        int used = leaveBalanceLedgerRepository.sumDays(EMPLOYEE_ID, LeaveType.BASIC_ANNUAL, LeaveBalanceMovementType.USE);
+        int restored = leaveBalanceLedgerRepository.sumDays(EMPLOYEE_ID, LeaveType.BASIC_ANNUAL, LeaveBalanceMovementType.RESTORE);
+        assertEquals(balance.getUsedLeaveDays() - initialUsedDays, used - restored);
+    }
+
+    private void saveBalance(int remainingDays, int usedDays) {
+        employeeLeaveBalanceRepository.save(EmployeeLeaveBalance.builder()
+                .employeeId(EMPLOYEE_ID)
+                .leaveType(LeaveType.BASIC_ANNUAL)
+                .totalLeaveDays(remainingDays + usedDays)
+                .usedLeaveDays(usedDays)
+                .remainingDays(remainingDays)
+                .workYears(1)
+                .workPolicyId(1L)
+                .build());
+    }
+
+    private EmployeeLeaveBalance reloadBalance() {
+        return employeeLeaveBalanceRepository.findByEmployeeIdAndLeaveType(EMPLOYEE_ID, LeaveType.BASIC_ANNUAL)
+                .orElseThrow();
+    }
+}
@@ -0,0 +1,150 @@
+package com.hermes.attendanceservice.service.workmonitor;
+
+import com.hermes.attendanceservice.client.UserServiceClient;
+import com.hermes.attendanceservice.repository.workmonitor.ActiveEmployeeRepository;
+import com.hermes.attendanceservice.support.JpaTestConfiguration;
+import com.hermes.auth.jwt.ServiceTokenProvider;
+import com.hermes.events.user.UserEvent;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+/**
+ * 재직 인원 복제본의 이벤트 반영과 서비스 토큰 재동기화 검증
+ * 재동기화는 원격 조회 후 별도 트랜잭션으로 차이만 커밋하므로 테스트 트랜잭션은 사용하지 않는다.
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ContextConfiguration(classes = {JpaTestConfiguration.class, EmployeeHeadcountService.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class EmployeeHeadcountServiceTest {
+
+    @Autowired
+    private EmployeeHeadcountService employeeHeadcountService;
+
+    @Autowired
+    private ActiveEmployeeRepository activeEmployeeRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @MockitoBean
+    private UserServiceClient userServiceClient;
+
+    @MockitoBean
+    private ServiceTokenProvider serviceTokenProvider;
+
+    @BeforeEach
+    void setUp() {
+        when(serviceTokenProvider.callAsService(isNull(), any()))
+                .thenAnswer(invocation -> ((Supplier<?>) invocation.getArgument(1)).get());
+    }
+
+    @AfterEach
+    void tearDown() {
+        activeEmployeeRepository.deleteAll();
+    }
+
+    @Test
+    void testEventsAreAppliedIdempotently() {
+        employeeHeadcountService.apply(UserEvent.created(1L));
+        employeeHeadcountService.apply(UserEvent.created(2L));
+        employeeHeadcountService.apply(UserEvent.created(2L));
+        employeeHeadcountService.apply(UserEvent.updated(3L));
+        employeeHeadcountService.apply(UserEvent.deleted(1L));
+        employeeHeadcountService.apply(UserEvent.deleted(1L));
+        employeeHeadcountService.apply(new UserEvent(null, 4L, null));
+
+        assertEquals(2, employeeHeadcountService.getTotalEmployees());
+        verifyNoInteractions(userServiceClient);
+    }
+
+    @Test
+    void testCountOutsideRequestNeverCallsUserService() {
+        assertNull(RequestContextHolder.getRequestAttributes());
+        employeeHeadcountService.apply(UserEvent.created(1L));
+
+        // 이벤트 하나가 먼저 도착해도 원격 호출 없이 복제본만 센다 (재동기화는 기동/스케줄에서 수행)
+        assertEquals(1, employeeHeadcountService.getTotalEmployees());
+        verifyNoInteractions(userServiceClient);
+    }
+
+    @Test
+    void testStartupReconcileReplacesReplicaWithServiceCredentials() {
+        employeeHeadcountService.apply(UserEvent.created(1L));
+        employeeHeadcountService.apply(UserEvent.created(99L));
+        when(userServiceClient.getAllUserIds()).thenReturn(List.of(1L, 2L, 3L, 3L, 4L));
+
+        employeeHeadcountService.initialize();
+
+        assertEquals(4, employeeHeadcountService.getTotalEmployees());
+        assertFalse(activeEmployeeRepository.existsById(99L));
+        verify(serviceTokenProvider, times(1)).callAsService(isNull(), any());
+    }
+
+    @Test
+    void testReconcileAppliesDiffOutsideRemoteCall() {
+        when(userServiceClient.getAllUserIds()).thenReturn(LongStream.rangeClosed(1, 300).boxed().toList());
+        employeeHeadcountService.reconcile();
+
+        AtomicBoolean transactionDuringFetch = new AtomicBoolean(true);
+        when(serviceTokenProvider.callAsService(isNull(), any())).thenAnswer(invocation -> {
+            transactionDuringFetch.set(TransactionSynchronizationManager.isActualTransactionActive());
+            return ((Supplier<?>) invocation.getArgument(1)).get();
+        });
+        when(userServiceClient.getAllUserIds()).thenReturn(LongStream.rangeClosed(101, 600).boxed().toList());
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        assertEquals(500, employeeHeadcountService.reconcile());
+
+        // user-service 조회는 트랜잭션 밖, 반영은 현재 ID 조회 1회 + 삭제 1회 (추가는 JDBC 배치, 행 단위 SELECT 없음)
+        assertFalse(transactionDuringFetch.get());
+        assertEquals(2, statistics.getPrepareStatementCount());
+        assertEquals(500, employeeHeadcountService.getTotalEmployees());
+        assertFalse(activeEmployeeRepository.existsById(100L));
+        assertTrue(activeEmployeeRepository.existsById(101L));
+        assertTrue(activeEmployeeRepository.existsById(600L));
+    }
+
+    @Test
+    void testScheduledReconcileKeepsReplicaWhenUserServiceFails() {
+        employeeHeadcountService.apply(UserEvent.created(1L));
+        employeeHeadcountService.apply(UserEvent.created(2L));
+
+        when(userServiceClient.getAllUserIds()).thenThrow(new IllegalStateException("user-service down"));
+        employeeHeadcountService.scheduledReconcile();
+        assertEquals(2, employeeHeadcountService.getTotalEmployees());
+
+        when(userServiceClient.getAllUserIds()).thenReturn(List.of());
+        employeeHeadcountService.scheduledReconcile();
+        assertEquals(2, employeeHeadcountService.getTotalEmployees());
+    }
+}
@@ -0,0 +1,76 @@
+package com.hermes.auth;
+
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.LocatorAdapter;
+import io.jsonwebtoken.UnsupportedJwtException;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.SecretKey;
+import java.security.Key;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * JWT HMAC 키 모음 (기동 시 한 번만 디코딩)
+ * 현재 키로 서명하고, 교체 기간에는 kid로 이전 키를 찾아 검증한다.
+ */
+@Component
+public class JwtKeySet {
+
+    private final String activeKeyId;
+    private final Map<String, SecretKey> keys;
+
+    public JwtKeySet(JwtProperties jwtProperties) {
+        Map<String, SecretKey> keys = new LinkedHashMap<>();
+        keys.put(jwtProperties.getKeyId(), toKey(jwtProperties.getSecret()));
+        jwtProperties.getPreviousSecrets().forEach((kid, secret) -> keys.putIfAbsent(kid, toKey(secret)));
+
+        this.activeKeyId = jwtProperties.getKeyId();
+        this.keys = Collections.unmodifiableMap(keys);
+    }
+
+    public String getActiveKeyId() {
+        return activeKeyId;
+    }
+
+    public SecretKey getActiveKey() {
+        return keys.get(activeKeyId);
+    }
+
+    /**
+     * kid에 해당하는 검증 키 (kid가 없는 기존 토큰은 현재 키로 검증)
+     */
+    public SecretKey getKey(String keyId) {
+        if (keyId == null) {
+            return getActiveKey();
+        }
+        SecretKey key = keys.get(keyId);
+        if (key == null) {
+            throw new UnsupportedJwtException("알 수 없는 서명 키입니다: kid=" + keyId);
+        }
+        return key;
+    }
+
+    public Map<String, SecretKey> getKeys() {
+        return keys;
+    }
+
+    /**
+     * jjwt 파서용 키 탐색기
+     */
+    public LocatorAdapter<Key> locator() {
+        return new LocatorAdapter<>() {
+            @Override
+            protected Key locate(JwsHeader header) {
+                return getKey(header.getKeyId());
+            }
+        };
+    }
+
+    private static SecretKey toKey(String base64Secret) {
+        return Keys.hmacShaKeyFor(Decoders.BASE64.decode(base64Secret));
+    }
+}
@@ -4,6 +4,9 @@ import lombok.Getter;
 import lombok.Setter;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
+import java.util.LinkedHashMap;
+import java.util.Map;
+
 @Getter
 @Setter
 @ConfigurationProperties(prefix = "jwt")
@@ -12,6 +15,12 @@ public class JwtProperties {
     // 토큰 생성 및 검증에 사용할 Base64 인코딩된 비밀키
     private String secret;
 
+    // 현재 서명 키의 식별자 (토큰 헤더의 kid)
+    private String keyId = "default";
+
+    // 키 교체 후에도 검증을 허용할 이전 키 목록 (kid -> Base64 비밀키)
+    private Map<String, String> previousSecrets = new LinkedHashMap<>();
+
     // 액세스 토큰 만료 시간 (초)
     private long accessTokenTTL;
 
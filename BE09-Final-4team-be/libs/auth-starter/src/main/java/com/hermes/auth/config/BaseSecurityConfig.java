@@ -2,10 +2,17 @@ package com.hermes.auth.config;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.hermes.api.common.ApiResult;
+import com.hermes.auth.JwtKeySet;
 import com.hermes.auth.JwtProperties;
 import com.hermes.auth.jwt.JwtAuthenticationConverter;
-import io.jsonwebtoken.io.Decoders;
-import io.jsonwebtoken.security.Keys;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.jwk.JWK;
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jose.jwk.OctetSequenceKey;
+import com.nimbusds.jose.jwk.source.ImmutableJWKSet;
+import com.nimbusds.jose.proc.JWSVerificationKeySelector;
+import com.nimbusds.jose.proc.SecurityContext;
+import com.nimbusds.jwt.proc.DefaultJWTProcessor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Bean;
@@ -23,7 +30,7 @@ import org.springframework.security.web.AuthenticationEntryPoint;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.access.AccessDeniedHandler;
 
-import javax.crypto.SecretKey;
+import java.util.List;
 
 /**
  * Spring Security 기본 설정을 제공하는 추상 클래스
@@ -41,6 +48,9 @@ public abstract class BaseSecurityConfig {
     @Autowired
     protected JwtProperties jwtProperties;
 
+    @Autowired
+    protected JwtKeySet jwtKeySet;
+
     @Bean
     public SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
         http
@@ -51,6 +61,9 @@ public abstract class BaseSecurityConfig {
                 // 기본 공개 경로
                 auth.requestMatchers("/actuator/health", "/actuator/info").permitAll();
                 auth.requestMatchers("/swagger-ui/**", "/v3/api-docs/**").permitAll();
+
+                // 서비스 간 내부 경로 (게이트웨이 미라우팅, 서비스 토큰 필요)
+                auth.requestMatchers("/internal/**").hasRole("SERVICE");
                 
                 // 서비스별 커스텀 경로 (추상 메서드)
                 configureAuthorization(auth);
@@ -82,9 +95,22 @@ public abstract class BaseSecurityConfig {
 
     @Bean
     public JwtDecoder jwtDecoder() {
-        byte[] keyBytes = Decoders.BASE64.decode(jwtProperties.getSecret());
-        SecretKey secretKey = Keys.hmacShaKeyFor(keyBytes);
-        return NimbusJwtDecoder.withSecretKey(secretKey).build();
+        if (jwtKeySet.getKeys().size() == 1) {
+            return NimbusJwtDecoder.withSecretKey(jwtKeySet.getActiveKey()).build();
+        }
+
+        // 키 교체 기간: kid로 검증 키 선택 (kid 없는 토큰은 등록된 키를 차례로 시도)
+        List<JWK> jwks = jwtKeySet.getKeys().entrySet().stream()
+                .map(entry -> (JWK) new OctetSequenceKey.Builder(entry.getValue())
+                        .keyID(entry.getKey())
+                        .algorithm(JWSAlgorithm.HS256)
+                        .build())
+                .toList();
+        DefaultJWTProcessor<SecurityContext> jwtProcessor = new DefaultJWTProcessor<>();
+        jwtProcessor.setJWSKeySelector(new JWSVerificationKeySelector<>(JWSAlgorithm.HS256, new ImmutableJWKSet<>(new JWKSet(jwks))));
+        // 만료 등 클레임 검증은 NimbusJwtDecoder의 기본 validator가 수행
+        jwtProcessor.setJWTClaimsSetVerifier((claims, context) -> { });
+        return new NimbusJwtDecoder(jwtProcessor);
     }
 
     @Bean
@@ -1,8 +1,12 @@
 package com.hermes.auth.config;
 
+import com.hermes.auth.jwt.ServiceTokenProvider;
+import com.hermes.auth.principal.UserPrincipal;
 import feign.RequestInterceptor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.context.request.RequestContextHolder;
 import org.springframework.web.context.request.ServletRequestAttributes;
 
@@ -12,7 +16,7 @@ import jakarta.servlet.http.HttpServletRequest;
 public class FeignConfig {
 
     @Bean
-    public RequestInterceptor requestInterceptor() {
+    public RequestInterceptor requestInterceptor(ServiceTokenProvider serviceTokenProvider) {
         return requestTemplate -> {
             ServletRequestAttributes attributes = (ServletRequestAttributes) RequestContextHolder.getRequestAttributes();
             if (attributes != null) {
@@ -20,8 +24,16 @@ public class FeignConfig {
                 String authorization = request.getHeader("Authorization");
                 if (authorization != null && !authorization.isEmpty()) {
                     requestTemplate.header("Authorization", authorization);
+                    return;
                 }
             }
+
+            // 사용자 요청이 없는 작업은 ServiceTokenProvider.callAsService로 실행된 경우에만 서비스 토큰 사용
+            Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+            if (authentication != null && authentication.getPrincipal() instanceof UserPrincipal principal
+                    && principal.isService()) {
+                requestTemplate.header("Authorization", "Bearer " + serviceTokenProvider.getToken(principal.getTenantId()));
+            }
         };
     }
-}
\ No newline at end of file
+}
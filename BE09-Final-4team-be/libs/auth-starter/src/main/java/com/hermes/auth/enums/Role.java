@@ -8,6 +8,13 @@ import lombok.Getter;
  */
 @Getter
 public enum Role {
+
+    /**
+     * 서비스 간 호출 권한
+     * 사용자 요청 없이 실행되는 작업(기동 시 적재, 스케줄러)이 내부 API를 호출할 때 사용하며,
+     * 계층 구조의 가장 아래에 두어 사용자 권한은 갖지 않습니다.
+     */
+    SERVICE("서비스"),
     
     /**
      * 일반 사용자 권한
@@ -68,6 +75,15 @@ public enum Role {
     public boolean isUser() {
         return this == USER;
     }
+
+    /**
+     * 서비스 간 호출 권한인지 확인합니다.
+     *
+     * @return SERVICE 권한인 경우만 true
+     */
+    public boolean isService() {
+        return this == SERVICE;
+    }
     
     /**
      * 문자열로부터 Role을 생성합니다.
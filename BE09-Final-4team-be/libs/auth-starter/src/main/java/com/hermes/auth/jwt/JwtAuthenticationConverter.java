@@ -2,6 +2,8 @@ package com.hermes.auth.jwt;
 
 import com.hermes.auth.enums.Role;
 import com.hermes.auth.principal.UserPrincipal;
+import com.hermes.auth.revocation.TokenRevocationRegistry;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.core.convert.converter.Converter;
 import org.springframework.security.authentication.AbstractAuthenticationToken;
@@ -9,6 +11,7 @@ import org.springframework.security.authentication.UsernamePasswordAuthenticatio
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.server.resource.InvalidBearerTokenException;
 import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationToken;
 import org.springframework.stereotype.Component;
 
@@ -21,10 +24,19 @@ import java.util.List;
  */
 @Slf4j
 @Component
+@RequiredArgsConstructor
 public class JwtAuthenticationConverter implements Converter<Jwt, AbstractAuthenticationToken> {
 
+    private final TokenRevocationRegistry tokenRevocationRegistry;
+
     @Override
     public AbstractAuthenticationToken convert(Jwt jwt) {
+        // 폐기된 토큰 확인 (로그아웃 등), 대부분 블룸 필터에서 바로 통과
+        if (tokenRevocationRegistry.isRevoked(jwt.getId())) {
+            log.debug("Revoked JWT rejected: jti={}", jwt.getId());
+            throw new InvalidBearerTokenException("폐기된 토큰입니다.");
+        }
+
         try {
             // JWT 클레임에서 사용자 정보 추출
             String userIdStr = jwt.getClaimAsString("userId");
@@ -57,7 +69,7 @@ public class JwtAuthenticationConverter implements Converter<Jwt, AbstractAuthen
             return new AbstractAuthenticationToken(authorities) {
                 @Override
                 public Object getCredentials() {
-                    return null;
+                    return jwt;
                 }
                 
                 @Override
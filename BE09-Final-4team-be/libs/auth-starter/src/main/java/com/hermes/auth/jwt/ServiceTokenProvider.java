@@ -0,0 +1,104 @@
+package com.hermes.auth.jwt;
+
+import com.hermes.auth.JwtKeySet;
+import com.hermes.auth.enums.Role;
+import com.hermes.auth.principal.UserPrincipal;
+import io.jsonwebtoken.Jwts;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Date;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * 서비스 간 호출용 토큰 발급기
+ * 사용자 요청이 없는 작업(기동 시 적재, 스케줄러, 폐기 목록 동기화)이 다른 서비스를 호출할 때
+ * SERVICE 권한의 단기 토큰을 현재 서명 키로 발급한다. 테넌트별로 만료 절반 시점까지 재사용한다.
+ */
+@Component
+public class ServiceTokenProvider {
+
+    public static final Long SERVICE_USER_ID = 0L;
+
+    private static final String DEFAULT_TENANT_ID = "default";
+
+    private final JwtKeySet jwtKeySet;
+    private final Duration tokenTtl;
+    private final String serviceName;
+    private final Map<String, IssuedToken> tokens = new ConcurrentHashMap<>();
+
+    public ServiceTokenProvider(
+            JwtKeySet jwtKeySet,
+            @Value("${hermes.auth.service-token.ttl-seconds:300}") long ttlSeconds,
+            @Value("${spring.application.name:unknown}") String serviceName) {
+        this.jwtKeySet = jwtKeySet;
+        this.tokenTtl = Duration.ofSeconds(ttlSeconds);
+        this.serviceName = serviceName;
+    }
+
+    /**
+     * 테넌트의 서비스 토큰 (Authorization 헤더 값에 쓸 Bearer 접두사 제외)
+     */
+    public String getToken(String tenantId) {
+        String key = tenantId != null ? tenantId : DEFAULT_TENANT_ID;
+        Instant now = Instant.now();
+        return tokens.compute(key, (k, issued) ->
+                issued != null && issued.refreshAt().isAfter(now) ? issued : issue(k, now)).token();
+    }
+
+    /**
+     * 서비스 주체로 작업 실행 (FeignConfig가 이 주체를 보고 서비스 토큰을 붙인다)
+     */
+    public <T> T callAsService(String tenantId, Supplier<T> action) {
+        SecurityContext previous = SecurityContextHolder.getContext();
+        SecurityContext context = SecurityContextHolder.createEmptyContext();
+        context.setAuthentication(authentication(tenantId));
+        SecurityContextHolder.setContext(context);
+        try {
+            return action.get();
+        } finally {
+            SecurityContextHolder.setContext(previous);
+        }
+    }
+
+    public void runAsService(String tenantId, Runnable action) {
+        callAsService(tenantId, () -> {
+            action.run();
+            return null;
+        });
+    }
+
+    private Authentication authentication(String tenantId) {
+        UserPrincipal principal = new UserPrincipal(SERVICE_USER_ID, Role.SERVICE,
+                tenantId != null ? tenantId : DEFAULT_TENANT_ID);
+        return new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities());
+    }
+
+    private IssuedToken issue(String tenantId, Instant now) {
+        Instant expiration = now.plus(tokenTtl);
+        String token = Jwts.builder()
+                .header().keyId(jwtKeySet.getActiveKeyId()).and()
+                .id(UUID.randomUUID().toString())
+                .subject(serviceName)
+                .claim("userId", SERVICE_USER_ID)
+                .claim("role", Role.SERVICE.name())
+                .claim("tenantId", tenantId)
+                .issuedAt(Date.from(now))
+                .expiration(Date.from(expiration))
+                .signWith(jwtKeySet.getActiveKey(), Jwts.SIG.HS256)
+                .compact();
+        return new IssuedToken(token, now.plus(tokenTtl.dividedBy(2)));
+    }
+
+    private record IssuedToken(String token, Instant refreshAt) {
+    }
+}
@@ -0,0 +1,11 @@
+package com.hermes.auth.revocation;
+
+/**
+ * 폐기된 액세스 토큰 정보 (RabbitMQ 메시지 및 스냅샷 응답 형식)
+ *
+ * @param jti       토큰 ID (JWT jti 클레임)
+ * @param userId    토큰 소유자 ID
+ * @param expiresAt 토큰 만료 시각 (epoch seconds), 이후에는 폐기 목록에서 제거된다
+ */
+public record TokenRevocation(String jti, Long userId, long expiresAt) {
+}
@@ -0,0 +1,79 @@
+package com.hermes.auth.revocation;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.core.AnonymousQueue;
+import org.springframework.amqp.core.Binding;
+import org.springframework.amqp.core.BindingBuilder;
+import org.springframework.amqp.core.ExchangeBuilder;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.Queue;
+import org.springframework.amqp.core.TopicExchange;
+import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 토큰 폐기 이벤트 구독 (RabbitMQ가 있는 서비스에서만 활성화)
+ * 인스턴스마다 임시 큐를 만들어 모든 인스턴스가 폐기 이벤트를 받도록 한다.
+ */
+@Slf4j
+@Configuration
+@ConditionalOnClass(name = "org.springframework.amqp.rabbit.core.RabbitTemplate")
+@ConditionalOnProperty(name = "hermes.auth.revocation.amqp.enabled", havingValue = "true", matchIfMissing = true)
+public class TokenRevocationAmqpConfiguration {
+
+    public static final String DEFAULT_EXCHANGE = "user.events";
+    public static final String DEFAULT_ROUTING_KEY = "user.token.revoked";
+
+    @Bean
+    public TopicExchange tokenRevocationExchange(
+            @Value("${hermes.user.events.exchange:" + DEFAULT_EXCHANGE + "}") String exchange) {
+        return ExchangeBuilder.topicExchange(exchange).durable(true).build();
+    }
+
+    @Bean
+    public Queue tokenRevocationQueue() {
+        return new AnonymousQueue();
+    }
+
+    @Bean
+    public Binding tokenRevocationBinding(@Qualifier("tokenRevocationQueue") Queue tokenRevocationQueue,
+                                          @Qualifier("tokenRevocationExchange") TopicExchange tokenRevocationExchange,
+                                          @Value("${hermes.auth.revocation.routing-key:" + DEFAULT_ROUTING_KEY + "}") String routingKey) {
+        return BindingBuilder.bind(tokenRevocationQueue).to(tokenRevocationExchange).with(routingKey);
+    }
+
+    @Bean
+    public TokenRevocationListener tokenRevocationListener(TokenRevocationRegistry registry) {
+        return new TokenRevocationListener(registry);
+    }
+
+    /**
+     * 서비스별 MessageConverter 설정과 무관하도록 본문 JSON을 직접 읽는다.
+     */
+    public static class TokenRevocationListener {
+
+        private final TokenRevocationRegistry registry;
+        private final ObjectMapper objectMapper = new ObjectMapper();
+
+        public TokenRevocationListener(TokenRevocationRegistry registry) {
+            this.registry = registry;
+        }
+
+        @RabbitListener(queues = "#{tokenRevocationQueue.name}")
+        public void onRevocation(Message message) {
+            try {
+                TokenRevocation revocation = objectMapper.readValue(message.getBody(), TokenRevocation.class);
+                registry.revoke(revocation);
+                log.debug("Token revoked: jti={}, userId={}", revocation.jti(), revocation.userId());
+            } catch (Exception e) {
+                log.warn("Invalid token revocation message: {}", e.getMessage());
+            }
+        }
+    }
+}
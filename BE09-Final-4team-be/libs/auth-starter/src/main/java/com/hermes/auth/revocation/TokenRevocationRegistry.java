@@ -0,0 +1,84 @@
+package com.hermes.auth.revocation;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 폐기된 액세스 토큰 목록 (요청마다 조회)
+ * 대부분의 요청은 블룸 필터에서 바로 통과하고, 필터에 걸린 경우에만 정확한 목록을 확인한다.
+ * 블룸 필터는 삭제를 지원하지 않으므로 주기적으로 만료 항목을 정리하며 다시 만든다.
+ */
+@Slf4j
+@Component
+public class TokenRevocationRegistry {
+
+    private final int expectedRevocations;
+    private final double falsePositiveRate;
+
+    // jti -> 만료 시각 (epoch seconds)
+    private final Map<String, Long> revoked = new ConcurrentHashMap<>();
+    private volatile BloomFilter filter;
+
+    public TokenRevocationRegistry(
+            @Value("${hermes.auth.revocation.expected-revocations:100000}") int expectedRevocations,
+            @Value("${hermes.auth.revocation.false-positive-rate:0.001}") double falsePositiveRate) {
+        this.expectedRevocations = expectedRevocations;
+        this.falsePositiveRate = falsePositiveRate;
+        this.filter = BloomFilter.create(expectedRevocations, falsePositiveRate);
+    }
+
+    /**
+     * 토큰 폐기 등록 (이미 만료된 토큰은 무시)
+     */
+    public void revoke(String jti, long expiresAt) {
+        if (jti == null || expiresAt < Instant.now().getEpochSecond()) {
+            return;
+        }
+        revoked.merge(jti, expiresAt, Math::max);
+        synchronized (this) {
+            filter.put(jti);
+        }
+    }
+
+    public void revoke(TokenRevocation revocation) {
+        revoke(revocation.jti(), revocation.expiresAt());
+    }
+
+    public void revokeAll(Collection<TokenRevocation> revocations) {
+        revocations.forEach(this::revoke);
+    }
+
+    /**
+     * 폐기 여부 확인 (jti가 없는 토큰은 폐기 대상이 될 수 없으므로 false)
+     */
+    public boolean isRevoked(String jti) {
+        if (jti == null || !filter.mightContain(jti)) {
+            return false;
+        }
+        Long expiresAt = revoked.get(jti);
+        return expiresAt != null && expiresAt >= Instant.now().getEpochSecond();
+    }
+
+    /**
+     * 만료 항목을 제거하고 블룸 필터를 새로 구성
+     */
+    public synchronized void rebuild() {
+        long now = Instant.now().getEpochSecond();
+        revoked.values().removeIf(expiresAt -> expiresAt < now);
+
+        BloomFilter rebuilt = BloomFilter.create(Math.max(expectedRevocations, revoked.size() * 2), falsePositiveRate);
+        revoked.keySet().forEach(rebuilt::put);
+        this.filter = rebuilt;
+        log.debug("Token revocation filter rebuilt: size={}", revoked.size());
+    }
+
+    public int size() {
+        return revoked.size();
+    }
+}
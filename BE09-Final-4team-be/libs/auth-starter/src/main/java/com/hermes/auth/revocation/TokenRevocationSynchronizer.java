@@ -0,0 +1,90 @@
+package com.hermes.auth.revocation;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hermes.auth.jwt.ServiceTokenProvider;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+import org.springframework.web.client.RestClient;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 폐기 목록 주기 동기화
+ * 기동 시 user-service 스냅샷으로 채우고, 이후 주기적으로 스냅샷을 다시 받아 블룸 필터를 재구성한다.
+ * 스냅샷은 게이트웨이가 라우팅하지 않는 내부 경로에 있으며 서비스 토큰으로 호출한다.
+ * 실시간 폐기는 RabbitMQ(TokenRevocationAmqpConfiguration)로 전달된다.
+ */
+@Slf4j
+@Component
+public class TokenRevocationSynchronizer {
+
+    private final TokenRevocationRegistry registry;
+    private final ServiceTokenProvider serviceTokenProvider;
+    private final String snapshotUrl;
+    private final long syncIntervalSeconds;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "token-revocation-sync");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public TokenRevocationSynchronizer(
+            TokenRevocationRegistry registry,
+            ServiceTokenProvider serviceTokenProvider,
+            @Value("${hermes.auth.revocation.snapshot-url:${user-service.url:http://localhost:8081}/internal/auth/revocations}") String snapshotUrl,
+            @Value("${hermes.auth.revocation.sync-interval-seconds:300}") long syncIntervalSeconds) {
+        this.registry = registry;
+        this.serviceTokenProvider = serviceTokenProvider;
+        this.snapshotUrl = snapshotUrl;
+        this.syncIntervalSeconds = syncIntervalSeconds;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        scheduler.scheduleWithFixedDelay(this::sync, 0, syncIntervalSeconds, TimeUnit.SECONDS);
+    }
+
+    void sync() {
+        try {
+            if (StringUtils.hasText(snapshotUrl)) {
+                registry.revokeAll(fetchSnapshot());
+            }
+            registry.rebuild();
+        } catch (Exception e) {
+            log.warn("Token revocation sync failed: url={}, error={}", snapshotUrl, e.getMessage());
+        }
+    }
+
+    private List<TokenRevocation> fetchSnapshot() throws Exception {
+        String body = RestClient.create().get()
+                .uri(snapshotUrl)
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + serviceTokenProvider.getToken(null))
+                .retrieve()
+                .body(String.class);
+        JsonNode data = body != null ? objectMapper.readTree(body).path("data") : null;
+        List<TokenRevocation> revocations = new ArrayList<>();
+        if (data != null && data.isArray()) {
+            for (JsonNode node : data) {
+                revocations.add(objectMapper.treeToValue(node, TokenRevocation.class));
+            }
+        }
+        return revocations;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scheduler.shutdownNow();
+    }
+}
@@ -0,0 +1,72 @@
+package com.hermes.auth;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.UnsupportedJwtException;
+import io.jsonwebtoken.io.Encoders;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * JwtKeySet 키 캐싱 및 kid 기반 키 교체 검증
+ */
+class JwtKeySetTest {
+
+    private static final String CURRENT_SECRET = secret("current-signing-key-for-hermes-tests");
+    private static final String PREVIOUS_SECRET = secret("previous-signing-key-for-hermes-test");
+
+    @Test
+    void testActiveKeyIsBuiltOnce() {
+        JwtKeySet keySet = new JwtKeySet(properties("v2", Map.of()));
+
+        assertEquals("v2", keySet.getActiveKeyId());
+        assertSame(keySet.getActiveKey(), keySet.getActiveKey());
+        assertSame(keySet.getActiveKey(), keySet.getKey(null));
+    }
+
+    @Test
+    void testTokenSignedWithPreviousKeyIsStillVerified() {
+        JwtKeySet oldKeySet = new JwtKeySet(properties("v1", Map.of()));
+        String oldToken = Jwts.builder()
+                .header().keyId("v1").and()
+                .subject("1")
+                .signWith(oldKeySet.getActiveKey(), Jwts.SIG.HS256)
+                .compact();
+
+        JwtKeySet rotated = new JwtKeySet(rotatedProperties());
+        JwtParser parser = Jwts.parser().keyLocator(rotated.locator()).build();
+
+        Claims claims = parser.parseSignedClaims(oldToken).getPayload();
+        assertEquals("1", claims.getSubject());
+    }
+
+    @Test
+    void testUnknownKeyIdIsRejected() {
+        JwtKeySet keySet = new JwtKeySet(properties("v2", Map.of()));
+
+        assertThrows(UnsupportedJwtException.class, () -> keySet.getKey("unknown"));
+    }
+
+    private static JwtProperties rotatedProperties() {
+        JwtProperties properties = properties("v2", Map.of("v1", PREVIOUS_SECRET));
+        properties.setSecret(CURRENT_SECRET);
+        return properties;
+    }
+
+    private static JwtProperties properties(String keyId, Map<String, String> previousSecrets) {
+        JwtProperties properties = new JwtProperties();
+        properties.setKeyId(keyId);
+        properties.setSecret(keyId.equals("v1") ? PREVIOUS_SECRET : CURRENT_SECRET);
+        properties.getPreviousSecrets().putAll(previousSecrets);
+        return properties;
+    }
+
+    private static String secret(String value) {
+        return Encoders.BASE64.encode(value.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,80 @@
+package com.hermes.auth;
+
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.io.Encoders;
+import io.jsonwebtoken.security.Keys;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestReporter;
+
+import java.nio.charset.StandardCharsets;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 토큰 서명/검증 처리량 마이크로벤치마크 (기존: 호출마다 키 디코딩, 변경: JwtKeySet 캐시)
+ * 실행: ./gradlew :libs:auth-starter:benchmark --tests '*JwtSigningBenchmark'
+ */
+@Tag("benchmark")
+class JwtSigningBenchmark {
+
+    private static final int WARMUP_ITERATIONS = 20_000;
+    private static final int MEASURE_ITERATIONS = 100_000;
+
+    private final JwtProperties properties = properties();
+    private final JwtKeySet keySet = new JwtKeySet(properties);
+    private final JwtParser cachedParser = Jwts.parser().keyLocator(keySet.locator()).build();
+
+    @Test
+    void signAndVerifyThroughput(TestReporter reporter) {
+        double perCallKey = measure(() -> {
+            String token = Jwts.builder()
+                    .subject("1")
+                    .signWith(Keys.hmacShaKeyFor(Decoders.BASE64.decode(properties.getSecret())), Jwts.SIG.HS256)
+                    .compact();
+            return Jwts.parser()
+                    .verifyWith(Keys.hmacShaKeyFor(Decoders.BASE64.decode(properties.getSecret())))
+                    .build()
+                    .parseSignedClaims(token)
+                    .getPayload()
+                    .getSubject();
+        });
+
+        double cachedKeySet = measure(() -> {
+            String token = Jwts.builder()
+                    .header().keyId(keySet.getActiveKeyId()).and()
+                    .subject("1")
+                    .signWith(keySet.getActiveKey(), Jwts.SIG.HS256)
+                    .compact();
+            return cachedParser.parseSignedClaims(token).getPayload().getSubject();
+        });
+
+        reporter.publishEntry("per-call key sign+verify/s", String.format("%.0f", perCallKey));
+        reporter.publishEntry("cached keyset sign+verify/s", String.format("%.0f", cachedKeySet));
+    }
+
+    /**
+     * 초당 처리량 (결과가 항상 subject "1"인지 함께 확인)
+     */
+    private static double measure(Supplier<String> operation) {
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            assertEquals("1", operation.get());
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < MEASURE_ITERATIONS; i++) {
+            operation.get();
+        }
+        double seconds = (System.nanoTime() - start) / 1_000_000_000.0;
+        return MEASURE_ITERATIONS / seconds;
+    }
+
+    private static JwtProperties properties() {
+        JwtProperties properties = new JwtProperties();
+        properties.setSecret(Encoders.BASE64.encode(
+                "benchmark-signing-key-for-hermes-auth".getBytes(StandardCharsets.UTF_8)));
+        return properties;
+    }
+}
@@ -0,0 +1,83 @@
+package com.hermes.auth.jwt;
+
+import com.hermes.auth.JwtKeySet;
+import com.hermes.auth.JwtProperties;
+import com.hermes.auth.enums.Role;
+import com.hermes.auth.principal.UserPrincipal;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.io.Encoders;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 서비스 간 호출용 토큰 발급 및 서비스 주체 실행 검증
+ */
+class ServiceTokenProviderTest {
+
+    private final JwtKeySet keySet = new JwtKeySet(properties());
+    private final ServiceTokenProvider provider = new ServiceTokenProvider(keySet, 300, "test-service");
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void testTokenCarriesServiceRoleAndTenant() {
+        String token = provider.getToken("tenant-a");
+
+        Claims claims = Jwts.parser().keyLocator(keySet.locator()).build()
+                .parseSignedClaims(token)
+                .getPayload();
+
+        assertEquals("SERVICE", claims.get("role", String.class));
+        assertEquals("tenant-a", claims.get("tenantId", String.class));
+        assertEquals(0L, claims.get("userId", Long.class));
+        assertEquals("test-service", claims.getSubject());
+        assertNotNull(claims.getId());
+    }
+
+    @Test
+    void testTokenIsReusedPerTenant() {
+        assertSame(provider.getToken("tenant-a"), provider.getToken("tenant-a"));
+        assertNotEquals(provider.getToken("tenant-a"), provider.getToken("tenant-b"));
+        assertSame(provider.getToken(null), provider.getToken("default"));
+    }
+
+    @Test
+    void testCallAsServiceRestoresPreviousContext() {
+        assertNull(SecurityContextHolder.getContext().getAuthentication());
+
+        Role role = provider.callAsService("tenant-a", () -> {
+            Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+            UserPrincipal principal = (UserPrincipal) authentication.getPrincipal();
+            assertEquals("tenant-a", principal.getTenantId());
+            assertTrue(principal.isService());
+            return principal.getRole();
+        });
+
+        assertEquals(Role.SERVICE, role);
+        assertNull(SecurityContextHolder.getContext().getAuthentication());
+    }
+
+    @Test
+    void testServiceRoleHasNoUserPermission() {
+        assertFalse(Role.SERVICE.hasPermission(Role.USER));
+        assertFalse(Role.SERVICE.isAdmin());
+        assertTrue(Role.USER.hasPermission(Role.SERVICE));
+    }
+
+    private static JwtProperties properties() {
+        JwtProperties properties = new JwtProperties();
+        properties.setSecret(Encoders.BASE64.encode(
+                "service-signing-key-for-hermes-tests".getBytes(StandardCharsets.UTF_8)));
+        return properties;
+    }
+}
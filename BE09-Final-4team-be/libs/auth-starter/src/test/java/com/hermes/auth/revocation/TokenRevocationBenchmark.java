@@ -0,0 +1,72 @@
+package com.hermes.auth.revocation;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestReporter;
+
+import java.time.Instant;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 요청당 폐기 확인 비용 마이크로벤치마크 (폐기 목록 10만 건 기준)
+ * 실행: ./gradlew :libs:auth-starter:benchmark --tests '*TokenRevocationBenchmark'
+ */
+@Tag("benchmark")
+class TokenRevocationBenchmark {
+
+    private static final int REVOKED_TOKENS = 100_000;
+    private static final int LOOKUP_TOKENS = 10_000;
+    private static final int WARMUP_ROUNDS = 50;
+    private static final int MEASURE_ROUNDS = 200;
+
+    @Test
+    void isRevokedLatency(TestReporter reporter) {
+        TokenRevocationRegistry registry = new TokenRevocationRegistry(REVOKED_TOKENS, 0.001);
+        long expiresAt = Instant.now().getEpochSecond() + 3600;
+        String[] revoked = new String[LOOKUP_TOKENS];
+        for (int i = 0; i < REVOKED_TOKENS; i++) {
+            String jti = UUID.randomUUID().toString();
+            registry.revoke(jti, expiresAt);
+            if (i < LOOKUP_TOKENS) {
+                revoked[i] = jti;
+            }
+        }
+
+        String[] active = new String[LOOKUP_TOKENS];
+        for (int i = 0; i < LOOKUP_TOKENS; i++) {
+            active[i] = UUID.randomUUID().toString();
+        }
+
+        Measurement activeResult = measure(registry, active);
+        Measurement revokedResult = measure(registry, revoked);
+        reporter.publishEntry("active token ns/check", String.format("%.1f", activeResult.nanosPerCheck()));
+        reporter.publishEntry("revoked token ns/check", String.format("%.1f", revokedResult.nanosPerCheck()));
+
+        // 폐기되지 않은 토큰은 거의 모두 블룸 필터에서 걸러지고, 폐기된 토큰은 모두 거부되어야 한다
+        long checks = (long) (WARMUP_ROUNDS + MEASURE_ROUNDS) * LOOKUP_TOKENS;
+        assertEquals(0, activeResult.hits());
+        assertEquals(checks, revokedResult.hits());
+    }
+
+    private static Measurement measure(TokenRevocationRegistry registry, String[] tokens) {
+        long hits = 0;
+        for (int round = 0; round < WARMUP_ROUNDS; round++) {
+            for (String token : tokens) {
+                hits += registry.isRevoked(token) ? 1 : 0;
+            }
+        }
+        long start = System.nanoTime();
+        for (int round = 0; round < MEASURE_ROUNDS; round++) {
+            for (String token : tokens) {
+                hits += registry.isRevoked(token) ? 1 : 0;
+            }
+        }
+        double nanosPerCheck = (double) (System.nanoTime() - start) / ((long) MEASURE_ROUNDS * tokens.length);
+        return new Measurement(nanosPerCheck, hits);
+    }
+
+    private record Measurement(double nanosPerCheck, long hits) {
+    }
+}
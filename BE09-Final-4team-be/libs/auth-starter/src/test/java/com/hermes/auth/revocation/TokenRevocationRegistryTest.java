@@ -0,0 +1,71 @@
+package com.hermes.auth.revocation;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 블룸 필터 기반 토큰 폐기 목록 검증
+ */
+class TokenRevocationRegistryTest {
+
+    private final TokenRevocationRegistry registry = new TokenRevocationRegistry(1_000, 0.001);
+
+    @Test
+    void testRevokedTokenIsRejected() {
+        registry.revoke("revoked-jti", expiresIn(300));
+
+        assertTrue(registry.isRevoked("revoked-jti"));
+        assertFalse(registry.isRevoked("other-jti"));
+        assertFalse(registry.isRevoked(null));
+    }
+
+    @Test
+    void testExpiredRevocationIsIgnored() {
+        registry.revoke("expired-jti", expiresIn(-1));
+
+        assertFalse(registry.isRevoked("expired-jti"));
+        assertEquals(0, registry.size());
+    }
+
+    @Test
+    void testRebuildKeepsActiveRevocations() {
+        for (int i = 0; i < 5_000; i++) {
+            registry.revoke("jti-" + i, expiresIn(300));
+        }
+
+        registry.rebuild();
+
+        for (int i = 0; i < 5_000; i++) {
+            assertTrue(registry.isRevoked("jti-" + i));
+        }
+        assertEquals(5_000, registry.size());
+    }
+
+    @Test
+    void testBloomFilterHasNoFalseNegatives() {
+        BloomFilter filter = BloomFilter.create(10_000, 0.01);
+        for (int i = 0; i < 10_000; i++) {
+            filter.put("token-" + i);
+        }
+
+        for (int i = 0; i < 10_000; i++) {
+            assertTrue(filter.mightContain("token-" + i));
+        }
+
+        int falsePositives = 0;
+        for (int i = 0; i < 10_000; i++) {
+            if (filter.mightContain(UUID.randomUUID().toString())) {
+                falsePositives++;
+            }
+        }
+        assertTrue(falsePositives < 300, "false positives: " + falsePositives);
+    }
+
+    private static long expiresIn(long seconds) {
+        return Instant.now().getEpochSecond() + seconds;
+    }
+}
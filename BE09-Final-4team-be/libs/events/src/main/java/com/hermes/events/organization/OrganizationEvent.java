@@ -0,0 +1,46 @@
+package com.hermes.events.organization;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 조직/인사발령 변경 이벤트
+ * org-service에서 발행하며, 조직 정보를 캐시하거나 복제하는 서비스에서 구독
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class OrganizationEvent {
+
+    public enum EventType {
+        ORGANIZATION_CREATED,
+        ORGANIZATION_UPDATED,
+        ORGANIZATION_DELETED,
+        ASSIGNMENT_CHANGED
+    }
+
+    private EventType eventType;
+    private String tenantId;
+    private Long organizationId;
+    // 여러 조직에 걸친 일괄 인사발령에서 영향받은 조직 ID (이 경우 organizationId는 비어 있음)
+    private List<Long> organizationIds;
+    // 배정이 변경된 직원 ID (조직 이벤트에서는 비어 있음)
+    private List<Long> employeeIds;
+    private LocalDateTime timestamp;
+
+    public static OrganizationEvent organizationChanged(EventType eventType, String tenantId, Long organizationId) {
+        return new OrganizationEvent(eventType, tenantId, organizationId, List.of(), List.of(), LocalDateTime.now());
+    }
+
+    public static OrganizationEvent assignmentChanged(String tenantId, Long organizationId, List<Long> employeeIds) {
+        return new OrganizationEvent(EventType.ASSIGNMENT_CHANGED, tenantId, organizationId, List.of(), employeeIds, LocalDateTime.now());
+    }
+
+    public static OrganizationEvent assignmentsChanged(String tenantId, List<Long> organizationIds, List<Long> employeeIds) {
+        return new OrganizationEvent(EventType.ASSIGNMENT_CHANGED, tenantId, null, organizationIds, employeeIds, LocalDateTime.now());
+    }
+}
@@ -0,0 +1,39 @@
+package com.hermes.events.user;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 사용자 생명주기 이벤트
+ * user-service에서 발행하며, 사용자 정보를 로컬에 복제하는 서비스에서 구독
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserEvent {
+
+    public enum EventType {
+        USER_CREATED,
+        USER_UPDATED,
+        USER_DELETED
+    }
+
+    private EventType eventType;
+    private Long userId;
+    private LocalDateTime timestamp;
+
+    public static UserEvent created(Long userId) {
+        return new UserEvent(EventType.USER_CREATED, userId, LocalDateTime.now());
+    }
+
+    public static UserEvent updated(Long userId) {
+        return new UserEvent(EventType.USER_UPDATED, userId, LocalDateTime.now());
+    }
+
+    public static UserEvent deleted(Long userId) {
+        return new UserEvent(EventType.USER_DELETED, userId, LocalDateTime.now());
+    }
+}
@@ -0,0 +1,56 @@
+package com.hermes.orgservice.config;
+
+import org.springframework.amqp.core.AnonymousQueue;
+import org.springframework.amqp.core.Binding;
+import org.springframework.amqp.core.BindingBuilder;
+import org.springframework.amqp.core.ExchangeBuilder;
+import org.springframework.amqp.core.Queue;
+import org.springframework.amqp.core.TopicExchange;
+import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
+import org.springframework.amqp.support.converter.MessageConverter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class RabbitMQConfig {
+
+    @Value("${hermes.organization.events.exchange:organization.events}")
+    private String organizationExchange;
+
+    /**
+     * JSON 메시지 컨버터 (RabbitTemplate 자동 구성에서 사용)
+     */
+    @Bean
+    public MessageConverter jackson2JsonMessageConverter() {
+        return new Jackson2JsonMessageConverter();
+    }
+
+    /**
+     * 조직 이벤트 Exchange (Topic Exchange)
+     */
+    @Bean
+    public TopicExchange organizationEventExchange() {
+        return ExchangeBuilder
+                .topicExchange(organizationExchange)
+                .durable(true)
+                .build();
+    }
+
+    /**
+     * 인스턴스 전용 조직 스냅샷 무효화 Queue (인스턴스 종료 시 자동 삭제)
+     * 다른 인스턴스에서 발생한 조직/인사발령 변경을 받아 로컬 스냅샷을 버린다.
+     */
+    @Bean
+    public Queue organizationSnapshotQueue() {
+        return new AnonymousQueue();
+    }
+
+    @Bean
+    public Binding organizationSnapshotBinding(Queue organizationSnapshotQueue, TopicExchange organizationEventExchange) {
+        return BindingBuilder
+                .bind(organizationSnapshotQueue)
+                .to(organizationEventExchange)
+                .with("organization.#");
+    }
+}
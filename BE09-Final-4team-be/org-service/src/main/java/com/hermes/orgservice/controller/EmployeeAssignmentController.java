@@ -3,6 +3,7 @@ package com.hermes.orgservice.controller;
 import com.hermes.api.common.ApiResult;
 import com.hermes.orgservice.dto.CreateAssignmentRequest;
 import com.hermes.orgservice.dto.EmployeeAssignmentDto;
+import com.hermes.orgservice.dto.ReassignmentRequest;
 import com.hermes.orgservice.service.EmployeeAssignmentService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -11,6 +12,8 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
 import java.util.List;
 import org.springframework.security.access.prepost.PreAuthorize;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -45,6 +48,40 @@ public class EmployeeAssignmentController {
         return ResponseEntity.status(HttpStatus.CREATED).body(ApiResult.success("직원 배정 생성 성공", createdAssignment));
     }
 
+    @PreAuthorize("hasRole('ADMIN')")
+    @PostMapping("/batch")
+    @Operation(summary = "직원 배정 일괄 생성", description = "여러 직원을 한 번에 조직에 배정합니다. 이미 배정된 직원은 기존 배정을 반환합니다. (최대 5000건)")
+    @ApiResponse(responseCode = "201", description = "직원 배정 일괄 생성 성공")
+    @ApiResponse(responseCode = "400", description = "잘못된 요청 또는 유효성 검증 실패")
+    @ApiResponse(responseCode = "401", description = "인증되지 않은 요청")
+    @ApiResponse(responseCode = "403", description = "권한이 없는 요청")
+    @ApiResponse(responseCode = "404", description = "조직을 찾을 수 없음")
+    @ApiResponse(responseCode = "500", description = "서버 내부 오류")
+    public ResponseEntity<ApiResult<List<EmployeeAssignmentDto>>> createAssignments(
+            @Parameter(description = "생성할 직원 배정 목록", required = true)
+            @RequestBody @NotEmpty @Size(max = 5000) List<@Valid CreateAssignmentRequest> requests) {
+        log.info("Create employee assignments in bulk API called: count={}", requests.size());
+        List<EmployeeAssignmentDto> assignments = employeeAssignmentService.createAssignments(requests);
+        return ResponseEntity.status(HttpStatus.CREATED).body(ApiResult.success("직원 배정 일괄 생성 성공", assignments));
+    }
+
+    @PreAuthorize("hasRole('ADMIN')")
+    @PutMapping("/batch")
+    @Operation(summary = "일괄 인사발령", description = "여러 직원의 조직 이동과 조직장 변경을 한 번에 처리합니다. 하나라도 실패하면 전체가 반영되지 않습니다. (최대 5000건)")
+    @ApiResponse(responseCode = "200", description = "일괄 인사발령 성공")
+    @ApiResponse(responseCode = "400", description = "잘못된 요청 또는 유효성 검증 실패")
+    @ApiResponse(responseCode = "401", description = "인증되지 않은 요청")
+    @ApiResponse(responseCode = "403", description = "권한이 없는 요청")
+    @ApiResponse(responseCode = "404", description = "조직 또는 배정을 찾을 수 없음")
+    @ApiResponse(responseCode = "500", description = "서버 내부 오류")
+    public ResponseEntity<ApiResult<List<EmployeeAssignmentDto>>> reassign(
+            @Parameter(description = "인사발령 목록", required = true)
+            @RequestBody @NotEmpty @Size(max = 5000) List<@Valid ReassignmentRequest> requests) {
+        log.info("Reassign employees in bulk API called: count={}", requests.size());
+        List<EmployeeAssignmentDto> assignments = employeeAssignmentService.reassign(requests);
+        return ResponseEntity.ok(ApiResult.success("일괄 인사발령 성공", assignments));
+    }
+
     @GetMapping("/{assignmentId}")
     @Operation(summary = "직원 배정 단건 조회", description = "배정 ID로 직원 배정 정보를 조회합니다.")
     @ApiResponse(responseCode = "200", description = "배정 정보 조회 성공")
@@ -71,6 +108,19 @@ public class EmployeeAssignmentController {
         return ResponseEntity.ok(ApiResult.success("직원 배정 목록 조회 성공", assignments));
     }
 
+    @PostMapping("/employees")
+    @Operation(summary = "직원 목록 배정 일괄 조회", description = "여러 직원 ID의 배정 목록을 한 번에 조회합니다. (최대 1000명)")
+    @ApiResponse(responseCode = "200", description = "직원 배정 목록 조회 성공")
+    @ApiResponse(responseCode = "400", description = "잘못된 요청")
+    @ApiResponse(responseCode = "500", description = "서버 내부 오류")
+    public ResponseEntity<ApiResult<List<EmployeeAssignmentDto>>> getAssignmentsByEmployeeIds(
+            @Parameter(description = "조회할 직원 ID 목록", required = true)
+            @RequestBody @NotEmpty @Size(max = 1000) List<Long> employeeIds) {
+        log.info("Get employee assignments in bulk API called: count={}", employeeIds.size());
+        List<EmployeeAssignmentDto> assignments = employeeAssignmentService.getAssignmentsByEmployeeIds(employeeIds);
+        return ResponseEntity.ok(ApiResult.success("직원 배정 목록 조회 성공", assignments));
+    }
+
     @GetMapping
     @Operation(summary = "전체 배정 목록 조회", description = "모든 배정 목록을 조회합니다.")
     @ApiResponse(responseCode = "200", description = "전체 배정 목록 조회 성공")
@@ -12,6 +12,9 @@ public class CreateAssignmentRequest {
     
     @NotNull(message = "직원 ID는 필수입니다.")
     private Long employeeId;
+
+    // 직원 이름 (배정 목록 표시용)
+    private String employeeName;
     
     @NotNull(message = "조직 ID는 필수입니다.")
     private Long organizationId;
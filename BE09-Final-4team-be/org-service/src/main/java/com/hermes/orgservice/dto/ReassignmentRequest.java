@@ -0,0 +1,27 @@
+package com.hermes.orgservice.dto;
+
+import jakarta.validation.constraints.NotNull;
+import lombok.*;
+
+/**
+ * 일괄 인사발령 항목 (조직 이동 및/또는 조직장 변경)
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ReassignmentRequest {
+
+    @NotNull(message = "직원 ID는 필수입니다.")
+    private Long employeeId;
+
+    // 변경할 기존 배정의 조직 ID (비어 있으면 메인 부서 배정)
+    private Long fromOrganizationId;
+
+    // 이동할 조직 ID (비어 있으면 조직 이동 없음)
+    private Long toOrganizationId;
+
+    // 변경할 조직장 여부 (비어 있으면 기존 값 유지)
+    private Boolean isLeader;
+}
@@ -0,0 +1,46 @@
+package com.hermes.orgservice.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.io.Serializable;
+
+/**
+ * 조직 계층 클로저 테이블 (조상-자손 쌍마다 1행, 자기 자신은 depth 0)
+ * 조직 생성/이동/삭제 시 OrganizationService에서 함께 갱신한다.
+ */
+@Entity
+@Table(name = "organization_closure",
+        indexes = {
+                @Index(name = "idx_organization_closure_descendant", columnList = "descendant_id, depth"),
+                @Index(name = "idx_organization_closure_ancestor_depth", columnList = "ancestor_id, depth")
+        })
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@IdClass(OrganizationClosure.ClosureId.class)
+public class OrganizationClosure {
+
+    @Id
+    @Column(name = "ancestor_id", nullable = false)
+    private Long ancestorId;
+
+    @Id
+    @Column(name = "descendant_id", nullable = false)
+    private Long descendantId;
+
+    @Column(nullable = false)
+    private Integer depth;
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @EqualsAndHashCode
+    public static class ClosureId implements Serializable {
+        private Long ancestorId;
+        private Long descendantId;
+    }
+}
@@ -30,6 +30,13 @@ public class GlobalExceptionHandler {
                 .body(ApiResult.failure(ex.getMessage()));
     }
 
+    @ExceptionHandler(InvalidOrganizationHierarchyException.class)
+    public ResponseEntity<ApiResult<Void>> handleInvalidOrganizationHierarchy(InvalidOrganizationHierarchyException ex) {
+        log.warn("잘못된 조직 계층 변경: {}", ex.getMessage());
+        return ResponseEntity.badRequest()
+                .body(ApiResult.failure(ex.getMessage()));
+    }
+
     @ExceptionHandler(EmployeeAssignmentNotFoundException.class)
     public ResponseEntity<ApiResult<Void>> handleEmployeeAssignmentNotFound(EmployeeAssignmentNotFoundException ex) {
         log.warn("직원 배정을 찾을 수 없음: {}", ex.getMessage());
@@ -37,6 +44,13 @@ public class GlobalExceptionHandler {
                 .body(ApiResult.failure(ex.getMessage()));
     }
 
+    @ExceptionHandler(InvalidAssignmentRequestException.class)
+    public ResponseEntity<ApiResult<Void>> handleInvalidAssignmentRequest(InvalidAssignmentRequestException ex) {
+        log.warn("잘못된 직원 배정 요청: {}", ex.getMessage());
+        return ResponseEntity.badRequest()
+                .body(ApiResult.failure(ex.getMessage()));
+    }
+
     @ExceptionHandler(MethodArgumentNotValidException.class)
     public ResponseEntity<ApiResult<Map<String, String>>> handleValidationExceptions(MethodArgumentNotValidException ex) {
         Map<String, String> errors = new HashMap<>();
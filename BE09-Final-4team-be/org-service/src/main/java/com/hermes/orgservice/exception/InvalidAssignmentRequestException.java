@@ -0,0 +1,8 @@
+package com.hermes.orgservice.exception;
+
+public class InvalidAssignmentRequestException extends RuntimeException {
+
+    public InvalidAssignmentRequestException(String message) {
+        super(message);
+    }
+}
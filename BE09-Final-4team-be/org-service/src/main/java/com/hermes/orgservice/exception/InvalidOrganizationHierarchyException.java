@@ -0,0 +1,8 @@
+package com.hermes.orgservice.exception;
+
+public class InvalidOrganizationHierarchyException extends RuntimeException {
+
+    public InvalidOrganizationHierarchyException(String message) {
+        super(message);
+    }
+}
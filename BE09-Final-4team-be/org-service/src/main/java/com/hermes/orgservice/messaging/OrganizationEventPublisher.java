@@ -0,0 +1,94 @@
+package com.hermes.orgservice.messaging;
+
+import com.hermes.auth.principal.UserPrincipal;
+import com.hermes.events.organization.OrganizationEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+
+/**
+ * 조직/인사발령 변경 이벤트를 RabbitMQ로 발행하는 Publisher
+ * 트랜잭션 안에서 호출되면 커밋 이후에 발행하여, 롤백된 변경이 전파되지 않도록 한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OrganizationEventPublisher {
+
+    private final RabbitTemplate rabbitTemplate;
+
+    @Value("${hermes.organization.events.exchange:organization.events}")
+    private String organizationExchange;
+
+    @Value("${hermes.organization.events.organization-routing-key:organization.changed}")
+    private String organizationRoutingKey;
+
+    @Value("${hermes.organization.events.assignment-routing-key:organization.assignment.changed}")
+    private String assignmentRoutingKey;
+
+    /**
+     * 조직 생성/수정/삭제 이벤트 발행
+     */
+    public void publishOrganizationChanged(OrganizationEvent.EventType eventType, Long organizationId) {
+        publishAfterCommit(OrganizationEvent.organizationChanged(eventType, currentTenantId(), organizationId),
+                organizationRoutingKey);
+    }
+
+    /**
+     * 인사발령 변경 이벤트 발행
+     */
+    public void publishAssignmentChanged(Long organizationId, List<Long> employeeIds) {
+        publishAfterCommit(OrganizationEvent.assignmentChanged(currentTenantId(), organizationId, employeeIds),
+                assignmentRoutingKey);
+    }
+
+    /**
+     * 일괄 인사발령 변경 이벤트 발행 (여러 조직의 변경을 이벤트 하나로 묶음)
+     */
+    public void publishAssignmentsChanged(List<Long> organizationIds, List<Long> employeeIds) {
+        publishAfterCommit(OrganizationEvent.assignmentsChanged(currentTenantId(), organizationIds, employeeIds),
+                assignmentRoutingKey);
+    }
+
+    private void publishAfterCommit(OrganizationEvent event, String routingKey) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    publishEvent(event, routingKey);
+                }
+            });
+        } else {
+            publishEvent(event, routingKey);
+        }
+    }
+
+    /**
+     * 이벤트를 RabbitMQ로 발행 (발행 실패가 조직 변경 자체를 실패시키지는 않음)
+     */
+    private void publishEvent(OrganizationEvent event, String routingKey) {
+        try {
+            rabbitTemplate.convertAndSend(organizationExchange, routingKey, event);
+            log.debug("Organization event published: routingKey={}, event={}", routingKey, event);
+        } catch (Exception e) {
+            log.error("Failed to publish organization event: routingKey={}, event={}, error={}",
+                    routingKey, event, e.getMessage(), e);
+        }
+    }
+
+    private String currentTenantId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof UserPrincipal principal) {
+            return principal.getTenantId();
+        }
+        return null;
+    }
+}
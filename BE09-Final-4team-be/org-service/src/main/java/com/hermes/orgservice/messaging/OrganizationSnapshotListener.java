@@ -0,0 +1,26 @@
+package com.hermes.orgservice.messaging;
+
+import com.hermes.events.organization.OrganizationEvent;
+import com.hermes.orgservice.service.OrganizationSnapshot;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * 조직/인사발령 변경 이벤트 구독 (다른 인스턴스의 변경을 로컬 조직 스냅샷에 반영)
+ * 자신이 발행한 이벤트도 함께 수신하지만, 무효화는 여러 번 실행되어도 다음 조회에서 한 번 다시 만들 뿐이다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OrganizationSnapshotListener {
+
+    private final OrganizationSnapshot organizationSnapshot;
+
+    @RabbitListener(queues = "#{organizationSnapshotQueue.name}")
+    public void handleOrganizationEvent(OrganizationEvent event) {
+        log.debug("Organization event received for snapshot: type={}, tenantId={}", event.getEventType(), event.getTenantId());
+        organizationSnapshot.evictTenant(event.getTenantId());
+    }
+}
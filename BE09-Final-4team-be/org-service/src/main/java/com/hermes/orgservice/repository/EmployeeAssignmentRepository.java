@@ -6,6 +6,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -13,6 +14,9 @@ import java.util.Optional;
 public interface EmployeeAssignmentRepository extends JpaRepository<EmployeeAssignment, Long> {
 
     List<EmployeeAssignment> findByEmployeeId(Long employeeId);
+
+    @Query("SELECT ea FROM EmployeeAssignment ea JOIN FETCH ea.organization WHERE ea.employeeId IN :employeeIds")
+    List<EmployeeAssignment> findByEmployeeIdInWithOrganization(@Param("employeeIds") Collection<Long> employeeIds);
     
     List<EmployeeAssignment> findByOrganizationOrganizationId(Long organizationId);
     
@@ -0,0 +1,58 @@
+package com.hermes.orgservice.repository;
+
+import com.hermes.orgservice.entity.OrganizationClosure;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface OrganizationClosureRepository extends JpaRepository<OrganizationClosure, OrganizationClosure.ClosureId> {
+
+    @Modifying
+    @Query(value = "INSERT INTO organization_closure (ancestor_id, descendant_id, depth) VALUES (:organizationId, :organizationId, 0)",
+           nativeQuery = true)
+    int insertSelf(@Param("organizationId") Long organizationId);
+
+    // 새 조직: 부모의 모든 조상(부모 자신 포함)에서 새 조직으로 가는 경로 (자기 자신 행은 별도 저장)
+    @Modifying
+    @Query(value = "INSERT INTO organization_closure (ancestor_id, descendant_id, depth) " +
+                   "SELECT c.ancestor_id, :organizationId, c.depth + 1 FROM organization_closure c WHERE c.descendant_id = :parentId",
+           nativeQuery = true)
+    int insertAncestorPaths(@Param("organizationId") Long organizationId, @Param("parentId") Long parentId);
+
+    // 이동 1단계: 서브트리 외부 조상과 서브트리 사이의 경로 삭제
+    @Modifying
+    @Query(value = "DELETE FROM organization_closure " +
+                   "WHERE descendant_id IN (SELECT descendant_id FROM organization_closure WHERE ancestor_id = :organizationId) " +
+                   "AND ancestor_id NOT IN (SELECT descendant_id FROM organization_closure WHERE ancestor_id = :organizationId)",
+           nativeQuery = true)
+    int detachSubtree(@Param("organizationId") Long organizationId);
+
+    // 이동 2단계: 새 부모의 조상들과 서브트리의 모든 노드를 연결
+    @Modifying
+    @Query(value = "INSERT INTO organization_closure (ancestor_id, descendant_id, depth) " +
+                   "SELECT p.ancestor_id, s.descendant_id, p.depth + s.depth + 1 " +
+                   "FROM organization_closure p CROSS JOIN organization_closure s " +
+                   "WHERE p.descendant_id = :parentId AND s.ancestor_id = :organizationId", nativeQuery = true)
+    int attachSubtree(@Param("organizationId") Long organizationId, @Param("parentId") Long parentId);
+
+    @Modifying
+    @Query("DELETE FROM OrganizationClosure c WHERE c.ancestorId = :organizationId OR c.descendantId = :organizationId")
+    int deleteNode(@Param("organizationId") Long organizationId);
+
+    boolean existsByAncestorIdAndDescendantId(Long ancestorId, Long descendantId);
+
+    boolean existsByAncestorIdAndDepthGreaterThan(Long ancestorId, Integer depth);
+
+    // 기존 데이터 이관: parent_id를 따라 재귀적으로 전체 경로 생성
+    @Modifying
+    @Query(value = "INSERT INTO organization_closure (ancestor_id, descendant_id, depth) " +
+                   "WITH RECURSIVE tree (ancestor_id, descendant_id, depth) AS (" +
+                   "  SELECT organization_id, organization_id, 0 FROM organization " +
+                   "  UNION ALL " +
+                   "  SELECT t.ancestor_id, o.organization_id, t.depth + 1 FROM tree t JOIN organization o ON o.parent_id = t.descendant_id" +
+                   ") SELECT ancestor_id, descendant_id, depth FROM tree", nativeQuery = true)
+    int rebuild();
+}
@@ -1,6 +1,7 @@
 package com.hermes.orgservice.repository;
 
 import com.hermes.orgservice.entity.Organization;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -12,12 +13,18 @@ import java.util.Optional;
 @Repository
 public interface OrganizationRepository extends JpaRepository<Organization, Long> {
 
+    // 상위 조직 이름을 함께 쓰므로 parent를 조인으로 읽음
+    @Override
+    @EntityGraph(attributePaths = "parent")
+    List<Organization> findAll();
+
     Optional<Organization> findByName(String name);
     
     List<Organization> findByParentIsNull();
     
     List<Organization> findByParentOrganizationId(Long parentId);
     
+    @EntityGraph(attributePaths = "parent")
     @Query("SELECT o FROM Organization o WHERE o.name LIKE %:keyword%")
     List<Organization> findByNameContaining(@Param("keyword") String keyword);
     
@@ -2,10 +2,13 @@ package com.hermes.orgservice.service;
 
 import com.hermes.orgservice.dto.CreateAssignmentRequest;
 import com.hermes.orgservice.dto.EmployeeAssignmentDto;
+import com.hermes.orgservice.dto.ReassignmentRequest;
 import com.hermes.orgservice.entity.EmployeeAssignment;
 import com.hermes.orgservice.entity.Organization;
 import com.hermes.orgservice.exception.EmployeeAssignmentNotFoundException;
+import com.hermes.orgservice.exception.InvalidAssignmentRequestException;
 import com.hermes.orgservice.exception.OrganizationNotFoundException;
+import com.hermes.orgservice.messaging.OrganizationEventPublisher;
 import com.hermes.orgservice.repository.EmployeeAssignmentRepository;
 import com.hermes.orgservice.repository.OrganizationRepository;
 import lombok.RequiredArgsConstructor;
@@ -13,7 +16,16 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -24,6 +36,8 @@ public class EmployeeAssignmentService {
 
     private final EmployeeAssignmentRepository employeeAssignmentRepository;
     private final OrganizationRepository organizationRepository;
+    private final OrganizationEventPublisher organizationEventPublisher;
+    private final OrganizationSnapshot organizationSnapshot;
 
     public EmployeeAssignmentDto createAssignment(CreateAssignmentRequest request) {
         log.info("Creating employee assignment: employeeId={}, organizationId={}", 
@@ -56,6 +70,7 @@ public class EmployeeAssignmentService {
         
         EmployeeAssignment assignment = EmployeeAssignment.builder()
                 .employeeId(request.getEmployeeId())
+                .employeeName(Objects.requireNonNullElse(request.getEmployeeName(), ""))
                 .organization(organization)
                 .isPrimary(request.getIsPrimary())
                 .isLeader(request.getIsLeader())
@@ -63,56 +78,225 @@ public class EmployeeAssignmentService {
         
         EmployeeAssignment savedAssignment = employeeAssignmentRepository.save(assignment);
         log.info("Employee assignment created: assignmentId={}", savedAssignment.getAssignmentId());
+        organizationSnapshot.invalidate();
+        organizationEventPublisher.publishAssignmentChanged(request.getOrganizationId(), List.of(request.getEmployeeId()));
         
         return convertToDto(savedAssignment);
     }
 
+    /**
+     * 직원 배정 일괄 생성 (사용자 일괄 등록용)
+     * 조직/기존 배정을 한 번에 조회하고 일괄 저장하며, 변경 이벤트는 조직별로 한 번만 발행한다.
+     * 이미 배정된 (직원, 조직)은 기존 배정을 그대로 반환한다.
+     */
+    public List<EmployeeAssignmentDto> createAssignments(List<CreateAssignmentRequest> requests) {
+        log.info("Creating employee assignments in bulk: count={}", requests.size());
+
+        Set<Long> organizationIds = requests.stream().map(CreateAssignmentRequest::getOrganizationId).collect(Collectors.toSet());
+        Map<Long, Organization> organizations = organizationRepository.findAllById(organizationIds).stream()
+                .collect(Collectors.toMap(Organization::getOrganizationId, Function.identity()));
+        for (Long organizationId : organizationIds) {
+            if (!organizations.containsKey(organizationId)) {
+                throw new OrganizationNotFoundException(organizationId);
+            }
+        }
+
+        Set<Long> employeeIds = requests.stream().map(CreateAssignmentRequest::getEmployeeId).collect(Collectors.toSet());
+        List<EmployeeAssignment> existingAssignments = employeeAssignmentRepository.findByEmployeeIdInWithOrganization(employeeIds);
+        Map<String, EmployeeAssignment> existingByKey = existingAssignments.stream()
+                .collect(Collectors.toMap(a -> assignmentKey(a.getEmployeeId(), a.getOrganization().getOrganizationId()),
+                        Function.identity(), (a, b) -> a));
+
+        List<EmployeeAssignmentDto> results = new ArrayList<>(requests.size());
+        List<EmployeeAssignment> newAssignments = new ArrayList<>();
+        Set<Long> newPrimaryEmployeeIds = new HashSet<>();
+        for (CreateAssignmentRequest request : requests) {
+            String key = assignmentKey(request.getEmployeeId(), request.getOrganizationId());
+            EmployeeAssignment existing = existingByKey.get(key);
+            if (existing != null) {
+                results.add(convertToDto(existing));
+                continue;
+            }
+            EmployeeAssignment assignment = EmployeeAssignment.builder()
+                    .employeeId(request.getEmployeeId())
+                    .employeeName(Objects.requireNonNullElse(request.getEmployeeName(), ""))
+                    .organization(organizations.get(request.getOrganizationId()))
+                    .isPrimary(Boolean.TRUE.equals(request.getIsPrimary()))
+                    .isLeader(Boolean.TRUE.equals(request.getIsLeader()))
+                    .build();
+            existingByKey.put(key, assignment);
+            newAssignments.add(assignment);
+            if (assignment.getIsPrimary()) {
+                newPrimaryEmployeeIds.add(request.getEmployeeId());
+            }
+        }
+
+        // 새 메인 부서가 생기는 직원의 기존 메인 배정 해제
+        for (EmployeeAssignment assignment : existingAssignments) {
+            if (assignment.getIsPrimary() && newPrimaryEmployeeIds.contains(assignment.getEmployeeId())) {
+                assignment.setIsPrimary(false);
+            }
+        }
+
+        List<EmployeeAssignment> savedAssignments = employeeAssignmentRepository.saveAll(newAssignments);
+        savedAssignments.forEach(assignment -> results.add(convertToDto(assignment)));
+        log.info("Employee assignments created in bulk: requested={}, created={}", requests.size(), savedAssignments.size());
+        if (!savedAssignments.isEmpty()) {
+            organizationSnapshot.invalidate();
+        }
+
+        Map<Long, List<Long>> changedByOrganization = new LinkedHashMap<>();
+        for (EmployeeAssignment assignment : savedAssignments) {
+            changedByOrganization.computeIfAbsent(assignment.getOrganization().getOrganizationId(), k -> new ArrayList<>())
+                    .add(assignment.getEmployeeId());
+        }
+        changedByOrganization.forEach(organizationEventPublisher::publishAssignmentChanged);
+
+        return results;
+    }
+
+    /**
+     * 일괄 인사발령 (조직 이동, 조직장 변경)
+     * 대상 배정과 조직을 한 번에 조회해 전체 요청을 먼저 검증한 뒤 변경하므로, 하나라도 잘못되면 아무것도 반영되지 않는다.
+     * 변경은 flush 시 JDBC 배치 UPDATE로 기록되며, 변경 이벤트는 영향받은 조직 전체를 묶어 한 번만 발행한다.
+     */
+    public List<EmployeeAssignmentDto> reassign(List<ReassignmentRequest> requests) {
+        log.info("Reassigning employees in bulk: count={}", requests.size());
+
+        Set<Long> employeeIds = requests.stream().map(ReassignmentRequest::getEmployeeId).collect(Collectors.toSet());
+        Map<Long, List<EmployeeAssignment>> assignmentsByEmployee = employeeAssignmentRepository
+                .findByEmployeeIdInWithOrganization(employeeIds).stream()
+                .collect(Collectors.groupingBy(EmployeeAssignment::getEmployeeId));
+
+        Set<Long> targetOrganizationIds = requests.stream()
+                .map(ReassignmentRequest::getToOrganizationId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        Map<Long, Organization> organizations = organizationRepository.findAllById(targetOrganizationIds).stream()
+                .collect(Collectors.toMap(Organization::getOrganizationId, Function.identity()));
+        for (Long organizationId : targetOrganizationIds) {
+            if (!organizations.containsKey(organizationId)) {
+                throw new OrganizationNotFoundException(organizationId);
+            }
+        }
+
+        // 1단계: 모든 항목 검증 (대상 배정 확인, 중복 항목/이동 충돌 확인)
+        Map<ReassignmentRequest, EmployeeAssignment> targets = new LinkedHashMap<>();
+        Set<EmployeeAssignment> seen = new HashSet<>();
+        Set<String> movedKeys = new HashSet<>();
+        for (ReassignmentRequest request : requests) {
+            if (request.getToOrganizationId() == null && request.getIsLeader() == null) {
+                throw new InvalidAssignmentRequestException(
+                        "Reassignment requires a target organization or leader flag: employeeId=" + request.getEmployeeId());
+            }
+            List<EmployeeAssignment> employeeAssignments = assignmentsByEmployee.getOrDefault(request.getEmployeeId(), List.of());
+            EmployeeAssignment assignment = employeeAssignments.stream()
+                    .filter(a -> request.getFromOrganizationId() != null
+                            ? a.getOrganization().getOrganizationId().equals(request.getFromOrganizationId())
+                            : a.getIsPrimary())
+                    .findFirst()
+                    .orElseThrow(() -> new EmployeeAssignmentNotFoundException(String.format(
+                            "Employee assignment not found: employeeId=%d, organizationId=%s",
+                            request.getEmployeeId(), request.getFromOrganizationId() != null ? request.getFromOrganizationId() : "primary")));
+            if (!seen.add(assignment)) {
+                throw new InvalidAssignmentRequestException(String.format(
+                        "Duplicate reassignment for employeeId=%d, organizationId=%d",
+                        request.getEmployeeId(), assignment.getOrganization().getOrganizationId()));
+            }
+            // (직원, 조직) 유일 제약과 겹치는 이동은 거부 (이미 배정된 조직, 또는 같은 조직으로의 중복 이동)
+            if (request.getToOrganizationId() != null
+                    && !request.getToOrganizationId().equals(assignment.getOrganization().getOrganizationId())
+                    && (employeeAssignments.stream().anyMatch(a -> a.getOrganization().getOrganizationId().equals(request.getToOrganizationId()))
+                        || !movedKeys.add(assignmentKey(request.getEmployeeId(), request.getToOrganizationId())))) {
+                throw new InvalidAssignmentRequestException(String.format(
+                        "Employee is already assigned to target organization: employeeId=%d, organizationId=%d",
+                        request.getEmployeeId(), request.getToOrganizationId()));
+            }
+            targets.put(request, assignment);
+        }
+
+        // 2단계: 변경 적용 (관리 엔티티 변경만 하므로 커밋 시 배치 UPDATE)
+        Set<Long> affectedOrganizationIds = new LinkedHashSet<>();
+        Set<Long> changedEmployeeIds = new LinkedHashSet<>();
+        List<EmployeeAssignment> changedAssignments = new ArrayList<>();
+        targets.forEach((request, assignment) -> {
+            Long previousOrganizationId = assignment.getOrganization().getOrganizationId();
+            boolean changed = false;
+            if (request.getToOrganizationId() != null && !request.getToOrganizationId().equals(previousOrganizationId)) {
+                assignment.setOrganization(organizations.get(request.getToOrganizationId()));
+                affectedOrganizationIds.add(request.getToOrganizationId());
+                changed = true;
+            }
+            if (request.getIsLeader() != null && !request.getIsLeader().equals(assignment.getIsLeader())) {
+                assignment.setIsLeader(request.getIsLeader());
+                changed = true;
+            }
+            if (changed) {
+                affectedOrganizationIds.add(previousOrganizationId);
+                changedEmployeeIds.add(assignment.getEmployeeId());
+                changedAssignments.add(assignment);
+            }
+        });
+        employeeAssignmentRepository.flush();
+        log.info("Employees reassigned in bulk: requested={}, changed={}, organizations={}",
+                requests.size(), changedAssignments.size(), affectedOrganizationIds.size());
+
+        if (!changedAssignments.isEmpty()) {
+            organizationSnapshot.invalidate();
+            organizationEventPublisher.publishAssignmentsChanged(
+                    List.copyOf(affectedOrganizationIds), List.copyOf(changedEmployeeIds));
+        }
+
+        return targets.values().stream()
+                .map(this::convertToDto)
+                .collect(Collectors.toList());
+    }
+
     @Transactional(readOnly = true)
     public EmployeeAssignmentDto getAssignment(Long assignmentId) {
-        EmployeeAssignment assignment = employeeAssignmentRepository.findById(assignmentId)
+        return organizationSnapshot.getAssignment(assignmentId)
                 .orElseThrow(() -> new EmployeeAssignmentNotFoundException(assignmentId));
-        
-        return convertToDto(assignment);
     }
 
     @Transactional(readOnly = true)
     public List<EmployeeAssignmentDto> getAssignmentsByEmployeeId(Long employeeId) {
-        List<EmployeeAssignment> assignments = employeeAssignmentRepository.findByEmployeeId(employeeId);
-        return assignments.stream()
-                .map(this::convertToDto)
+        return organizationSnapshot.getAssignmentsByEmployee(employeeId);
+    }
+
+    /**
+     * 여러 직원의 배정 목록 일괄 조회 (조직 스냅샷에서 직원별로 조회)
+     */
+    @Transactional(readOnly = true)
+    public List<EmployeeAssignmentDto> getAssignmentsByEmployeeIds(Collection<Long> employeeIds) {
+        if (employeeIds.isEmpty()) {
+            return List.of();
+        }
+        return employeeIds.stream()
+                .distinct()
+                .flatMap(employeeId -> organizationSnapshot.getAssignmentsByEmployee(employeeId).stream())
                 .collect(Collectors.toList());
     }
 
     @Transactional(readOnly = true)
     public List<EmployeeAssignmentDto> getAllAssignments() {
-        List<EmployeeAssignment> assignments = employeeAssignmentRepository.findAll();
-        return assignments.stream()
-                .map(this::convertToDto)
-                .collect(Collectors.toList());
+        return organizationSnapshot.getAssignments();
     }
 
     @Transactional(readOnly = true)
     public List<EmployeeAssignmentDto> getAssignmentsByOrganizationId(Long organizationId) {
-        List<EmployeeAssignment> assignments = employeeAssignmentRepository.findByOrganizationOrganizationId(organizationId);
-        return assignments.stream()
-                .map(this::convertToDto)
-                .collect(Collectors.toList());
+        return organizationSnapshot.getAssignmentsByOrganization(organizationId);
     }
 
     @Transactional(readOnly = true)
     public List<EmployeeAssignmentDto> getPrimaryAssignmentsByEmployeeId(Long employeeId) {
-        List<EmployeeAssignment> assignments = employeeAssignmentRepository.findByEmployeeIdAndIsPrimaryTrue(employeeId);
-        return assignments.stream()
-                .map(this::convertToDto)
+        return organizationSnapshot.getAssignmentsByEmployee(employeeId).stream()
+                .filter(assignment -> Boolean.TRUE.equals(assignment.getIsPrimary()))
                 .collect(Collectors.toList());
     }
 
     @Transactional(readOnly = true)
     public List<EmployeeAssignmentDto> getLeadersByOrganizationId(Long organizationId) {
-        List<EmployeeAssignment> assignments = employeeAssignmentRepository.findByOrganizationOrganizationIdAndIsLeaderTrue(organizationId);
-        return assignments.stream()
-                .map(this::convertToDto)
-                .collect(Collectors.toList());
+        return organizationSnapshot.getLeadersByOrganization(organizationId);
     }
 
     public EmployeeAssignmentDto updateAssignment(Long assignmentId, CreateAssignmentRequest request) {
@@ -120,6 +304,7 @@ public class EmployeeAssignmentService {
         
         EmployeeAssignment assignment = employeeAssignmentRepository.findById(assignmentId)
                 .orElseThrow(() -> new EmployeeAssignmentNotFoundException(assignmentId));
+        Long previousOrganizationId = assignment.getOrganization().getOrganizationId();
         
         if (!assignment.getOrganization().getOrganizationId().equals(request.getOrganizationId())) {
             Organization newOrganization = organizationRepository.findById(request.getOrganizationId())
@@ -141,6 +326,12 @@ public class EmployeeAssignmentService {
         
         EmployeeAssignment savedAssignment = employeeAssignmentRepository.save(assignment);
         log.info("Employee assignment updated: assignmentId={}", savedAssignment.getAssignmentId());
+        organizationSnapshot.invalidate();
+        organizationEventPublisher.publishAssignmentChanged(previousOrganizationId, List.of(savedAssignment.getEmployeeId()));
+        if (!previousOrganizationId.equals(savedAssignment.getOrganization().getOrganizationId())) {
+            organizationEventPublisher.publishAssignmentChanged(
+                    savedAssignment.getOrganization().getOrganizationId(), List.of(savedAssignment.getEmployeeId()));
+        }
         
         return convertToDto(savedAssignment);
     }
@@ -153,6 +344,13 @@ public class EmployeeAssignmentService {
         
         employeeAssignmentRepository.delete(assignment);
         log.info("Employee assignment deleted: assignmentId={}", assignmentId);
+        organizationSnapshot.invalidate();
+        organizationEventPublisher.publishAssignmentChanged(
+                assignment.getOrganization().getOrganizationId(), List.of(assignment.getEmployeeId()));
+    }
+
+    private static String assignmentKey(Long employeeId, Long organizationId) {
+        return employeeId + ":" + organizationId;
     }
 
     private EmployeeAssignmentDto convertToDto(EmployeeAssignment assignment) {
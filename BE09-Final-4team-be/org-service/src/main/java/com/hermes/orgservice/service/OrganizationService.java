@@ -1,21 +1,27 @@
 package com.hermes.orgservice.service;
 
+import com.hermes.events.organization.OrganizationEvent;
 import com.hermes.orgservice.dto.CreateOrganizationRequest;
 import com.hermes.orgservice.dto.OrganizationDto;
 import com.hermes.orgservice.dto.OrganizationHierarchyDto;
 import com.hermes.orgservice.dto.UpdateOrganizationRequest;
 import com.hermes.orgservice.entity.Organization;
 import com.hermes.orgservice.exception.DuplicateOrganizationException;
+import com.hermes.orgservice.exception.InvalidOrganizationHierarchyException;
 import com.hermes.orgservice.exception.OrganizationNotFoundException;
+import com.hermes.orgservice.messaging.OrganizationEventPublisher;
 import com.hermes.orgservice.repository.EmployeeAssignmentRepository;
+import com.hermes.orgservice.repository.OrganizationClosureRepository;
 import com.hermes.orgservice.repository.OrganizationRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Objects;
 
 @Slf4j
 @Service
@@ -25,6 +31,9 @@ public class OrganizationService {
 
     private final OrganizationRepository organizationRepository;
     private final EmployeeAssignmentRepository employeeAssignmentRepository;
+    private final OrganizationClosureRepository organizationClosureRepository;
+    private final OrganizationEventPublisher organizationEventPublisher;
+    private final OrganizationSnapshot organizationSnapshot;
 
     public OrganizationDto createOrganization(CreateOrganizationRequest request) {
         log.info("Organization creation requested: {}", request.getName());
@@ -45,33 +54,32 @@ public class OrganizationService {
                 .build();
         
         Organization savedOrganization = organizationRepository.save(organization);
+        organizationClosureRepository.insertSelf(savedOrganization.getOrganizationId());
+        if (parent != null) {
+            organizationClosureRepository.insertAncestorPaths(savedOrganization.getOrganizationId(), parent.getOrganizationId());
+        }
         log.info("Organization created successfully: {}", savedOrganization.getName());
+        organizationSnapshot.invalidate();
+        organizationEventPublisher.publishOrganizationChanged(
+                OrganizationEvent.EventType.ORGANIZATION_CREATED, savedOrganization.getOrganizationId());
         
         return convertToDto(savedOrganization);
     }
 
     @Transactional(readOnly = true)
     public OrganizationDto getOrganization(Long organizationId) {
-        Organization organization = organizationRepository.findById(organizationId)
+        return organizationSnapshot.getOrganization(organizationId)
                 .orElseThrow(() -> new OrganizationNotFoundException(organizationId));
-        
-        return convertToDto(organization);
     }
 
     @Transactional(readOnly = true)
     public List<OrganizationDto> getRootOrganizations() {
-        List<Organization> rootOrganizations = organizationRepository.findByParentIsNull();
-        return rootOrganizations.stream()
-                .map(this::convertToDto)
-                .collect(Collectors.toList());
+        return organizationSnapshot.getRootOrganizations();
     }
 
     @Transactional(readOnly = true)
     public List<OrganizationDto> getAllOrganizations() {
-        List<Organization> organizations = organizationRepository.findAll();
-        return organizations.stream()
-                .map(this::convertToDto)
-                .collect(Collectors.toList());
+        return organizationSnapshot.getOrganizations();
     }
 
     public OrganizationDto updateOrganization(Long organizationId, UpdateOrganizationRequest request) {
@@ -87,6 +95,7 @@ public class OrganizationService {
         
         organization.setName(request.getName());
         
+        Long currentParentId = organization.getParent() != null ? organization.getParent().getOrganizationId() : null;
         if (request.getParentId() != null) {
             Organization parent = organizationRepository.findById(request.getParentId())
                     .orElseThrow(() -> new OrganizationNotFoundException(request.getParentId()));
@@ -95,8 +104,15 @@ public class OrganizationService {
             organization.setParent(null);
         }
         
+        if (!Objects.equals(currentParentId, request.getParentId())) {
+            moveSubtree(organizationId, request.getParentId());
+        }
+        
         Organization savedOrganization = organizationRepository.save(organization);
         log.info("Organization updated successfully: {}", savedOrganization.getName());
+        organizationSnapshot.invalidate();
+        organizationEventPublisher.publishOrganizationChanged(
+                OrganizationEvent.EventType.ORGANIZATION_UPDATED, organizationId);
         
         return convertToDto(savedOrganization);
     }
@@ -107,7 +123,8 @@ public class OrganizationService {
         Organization organization = organizationRepository.findById(organizationId)
                 .orElseThrow(() -> new OrganizationNotFoundException(organizationId));
         
-        if (!organization.getChildren().isEmpty()) {
+        // 하위 조직 존재 여부는 클로저 테이블로 확인 (children 컬렉션 로딩 없음)
+        if (organizationClosureRepository.existsByAncestorIdAndDepthGreaterThan(organizationId, 0)) {
             throw new RuntimeException("Cannot delete organization with child organizations.");
         }
         
@@ -116,62 +133,69 @@ public class OrganizationService {
             throw new RuntimeException("Cannot delete organization with assigned employees.");
         }
         
+        organizationClosureRepository.deleteNode(organizationId);
         organizationRepository.delete(organization);
         log.info("Organization deleted successfully: {}", organization.getName());
+        organizationSnapshot.invalidate();
+        organizationEventPublisher.publishOrganizationChanged(
+                OrganizationEvent.EventType.ORGANIZATION_DELETED, organizationId);
     }
 
     @Transactional(readOnly = true)
     public List<OrganizationDto> searchOrganizations(String keyword) {
-        List<Organization> organizations = organizationRepository.findByNameContaining(keyword);
-        return organizations.stream()
-                .map(this::convertToDto)
-                .collect(Collectors.toList());
+        return organizationSnapshot.searchOrganizations(keyword);
     }
 
     @Transactional(readOnly = true)
     public List<OrganizationHierarchyDto> getOrganizationHierarchy() {
         log.info("Organization hierarchy requested");
-        List<Organization> rootOrganizations = organizationRepository.findByParentIsNull(); // 수정
-        return rootOrganizations.stream()
-                .map(this::convertToHierarchyDto)
-                .collect(Collectors.toList());
+        return organizationSnapshot.getHierarchy();
     }
 
+    @Transactional(readOnly = true)
+    public OrganizationHierarchyDto getOrganizationSubtree(Long organizationId) {
+        log.info("Organization subtree requested: ID={}", organizationId);
+        return organizationSnapshot.getSubtree(organizationId)
+                .orElseThrow(() -> new OrganizationNotFoundException(organizationId));
+    }
 
-    private OrganizationDto convertToDto(Organization organization) {
-        long memberCount = employeeAssignmentRepository.countByOrganizationOrganizationId(organization.getOrganizationId());
-        long leaderCount = employeeAssignmentRepository.countByOrganizationOrganizationIdAndIsLeaderTrue(organization.getOrganizationId());
-        
-        return OrganizationDto.builder()
-                .organizationId(organization.getOrganizationId())
-                .name(organization.getName())
-                .parentId(organization.getParent() != null ? organization.getParent().getOrganizationId() : null)
-                .parentName(organization.getParent() != null ? organization.getParent().getName() : null)
-                .memberCount((int) memberCount)
-                .leaderCount((int) leaderCount)
-                .build();
+    /**
+     * 클로저 테이블이 비어 있으면 기존 parent_id 기준으로 채움 (도입 이전 데이터 이관)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillClosure() {
+        if (organizationClosureRepository.count() == 0 && organizationRepository.count() > 0) {
+            int rows = organizationClosureRepository.rebuild();
+            log.info("Organization closure table rebuilt: {} rows", rows);
+        }
     }
 
-    private OrganizationHierarchyDto convertToHierarchyDto(Organization organization) {
+    /**
+     * 조직 이동 시 클로저 경로 갱신 (자기 자신이나 하위 조직 아래로는 이동 불가)
+     */
+    private void moveSubtree(Long organizationId, Long newParentId) {
+        if (newParentId != null && organizationClosureRepository.existsByAncestorIdAndDescendantId(organizationId, newParentId)) {
+            throw new InvalidOrganizationHierarchyException(
+                    "Organization cannot be moved under itself or its descendant: " + organizationId);
+        }
+        organizationClosureRepository.detachSubtree(organizationId);
+        if (newParentId != null) {
+            organizationClosureRepository.attachSubtree(organizationId, newParentId);
+        }
+    }
+
+
+    private OrganizationDto convertToDto(Organization organization) {
         long memberCount = employeeAssignmentRepository.countByOrganizationOrganizationId(organization.getOrganizationId());
         long leaderCount = employeeAssignmentRepository.countByOrganizationOrganizationIdAndIsLeaderTrue(organization.getOrganizationId());
         
-        List<OrganizationHierarchyDto> children = null;
-        if (organization.getChildren() != null && !organization.getChildren().isEmpty()) {
-            children = organization.getChildren().stream()
-                    .map(this::convertToHierarchyDto)
-                    .collect(Collectors.toList());
-        }
-        
-        return OrganizationHierarchyDto.builder()
+        return OrganizationDto.builder()
                 .organizationId(organization.getOrganizationId())
                 .name(organization.getName())
                 .parentId(organization.getParent() != null ? organization.getParent().getOrganizationId() : null)
                 .parentName(organization.getParent() != null ? organization.getParent().getName() : null)
-                .children(children)
                 .memberCount((int) memberCount)
                 .leaderCount((int) leaderCount)
-                .isExpanded(false)
                 .build();
     }
 }
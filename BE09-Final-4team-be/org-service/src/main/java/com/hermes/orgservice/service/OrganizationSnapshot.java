@@ -0,0 +1,283 @@
+package com.hermes.orgservice.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.hermes.auth.principal.UserPrincipal;
+import com.hermes.orgservice.dto.EmployeeAssignmentDto;
+import com.hermes.orgservice.dto.OrganizationDto;
+import com.hermes.orgservice.dto.OrganizationHierarchyDto;
+import com.hermes.orgservice.entity.EmployeeAssignment;
+import com.hermes.orgservice.entity.Organization;
+import com.hermes.orgservice.repository.EmployeeAssignmentRepository;
+import com.hermes.orgservice.repository.OrganizationRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 테넌트별 조직 트리/인사발령 스냅샷 (조직 계층, 구성원, 조직장, 이름 검색을 DB 조회 없이 반환)
+ * 스냅샷은 만들어진 뒤 변경되지 않으며, 조직/배정 변경이 커밋되면 테넌트 버전을 올리고 버린 뒤
+ * 다음 조회에서 새로 만들어 통째로 교체한다. 따라서 조회 측은 항상 완성된 한 시점의 트리만 본다.
+ * 로드 도중 버전이 바뀐 스냅샷은 캐시에 넣지 않으며, 다른 인스턴스의 변경은 조직 이벤트 수신 시 반영된다.
+ * 반환하는 DTO는 캐시와 공유되므로 호출 측에서 수정하지 않는다.
+ */
+@Slf4j
+@Component
+public class OrganizationSnapshot {
+
+    private static final String DEFAULT_TENANT_ID = "default";
+
+    private final OrganizationRepository organizationRepository;
+    private final EmployeeAssignmentRepository employeeAssignmentRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final Cache<String, Snapshot> cache;
+    private final Map<String, AtomicLong> versions = new ConcurrentHashMap<>();
+
+    public OrganizationSnapshot(
+            OrganizationRepository organizationRepository,
+            EmployeeAssignmentRepository employeeAssignmentRepository,
+            PlatformTransactionManager transactionManager,
+            @Value("${hermes.organization.snapshot.ttl-seconds:600}") long ttlSeconds) {
+        this.organizationRepository = organizationRepository;
+        this.employeeAssignmentRepository = employeeAssignmentRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+        this.cache = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .build();
+    }
+
+    public List<OrganizationDto> getOrganizations() {
+        return snapshot().organizations();
+    }
+
+    public List<OrganizationDto> getRootOrganizations() {
+        return snapshot().rootOrganizations();
+    }
+
+    public Optional<OrganizationDto> getOrganization(Long organizationId) {
+        return Optional.ofNullable(snapshot().organizationsById().get(organizationId));
+    }
+
+    /**
+     * 조직명 부분 일치 검색 (기존 LIKE 검색과 같이 대소문자 구분)
+     */
+    public List<OrganizationDto> searchOrganizations(String keyword) {
+        return snapshot().organizations().stream()
+                .filter(organization -> organization.getName().contains(keyword))
+                .toList();
+    }
+
+    public List<OrganizationHierarchyDto> getHierarchy() {
+        return snapshot().hierarchy();
+    }
+
+    public Optional<OrganizationHierarchyDto> getSubtree(Long organizationId) {
+        return Optional.ofNullable(snapshot().hierarchyById().get(organizationId));
+    }
+
+    public List<EmployeeAssignmentDto> getAssignments() {
+        return snapshot().assignments();
+    }
+
+    public Optional<EmployeeAssignmentDto> getAssignment(Long assignmentId) {
+        return Optional.ofNullable(snapshot().assignmentsById().get(assignmentId));
+    }
+
+    public List<EmployeeAssignmentDto> getAssignmentsByOrganization(Long organizationId) {
+        return snapshot().assignmentsByOrganization().getOrDefault(organizationId, List.of());
+    }
+
+    public List<EmployeeAssignmentDto> getLeadersByOrganization(Long organizationId) {
+        return snapshot().leadersByOrganization().getOrDefault(organizationId, List.of());
+    }
+
+    public List<EmployeeAssignmentDto> getAssignmentsByEmployee(Long employeeId) {
+        return snapshot().assignmentsByEmployee().getOrDefault(employeeId, List.of());
+    }
+
+    /**
+     * 조직/배정 변경 시 호출 (트랜잭션 안이면 커밋 후, 아니면 즉시 무효화)
+     */
+    public void invalidate() {
+        String tenantId = currentTenantId();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evictTenant(tenantId);
+                }
+            });
+        } else {
+            evictTenant(tenantId);
+        }
+    }
+
+    /**
+     * 테넌트 스냅샷 무효화 (다른 인스턴스의 조직 변경 이벤트 수신 시)
+     */
+    public void evictTenant(String tenantId) {
+        String key = tenantId != null ? tenantId : DEFAULT_TENANT_ID;
+        // 버전을 먼저 올려 진행 중인 로드 결과가 캐시에 들어가지 않게 한 뒤 스냅샷 제거
+        version(key).incrementAndGet();
+        cache.invalidate(key);
+    }
+
+    private Snapshot snapshot() {
+        String tenantId = currentTenantId();
+        Snapshot snapshot = cache.getIfPresent(tenantId);
+        if (snapshot != null) {
+            return snapshot;
+        }
+
+        long version = version(tenantId).get();
+        Snapshot loaded = transactionTemplate.execute(status -> load(tenantId, version));
+        cache.asMap().compute(tenantId, (key, existing) ->
+                version(tenantId).get() == version ? loaded : existing);
+        return loaded;
+    }
+
+    private AtomicLong version(String tenantId) {
+        return versions.computeIfAbsent(tenantId, key -> new AtomicLong());
+    }
+
+    /**
+     * 조직 전체와 배정 전체를 한 번씩 읽어 응답 형태로 변환
+     * (배정의 조직은 먼저 읽은 조직이 영속성 컨텍스트에 있으므로 추가 조회 없음)
+     */
+    private Snapshot load(String tenantId, long version) {
+        List<Organization> organizations = organizationRepository.findAll().stream()
+                .sorted(Comparator.comparing(Organization::getOrganizationId))
+                .toList();
+        List<EmployeeAssignment> assignmentEntities = employeeAssignmentRepository.findAll().stream()
+                .sorted(Comparator.comparing(EmployeeAssignment::getAssignmentId))
+                .toList();
+
+        List<EmployeeAssignmentDto> assignments = assignmentEntities.stream()
+                .map(OrganizationSnapshot::toAssignmentDto)
+                .toList();
+        Map<Long, List<EmployeeAssignmentDto>> assignmentsByOrganization = groupBy(assignments, EmployeeAssignmentDto::getOrganizationId);
+        Map<Long, List<EmployeeAssignmentDto>> leadersByOrganization = groupBy(
+                assignments.stream().filter(assignment -> Boolean.TRUE.equals(assignment.getIsLeader())).toList(),
+                EmployeeAssignmentDto::getOrganizationId);
+
+        List<OrganizationDto> organizationDtos = organizations.stream()
+                .map(organization -> OrganizationDto.builder()
+                        .organizationId(organization.getOrganizationId())
+                        .name(organization.getName())
+                        .parentId(parentId(organization))
+                        .parentName(organization.getParent() != null ? organization.getParent().getName() : null)
+                        .memberCount(assignmentsByOrganization.getOrDefault(organization.getOrganizationId(), List.of()).size())
+                        .leaderCount(leadersByOrganization.getOrDefault(organization.getOrganizationId(), List.of()).size())
+                        .build())
+                .toList();
+
+        // 계층 노드를 모두 만든 뒤 부모에 연결 (기존 응답과 동일하게 하위 조직이 없으면 children은 null)
+        Map<Long, OrganizationHierarchyDto> hierarchyById = new LinkedHashMap<>();
+        for (OrganizationDto organization : organizationDtos) {
+            hierarchyById.put(organization.getOrganizationId(), OrganizationHierarchyDto.builder()
+                    .organizationId(organization.getOrganizationId())
+                    .name(organization.getName())
+                    .parentId(organization.getParentId())
+                    .parentName(organization.getParentName())
+                    .memberCount(organization.getMemberCount())
+                    .leaderCount(organization.getLeaderCount())
+                    .isExpanded(false)
+                    .build());
+        }
+        Map<Long, List<OrganizationHierarchyDto>> childrenByParent = new HashMap<>();
+        List<OrganizationHierarchyDto> hierarchy = new ArrayList<>();
+        for (OrganizationHierarchyDto node : hierarchyById.values()) {
+            if (node.getParentId() == null) {
+                hierarchy.add(node);
+            } else {
+                childrenByParent.computeIfAbsent(node.getParentId(), k -> new ArrayList<>()).add(node);
+            }
+        }
+        childrenByParent.forEach((parentId, children) -> {
+            OrganizationHierarchyDto parent = hierarchyById.get(parentId);
+            if (parent != null) {
+                parent.setChildren(List.copyOf(children));
+            }
+        });
+
+        log.info("Organization snapshot loaded: tenant={}, version={}, organizations={}, assignments={}",
+                tenantId, version, organizations.size(), assignments.size());
+        return new Snapshot(
+                organizationDtos,
+                organizationDtos.stream().filter(organization -> organization.getParentId() == null).toList(),
+                organizationDtos.stream().collect(Collectors.toUnmodifiableMap(OrganizationDto::getOrganizationId, Function.identity())),
+                List.copyOf(hierarchy),
+                Map.copyOf(hierarchyById),
+                assignments,
+                assignments.stream().collect(Collectors.toUnmodifiableMap(EmployeeAssignmentDto::getAssignmentId, Function.identity())),
+                assignmentsByOrganization,
+                leadersByOrganization,
+                groupBy(assignments, EmployeeAssignmentDto::getEmployeeId));
+    }
+
+    private static Map<Long, List<EmployeeAssignmentDto>> groupBy(List<EmployeeAssignmentDto> assignments,
+                                                                  Function<EmployeeAssignmentDto, Long> key) {
+        return assignments.stream()
+                .collect(Collectors.collectingAndThen(
+                        Collectors.groupingBy(key, Collectors.toUnmodifiableList()),
+                        Map::copyOf));
+    }
+
+    private static Long parentId(Organization organization) {
+        return organization.getParent() != null ? organization.getParent().getOrganizationId() : null;
+    }
+
+    private static EmployeeAssignmentDto toAssignmentDto(EmployeeAssignment assignment) {
+        return EmployeeAssignmentDto.builder()
+                .assignmentId(assignment.getAssignmentId())
+                .employeeId(assignment.getEmployeeId())
+                .employeeName(assignment.getEmployeeName())
+                .organizationId(assignment.getOrganization().getOrganizationId())
+                .organizationName(assignment.getOrganization().getName())
+                .isPrimary(assignment.getIsPrimary())
+                .isLeader(assignment.getIsLeader())
+                .assignedAt(assignment.getAssignedAt())
+                .build();
+    }
+
+    private static String currentTenantId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof UserPrincipal principal
+                && principal.getTenantId() != null) {
+            return principal.getTenantId();
+        }
+        return DEFAULT_TENANT_ID;
+    }
+
+    private record Snapshot(List<OrganizationDto> organizations,
+                            List<OrganizationDto> rootOrganizations,
+                            Map<Long, OrganizationDto> organizationsById,
+                            List<OrganizationHierarchyDto> hierarchy,
+                            Map<Long, OrganizationHierarchyDto> hierarchyById,
+                            List<EmployeeAssignmentDto> assignments,
+                            Map<Long, EmployeeAssignmentDto> assignmentsById,
+                            Map<Long, List<EmployeeAssignmentDto>> assignmentsByOrganization,
+                            Map<Long, List<EmployeeAssignmentDto>> leadersByOrganization,
+                            Map<Long, List<EmployeeAssignmentDto>> assignmentsByEmployee) {
+    }
+}
@@ -0,0 +1,233 @@
+package com.hermes.orgservice.service;
+
+import com.hermes.orgservice.dto.ReassignmentRequest;
+import com.hermes.orgservice.entity.EmployeeAssignment;
+import com.hermes.orgservice.entity.Organization;
+import com.hermes.orgservice.exception.EmployeeAssignmentNotFoundException;
+import com.hermes.orgservice.exception.InvalidAssignmentRequestException;
+import com.hermes.orgservice.exception.OrganizationNotFoundException;
+import com.hermes.orgservice.messaging.OrganizationEventPublisher;
+import com.hermes.orgservice.repository.EmployeeAssignmentRepository;
+import com.hermes.orgservice.repository.OrganizationRepository;
+import com.hermes.orgservice.support.JpaTestConfiguration;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestReporter;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * 일괄 인사발령의 원자성 검증: 항목 하나라도 잘못되면 배치 전체가 반영되지 않는다.
+ * 서비스 트랜잭션의 커밋/롤백 결과를 확인하므로 테스트 트랜잭션은 사용하지 않는다.
+ * 1,000명 이동 벤치마크: ./gradlew :org-service:benchmark --tests '*EmployeeAssignmentServiceTest'
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ContextConfiguration(classes = {JpaTestConfiguration.class, EmployeeAssignmentService.class, OrganizationSnapshot.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class EmployeeAssignmentServiceTest {
+
+    private static final int BENCHMARK_MOVES = 1_000;
+    // 배치 크기 100 기준 UPDATE 10회 + 조회 2회, 행 단위 UPDATE(1,000회)와 구분되는 상한
+    private static final int BENCHMARK_STATEMENT_BUDGET = 50;
+
+    @Autowired
+    private EmployeeAssignmentService employeeAssignmentService;
+
+    @Autowired
+    private EmployeeAssignmentRepository employeeAssignmentRepository;
+
+    @Autowired
+    private OrganizationRepository organizationRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @MockitoBean
+    private OrganizationEventPublisher organizationEventPublisher;
+
+    private Organization sales;
+    private Organization marketing;
+    private Organization support;
+
+    @BeforeEach
+    void setUp() {
+        sales = organizationRepository.save(Organization.builder().name("영업팀").build());
+        marketing = organizationRepository.save(Organization.builder().name("마케팅팀").build());
+        support = organizationRepository.save(Organization.builder().name("고객지원팀").build());
+        for (long employeeId = 1; employeeId <= 4; employeeId++) {
+            assign(employeeId, sales, true);
+        }
+        // 직원 4는 마케팅팀 겸직
+        assign(4L, marketing, false);
+    }
+
+    @AfterEach
+    void tearDown() {
+        employeeAssignmentRepository.deleteAll();
+        organizationRepository.deleteAll();
+    }
+
+    @Test
+    void testBatchIsAppliedWithSingleEvent() {
+        employeeAssignmentService.reassign(List.of(
+                move(1L, null, marketing),
+                move(2L, sales.getOrganizationId(), support),
+                ReassignmentRequest.builder().employeeId(3L).isLeader(true).build()));
+
+        Map<Long, List<Long>> organizations = organizationsByEmployee();
+        assertEquals(List.of(marketing.getOrganizationId()), organizations.get(1L));
+        assertEquals(List.of(support.getOrganizationId()), organizations.get(2L));
+        assertEquals(List.of(sales.getOrganizationId()), organizations.get(3L));
+        assertTrue(employeeAssignmentRepository.findAll().stream()
+                .filter(assignment -> assignment.getEmployeeId() == 3L)
+                .allMatch(EmployeeAssignment::getIsLeader));
+        verify(organizationEventPublisher).publishAssignmentsChanged(any(), any());
+    }
+
+    @Test
+    void testCollidingItemRollsBackWholeBatch() {
+        Map<Long, List<Long>> before = organizationsByEmployee();
+
+        // 마지막 항목: 직원 4는 이미 마케팅팀에 배정되어 있어 (직원, 조직) 유일 제약과 충돌
+        assertThrows(InvalidAssignmentRequestException.class, () -> employeeAssignmentService.reassign(List.of(
+                move(1L, null, marketing),
+                move(2L, null, support),
+                move(4L, sales.getOrganizationId(), marketing))));
+
+        assertUnchanged(before);
+    }
+
+    @Test
+    void testDuplicateItemRollsBackWholeBatch() {
+        Map<Long, List<Long>> before = organizationsByEmployee();
+
+        assertThrows(InvalidAssignmentRequestException.class, () -> employeeAssignmentService.reassign(List.of(
+                move(1L, null, marketing),
+                move(1L, sales.getOrganizationId(), support))));
+
+        assertUnchanged(before);
+    }
+
+    @Test
+    void testMissingAssignmentOrOrganizationRollsBackWholeBatch() {
+        Map<Long, List<Long>> before = organizationsByEmployee();
+
+        assertThrows(EmployeeAssignmentNotFoundException.class, () -> employeeAssignmentService.reassign(List.of(
+                move(1L, null, marketing),
+                move(99L, null, support))));
+        assertUnchanged(before);
+
+        Organization removed = organizationRepository.save(Organization.builder().name("폐지된 팀").build());
+        organizationRepository.delete(removed);
+        assertThrows(OrganizationNotFoundException.class, () -> employeeAssignmentService.reassign(List.of(
+                move(1L, null, marketing),
+                move(2L, null, removed))));
+        assertUnchanged(before);
+    }
+
+    @Test
+    @Tag("benchmark")
+    void benchmarkThousandMoves(TestReporter reporter) {
+        List<EmployeeAssignment> assignments = new ArrayList<>(BENCHMARK_MOVES);
+        List<ReassignmentRequest> requests = new ArrayList<>(BENCHMARK_MOVES);
+        for (long employeeId = 1001; employeeId <= 1000 + BENCHMARK_MOVES; employeeId++) {
+            assignments.add(EmployeeAssignment.builder()
+                    .employeeId(employeeId)
+                    .employeeName("직원" + employeeId)
+                    .organization(sales)
+                    .isPrimary(true)
+                    .isLeader(false)
+                    .build());
+            requests.add(move(employeeId, null, support));
+        }
+        employeeAssignmentRepository.saveAll(assignments);
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        long startedAt = System.nanoTime();
+        employeeAssignmentService.reassign(requests);
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+        long statements = statistics.getPrepareStatementCount();
+
+        reporter.publishEntry("moves", String.valueOf(BENCHMARK_MOVES));
+        reporter.publishEntry("elapsed ms", String.valueOf(elapsedMillis));
+        reporter.publishEntry("statements", String.valueOf(statements));
+        reporter.publishEntry("entity updates", String.valueOf(statistics.getEntityUpdateCount()));
+
+        assertEquals(BENCHMARK_MOVES, statistics.getEntityUpdateCount());
+        assertTrue(statements <= BENCHMARK_STATEMENT_BUDGET,
+                "배정 변경은 JDBC 배치로 묶여야 한다: statements=" + statements);
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<Long>> organizationIds = ArgumentCaptor.forClass(List.class);
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<Long>> employeeIds = ArgumentCaptor.forClass(List.class);
+        verify(organizationEventPublisher, times(1)).publishAssignmentsChanged(organizationIds.capture(), employeeIds.capture());
+        assertEquals(new HashSet<>(List.of(sales.getOrganizationId(), support.getOrganizationId())),
+                new HashSet<>(organizationIds.getValue()));
+        assertEquals(LongStream.rangeClosed(1001, 1000 + BENCHMARK_MOVES).boxed().collect(Collectors.toSet()),
+                new HashSet<>(employeeIds.getValue()));
+        assertEquals(BENCHMARK_MOVES, organizationsByEmployee().entrySet().stream()
+                .filter(entry -> entry.getKey() > 1000)
+                .filter(entry -> entry.getValue().equals(List.of(support.getOrganizationId())))
+                .count());
+    }
+
+    private void assertUnchanged(Map<Long, List<Long>> before) {
+        assertEquals(before, organizationsByEmployee());
+        assertTrue(employeeAssignmentRepository.findAll().stream().noneMatch(EmployeeAssignment::getIsLeader));
+        verify(organizationEventPublisher, never()).publishAssignmentsChanged(any(), any());
+    }
+
+    private Map<Long, List<Long>> organizationsByEmployee() {
+        return employeeAssignmentRepository.findAll().stream()
+                .collect(Collectors.groupingBy(EmployeeAssignment::getEmployeeId,
+                        Collectors.mapping(assignment -> assignment.getOrganization().getOrganizationId(),
+                                Collectors.collectingAndThen(Collectors.toList(), ids -> ids.stream().sorted().toList()))));
+    }
+
+    private void assign(Long employeeId, Organization organization, boolean isPrimary) {
+        employeeAssignmentRepository.save(EmployeeAssignment.builder()
+                .employeeId(employeeId)
+                .employeeName("직원" + employeeId)
+                .organization(organization)
+                .isPrimary(isPrimary)
+                .isLeader(false)
+                .build());
+    }
+
+    private static ReassignmentRequest move(Long employeeId, Long fromOrganizationId, Organization to) {
+        return ReassignmentRequest.builder()
+                .employeeId(employeeId)
+                .fromOrganizationId(fromOrganizationId)
+                .toOrganizationId(to.getOrganizationId())
+                .build();
+    }
+}
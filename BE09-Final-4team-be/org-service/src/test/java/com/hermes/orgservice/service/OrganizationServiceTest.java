@@ -0,0 +1,269 @@
+package com.hermes.orgservice.service;
+
+import com.hermes.orgservice.dto.CreateOrganizationRequest;
+import com.hermes.orgservice.dto.OrganizationHierarchyDto;
+import com.hermes.orgservice.dto.UpdateOrganizationRequest;
+import com.hermes.orgservice.entity.EmployeeAssignment;
+import com.hermes.orgservice.exception.InvalidOrganizationHierarchyException;
+import com.hermes.orgservice.messaging.OrganizationEventPublisher;
+import com.hermes.orgservice.repository.EmployeeAssignmentRepository;
+import com.hermes.orgservice.repository.OrganizationClosureRepository;
+import com.hermes.orgservice.repository.OrganizationRepository;
+import com.hermes.orgservice.support.JpaTestConfiguration;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestReporter;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 조직 클로저 테이블 유지 검증 (생성/이동/삭제 후 parent_id 기준 재계산 결과와 일치)과
+ * 계층 조회 문장 수가 조직/구성원 수와 무관하게 일정한지 확인
+ * 조직: 본사 > 개발본부 > 플랫폼실 > 플랫폼0~1팀 > 플랫폼0~1파트, 본사 > 사업본부
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ContextConfiguration(classes = {JpaTestConfiguration.class, OrganizationService.class, OrganizationSnapshot.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class OrganizationServiceTest {
+
+    @Autowired
+    private OrganizationService organizationService;
+
+    @Autowired
+    private OrganizationSnapshot organizationSnapshot;
+
+    @Autowired
+    private OrganizationRepository organizationRepository;
+
+    @Autowired
+    private OrganizationClosureRepository organizationClosureRepository;
+
+    @Autowired
+    private EmployeeAssignmentRepository employeeAssignmentRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @MockitoBean
+    private OrganizationEventPublisher organizationEventPublisher;
+
+    private final List<Long> organizationIds = new ArrayList<>();
+    private Long root;
+    private Long left;
+    private Long right;
+    private Long moving;
+    private final List<Long> parts = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        root = create("본사", null);
+        left = create("개발본부", root);
+        right = create("사업본부", root);
+        moving = create("플랫폼실", left);
+        for (int i = 0; i < 2; i++) {
+            Long team = create("플랫폼" + i + "팀", moving);
+            parts.add(create("플랫폼" + i + "파트", team));
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        employeeAssignmentRepository.deleteAll();
+        organizationClosureRepository.deleteAll();
+        // 하위 조직부터 삭제 (parent_id 외래 키)
+        for (int i = organizationIds.size() - 1; i >= 0; i--) {
+            organizationRepository.deleteById(organizationIds.get(i));
+        }
+        organizationIds.clear();
+        parts.clear();
+        organizationSnapshot.evictTenant(null);
+    }
+
+    @Test
+    void testCreateAddsPathFromEveryAncestor() {
+        Set<List<Long>> closure = closure();
+
+        assertEquals(rebuiltClosure(), closure);
+        // 파트: 자기 자신, 팀, 플랫폼실, 개발본부, 본사
+        Long part = parts.get(0);
+        assertTrue(closure.contains(List.of(part, part, 0L)));
+        assertTrue(closure.contains(List.of(moving, part, 2L)));
+        assertTrue(closure.contains(List.of(root, part, 4L)));
+        assertEquals(5, closure.stream().filter(row -> row.get(1).equals(part)).count());
+    }
+
+    @Test
+    void testMoveReplacesAncestorPathsOfWholeSubtree() {
+        move(moving, right);
+
+        Set<List<Long>> closure = closure();
+        assertEquals(rebuiltClosure(), closure);
+        Long part = parts.get(1);
+        assertTrue(closure.contains(List.of(right, moving, 1L)));
+        assertTrue(closure.contains(List.of(right, part, 3L)));
+        assertTrue(closure.contains(List.of(root, part, 4L)));
+        // 이전 본부와 서브트리 사이의 경로는 남지 않음
+        assertTrue(closure.stream().noneMatch(row -> row.get(0).equals(left) && !row.get(1).equals(left)));
+        // 서브트리 내부 경로는 그대로 유지
+        assertTrue(closure.contains(List.of(moving, part, 2L)));
+    }
+
+    @Test
+    void testMoveToRootKeepsOnlySubtreePaths() {
+        move(moving, null);
+
+        Set<List<Long>> closure = closure();
+        assertEquals(rebuiltClosure(), closure);
+        assertTrue(closure.stream()
+                .filter(row -> row.get(0).equals(root) || row.get(0).equals(left))
+                .noneMatch(row -> row.get(1).equals(moving) || parts.contains(row.get(1))));
+        assertEquals(5, closure.stream().filter(row -> row.get(0).equals(moving)).count());
+
+        // 다시 다른 본부 아래로 이동해도 재계산 결과와 같음
+        move(moving, left);
+        assertEquals(rebuiltClosure(), closure());
+    }
+
+    @Test
+    void testMoveUnderItselfOrDescendantIsRejected() {
+        Set<List<Long>> before = closure();
+
+        assertThrows(InvalidOrganizationHierarchyException.class, () -> move(moving, moving));
+        assertThrows(InvalidOrganizationHierarchyException.class, () -> move(moving, parts.get(0)));
+
+        assertEquals(before, closure());
+        assertEquals(left, organizationService.getOrganization(moving).getParentId());
+    }
+
+    @Test
+    void testDeleteUsesClosureForChildrenAndRemovesPaths() {
+        assertThrows(RuntimeException.class, () -> organizationService.deleteOrganization(moving));
+
+        Long part = parts.remove(0);
+        organizationService.deleteOrganization(part);
+        organizationIds.remove(part);
+
+        Set<List<Long>> closure = closure();
+        assertEquals(rebuiltClosure(), closure);
+        assertTrue(closure.stream().noneMatch(row -> row.get(0).equals(part) || row.get(1).equals(part)));
+    }
+
+    @Test
+    void testHierarchyStatementCountIsIndependentOfTreeSize(TestReporter reporter) {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        long small = countHierarchyStatements(statistics);
+
+        // 조직 30개 이상, 구성원 100명으로 확장
+        for (int i = 0; i < 24; i++) {
+            Long team = create("사업" + i + "팀", right);
+            for (int j = 0; j < 4; j++) {
+                assign(i * 4L + j + 1, team, j == 0);
+            }
+        }
+        for (int i = 0; i < 4; i++) {
+            assign(1000L + i, moving, i == 0);
+        }
+        long large = countHierarchyStatements(statistics);
+
+        reporter.publishEntry("statements (7 organizations)", String.valueOf(small));
+        reporter.publishEntry("statements (" + organizationIds.size() + " organizations)", String.valueOf(large));
+        assertEquals(small, large, "계층 조회 문장 수는 조직/구성원 수와 무관해야 한다");
+        // 조직 전체 1회 + 배정 전체 1회
+        assertEquals(2, large);
+        assertEquals(4, organizationService.getOrganization(moving).getMemberCount());
+
+        // 스냅샷이 있으면 반복 조회는 문장 없음
+        statistics.clear();
+        for (int i = 0; i < 100; i++) {
+            organizationService.getOrganizationHierarchy();
+            organizationService.getOrganizationSubtree(moving);
+            organizationService.getAllOrganizations();
+        }
+        assertEquals(0, statistics.getPrepareStatementCount());
+    }
+
+    private long countHierarchyStatements(Statistics statistics) {
+        organizationSnapshot.evictTenant(null);
+        statistics.clear();
+
+        List<OrganizationHierarchyDto> hierarchy = organizationService.getOrganizationHierarchy();
+        organizationService.getOrganizationSubtree(moving);
+        organizationService.getAllOrganizations();
+
+        assertEquals(List.of(root), hierarchy.stream().map(OrganizationHierarchyDto::getOrganizationId).toList());
+        return statistics.getPrepareStatementCount();
+    }
+
+    /**
+     * 서비스가 유지한 클로저 행 (조상, 자손, 깊이)
+     */
+    private Set<List<Long>> closure() {
+        return organizationClosureRepository.findAll().stream()
+                .map(row -> List.of(row.getAncestorId(), row.getDescendantId(), row.getDepth().longValue()))
+                .collect(Collectors.toSet());
+    }
+
+    /**
+     * parent_id 기준으로 다시 계산한 클로저 행 (트랜잭션을 롤백하여 유지된 테이블은 그대로 둠)
+     */
+    private Set<List<Long>> rebuiltClosure() {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        return transactionTemplate.execute(status -> {
+            organizationClosureRepository.deleteAllInBatch();
+            organizationClosureRepository.rebuild();
+            Set<List<Long>> rebuilt = closure();
+            status.setRollbackOnly();
+            return rebuilt;
+        });
+    }
+
+    private Long create(String name, Long parentId) {
+        Long id = organizationService.createOrganization(CreateOrganizationRequest.builder()
+                .name(name)
+                .parentId(parentId)
+                .build()).getOrganizationId();
+        organizationIds.add(id);
+        return id;
+    }
+
+    private void move(Long organizationId, Long parentId) {
+        organizationService.updateOrganization(organizationId, UpdateOrganizationRequest.builder()
+                .name("플랫폼실")
+                .parentId(parentId)
+                .build());
+    }
+
+    private void assign(Long employeeId, Long organizationId, boolean isLeader) {
+        employeeAssignmentRepository.save(EmployeeAssignment.builder()
+                .employeeId(employeeId)
+                .employeeName("직원" + employeeId)
+                .organization(organizationRepository.findById(organizationId).orElseThrow())
+                .isPrimary(true)
+                .isLeader(isLeader)
+                .build());
+    }
+}
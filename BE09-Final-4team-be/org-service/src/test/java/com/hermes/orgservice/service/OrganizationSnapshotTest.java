@@ -0,0 +1,212 @@
+package com.hermes.orgservice.service;
+
+import com.hermes.orgservice.dto.CreateOrganizationRequest;
+import com.hermes.orgservice.dto.OrganizationHierarchyDto;
+import com.hermes.orgservice.dto.UpdateOrganizationRequest;
+import com.hermes.orgservice.messaging.OrganizationEventPublisher;
+import com.hermes.orgservice.repository.EmployeeAssignmentRepository;
+import com.hermes.orgservice.repository.OrganizationClosureRepository;
+import com.hermes.orgservice.repository.OrganizationRepository;
+import com.hermes.orgservice.support.JpaTestConfiguration;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestReporter;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 조직 스냅샷 동시성 검증: 조직 이동이 계속 커밋되는 동안에도 조회 측은 완성된 트리만 본다.
+ * 조직 변경은 각자 트랜잭션으로 커밋되어야 하므로 테스트 트랜잭션은 사용하지 않는다.
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ContextConfiguration(classes = {JpaTestConfiguration.class, OrganizationService.class, OrganizationSnapshot.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class OrganizationSnapshotTest {
+
+    private static final int READERS = 4;
+    private static final int MOVES = 40;
+
+    @Autowired
+    private OrganizationService organizationService;
+
+    @Autowired
+    private OrganizationSnapshot organizationSnapshot;
+
+    @Autowired
+    private OrganizationRepository organizationRepository;
+
+    @Autowired
+    private OrganizationClosureRepository organizationClosureRepository;
+
+    @Autowired
+    private EmployeeAssignmentRepository employeeAssignmentRepository;
+
+    @MockitoBean
+    private OrganizationEventPublisher organizationEventPublisher;
+
+    private final List<Long> organizationIds = new ArrayList<>();
+    private Long root;
+    private Long left;
+    private Long right;
+    private Long moving;
+
+    @BeforeEach
+    void setUp() {
+        root = create("본사", null);
+        left = create("개발본부", root);
+        right = create("사업본부", root);
+        moving = create("플랫폼실", left);
+        for (int i = 0; i < 5; i++) {
+            Long team = create("플랫폼" + i + "팀", moving);
+            create("플랫폼" + i + "파트", team);
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        employeeAssignmentRepository.deleteAll();
+        organizationClosureRepository.deleteAll();
+        // 하위 조직부터 삭제 (parent_id 외래 키)
+        for (int i = organizationIds.size() - 1; i >= 0; i--) {
+            organizationRepository.deleteById(organizationIds.get(i));
+        }
+        organizationIds.clear();
+        organizationSnapshot.evictTenant(null);
+    }
+
+    @Test
+    void testReadersNeverSeePartialTreeWhileMoving(TestReporter reporter) throws Exception {
+        int total = organizationIds.size();
+        AtomicBoolean writing = new AtomicBoolean(true);
+        AtomicInteger reads = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(READERS + 1);
+        CountDownLatch ready = new CountDownLatch(READERS + 1);
+        long elapsedNanos;
+        try {
+            List<Future<?>> readers = new ArrayList<>();
+            for (int i = 0; i < READERS; i++) {
+                readers.add(executor.submit(() -> {
+                    ready.countDown();
+                    ready.await();
+                    while (writing.get()) {
+                        assertCompleteTree(organizationSnapshot.getHierarchy(), total);
+                        reads.incrementAndGet();
+                    }
+                    return null;
+                }));
+            }
+            Future<?> writer = executor.submit(() -> {
+                ready.countDown();
+                ready.await();
+                try {
+                    // 하위 10개 조직을 가진 서브트리를 두 본부 사이에서 반복 이동
+                    for (int i = 0; i < MOVES; i++) {
+                        move(moving, i % 2 == 0 ? right : left);
+                    }
+                } finally {
+                    writing.set(false);
+                }
+                return null;
+            });
+
+            ready.await();
+            long startedAt = System.nanoTime();
+            writer.get(60, TimeUnit.SECONDS);
+            for (Future<?> reader : readers) {
+                reader.get(60, TimeUnit.SECONDS);
+            }
+            elapsedNanos = System.nanoTime() - startedAt;
+        } finally {
+            executor.shutdownNow();
+        }
+
+        // 이동(커밋마다 스냅샷 교체)이 진행되는 동안의 조회 처리량
+        long elapsedMillis = Math.max(1, TimeUnit.NANOSECONDS.toMillis(elapsedNanos));
+        reporter.publishEntry("readers", String.valueOf(READERS));
+        reporter.publishEntry("moves", String.valueOf(MOVES));
+        reporter.publishEntry("elapsed ms", String.valueOf(elapsedMillis));
+        reporter.publishEntry("reads", String.valueOf(reads.get()));
+        reporter.publishEntry("reads/s", String.format("%.0f", reads.get() * 1000.0 / elapsedMillis));
+        assertTrue(reads.get() > 0);
+        // 마지막 이동(짝수 횟수 -> 개발본부 아래)이 커밋 후 바로 보여야 한다
+        List<OrganizationHierarchyDto> hierarchy = organizationSnapshot.getHierarchy();
+        assertCompleteTree(hierarchy, total);
+        assertEquals(left, organizationSnapshot.getOrganization(moving).orElseThrow().getParentId());
+        assertEquals(11, countNodes(organizationSnapshot.getSubtree(left).orElseThrow(), new HashSet<>()) - 1);
+    }
+
+    @Test
+    void testSnapshotIsReplacedOnlyAfterCommit() {
+        List<OrganizationHierarchyDto> before = organizationSnapshot.getHierarchy();
+        assertSame(before, organizationSnapshot.getHierarchy());
+
+        move(moving, right);
+
+        List<OrganizationHierarchyDto> after = organizationSnapshot.getHierarchy();
+        assertNotSame(before, after);
+        assertEquals(right, organizationSnapshot.getOrganization(moving).orElseThrow().getParentId());
+        // 이전 스냅샷은 그대로 유지되어 이미 받은 조회 결과가 바뀌지 않는다
+        OrganizationHierarchyDto oldLeft = before.get(0).getChildren().stream()
+                .filter(node -> node.getOrganizationId().equals(left))
+                .findFirst()
+                .orElseThrow();
+        assertEquals(List.of(moving), oldLeft.getChildren().stream().map(OrganizationHierarchyDto::getOrganizationId).toList());
+    }
+
+    private void assertCompleteTree(List<OrganizationHierarchyDto> hierarchy, int total) {
+        assertEquals(1, hierarchy.size(), "루트 조직은 하나여야 한다");
+        assertNull(hierarchy.get(0).getParentId());
+        assertEquals(total, countNodes(hierarchy.get(0), new HashSet<>()), "트리에 모든 조직이 한 번씩 있어야 한다");
+    }
+
+    private static int countNodes(OrganizationHierarchyDto node, Set<Long> visited) {
+        assertTrue(visited.add(node.getOrganizationId()), "조직이 트리에 두 번 나타남: " + node.getOrganizationId());
+        int count = 1;
+        if (node.getChildren() != null) {
+            for (OrganizationHierarchyDto child : node.getChildren()) {
+                assertEquals(node.getOrganizationId(), child.getParentId());
+                count += countNodes(child, visited);
+            }
+        }
+        return count;
+    }
+
+    private Long create(String name, Long parentId) {
+        Long id = organizationService.createOrganization(CreateOrganizationRequest.builder()
+                .name(name)
+                .parentId(parentId)
+                .build()).getOrganizationId();
+        organizationIds.add(id);
+        return id;
+    }
+
+    private void move(Long organizationId, Long parentId) {
+        organizationService.updateOrganization(organizationId, UpdateOrganizationRequest.builder()
+                .name("플랫폼실")
+                .parentId(parentId)
+                .build());
+    }
+}
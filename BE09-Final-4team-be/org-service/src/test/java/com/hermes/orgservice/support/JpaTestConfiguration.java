@@ -0,0 +1,15 @@
+package com.hermes.orgservice.support;
+
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+
+/**
+ * JPA 슬라이스 테스트용 설정
+ * 메시징/보안 빈 없이 대상 서비스만 올리도록 테스트에서는 @ContextConfiguration으로 이 클래스와 대상 서비스만 지정한다.
+ */
+@Configuration
+@EntityScan("com.hermes.orgservice.entity")
+@EnableJpaRepositories("com.hermes.orgservice.repository")
+public class JpaTestConfiguration {
+}
@@ -1,9 +1,11 @@
 package com.hermes.userservice.client;
 
 import com.hermes.api.common.ApiResult;
+import com.hermes.userservice.dto.organization.OrgAssignmentDto;
 import org.springframework.cloud.openfeign.FeignClient;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 
@@ -23,19 +25,22 @@ public interface OrgServiceClient {
     ApiResult<List<Map<String, Object>>> getOrganizationHierarchy();
 
     @GetMapping("/api/assignments/employee/{employeeId}")
-    ApiResult<List<Map<String, Object>>> getAssignmentsByEmployeeId(@PathVariable("employeeId") Long employeeId);
+    ApiResult<List<OrgAssignmentDto>> getAssignmentsByEmployeeId(@PathVariable("employeeId") Long employeeId);
 
     @GetMapping("/api/assignments")
-    ApiResult<List<Map<String, Object>>> getAllAssignments();
+    ApiResult<List<OrgAssignmentDto>> getAllAssignments();
+
+    @PostMapping("/api/assignments/employees")
+    ApiResult<List<OrgAssignmentDto>> getAssignmentsByEmployeeIds(@RequestBody Collection<Long> employeeIds);
 
     @GetMapping("/api/assignments/employee/{employeeId}/primary")
-    ApiResult<List<Map<String, Object>>> getPrimaryAssignmentsByEmployeeId(@PathVariable("employeeId") Long employeeId);
+    ApiResult<List<OrgAssignmentDto>> getPrimaryAssignmentsByEmployeeId(@PathVariable("employeeId") Long employeeId);
 
     @GetMapping("/api/assignments/organization/{organizationId}")
-    ApiResult<List<Map<String, Object>>> getAssignmentsByOrganizationId(@PathVariable("organizationId") Long organizationId);
+    ApiResult<List<OrgAssignmentDto>> getAssignmentsByOrganizationId(@PathVariable("organizationId") Long organizationId);
 
     @GetMapping("/api/assignments/organization/{organizationId}/leaders")
-    ApiResult<List<Map<String, Object>>> getLeadersByOrganizationId(@PathVariable("organizationId") Long organizationId);
+    ApiResult<List<OrgAssignmentDto>> getLeadersByOrganizationId(@PathVariable("organizationId") Long organizationId);
 
     @PostMapping("/api/organizations")
     ApiResult<Map<String, Object>> createOrganization(@RequestBody Map<String, Object> request);
@@ -49,6 +54,9 @@ public interface OrgServiceClient {
     @PostMapping("/api/assignments")
     ApiResult<Map<String, Object>> createAssignment(@RequestBody Map<String, Object> request);
 
+    @PostMapping("/api/assignments/batch")
+    ApiResult<List<OrgAssignmentDto>> createAssignments(@RequestBody List<Map<String, Object>> requests);
+
     @PutMapping("/api/assignments/{assignmentId}")
     ApiResult<Map<String, Object>> updateAssignment(@PathVariable("assignmentId") Long assignmentId, @RequestBody Map<String, Object> request);
 
@@ -1,10 +1,12 @@
 package com.hermes.userservice.client;
 
 import com.hermes.api.common.ApiResult;
+import com.hermes.userservice.dto.organization.OrgAssignmentDto;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -42,31 +44,37 @@ public class OrgServiceClientFallback implements OrgServiceClient {
     }
 
     @Override
-    public ApiResult<List<Map<String, Object>>> getAssignmentsByEmployeeId(Long employeeId) {
+    public ApiResult<List<OrgAssignmentDto>> getAssignmentsByEmployeeId(Long employeeId) {
         log.warn("org-service call failed - getAssignmentsByEmployeeId: {}", employeeId);
         return ApiResult.failure("org-service connection failed", new ArrayList<>());
     }
 
     @Override
-    public ApiResult<List<Map<String, Object>>> getAllAssignments() {
+    public ApiResult<List<OrgAssignmentDto>> getAllAssignments() {
         log.warn("org-service call failed - getAllAssignments");
         return ApiResult.failure("org-service connection failed", new ArrayList<>());
     }
 
     @Override
-    public ApiResult<List<Map<String, Object>>> getPrimaryAssignmentsByEmployeeId(Long employeeId) {
+    public ApiResult<List<OrgAssignmentDto>> getAssignmentsByEmployeeIds(Collection<Long> employeeIds) {
+        log.warn("org-service call failed - getAssignmentsByEmployeeIds: count={}", employeeIds.size());
+        return ApiResult.failure("org-service connection failed", new ArrayList<>());
+    }
+
+    @Override
+    public ApiResult<List<OrgAssignmentDto>> getPrimaryAssignmentsByEmployeeId(Long employeeId) {
         log.warn("org-service call failed - getPrimaryAssignmentsByEmployeeId: {}", employeeId);
         return ApiResult.failure("org-service connection failed", new ArrayList<>());
     }
 
     @Override
-    public ApiResult<List<Map<String, Object>>> getAssignmentsByOrganizationId(Long organizationId) {
+    public ApiResult<List<OrgAssignmentDto>> getAssignmentsByOrganizationId(Long organizationId) {
         log.warn("org-service call failed - getAssignmentsByOrganizationId: {}", organizationId);
         return ApiResult.failure("org-service connection failed", new ArrayList<>());
     }
 
     @Override
-    public ApiResult<List<Map<String, Object>>> getLeadersByOrganizationId(Long organizationId) {
+    public ApiResult<List<OrgAssignmentDto>> getLeadersByOrganizationId(Long organizationId) {
         log.warn("org-service call failed - getLeadersByOrganizationId: {}", organizationId);
         return ApiResult.failure("org-service connection failed", new ArrayList<>());
     }
@@ -101,6 +109,12 @@ public class OrgServiceClientFallback implements OrgServiceClient {
         return ApiResult.failure("org-service connection failed", fallback);
     }
 
+    @Override
+    public ApiResult<List<OrgAssignmentDto>> createAssignments(List<Map<String, Object>> requests) {
+        log.warn("org-service call failed - createAssignments: count={}", requests.size());
+        return ApiResult.failure("org-service connection failed", new ArrayList<>());
+    }
+
     @Override
     public ApiResult<Map<String, Object>> updateAssignment(Long assignmentId, Map<String, Object> request) {
         log.warn("org-service call failed - updateAssignment: {}", assignmentId);
@@ -1,5 +1,6 @@
 package com.hermes.userservice.client;
 
+import com.hermes.api.common.ApiResult;
 import com.hermes.userservice.dto.workpolicy.WorkPolicyResponseDto;
 import com.hermes.userservice.dto.workpolicy.AnnualLeaveResponseDto;
 import org.springframework.cloud.openfeign.FeignClient;
@@ -12,6 +13,9 @@ public interface WorkPolicyServiceClient {
 
     @GetMapping("/api/workpolicy/{id}")
     WorkPolicyResponseDto getWorkPolicy(@PathVariable("id") Long id);
+
+    @GetMapping("/api/workpolicy/batch")
+    ApiResult<List<WorkPolicyResponseDto>> getWorkPoliciesByIds(@RequestParam("ids") List<Long> ids);
     
     @GetMapping("/api/annual-leaves/work-policies/{workPolicyId}")
     List<AnnualLeaveResponseDto> getAnnualLeavesByWorkPolicyId(@PathVariable("workPolicyId") Long workPolicyId);
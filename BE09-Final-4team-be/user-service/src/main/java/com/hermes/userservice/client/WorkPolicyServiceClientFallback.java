@@ -1,5 +1,6 @@
 package com.hermes.userservice.client;
 
+import com.hermes.api.common.ApiResult;
 import com.hermes.userservice.dto.workpolicy.WorkPolicyResponseDto;
 import com.hermes.userservice.dto.workpolicy.AnnualLeaveResponseDto;
 import lombok.extern.slf4j.Slf4j;
@@ -16,6 +17,12 @@ public class WorkPolicyServiceClientFallback implements WorkPolicyServiceClient
         log.warn("attendance-service call failed - getWorkPolicy: {}", id);
         return null;
     }
+
+    @Override
+    public ApiResult<List<WorkPolicyResponseDto>> getWorkPoliciesByIds(List<Long> ids) {
+        log.warn("attendance-service call failed - getWorkPoliciesByIds: {}", ids);
+        return ApiResult.failure("attendance-service unavailable", List.of());
+    }
     
     @Override
     public List<AnnualLeaveResponseDto> getAnnualLeavesByWorkPolicyId(Long workPolicyId) {
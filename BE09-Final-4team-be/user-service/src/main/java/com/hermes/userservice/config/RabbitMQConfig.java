@@ -0,0 +1,72 @@
+package com.hermes.userservice.config;
+
+import org.springframework.amqp.core.Binding;
+import org.springframework.amqp.core.BindingBuilder;
+import org.springframework.amqp.core.ExchangeBuilder;
+import org.springframework.amqp.core.Queue;
+import org.springframework.amqp.core.QueueBuilder;
+import org.springframework.amqp.core.TopicExchange;
+import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
+import org.springframework.amqp.support.converter.MessageConverter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class RabbitMQConfig {
+
+    @Value("${hermes.user.events.exchange:user.events}")
+    private String userExchange;
+
+    @Value("${hermes.organization.events.exchange:organization.events}")
+    private String organizationExchange;
+
+    @Value("${hermes.organization.events.queue:organization.events.user-service}")
+    private String organizationQueue;
+
+    /**
+     * JSON 메시지 컨버터 (RabbitTemplate 자동 구성에서 사용)
+     */
+    @Bean
+    public MessageConverter jackson2JsonMessageConverter() {
+        return new Jackson2JsonMessageConverter();
+    }
+
+    /**
+     * 사용자 이벤트 Exchange (Topic Exchange)
+     */
+    @Bean
+    public TopicExchange userEventExchange() {
+        return ExchangeBuilder
+                .topicExchange(userExchange)
+                .durable(true)
+                .build();
+    }
+
+    /**
+     * 조직 이벤트 Exchange (org-service에서 발행)
+     */
+    @Bean
+    public TopicExchange organizationEventExchange() {
+        return ExchangeBuilder
+                .topicExchange(organizationExchange)
+                .durable(true)
+                .build();
+    }
+
+    /**
+     * user-service 전용 조직 이벤트 Queue (조직 캐시 무효화)
+     */
+    @Bean
+    public Queue organizationEventQueue() {
+        return QueueBuilder.durable(organizationQueue).build();
+    }
+
+    @Bean
+    public Binding organizationEventBinding(Queue organizationEventQueue, TopicExchange organizationEventExchange) {
+        return BindingBuilder
+                .bind(organizationEventQueue)
+                .to(organizationEventExchange)
+                .with("organization.#"); // 조직/인사발령 변경 이벤트를 모두 받음
+    }
+}
@@ -17,9 +17,13 @@ public class UserSecurityConfig extends BaseSecurityConfig {
     ) {
         auth.requestMatchers("/api/auth/**").permitAll();
         
-        auth.requestMatchers("/api/users/count").hasRole("ADMIN");
-        auth.requestMatchers("/api/users/ids").hasRole("ADMIN");
+        // 전체 사용자 수/ID 목록은 관리자와 서비스 간 호출(복제본 재동기화)만 허용
+        auth.requestMatchers("/api/users/count").hasAnyRole("ADMIN", "SERVICE");
+        auth.requestMatchers("/api/users/ids").hasAnyRole("ADMIN", "SERVICE");
+        auth.requestMatchers("/api/users/ids/page").hasAnyRole("ADMIN", "SERVICE");
+        auth.requestMatchers(HttpMethod.POST, "/api/users/profiles/bulk").authenticated();
         auth.requestMatchers(HttpMethod.POST, "/api/users").hasRole("ADMIN");
+        auth.requestMatchers(HttpMethod.POST, "/api/users/import").hasRole("ADMIN");
         auth.requestMatchers(HttpMethod.PUT, "/api/users/**").hasRole("ADMIN");
         auth.requestMatchers(HttpMethod.PATCH, "/api/users/*/profile-image").authenticated();
         auth.requestMatchers(HttpMethod.PATCH, "/api/users/**").hasRole("ADMIN");
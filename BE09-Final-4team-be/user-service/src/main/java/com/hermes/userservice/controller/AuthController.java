@@ -22,7 +22,9 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseCookie;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.security.oauth2.jwt.Jwt;
 import org.springframework.web.bind.annotation.*;
 
 @Slf4j
@@ -75,7 +77,7 @@ public class AuthController {
         @ApiResponse(responseCode = "204", description = "이미 로그아웃된 상태"),
         @ApiResponse(responseCode = "401", description = "인증 실패")
     })
-    public ResponseEntity<ApiResult<Void>> logout(@AuthenticationPrincipal UserPrincipal user) {
+    public ResponseEntity<ApiResult<Void>> logout(@AuthenticationPrincipal UserPrincipal user, Authentication authentication) {
         // RefreshToken 쿠키 삭제
         ResponseCookie deleteRefreshTokenCookie = authCookieService.createRefreshTokenDeleteCookie();
         
@@ -86,7 +88,10 @@ public class AuthController {
         }
         
         log.info("로그아웃 요청: userId={}", user.getId());
-        authService.logout(user.getId());
+        Jwt accessToken = authentication.getCredentials() instanceof Jwt jwt ? jwt : null;
+        authService.logout(user.getId(),
+                accessToken != null ? accessToken.getId() : null,
+                accessToken != null ? accessToken.getExpiresAt() : null);
         
         return ResponseEntity.ok()
                 .header(HttpHeaders.SET_COOKIE, deleteRefreshTokenCookie.toString())
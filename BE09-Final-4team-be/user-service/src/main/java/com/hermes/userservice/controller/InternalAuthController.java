@@ -0,0 +1,34 @@
+package com.hermes.userservice.controller;
+
+import com.hermes.api.common.ApiResult;
+import com.hermes.auth.revocation.TokenRevocation;
+import com.hermes.userservice.service.TokenRevocationService;
+import io.swagger.v3.oas.annotations.Hidden;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+/**
+ * 서비스 간 내부 인증 API
+ * 게이트웨이가 라우팅하지 않는 /internal 경로이며, SERVICE 권한 토큰만 허용한다 (BaseSecurityConfig).
+ */
+@Hidden
+@RestController
+@RequestMapping("/internal/auth")
+@RequiredArgsConstructor
+public class InternalAuthController {
+
+    private final TokenRevocationService tokenRevocationService;
+
+    /**
+     * 만료되지 않은 폐기 액세스 토큰 목록 (각 서비스의 TokenRevocationSynchronizer가 사용)
+     */
+    @GetMapping("/revocations")
+    public ResponseEntity<ApiResult<List<TokenRevocation>>> getRevocations() {
+        return ResponseEntity.ok(ApiResult.success("폐기 토큰 목록 조회 성공", tokenRevocationService.getActiveRevocations()));
+    }
+}
@@ -3,10 +3,17 @@ package com.hermes.userservice.controller;
 import com.hermes.api.common.ApiResult;
 import com.hermes.auth.principal.UserPrincipal;
 import com.hermes.userservice.dto.DetailProfileResponseDto;
+import com.hermes.userservice.dto.OrganizationSyncResultDto;
+import com.hermes.userservice.dto.UserBulkLookupRequestDto;
 import com.hermes.userservice.dto.UserCreateDto;
+import com.hermes.userservice.dto.UserIdPageDto;
+import com.hermes.userservice.dto.UserImportRequestDto;
+import com.hermes.userservice.dto.UserImportResultDto;
 import com.hermes.userservice.dto.UserResponseDto;
+import com.hermes.userservice.dto.UserSummaryDto;
 import com.hermes.userservice.dto.UserUpdateDto;
 import com.hermes.userservice.service.OrganizationSyncService;
+import com.hermes.userservice.service.UserImportService;
 import com.hermes.userservice.service.UserService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -22,6 +29,10 @@ import java.util.List;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.web.PageableDefault;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
@@ -33,6 +44,7 @@ import java.util.HashMap;
 
 import com.hermes.userservice.dto.ColleagueSearchRequestDto;
 import com.hermes.userservice.dto.ColleagueResponseDto;
+import com.hermes.userservice.service.UserSearchIndexService;
 import com.hermes.userservice.service.VacationService;
 
 @Slf4j
@@ -45,6 +57,8 @@ public class UserController {
     private final UserService userService;
     private final OrganizationSyncService organizationSyncService;
     private final VacationService vacationService;
+    private final UserSearchIndexService userSearchIndexService;
+    private final UserImportService userImportService;
 
     @PostMapping
     @PreAuthorize("hasRole('ADMIN')")
@@ -65,6 +79,24 @@ public class UserController {
         return ResponseEntity.status(HttpStatus.CREATED).body(ApiResult.success("사용자 생성 성공", createdUserDto));
     }
 
+    @PostMapping("/import")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "사용자 일괄 등록", description = "여러 사용자를 한 번에 등록합니다. 잘못된 행은 건너뛰고 행별 오류로 반환합니다. (최대 5000명) 관리자만 접근 가능합니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "사용자 일괄 등록 처리 완료",
+                    content = @Content(schema = @Schema(implementation = UserImportResultDto.class))),
+            @ApiResponse(responseCode = "400", description = "잘못된 요청 데이터"),
+            @ApiResponse(responseCode = "401", description = "인증 실패"),
+            @ApiResponse(responseCode = "403", description = "권한 부족 (ADMIN 권한 필요)")
+    })
+    public ResponseEntity<ApiResult<UserImportResultDto>> importUsers(
+            @Parameter(description = "등록할 사용자 목록", required = true)
+            @Valid @RequestBody UserImportRequestDto request) {
+        log.info("사용자 일괄 등록 요청: rows={}", request.getUsers().size());
+        UserImportResultDto result = userImportService.importUsers(request);
+        return ResponseEntity.ok(ApiResult.success("사용자 일괄 등록 처리 완료", result));
+    }
+
     @GetMapping
     @PreAuthorize("isAuthenticated()") // ADMIN 권한 제거, 인증된 사용자면 접근 가능
     @Operation(summary = "전체 사용자 목록 조회", description = "시스템에 등록된 모든 사용자의 정보를 조회합니다. 인증된 사용자만 접근 가능합니다.")
@@ -80,6 +112,21 @@ public class UserController {
         return ResponseEntity.ok(ApiResult.success("사용자 목록 조회 성공", users));
     }
 
+    @GetMapping("/summaries")
+    @PreAuthorize("isAuthenticated()")
+    @Operation(summary = "사용자 목록 페이지 조회", description = "사용자 목록을 페이지 단위로 조회합니다. 근무 정책과 조직 정보는 페이지별로 일괄 조회됩니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "사용자 목록 조회 성공",
+                    content = @Content(schema = @Schema(implementation = UserSummaryDto.class))),
+            @ApiResponse(responseCode = "401", description = "인증 실패")
+    })
+    public ResponseEntity<ApiResult<Page<UserSummaryDto>>> getUserSummaries(
+            @PageableDefault(size = 50, sort = "id", direction = Sort.Direction.ASC) Pageable pageable) {
+        log.info("사용자 목록 페이지 조회 요청: page={}, size={}", pageable.getPageNumber(), pageable.getPageSize());
+        Page<UserSummaryDto> users = userService.getUserSummaries(pageable);
+        return ResponseEntity.ok(ApiResult.success("사용자 목록 조회 성공", users));
+    }
+
     @GetMapping("/{userId}")
     @PreAuthorize("isAuthenticated()")
     @Operation(summary = "사용자 정보 조회", description = "특정 사용자의 정보를 조회합니다. 인증된 사용자만 접근 가능합니다.")
@@ -161,10 +208,10 @@ public class UserController {
             @ApiResponse(responseCode = "401", description = "인증 실패"),
             @ApiResponse(responseCode = "403", description = "권한 부족 (ADMIN 권한 필요)")
     })
-    public ResponseEntity<ApiResult<Void>> syncAllUsersOrganizations() {
+    public ResponseEntity<ApiResult<OrganizationSyncResultDto>> syncAllUsersOrganizations() {
         log.info("전체 사용자 조직 정보 동기화 요청");
-        organizationSyncService.syncAllUsersOrganizations();
-        return ResponseEntity.ok(ApiResult.success("전체 조직 정보 동기화 완료", null));
+        OrganizationSyncResultDto result = organizationSyncService.syncAllUsersOrganizations();
+        return ResponseEntity.ok(ApiResult.success("전체 조직 정보 동기화 완료", result));
     }
 
     @GetMapping("/{userId}/profile")
@@ -234,8 +281,24 @@ public class UserController {
             @ModelAttribute ColleagueSearchRequestDto searchRequest) {
         log.info("동료 목록 조회 요청: searchKeyword={}, department={}, position={}",
                 searchRequest.getSearchKeyword(), searchRequest.getDepartment(), searchRequest.getPosition());
-        List<ColleagueResponseDto> colleagues = userService.getColleagues(searchRequest);
-        return ResponseEntity.ok(ApiResult.success("동료 목록 조회 성공", colleagues));
+        Page<ColleagueResponseDto> colleagues = userService.getColleagues(searchRequest);
+        return ResponseEntity.ok()
+                .header("X-Total-Count", String.valueOf(colleagues.getTotalElements()))
+                .body(ApiResult.success("동료 목록 조회 성공", colleagues.getContent()));
+    }
+
+    @PostMapping("/search-index/rebuild")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "사용자 검색 색인 재구성", description = "동료 검색에 사용하는 색인을 전체 사용자 기준으로 다시 생성합니다. 관리자만 접근 가능합니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "색인 재구성 성공"),
+            @ApiResponse(responseCode = "401", description = "인증 실패"),
+            @ApiResponse(responseCode = "403", description = "권한 부족")
+    })
+    public ResponseEntity<ApiResult<Integer>> rebuildSearchIndex() {
+        log.info("사용자 검색 색인 재구성 요청");
+        int indexed = userSearchIndexService.rebuild();
+        return ResponseEntity.ok(ApiResult.success("사용자 검색 색인 재구성 완료", indexed));
     }
 
     @GetMapping("/count")
@@ -274,8 +337,8 @@ public class UserController {
     }
 
     @GetMapping("/ids")
-    @PreAuthorize("hasRole('ADMIN')")
-    @Operation(summary = "전체 사용자 ID 목록 조회", description = "알림 발송을 위한 전체 사용자 ID 목록을 조회합니다. ADMIN 권한 필요.")
+    @PreAuthorize("hasAnyRole('ADMIN', 'SERVICE')")
+    @Operation(summary = "전체 사용자 ID 목록 조회", description = "알림 발송, 서비스별 사용자 복제본 재동기화를 위한 전체 사용자 ID 목록을 조회합니다. ADMIN 또는 서비스 토큰 필요.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "사용자 ID 목록 조회 성공"),
             @ApiResponse(responseCode = "403", description = "권한 부족 (ADMIN 권한 필요)")
@@ -286,6 +349,38 @@ public class UserController {
         return ResponseEntity.ok(ApiResult.success("사용자 ID 목록 조회 성공", userIds));
     }
 
+    @GetMapping("/ids/page")
+    @PreAuthorize("hasAnyRole('ADMIN', 'SERVICE')")
+    @Operation(summary = "사용자 ID 커서 페이지 조회", description = "전체 사용자 ID를 오름차순 커서 페이지로 조회합니다. 응답의 nextCursor를 afterId로 전달해 다음 페이지를 조회합니다. ADMIN 또는 서비스 토큰 필요.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "사용자 ID 페이지 조회 성공",
+                    content = @Content(schema = @Schema(implementation = UserIdPageDto.class))),
+            @ApiResponse(responseCode = "403", description = "권한 부족 (ADMIN 권한 필요)")
+    })
+    public ResponseEntity<ApiResult<UserIdPageDto>> getUserIdPage(
+            @Parameter(description = "이전 페이지의 마지막 사용자 ID (첫 페이지는 생략)", example = "0")
+            @RequestParam(required = false) Long afterId,
+            @Parameter(description = "페이지 크기 (최대 5000)", example = "1000")
+            @RequestParam(defaultValue = "1000") int size) {
+        int pageSize = Math.max(1, Math.min(size, 5000));
+        UserIdPageDto page = userService.getUserIdPage(afterId, pageSize);
+        return ResponseEntity.ok(ApiResult.success("사용자 ID 페이지 조회 성공", page));
+    }
+
+    @PostMapping("/profiles/bulk")
+    @Operation(summary = "사용자 프로필 일괄 조회", description = "여러 사용자의 프로필을 한 번에 조회합니다. 조직/근무정책은 include에 지정한 경우에만 포함됩니다. 존재하지 않는 ID는 결과에서 제외됩니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "프로필 일괄 조회 성공",
+                    content = @Content(schema = @Schema(implementation = UserSummaryDto.class))),
+            @ApiResponse(responseCode = "400", description = "잘못된 요청 (ID 목록 누락 또는 1000개 초과)")
+    })
+    public ResponseEntity<ApiResult<List<UserSummaryDto>>> getUserProfilesBulk(
+            @Parameter(description = "조회할 사용자 ID 목록과 포함할 정보", required = true)
+            @Valid @RequestBody UserBulkLookupRequestDto request) {
+        List<UserSummaryDto> profiles = userService.getUserSummariesByIds(request.getUserIds(), request.getInclude());
+        return ResponseEntity.ok(ApiResult.success("프로필 일괄 조회 성공", profiles));
+    }
+
     @PatchMapping("/{userId}/profile-image")
     @PreAuthorize("isAuthenticated()")
     @Operation(summary = "프로필 이미지 수정", description = "본인의 프로필 이미지만 수정합니다.")
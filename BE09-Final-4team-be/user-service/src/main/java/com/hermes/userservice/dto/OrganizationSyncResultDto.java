@@ -0,0 +1,23 @@
+package com.hermes.userservice.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 전체 사용자 조직 정보 동기화 결과
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+@Schema(description = "조직 정보 동기화 결과")
+public class OrganizationSyncResultDto {
+
+    private int userCount;
+    private int inserted;
+    private int updated;
+    private int deleted;
+    private int failedUsers;
+    private long elapsedMillis;
+}
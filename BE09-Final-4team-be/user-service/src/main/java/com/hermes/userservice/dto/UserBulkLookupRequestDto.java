@@ -0,0 +1,30 @@
+package com.hermes.userservice.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+import java.util.Set;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@Schema(description = "사용자 일괄 조회 요청 DTO", example = "{\"userIds\": [1, 2, 3], \"include\": [\"organizations\"]}")
+public class UserBulkLookupRequestDto {
+
+    public static final int MAX_USER_IDS = 1000;
+    public static final String INCLUDE_ORGANIZATIONS = "organizations";
+    public static final String INCLUDE_WORK_POLICY = "workPolicy";
+
+    @NotEmpty
+    @Size(max = MAX_USER_IDS)
+    @Schema(description = "조회할 사용자 ID 목록 (최대 1000개)", required = true)
+    private List<Long> userIds;
+
+    @Schema(description = "추가로 포함할 정보 (organizations, workPolicy). 지정하지 않으면 기본 프로필만 반환합니다.")
+    private Set<String> include = Set.of();
+}
@@ -0,0 +1,22 @@
+package com.hermes.userservice.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 사용자 ID 커서 페이지 (전체 사용자 대상 fan-out 처리용)
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+@Schema(description = "사용자 ID 커서 페이지")
+public class UserIdPageDto {
+
+    private List<Long> userIds;
+    private Long nextCursor; // 다음 페이지 요청 시 afterId로 전달 (마지막 페이지면 null)
+    private boolean hasNext;
+}
@@ -0,0 +1,27 @@
+package com.hermes.userservice.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+/**
+ * 사용자 일괄 등록 요청 (행 단위 검증은 서비스에서 수행하여 행별 오류로 반환)
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@Schema(description = "사용자 일괄 등록 요청 DTO")
+public class UserImportRequestDto {
+
+    public static final int MAX_ROWS = 5000;
+
+    @NotEmpty
+    @Size(max = MAX_ROWS)
+    @Schema(description = "등록할 사용자 목록 (최대 5000명)", required = true)
+    private List<UserImportRowDto> users;
+}
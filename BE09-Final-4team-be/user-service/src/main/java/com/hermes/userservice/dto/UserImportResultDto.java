@@ -0,0 +1,35 @@
+package com.hermes.userservice.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 사용자 일괄 등록 결과 (실패한 행은 나머지 행의 등록을 막지 않음)
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+@Schema(description = "사용자 일괄 등록 결과")
+public class UserImportResultDto {
+
+    private int requested;
+    private int imported;
+    private int failed;
+    private List<RowError> errors;
+    // 사용자는 등록되었으나 조직 배정 요청이 실패한 경우 (조직 동기화로 재시도 가능)
+    private String assignmentError;
+    private long elapsedMillis;
+
+    @Getter
+    @AllArgsConstructor
+    @Schema(description = "행별 오류")
+    public static class RowError {
+        private int row; // 요청 목록의 0부터 시작하는 위치
+        private String email;
+        private String message;
+    }
+}
@@ -0,0 +1,68 @@
+package com.hermes.userservice.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.Email;
+import jakarta.validation.constraints.NotBlank;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDate;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@Schema(description = "사용자 일괄 등록 행", example = "{\"name\": \"김철수\", \"email\": \"kim@example.com\", \"password\": \"password123\", \"rankId\": 1, \"organizationId\": 3}")
+public class UserImportRowDto {
+
+    @NotBlank
+    @Schema(description = "사용자 이름", required = true, example = "김철수")
+    private String name;
+
+    @NotBlank @Email
+    @Schema(description = "사용자 이메일", required = true, example = "kim@example.com")
+    private String email;
+
+    @NotBlank
+    @Schema(description = "비밀번호", required = true, example = "password123")
+    private String password;
+
+    @Schema(description = "연락처", example = "010-1234-5678")
+    private String phone;
+
+    @Schema(description = "주소", example = "서울시 강남구 테헤란로 123")
+    private String address;
+
+    @Schema(description = "입사일 (미입력 시 오늘)", example = "2024-01-15")
+    private LocalDate joinDate;
+
+    @Schema(description = "관리자 여부", example = "false")
+    private Boolean isAdmin;
+
+    @Schema(description = "비밀번호 재설정 필요 여부", example = "true")
+    private Boolean needsPasswordReset;
+
+    @Schema(description = "고용 형태 ID", example = "1")
+    private Long employmentTypeId;
+
+    @Schema(description = "직급 ID", example = "1")
+    private Long rankId;
+
+    @Schema(description = "직책 ID", example = "1")
+    private Long positionId;
+
+    @Schema(description = "직무 ID", example = "1")
+    private Long jobId;
+
+    @Schema(description = "역할", example = "DEVELOPER")
+    private String role;
+
+    @Schema(description = "근무 정책 ID", example = "1")
+    private Long workPolicyId;
+
+    @Schema(description = "배정할 조직 ID (메인 부서로 배정)", example = "3")
+    private Long organizationId;
+
+    @Schema(description = "조직장 여부", example = "false")
+    private Boolean isLeader;
+}
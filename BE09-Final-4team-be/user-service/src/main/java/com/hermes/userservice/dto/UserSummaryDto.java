@@ -0,0 +1,53 @@
+package com.hermes.userservice.dto;
+
+import com.hermes.userservice.dto.workpolicy.WorkPolicyResponseDto;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.List;
+
+/**
+ * 사용자 목록 응답 DTO (목록 화면에 필요한 컬럼만 조회하는 프로젝션)
+ * 근무 정책과 조직 정보는 페이지 단위로 일괄 조회한 뒤 채운다.
+ */
+@Getter
+@Setter
+@Schema(description = "사용자 목록 응답 DTO")
+public class UserSummaryDto {
+
+    private Long id;
+    private String name;
+    private String email;
+    private String phone;
+    private Boolean isAdmin;
+    private String employmentType;
+    private String rank;
+    private String position;
+    private String job;
+    private String role;
+    private String profileImageUrl;
+    private Long workPolicyId;
+    private Integer workYears;
+    private WorkPolicyResponseDto workPolicy;
+    private List<UserOrganizationDto> organizations = List.of();
+
+    // JPQL 생성자 표현식용
+    public UserSummaryDto(Long id, String name, String email, String phone, Boolean isAdmin,
+                          String employmentType, String rank, String position, String job,
+                          String role, String profileImageUrl, Long workPolicyId, Integer workYears) {
+        this.id = id;
+        this.name = name;
+        this.email = email;
+        this.phone = phone;
+        this.isAdmin = isAdmin;
+        this.employmentType = employmentType;
+        this.rank = rank;
+        this.position = position;
+        this.job = job;
+        this.role = role;
+        this.profileImageUrl = profileImageUrl;
+        this.workPolicyId = workPolicyId;
+        this.workYears = workYears;
+    }
+}
@@ -0,0 +1,24 @@
+package com.hermes.userservice.dto.organization;
+
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * org-service 인사발령 응답 (EmployeeAssignmentDto)
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class OrgAssignmentDto {
+    private Long assignmentId;
+    private Long employeeId;
+    private String employeeName;
+    private Long organizationId;
+    private String organizationName;
+    private Boolean isPrimary;
+    private Boolean isLeader;
+    private LocalDateTime assignedAt;
+}
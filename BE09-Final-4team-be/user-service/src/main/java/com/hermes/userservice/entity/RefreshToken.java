@@ -10,7 +10,9 @@ import lombok.Setter;
 import java.time.Instant;
 
 @Entity
-@Table(name = "refresh_tokens")
+@Table(name = "refresh_tokens", indexes = {
+        @Index(name = "idx_refresh_tokens_expiration", columnList = "expiration")
+})
 @Getter
 @Setter
 @NoArgsConstructor
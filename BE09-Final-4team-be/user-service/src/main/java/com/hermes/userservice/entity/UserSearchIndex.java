@@ -0,0 +1,54 @@
+package com.hermes.userservice.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 동료 검색용 사용자 색인 (목록 응답에 필요한 컬럼과 정규화된 검색 키를 비정규화하여 보관)
+ * 사용자 생성/수정/삭제 및 조직 동기화 시 UserSearchIndexService가 함께 갱신한다.
+ */
+@Entity
+@Table(name = "user_search_index", indexes = {
+        @Index(name = "idx_user_search_index_name_key", columnList = "name_key")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@Builder
+public class UserSearchIndex {
+
+    @Id
+    @Column(name = "user_id")
+    private Long userId;
+
+    @Column(nullable = false)
+    private String name;
+
+    private String email;
+
+    private String phone;
+
+    private String department; // 주 소속 조직명
+
+    private String title; // 직위
+
+    @Column(name = "profile_image_url")
+    private String profileImageUrl;
+
+    @Column(name = "name_key", nullable = false)
+    private String nameKey;
+
+    @Column(name = "department_key", nullable = false)
+    private String departmentKey;
+
+    @Column(name = "title_key", nullable = false)
+    private String titleKey; // 직급/직위/직무
+
+    @Column(name = "search_text", nullable = false, length = 1000)
+    private String searchText; // 이름/이메일/부서/직함 (소문자, 필드 구분자 '\n')
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,30 @@
+package com.hermes.userservice.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * 사용자 검색 n-gram 역색인 (token → user_id)
+ */
+@Entity
+@Table(name = "user_search_token", indexes = {
+        @Index(name = "idx_user_search_token_token_user", columnList = "token, user_id"),
+        @Index(name = "idx_user_search_token_user", columnList = "user_id")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@Builder
+public class UserSearchToken {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "user_search_token_seq")
+    @SequenceGenerator(name = "user_search_token_seq", sequenceName = "user_search_token_seq", allocationSize = 100)
+    private Long id;
+
+    @Column(nullable = false, length = 8)
+    private String token;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+}
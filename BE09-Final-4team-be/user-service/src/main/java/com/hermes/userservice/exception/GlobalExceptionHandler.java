@@ -38,6 +38,14 @@ public class GlobalExceptionHandler {
                 .body(ApiResult.failure(ex.getMessage()));
     }
 
+    @ExceptionHandler(LoginOverloadedException.class)
+    public ResponseEntity<ApiResult<Void>> handleLoginOverloadedException(LoginOverloadedException ex) {
+        log.warn("로그인 처리 지연: {}", ex.getMessage());
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header("Retry-After", "1")
+                .body(ApiResult.failure(ex.getMessage()));
+    }
+
     @ExceptionHandler(DuplicateEmailException.class)
     public ResponseEntity<ApiResult<Void>> handleDuplicateEmailException(DuplicateEmailException ex) {
         log.warn("중복 이메일: {}", ex.getMessage());
@@ -0,0 +1,14 @@
+package com.hermes.userservice.exception;
+
+// 로그인 요청이 몰려 비밀번호 검증 대기열이 가득 찼을 때 발생하는 예외
+
+public class LoginOverloadedException extends BusinessException {
+
+    public LoginOverloadedException(String message) {
+        super(message, "LOGIN_OVERLOADED");
+    }
+
+    public LoginOverloadedException(String message, Throwable cause) {
+        super(message, "LOGIN_OVERLOADED", cause);
+    }
+}
@@ -1,6 +1,7 @@
 package com.hermes.userservice.mapper;
 
 import com.hermes.userservice.dto.*;
+import com.hermes.userservice.dto.organization.OrgAssignmentDto;
 import com.hermes.userservice.dto.title.*;
 import com.hermes.userservice.dto.workpolicy.WorkPolicyResponseDto;
 import com.hermes.userservice.entity.User;
@@ -13,7 +14,6 @@ import org.springframework.stereotype.Component;
 
 import java.time.LocalDate;
 import java.util.List;
-import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
@@ -58,7 +58,7 @@ public class UserMapper {
         return buildUserResponseDto(user, organizations, null);
     }
     
-    public UserResponseDto toResponseDto(User user, List<Map<String, Object>> remoteOrganizations) {
+    public UserResponseDto toResponseDto(User user, List<OrgAssignmentDto> remoteOrganizations) {
         List<UserOrganizationDto> organizations = remoteOrganizations.stream()
                 .map(this::mapToUserOrganizationDto)
                 .collect(Collectors.toList());
@@ -66,7 +66,7 @@ public class UserMapper {
         return buildUserResponseDto(user, organizations, null);
     }
 
-    public UserResponseDto toResponseDto(User user, List<Map<String, Object>> remoteOrganizations, WorkPolicyResponseDto workPolicy) {
+    public UserResponseDto toResponseDto(User user, List<OrgAssignmentDto> remoteOrganizations, WorkPolicyResponseDto workPolicy) {
         List<UserOrganizationDto> organizations = remoteOrganizations.stream()
                 .map(this::mapToUserOrganizationDto)
                 .collect(Collectors.toList());
@@ -212,15 +212,14 @@ public class UserMapper {
                 .build();
     }
     
-    public UserOrganizationDto mapToUserOrganizationDto(Map<String, Object> remoteData) {
+    public UserOrganizationDto mapToUserOrganizationDto(OrgAssignmentDto assignment) {
         return UserOrganizationDto.builder()
-                .id(((Number) remoteData.get("assignmentId")).longValue())
-                .organizationId(((Number) remoteData.get("organizationId")).longValue())
-                .organizationName((String) remoteData.get("organizationName"))
-                .isPrimary((Boolean) remoteData.get("isPrimary"))
-                .isLeader((Boolean) remoteData.get("isLeader"))
-                .assignedAt(remoteData.get("assignedAt") != null ? 
-                        java.time.LocalDateTime.parse((String) remoteData.get("assignedAt")) : null)
+                .id(assignment.getAssignmentId())
+                .organizationId(assignment.getOrganizationId())
+                .organizationName(assignment.getOrganizationName())
+                .isPrimary(assignment.getIsPrimary())
+                .isLeader(assignment.getIsLeader())
+                .assignedAt(assignment.getAssignedAt())
                 .build();
     }
 }
\ No newline at end of file
@@ -0,0 +1,60 @@
+package com.hermes.userservice.messaging;
+
+import com.hermes.auth.jwt.ServiceTokenProvider;
+import com.hermes.events.organization.OrganizationEvent;
+import com.hermes.userservice.service.OrganizationIntegrationService;
+import com.hermes.userservice.service.OrganizationSyncService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * org-service 조직/인사발령 변경 이벤트 구독
+ * 조직 캐시를 무효화하고, 인사발령이면 대상 직원의 user_organizations를 변경분만 동기화한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OrganizationEventListener {
+
+    private final OrganizationIntegrationService organizationIntegrationService;
+    private final OrganizationSyncService organizationSyncService;
+    private final ServiceTokenProvider serviceTokenProvider;
+
+    @RabbitListener(queues = "${hermes.organization.events.queue:organization.events.user-service}")
+    public void handleOrganizationEvent(OrganizationEvent event) {
+        log.info("Organization Event Received: Type={}, OrganizationId={}, EmployeeIds={}",
+                event.getEventType(), event.getOrganizationId(), event.getEmployeeIds());
+
+        if (event.getEventType() == OrganizationEvent.EventType.ASSIGNMENT_CHANGED) {
+            organizationIntegrationService.evictAssignments(event.getTenantId(), event.getOrganizationId(), event.getEmployeeIds());
+            // 일괄 인사발령은 영향받은 조직 목록을 함께 전달
+            if (event.getOrganizationIds() != null) {
+                event.getOrganizationIds().forEach(organizationId -> organizationIntegrationService.evictAssignments(
+                        event.getTenantId(), organizationId, List.of()));
+            }
+            syncAssignments(event);
+        } else {
+            organizationIntegrationService.evictTenant(event.getTenantId());
+        }
+    }
+
+    /**
+     * 요청 컨텍스트가 없으므로 org-service 조회는 서비스 토큰으로 수행한다.
+     * 실패해도 재전달하지 않으며, 누락분은 전체 동기화로 보정된다.
+     */
+    private void syncAssignments(OrganizationEvent event) {
+        if (event.getEmployeeIds() == null || event.getEmployeeIds().isEmpty()) {
+            return;
+        }
+        try {
+            serviceTokenProvider.callAsService(event.getTenantId(),
+                    () -> organizationSyncService.syncUsersOrganizations(event.getEmployeeIds()));
+        } catch (Exception e) {
+            log.error("인사발령 조직 정보 동기화 실패: employeeIds={}, error={}", event.getEmployeeIds(), e.getMessage());
+        }
+    }
+}
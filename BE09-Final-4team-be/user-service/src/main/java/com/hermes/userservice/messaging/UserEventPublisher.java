@@ -0,0 +1,81 @@
+package com.hermes.userservice.messaging;
+
+import com.hermes.events.user.UserEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 사용자 생명주기 이벤트를 RabbitMQ로 발행하는 Publisher
+ * 트랜잭션 안에서 호출되면 커밋 이후에 발행하여, 롤백된 변경이 전파되지 않도록 한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class UserEventPublisher {
+
+    private final RabbitTemplate rabbitTemplate;
+
+    @Value("${hermes.user.events.exchange:user.events}")
+    private String userExchange;
+
+    @Value("${hermes.user.events.created-routing-key:user.created}")
+    private String userCreatedRoutingKey;
+
+    @Value("${hermes.user.events.updated-routing-key:user.updated}")
+    private String userUpdatedRoutingKey;
+
+    @Value("${hermes.user.events.deleted-routing-key:user.deleted}")
+    private String userDeletedRoutingKey;
+
+    /**
+     * 사용자 생성 이벤트 발행
+     */
+    public void publishUserCreated(Long userId) {
+        publishAfterCommit(UserEvent.created(userId), userCreatedRoutingKey);
+    }
+
+    /**
+     * 사용자 수정 이벤트 발행
+     */
+    public void publishUserUpdated(Long userId) {
+        publishAfterCommit(UserEvent.updated(userId), userUpdatedRoutingKey);
+    }
+
+    /**
+     * 사용자 삭제 이벤트 발행
+     */
+    public void publishUserDeleted(Long userId) {
+        publishAfterCommit(UserEvent.deleted(userId), userDeletedRoutingKey);
+    }
+
+    private void publishAfterCommit(UserEvent event, String routingKey) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    publishEvent(event, routingKey);
+                }
+            });
+        } else {
+            publishEvent(event, routingKey);
+        }
+    }
+
+    /**
+     * 이벤트를 RabbitMQ로 발행 (발행 실패가 사용자 변경 자체를 실패시키지는 않음)
+     */
+    private void publishEvent(UserEvent event, String routingKey) {
+        try {
+            rabbitTemplate.convertAndSend(userExchange, routingKey, event);
+            log.debug("User event published: routingKey={}, event={}", routingKey, event);
+        } catch (Exception e) {
+            log.error("Failed to publish user event: routingKey={}, event={}, error={}",
+                    routingKey, event, e.getMessage(), e);
+        }
+    }
+}
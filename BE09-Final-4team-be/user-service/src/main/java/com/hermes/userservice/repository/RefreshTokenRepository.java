@@ -5,23 +5,46 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
-import java.time.LocalDateTime;
-import java.util.List;
+import java.time.Instant;
 import java.util.Optional;
 
 public interface RefreshTokenRepository extends JpaRepository<RefreshToken, Long> {
 
     Optional<RefreshToken> findByUserId(Long userId);
 
-    @Query("SELECT rt FROM RefreshToken rt WHERE rt.expiration < :now")
-    List<RefreshToken> findExpiredTokens(@Param("now") LocalDateTime now);
+    /**
+     * 사용자별 리프레시 토큰 upsert (조회 없이 단일 문장으로 저장/교체)
+     */
+    @Transactional
+    @Modifying
+    @Query(value = "INSERT INTO refresh_tokens (user_id, token_hash, expiration, created_at) " +
+            "VALUES (:userId, :tokenHash, :expiration, :now) " +
+            "ON CONFLICT (user_id) DO UPDATE SET token_hash = EXCLUDED.token_hash, expiration = EXCLUDED.expiration",
+            nativeQuery = true)
+    int upsertByUserId(@Param("userId") Long userId,
+                       @Param("tokenHash") String tokenHash,
+                       @Param("expiration") Instant expiration,
+                       @Param("now") Instant now);
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM RefreshToken rt WHERE rt.userId = :userId")
+    int deleteByUserId(@Param("userId") Long userId);
 
+    /**
+     * 만료 토큰을 최대 batchSize건 삭제하고 삭제 건수 반환 (PostgreSQL은 DELETE ... LIMIT 미지원)
+     */
+    @Transactional
     @Modifying
-    @Query("DELETE FROM RefreshToken rt WHERE rt.expiration < :now")
-    void deleteExpiredTokens(@Param("now") LocalDateTime now);
+    @Query(value = "DELETE FROM refresh_tokens WHERE id IN " +
+            "(SELECT id FROM refresh_tokens WHERE expiration < :now LIMIT :batchSize)",
+            nativeQuery = true)
+    int deleteExpiredBatch(@Param("now") Instant now, @Param("batchSize") int batchSize);
 
+    @Transactional
     @Modifying
     @Query("DELETE FROM RefreshToken rt WHERE rt.userId = :userId AND rt.expiration < :now")
-    void deleteExpiredTokensByUserId(@Param("userId") Long userId, @Param("now") LocalDateTime now);
-}
\ No newline at end of file
+    int deleteExpiredTokensByUserId(@Param("userId") Long userId, @Param("now") Instant now);
+}
@@ -7,6 +7,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -21,6 +22,9 @@ public interface UserOrganizationRepository extends JpaRepository<UserOrganizati
     List<UserOrganization> findByOrganizationIdAndIsLeaderTrue(Long organizationId);
     
     void deleteByUserId(Long userId);
+
+    @Query("select uo from UserOrganization uo where uo.user.id in :userIds")
+    List<UserOrganization> findByUserIdIn(@Param("userIds") Collection<Long> userIds);
     
     @Modifying
     @Query("delete from UserOrganization uo where uo.user.id = :userId")
@@ -1,13 +1,16 @@
 package com.hermes.userservice.repository;
 
+import com.hermes.userservice.dto.UserSummaryDto;
 import com.hermes.userservice.entity.User;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -15,6 +18,9 @@ public interface UserRepository extends JpaRepository<User, Long> {
 
     Optional<User> findByEmail(String email);
 
+    @Query("SELECT u.email FROM User u WHERE u.email IN :emails")
+    List<String> findExistingEmails(@Param("emails") Collection<String> emails);
+
     List<User> findByNameContaining(String name);
     List<User> findByEmailContaining(String email);
     List<User> findByIsAdmin(Boolean isAdmin);
@@ -34,9 +40,35 @@ public interface UserRepository extends JpaRepository<User, Long> {
     @Query("SELECT DISTINCT u FROM User u LEFT JOIN FETCH u.userOrganizations WHERE u.email = :email")
     Optional<User> findByEmailWithOrganizations(@Param("email") String email);
 
+    // 목록 응답에 필요한 직급/직위/직무/고용형태를 한 번에 로딩 (사용자별 지연 로딩 방지)
+    @EntityGraph(attributePaths = {"employmentType", "rank", "position", "job"})
+    @Query("SELECT u FROM User u")
+    List<User> findAllWithTitles();
+
+    @Query(value = "SELECT new com.hermes.userservice.dto.UserSummaryDto(" +
+            "u.id, u.name, u.email, u.phone, u.isAdmin, et.name, r.name, p.name, j.name, " +
+            "u.role, u.profileImageUrl, u.workPolicyId, u.workYears) " +
+            "FROM User u LEFT JOIN u.employmentType et LEFT JOIN u.rank r " +
+            "LEFT JOIN u.position p LEFT JOIN u.job j",
+            countQuery = "SELECT COUNT(u) FROM User u")
+    Page<UserSummaryDto> findUserSummaries(Pageable pageable);
+
+    @Query("SELECT new com.hermes.userservice.dto.UserSummaryDto(" +
+            "u.id, u.name, u.email, u.phone, u.isAdmin, et.name, r.name, p.name, j.name, " +
+            "u.role, u.profileImageUrl, u.workPolicyId, u.workYears) " +
+            "FROM User u LEFT JOIN u.employmentType et LEFT JOIN u.rank r " +
+            "LEFT JOIN u.position p LEFT JOIN u.job j WHERE u.id IN :userIds")
+    List<UserSummaryDto> findUserSummariesByIdIn(@Param("userIds") Collection<Long> userIds);
+
     @Query("SELECT u.id FROM User u")
     List<Long> findAllUserIds();
 
+    @Query("SELECT u.id FROM User u WHERE u.id IN :userIds ORDER BY u.id")
+    List<Long> findExistingIds(@Param("userIds") Collection<Long> userIds);
+
+    @Query("SELECT u.id FROM User u WHERE u.id > :afterId ORDER BY u.id")
+    List<Long> findUserIdsAfter(@Param("afterId") Long afterId, Pageable pageable);
+
     @Modifying
     @Query("UPDATE User u SET u.profileImageUrl = :profileImageUrl WHERE u.id = :userId")
     void updateProfileImageUrl(@Param("userId") Long userId, @Param("profileImageUrl") String profileImageUrl);
@@ -0,0 +1,61 @@
+package com.hermes.userservice.repository;
+
+import com.hermes.userservice.dto.ColleagueResponseDto;
+import com.hermes.userservice.entity.UserSearchIndex;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface UserSearchIndexRepository extends JpaRepository<UserSearchIndex, Long> {
+
+    String COLLEAGUE_PROJECTION = "SELECT new com.hermes.userservice.dto.ColleagueResponseDto(" +
+            "i.userId, i.name, i.email, i.phone, i.title, i.profileImageUrl) ";
+
+    String TOKEN_FILTER = "i.userId IN (SELECT t.userId FROM UserSearchToken t WHERE t.token IN :tokens " +
+            "GROUP BY t.userId HAVING COUNT(DISTINCT t.token) = :tokenCount) ";
+
+    String FIELD_FILTER = "i.searchText LIKE :keyword ESCAPE '!' " +
+            "AND i.departmentKey LIKE :department ESCAPE '!' " +
+            "AND i.titleKey LIKE :title ESCAPE '!'";
+
+    /**
+     * n-gram 후보 축소 후 부분 일치 검증 (검색어가 2자 이상일 때)
+     */
+    @Query(value = COLLEAGUE_PROJECTION + "FROM UserSearchIndex i WHERE " + TOKEN_FILTER + "AND " + FIELD_FILTER,
+            countQuery = "SELECT COUNT(i) FROM UserSearchIndex i WHERE " + TOKEN_FILTER + "AND " + FIELD_FILTER)
+    Page<ColleagueResponseDto> searchByTokens(@Param("tokens") Collection<String> tokens,
+                                              @Param("tokenCount") long tokenCount,
+                                              @Param("keyword") String keyword,
+                                              @Param("department") String department,
+                                              @Param("title") String title,
+                                              Pageable pageable);
+
+    /**
+     * 검색어 없이(또는 1자) 부서/직함 조건만으로 조회
+     */
+    @Query(value = COLLEAGUE_PROJECTION + "FROM UserSearchIndex i WHERE " + FIELD_FILTER,
+            countQuery = "SELECT COUNT(i) FROM UserSearchIndex i WHERE " + FIELD_FILTER)
+    Page<ColleagueResponseDto> search(@Param("keyword") String keyword,
+                                      @Param("department") String department,
+                                      @Param("title") String title,
+                                      Pageable pageable);
+
+    @Query("SELECT i.userId FROM UserSearchIndex i WHERE " + TOKEN_FILTER +
+            "AND i.nameKey LIKE :name ESCAPE '!'")
+    List<Long> findUserIdsByNameTokens(@Param("tokens") Collection<String> tokens,
+                                       @Param("tokenCount") long tokenCount,
+                                       @Param("name") String name);
+
+    @Query("SELECT i.userId FROM UserSearchIndex i WHERE i.nameKey LIKE :name ESCAPE '!'")
+    List<Long> findUserIdsByName(@Param("name") String name);
+
+    @Modifying
+    @Query("DELETE FROM UserSearchIndex i WHERE i.userId IN :userIds")
+    void deleteByUserIdIn(@Param("userIds") Collection<Long> userIds);
+}
@@ -0,0 +1,16 @@
+package com.hermes.userservice.repository;
+
+import com.hermes.userservice.entity.UserSearchToken;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+
+public interface UserSearchTokenRepository extends JpaRepository<UserSearchToken, Long> {
+
+    @Modifying
+    @Query("DELETE FROM UserSearchToken t WHERE t.userId IN :userIds")
+    void deleteByUserIdIn(@Param("userIds") Collection<Long> userIds);
+}
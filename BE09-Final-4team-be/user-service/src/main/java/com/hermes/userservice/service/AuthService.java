@@ -15,6 +15,7 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.Instant;
@@ -29,20 +30,25 @@ public class AuthService {
     private final JwtTokenService jwtTokenService;
     private final RefreshTokenRepository refreshTokenRepository;
     private final PasswordEncoder passwordEncoder;
+    private final PasswordVerificationService passwordVerificationService;
+    private final LastLoginRecorder lastLoginRecorder;
+    private final TokenRevocationService tokenRevocationService;
 
     /**
      * 로그인 처리
+     * BCrypt 검증 동안 DB 트랜잭션/커넥션을 잡지 않도록 트랜잭션 밖에서 수행하며,
+     * 쓰기는 리프레시 토큰 upsert 한 문장뿐이다 (마지막 로그인 시각은 write-behind).
      */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public LoginResult login(LoginRequestDto loginDto) {
         User user = userRepository.findByEmail(loginDto.getEmail())
                 .orElseThrow(() -> new UserNotFoundException("해당 이메일로 등록된 사용자가 없습니다."));
 
-        if (!passwordEncoder.matches(loginDto.getPassword(), user.getPassword())) {
+        if (!passwordVerificationService.matches(loginDto.getPassword(), user.getPassword())) {
             throw new InvalidCredentialsException("비밀번호가 일치하지 않습니다.");
         }
 
-        user.updateLastLogin();
-        userRepository.save(user);
+        lastLoginRecorder.record(user.getId());
 
         Role userRole = getUserRole(user);
         // TODO: tenantId
@@ -68,15 +74,11 @@ public class AuthService {
 
     /**
      * 로그아웃 처리
+     * 리프레시 토큰을 삭제하고, 사용 중인 액세스 토큰은 만료 전까지 폐기 목록에 등록한다.
      */
-    public void logout(Long userId) {
-        // userId로 RefreshToken을 찾아서 삭제
-        refreshTokenRepository.findByUserId(userId)
-                .ifPresent(refreshTokenRepository::delete);
-
-        // Token Blacklist는 삭제함
-        // 매 요청마다 블랙리스트를 확인해야 하는데, 성능에 안좋기 때문
-        // 대신 Access Token의 TTL을 짧게 설정하는 것으로 어느정도 대응 가능
+    public void logout(Long userId, String accessTokenId, Instant accessTokenExpiresAt) {
+        refreshTokenRepository.deleteByUserId(userId);
+        tokenRevocationService.revoke(accessTokenId, userId, accessTokenExpiresAt);
 
         log.info("[Auth Service] 로그아웃 완료 - userId: {}", userId);
     }
@@ -88,7 +90,7 @@ public class AuthService {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new UserNotFoundException("해당 사용자가 존재하지 않습니다."));
 
-        if (!passwordEncoder.matches(passwordChangeDto.getCurrentPassword(), user.getPassword())) {
+        if (!passwordVerificationService.matches(passwordChangeDto.getCurrentPassword(), user.getPassword())) {
             throw new InvalidCredentialsException("현재 비밀번호가 일치하지 않습니다.");
         }
         
@@ -139,23 +141,11 @@ public class AuthService {
     private void saveOrUpdateRefreshToken(Long userId, String refreshToken) {
         // RefreshToken을 해시화하여 저장 (보안 강화)
         String hashedRefreshToken = jwtTokenService.hashToken(refreshToken);
-        Instant expiration = Instant.now().plusSeconds(jwtTokenService.getRefreshTokenTTL());
-        
-        // 기존 토큰이 있으면 업데이트, 없으면 새로 생성 (upsert)
-        RefreshToken existingToken = refreshTokenRepository.findByUserId(userId).orElse(null);
-        if (existingToken != null) {
-            existingToken.setTokenHash(hashedRefreshToken);
-            existingToken.setExpiration(expiration);
-            refreshTokenRepository.save(existingToken);
-        } else {
-            refreshTokenRepository.save(
-                    RefreshToken.builder()
-                            .userId(userId)
-                            .tokenHash(hashedRefreshToken)
-                            .expiration(expiration)
-                            .build()
-            );
-        }
+        Instant now = Instant.now();
+        Instant expiration = now.plusSeconds(jwtTokenService.getRefreshTokenTTL());
+
+        // 기존 토큰이 있으면 교체, 없으면 새로 생성 (user_id 유니크 제약 기반 upsert)
+        refreshTokenRepository.upsertByUserId(userId, hashedRefreshToken, expiration, now);
     }
 
     private void validateStoredRefreshToken(Long userId, String refreshToken) {
@@ -1,22 +1,21 @@
 package com.hermes.userservice.service;
 
+import com.hermes.auth.JwtKeySet;
 import com.hermes.auth.JwtProperties;
 import com.hermes.auth.enums.Role;
 import com.hermes.userservice.exception.InvalidTokenException;
 import io.jsonwebtoken.*;
-import io.jsonwebtoken.security.Keys;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
-import javax.crypto.SecretKey;
 import java.nio.charset.StandardCharsets;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
 import java.util.Date;
 import java.util.HashMap;
+import java.util.HexFormat;
 import java.util.Map;
-import io.jsonwebtoken.io.Decoders;
+import java.util.UUID;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
 
@@ -26,10 +25,30 @@ import java.security.NoSuchAlgorithmException;
  */
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class JwtTokenService {
 
+    private static final HexFormat HEX = HexFormat.of();
+
+    // MessageDigest는 스레드 안전하지 않으므로 스레드별로 재사용
+    private static final ThreadLocal<MessageDigest> SHA_256 = ThreadLocal.withInitial(() -> {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 algorithm not found", e);
+        }
+    });
+
     private final JwtProperties jwtProperties;
+    private final JwtKeySet jwtKeySet;
+    private final JwtParser jwtParser; // 불변 객체이므로 한 번만 생성
+
+    public JwtTokenService(JwtProperties jwtProperties, JwtKeySet jwtKeySet) {
+        this.jwtProperties = jwtProperties;
+        this.jwtKeySet = jwtKeySet;
+        this.jwtParser = Jwts.parser()
+                .keyLocator(jwtKeySet.locator())
+                .build();
+    }
 
     /**
      * 액세스 토큰 생성
@@ -41,16 +60,12 @@ public class JwtTokenService {
         Map<String, Object> claims = new HashMap<>();
         claims.put("userId", userId);
         claims.put("role", role.name());
+        claims.put("jti", UUID.randomUUID().toString()); // 로그아웃 시 폐기 식별자
         if (tenantId != null) {
             claims.put("tenantId", tenantId);
         }
 
-        return Jwts.builder()
-                .claims(claims)
-                .issuedAt(Date.from(now))
-                .expiration(Date.from(expiration))
-                .signWith(getSigningKey(), Jwts.SIG.HS256)
-                .compact();
+        return sign(claims, now, expiration);
     }
 
     /**
@@ -64,12 +79,7 @@ public class JwtTokenService {
         claims.put("userId", userId);
         claims.put("type", "refresh");
 
-        return Jwts.builder()
-                .claims(claims)
-                .issuedAt(Date.from(now))
-                .expiration(Date.from(expiration))
-                .signWith(getSigningKey(), Jwts.SIG.HS256)
-                .compact();
+        return sign(claims, now, expiration);
     }
 
 
@@ -91,21 +101,9 @@ public class JwtTokenService {
      * 토큰 해시 생성 (SHA-256)
      */
     public String hashToken(String token) {
-        try {
-            MessageDigest digest = MessageDigest.getInstance("SHA-256");
-            byte[] hash = digest.digest(token.getBytes(StandardCharsets.UTF_8));
-            StringBuilder hexString = new StringBuilder();
-            for (byte b : hash) {
-                String hex = Integer.toHexString(0xff & b);
-                if (hex.length() == 1) {
-                    hexString.append('0');
-                }
-                hexString.append(hex);
-            }
-            return hexString.toString();
-        } catch (NoSuchAlgorithmException e) {
-            throw new RuntimeException("SHA-256 algorithm not found", e);
-        }
+        MessageDigest digest = SHA_256.get();
+        digest.reset();
+        return HEX.formatHex(digest.digest(token.getBytes(StandardCharsets.UTF_8)));
     }
 
     /**
@@ -121,9 +119,7 @@ public class JwtTokenService {
      */
     public Long validateAndGetUserIdFromRefreshToken(String refreshToken) {
         try {
-            Claims claims = Jwts.parser()
-                    .verifyWith(getSigningKey())
-                    .build()
+            Claims claims = jwtParser
                     .parseSignedClaims(refreshToken) // 여기서 만료시간 검증도 수행됨
                     .getPayload();
 
@@ -141,11 +137,15 @@ public class JwtTokenService {
     }
 
     /**
-     * JWT 서명 키 생성
+     * 현재 키로 서명 (헤더에 kid 포함)
      */
-    private SecretKey getSigningKey() {
-        // Base64 디코딩 후 사용
-        byte[] keyBytes = Decoders.BASE64.decode(jwtProperties.getSecret());
-        return Keys.hmacShaKeyFor(keyBytes);
+    private String sign(Map<String, Object> claims, Instant issuedAt, Instant expiration) {
+        return Jwts.builder()
+                .header().keyId(jwtKeySet.getActiveKeyId()).and()
+                .claims(claims)
+                .issuedAt(Date.from(issuedAt))
+                .expiration(Date.from(expiration))
+                .signWith(jwtKeySet.getActiveKey(), Jwts.SIG.HS256)
+                .compact();
     }
 }
\ No newline at end of file
@@ -1,180 +1,271 @@
 package com.hermes.userservice.service;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import com.hermes.api.common.ApiResult;
+import com.hermes.auth.principal.UserPrincipal;
 import com.hermes.userservice.client.OrgServiceClient;
-import lombok.RequiredArgsConstructor;
+import com.hermes.userservice.dto.organization.OrgAssignmentDto;
+import com.hermes.userservice.exception.BusinessException;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
+/**
+ * org-service 조회 연동
+ * 테넌트별 TTL 캐시(org-service 변경 이벤트로 무효화)와 요청 단위 메모이제이션을 거쳐 원격 호출한다.
+ * 실패 응답은 캐시하지 않는다.
+ */
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class OrganizationIntegrationService {
 
+    private static final String DEFAULT_TENANT_ID = "default";
+    private static final String REQUEST_MEMO_ATTRIBUTE = OrganizationIntegrationService.class.getName() + ".memo";
+
     private final OrgServiceClient orgServiceClient;
 
-    public List<Map<String, Object>> getUserOrganizations(Long userId) {
-        try {
-            log.info("Get user organizations: userId={}", userId);
-            ApiResult<List<Map<String, Object>>> apiResult = orgServiceClient.getAssignmentsByEmployeeId(userId);
+    // 캐시 키: 테넌트ID + 조회 종류 + 대상 ID
+    private final Cache<String, Object> cache;
 
-            if ("SUCCESS".equals(apiResult.getStatus())) {
-                List<Map<String, Object>> result = apiResult.getData();
-                log.info("Get user organizations result: userId={}, count={}", userId, result.size());
-                return result;
-            } else {
-                log.error("Failed to get user organizations from org-service: {}", apiResult.getMessage());
-                return List.of();
+    public OrganizationIntegrationService(
+            OrgServiceClient orgServiceClient,
+            @Value("${hermes.organization.cache.ttl-seconds:300}") long ttlSeconds,
+            @Value("${hermes.organization.cache.max-size:10000}") long maxSize) {
+        this.orgServiceClient = orgServiceClient;
+        this.cache = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .maximumSize(maxSize)
+                .build();
+    }
+
+    public List<OrgAssignmentDto> getUserOrganizations(Long userId) {
+        return cached("assignments:employee:" + userId, () ->
+                fetchList(() -> orgServiceClient.getAssignmentsByEmployeeId(userId),
+                        "user organizations: userId=" + userId), List.of());
+    }
+
+    public Map<Long, List<OrgAssignmentDto>> getAllUsersOrganizations() {
+        return cached("assignments:all", () -> {
+            List<OrgAssignmentDto> allAssignments = fetchList(orgServiceClient::getAllAssignments, "all assignments");
+            if (allAssignments == null) {
+                return null;
             }
-        } catch (Exception e) {
-            log.error("Failed to call org-service for user organizations: userId={}, error={}", userId, e.getMessage(), e);
-            return List.of();
-        }
+            Map<Long, List<OrgAssignmentDto>> groupedByUserId = allAssignments.stream()
+                    .collect(Collectors.groupingBy(OrgAssignmentDto::getEmployeeId));
+            log.info("Get all users organizations result: userCount={}", groupedByUserId.size());
+            return groupedByUserId;
+        }, Map.of());
     }
 
-    public Map<Long, List<Map<String, Object>>> getAllUsersOrganizations() {
-        try {
-            log.info("Get all users organizations");
-            ApiResult<List<Map<String, Object>>> apiResult = orgServiceClient.getAllAssignments();
-
-            if ("SUCCESS".equals(apiResult.getStatus())) {
-                List<Map<String, Object>> allAssignments = apiResult.getData();
-                Map<Long, List<Map<String, Object>>> groupedByUserId = allAssignments.stream()
-                        .collect(Collectors.groupingBy(
-                                assignment -> ((Number) assignment.get("employeeId")).longValue()
-                        ));
-                log.info("Get all users organizations result: userCount={}", groupedByUserId.size());
-                return groupedByUserId;
+    /**
+     * 여러 직원의 배정 목록 조회 (목록 페이지용)
+     * 직원별 캐시에 없는 직원만 org-service 일괄 조회 1회로 채우며, 조회 실패 시 해당 직원은 결과에서 빠진다.
+     */
+    @SuppressWarnings("unchecked")
+    public Map<Long, List<OrgAssignmentDto>> getUsersOrganizations(Collection<Long> userIds) {
+        String prefix = tenantPrefix(currentTenantId());
+        Map<Long, List<OrgAssignmentDto>> result = new HashMap<>();
+        List<Long> missing = new ArrayList<>();
+        for (Long userId : userIds) {
+            List<OrgAssignmentDto> assignments = (List<OrgAssignmentDto>) cache.getIfPresent(prefix + "assignments:employee:" + userId);
+            if (assignments != null) {
+                result.put(userId, assignments);
             } else {
-                log.error("Failed to get all assignments from org-service: {}", apiResult.getMessage());
-                return Map.of();
+                missing.add(userId);
             }
-        } catch (Exception e) {
-            log.error("Failed to call org-service for all assignments: error={}", e.getMessage(), e);
-            return Map.of();
         }
+        if (missing.isEmpty()) {
+            return result;
+        }
+
+        List<OrgAssignmentDto> fetched = fetchList(() -> orgServiceClient.getAssignmentsByEmployeeIds(missing),
+                "users organizations: count=" + missing.size());
+        if (fetched == null) {
+            return result;
+        }
+        Map<Long, List<OrgAssignmentDto>> groupedByUserId = fetched.stream()
+                .collect(Collectors.groupingBy(OrgAssignmentDto::getEmployeeId));
+        for (Long userId : missing) {
+            List<OrgAssignmentDto> assignments = List.copyOf(groupedByUserId.getOrDefault(userId, List.of()));
+            cache.put(prefix + "assignments:employee:" + userId, assignments);
+            result.put(userId, assignments);
+        }
+        return result;
     }
 
-    public List<Map<String, Object>> getUserPrimaryOrganization(Long userId) {
-        try {
-            log.info("Get user primary organization: userId={}", userId);
-            ApiResult<List<Map<String, Object>>> apiResult = orgServiceClient.getPrimaryAssignmentsByEmployeeId(userId);
-            
-            if ("SUCCESS".equals(apiResult.getStatus())) {
-                return apiResult.getData();
-            } else {
-                log.error("Failed to get user primary organization from org-service: {}", apiResult.getMessage());
-                return List.of();
-            }
-        } catch (Exception e) {
-            log.error("Failed to call org-service for user primary organization: userId={}, error={}", userId, e.getMessage());
-            return List.of();
+    /**
+     * 여러 직원의 배정 목록 일괄 조회 (동기화용, 캐시를 거치지 않음)
+     * 조회 실패 시 빈 결과와 구분되도록 예외를 던진다.
+     */
+    public Map<Long, List<OrgAssignmentDto>> fetchAssignmentsByEmployeeIds(Collection<Long> employeeIds) {
+        List<OrgAssignmentDto> assignments = fetch(() -> orgServiceClient.getAssignmentsByEmployeeIds(employeeIds),
+                "assignments in bulk: count=" + employeeIds.size());
+        if (assignments == null) {
+            throw new BusinessException("조직 정보를 조회할 수 없습니다.", "ORG_SERVICE_UNAVAILABLE");
         }
+        return assignments.stream().collect(Collectors.groupingBy(OrgAssignmentDto::getEmployeeId));
     }
 
-    public Map<String, Object> getOrganization(Long organizationId) {
-        try {
-            log.info("Get organization: organizationId={}", organizationId);
-            ApiResult<Map<String, Object>> apiResult = orgServiceClient.getOrganization(organizationId);
-            
-            if ("SUCCESS".equals(apiResult.getStatus())) {
-                return apiResult.getData();
-            } else {
-                log.error("Failed to get organization from org-service: {}", apiResult.getMessage());
-                return Map.of("error", "Unable to retrieve organization information");
-            }
-        } catch (Exception e) {
-            log.error("Failed to call org-service for organization: organizationId={}, error={}", organizationId, e.getMessage());
-            return Map.of("error", "Unable to retrieve organization information");
+    /**
+     * 직원 배정 일괄 생성 (사용자 일괄 등록용, org-service 호출 1회)
+     * 실패 시 예외를 던지며, 성공하면 생성된 배정을 직원별로 묶어 반환한다.
+     */
+    public Map<Long, List<OrgAssignmentDto>> createAssignments(List<Map<String, Object>> requests) {
+        List<OrgAssignmentDto> assignments = fetch(() -> orgServiceClient.createAssignments(requests),
+                "assignments created in bulk: count=" + requests.size());
+        if (assignments == null) {
+            throw new BusinessException("조직 배정을 생성할 수 없습니다.", "ORG_SERVICE_UNAVAILABLE");
         }
+        return assignments.stream().collect(Collectors.groupingBy(OrgAssignmentDto::getEmployeeId));
+    }
+
+    public List<OrgAssignmentDto> getUserPrimaryOrganization(Long userId) {
+        return cached("assignments:primary:" + userId, () ->
+                fetchList(() -> orgServiceClient.getPrimaryAssignmentsByEmployeeId(userId),
+                        "user primary organization: userId=" + userId), List.of());
+    }
+
+    public Map<String, Object> getOrganization(Long organizationId) {
+        return cached("organization:" + organizationId, () ->
+                fetch(() -> orgServiceClient.getOrganization(organizationId), "organization: organizationId=" + organizationId),
+                Map.of("error", "Unable to retrieve organization information"));
     }
 
     public List<Map<String, Object>> getAllOrganizations() {
-        try {
-            log.info("Get all organizations");
-            ApiResult<List<Map<String, Object>>> apiResult = orgServiceClient.getAllOrganizations();
-            
-            if ("SUCCESS".equals(apiResult.getStatus())) {
-                return apiResult.getData();
-            } else {
-                log.error("Failed to get all organizations from org-service: {}", apiResult.getMessage());
-                return List.of();
-            }
-        } catch (Exception e) {
-            log.error("Failed to call org-service for all organizations: error={}", e.getMessage());
-            return List.of();
-        }
+        return cached("organizations:all", () ->
+                fetchList(orgServiceClient::getAllOrganizations, "all organizations"), List.of());
     }
 
     public List<Map<String, Object>> getRootOrganizations() {
-        try {
-            log.info("Get root organizations");
-            ApiResult<List<Map<String, Object>>> apiResult = orgServiceClient.getRootOrganizations();
-            
-            if ("SUCCESS".equals(apiResult.getStatus())) {
-                return apiResult.getData();
-            } else {
-                log.error("Failed to get root organizations from org-service: {}", apiResult.getMessage());
-                return List.of();
-            }
-        } catch (Exception e) {
-            log.error("Failed to call org-service for root organizations: error={}", e.getMessage());
-            return List.of();
-        }
+        return cached("organizations:root", () ->
+                fetchList(orgServiceClient::getRootOrganizations, "root organizations"), List.of());
     }
 
     public List<Map<String, Object>> getOrganizationHierarchy() {
-        try {
-            log.info("Get organization hierarchy");
-            ApiResult<List<Map<String, Object>>> apiResult = orgServiceClient.getOrganizationHierarchy();
-            
-            if ("SUCCESS".equals(apiResult.getStatus())) {
-                return apiResult.getData();
-            } else {
-                log.error("Failed to get organization hierarchy from org-service: {}", apiResult.getMessage());
-                return List.of();
+        return cached("organizations:hierarchy", () ->
+                fetchList(orgServiceClient::getOrganizationHierarchy, "organization hierarchy"), List.of());
+    }
+
+    public List<OrgAssignmentDto> getOrganizationMembers(Long organizationId) {
+        return cached("assignments:organization:" + organizationId, () ->
+                fetchList(() -> orgServiceClient.getAssignmentsByOrganizationId(organizationId),
+                        "organization members: organizationId=" + organizationId), List.of());
+    }
+
+    public List<OrgAssignmentDto> getOrganizationLeaders(Long organizationId) {
+        return cached("assignments:leaders:" + organizationId, () ->
+                fetchList(() -> orgServiceClient.getLeadersByOrganizationId(organizationId),
+                        "organization leaders: organizationId=" + organizationId), List.of());
+    }
+
+    /**
+     * 직원 배정 변경 시 해당 직원/조직의 배정 캐시와 전체 배정 캐시 무효화
+     * 조직 응답에도 구성원/조직장 수가 포함되므로 조직 목록/계층과 해당 조직 캐시도 함께 무효화한다.
+     */
+    public void evictAssignments(String tenantId, Long organizationId, Collection<Long> employeeIds) {
+        String prefix = tenantPrefix(tenantId);
+        cache.invalidate(prefix + "assignments:all");
+        cache.invalidate(prefix + "organizations:all");
+        cache.invalidate(prefix + "organizations:root");
+        cache.invalidate(prefix + "organizations:hierarchy");
+        if (organizationId != null) {
+            cache.invalidate(prefix + "organization:" + organizationId);
+            cache.invalidate(prefix + "assignments:organization:" + organizationId);
+            cache.invalidate(prefix + "assignments:leaders:" + organizationId);
+        }
+        if (employeeIds != null) {
+            for (Long employeeId : employeeIds) {
+                cache.invalidate(prefix + "assignments:employee:" + employeeId);
+                cache.invalidate(prefix + "assignments:primary:" + employeeId);
             }
-        } catch (Exception e) {
-            log.error("Failed to call org-service for organization hierarchy: error={}", e.getMessage());
-            return List.of();
         }
     }
 
-    public List<Map<String, Object>> getOrganizationMembers(Long organizationId) {
-        try {
-            log.info("Get organization members: organizationId={}", organizationId);
-            ApiResult<List<Map<String, Object>>> apiResult = orgServiceClient.getAssignmentsByOrganizationId(organizationId);
-            
-            if ("SUCCESS".equals(apiResult.getStatus())) {
-                return apiResult.getData();
-            } else {
-                log.error("Failed to get organization members from org-service: {}", apiResult.getMessage());
-                return List.of();
-            }
-        } catch (Exception e) {
-            log.error("Failed to call org-service for organization members: organizationId={}, error={}", organizationId, e.getMessage());
-            return List.of();
+    /**
+     * 조직 구조/이름 변경 시 테넌트의 조직 캐시 전체 무효화 (배정 응답에도 조직명이 포함됨)
+     */
+    public void evictTenant(String tenantId) {
+        String prefix = tenantPrefix(tenantId);
+        cache.asMap().keySet().removeIf(key -> key.startsWith(prefix));
+    }
+
+    /**
+     * 요청 메모 -> 테넌트 캐시 -> 원격 호출 순으로 조회 (loader가 null을 반환하면 실패로 보고 fallback 반환)
+     */
+    @SuppressWarnings("unchecked")
+    private <T> T cached(String key, Supplier<T> loader, T fallback) {
+        String cacheKey = tenantPrefix(currentTenantId()) + key;
+        Map<String, Object> memo = requestMemo();
+        if (memo != null && memo.containsKey(cacheKey)) {
+            return (T) memo.get(cacheKey);
+        }
+
+        T value = (T) cache.get(cacheKey, k -> loader.get());
+        if (value == null) {
+            return fallback;
+        }
+        if (memo != null) {
+            memo.put(cacheKey, value);
         }
+        return value;
     }
 
-    public List<Map<String, Object>> getOrganizationLeaders(Long organizationId) {
+    private <T> List<T> fetchList(Supplier<ApiResult<List<T>>> call, String description) {
+        List<T> result = fetch(call, description);
+        return result != null ? List.copyOf(result) : null;
+    }
+
+    private <T> T fetch(Supplier<ApiResult<T>> call, String description) {
         try {
-            log.info("Get organization leaders: organizationId={}", organizationId);
-            ApiResult<List<Map<String, Object>>> apiResult = orgServiceClient.getLeadersByOrganizationId(organizationId);
-            
-            if ("SUCCESS".equals(apiResult.getStatus())) {
+            log.info("Get {}", description);
+            ApiResult<T> apiResult = call.get();
+            if ("SUCCESS".equals(apiResult.getStatus()) && apiResult.getData() != null) {
                 return apiResult.getData();
-            } else {
-                log.error("Failed to get organization leaders from org-service: {}", apiResult.getMessage());
-                return List.of();
             }
+            log.error("Failed to get {} from org-service: {}", description, apiResult.getMessage());
         } catch (Exception e) {
-            log.error("Failed to call org-service for organization leaders: organizationId={}, error={}", organizationId, e.getMessage());
-            return List.of();
+            log.error("Failed to call org-service for {}: error={}", description, e.getMessage());
         }
+        return null;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, Object> requestMemo() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes == null) {
+            return null;
+        }
+        Map<String, Object> memo = (Map<String, Object>) attributes.getAttribute(REQUEST_MEMO_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        if (memo == null) {
+            memo = new HashMap<>();
+            attributes.setAttribute(REQUEST_MEMO_ATTRIBUTE, memo, RequestAttributes.SCOPE_REQUEST);
+        }
+        return memo;
+    }
+
+    private static String currentTenantId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof UserPrincipal principal) {
+            return principal.getTenantId();
+        }
+        return null;
+    }
+
+    private static String tenantPrefix(String tenantId) {
+        return (tenantId != null ? tenantId : DEFAULT_TENANT_ID) + ":";
     }
 }
@@ -1,83 +1,267 @@
 package com.hermes.userservice.service;
 
-import com.hermes.userservice.entity.User;
-import com.hermes.userservice.entity.UserOrganization;
+import com.hermes.userservice.dto.OrganizationSyncResultDto;
+import com.hermes.userservice.dto.organization.OrgAssignmentDto;
 import com.hermes.userservice.exception.UserNotFoundException;
 import com.hermes.userservice.repository.UserRepository;
-import com.hermes.userservice.repository.UserOrganizationRepository;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.sql.Timestamp;
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 import java.util.stream.Collectors;
 
+/**
+ * org-service 인사발령을 user_organizations로 동기화
+ * 현재 행과 비교하여 달라진 행만 JDBC 배치로 INSERT/UPDATE/DELETE 하므로, 변경이 없으면 쓰기가 발생하지 않는다.
+ */
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class OrganizationSyncService {
-    
+
+    private static final String SELECT_SQL_PREFIX = "SELECT id, user_id, organization_id, organization_name, is_primary, is_leader, assigned_at " +
+            "FROM user_organizations WHERE user_id IN ";
+    private static final String INSERT_SQL = "INSERT INTO user_organizations " +
+            "(user_id, organization_id, organization_name, is_primary, is_leader, assigned_at) VALUES (?, ?, ?, ?, ?, ?)";
+    private static final String UPDATE_SQL = "UPDATE user_organizations " +
+            "SET organization_name = ?, is_primary = ?, is_leader = ?, assigned_at = ? WHERE id = ?";
+    private static final String DELETE_SQL = "DELETE FROM user_organizations WHERE id = ?";
+
     private final UserRepository userRepository;
-    private final UserOrganizationRepository userOrganizationRepository;
     private final OrganizationIntegrationService organizationIntegrationService;
-    
+    private final UserSearchIndexService userSearchIndexService;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final int pageSize;
+
+    public OrganizationSyncService(UserRepository userRepository,
+                                   OrganizationIntegrationService organizationIntegrationService,
+                                   UserSearchIndexService userSearchIndexService,
+                                   JdbcTemplate jdbcTemplate,
+                                   PlatformTransactionManager transactionManager,
+                                   @Value("${hermes.organization.sync.page-size:500}") int pageSize) {
+        this.userRepository = userRepository;
+        this.organizationIntegrationService = organizationIntegrationService;
+        this.userSearchIndexService = userSearchIndexService;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.pageSize = pageSize;
+    }
+
     @Transactional
     public void syncUserOrganizations(Long userId) {
-        try {
-            log.info("사용자 조직 정보 동기화 시작: userId={}", userId);
-            
-            userOrganizationRepository.deleteAllByUserId(userId);
-            
-            List<Map<String, Object>> organizations = organizationIntegrationService.getUserOrganizations(userId);
-            
-            if (!organizations.isEmpty()) {
-                User user = userRepository.findById(userId)
-                    .orElseThrow(() -> new UserNotFoundException("사용자를 찾을 수 없습니다: " + userId));
-                
-                List<UserOrganization> userOrganizations = organizations.stream()
-                    .map(org -> UserOrganization.builder()
-                        .user(user)
-                        .organizationId(Long.valueOf(org.get("organizationId").toString()))
-                        .organizationName(org.get("organizationName").toString())
-                        .isPrimary(Boolean.TRUE.equals(org.get("isPrimary")))
-                        .isLeader(Boolean.TRUE.equals(org.get("isLeader")))
-                        .assignedAt(LocalDateTime.parse(org.get("assignedAt").toString()))
-                        .build())
-                    .collect(Collectors.toList());
-                
-                userOrganizationRepository.saveAll(userOrganizations);
-                
-                log.info("사용자 조직 정보 동기화 완료: userId={}, organizationCount={}", 
-                    userId, userOrganizations.size());
-            } else {
-                log.warn("사용자에게 배정된 조직이 없습니다: userId={}", userId);
-            }
-        } catch (Exception e) {
-            log.error("사용자 조직 정보 동기화 실패: userId={}, error={}", userId, e.getMessage(), e);
-            throw e;
+        log.info("사용자 조직 정보 동기화 시작: userId={}", userId);
+        if (!userRepository.existsById(userId)) {
+            throw new UserNotFoundException("사용자를 찾을 수 없습니다: " + userId);
         }
+
+        Map<Long, List<OrgAssignmentDto>> remote = organizationIntegrationService.fetchAssignmentsByEmployeeIds(List.of(userId));
+        SyncChanges changes = applyChanges(List.of(userId), remote);
+        if (!changes.changedUserIds.isEmpty()) {
+            userSearchIndexService.index(userId);
+        }
+
+        log.info("사용자 조직 정보 동기화 완료: userId={}, inserted={}, updated={}, deleted={}",
+                userId, changes.inserted, changes.updated, changes.deleted);
     }
-    
-    public void syncAllUsersOrganizations() {
-        log.info("전체 사용자 조직 정보 동기화 시작");
-        
-        List<User> users = userRepository.findAll();
-        int successCount = 0;
-        int failCount = 0;
-        
-        for (User user : users) {
+
+    /**
+     * 전체 사용자 동기화 (사용자 ID 커서로 페이지 단위 처리, 페이지마다 org-service 일괄 조회 1회 + 별도 트랜잭션)
+     */
+    public OrganizationSyncResultDto syncAllUsersOrganizations() {
+        log.info("전체 사용자 조직 정보 동기화 시작: pageSize={}", pageSize);
+        long startedAt = System.currentTimeMillis();
+
+        int userCount = 0;
+        int inserted = 0;
+        int updated = 0;
+        int deleted = 0;
+        int failedUsers = 0;
+        long afterId = 0L;
+
+        while (true) {
+            List<Long> userIds = userRepository.findUserIdsAfter(afterId, PageRequest.of(0, pageSize));
+            if (userIds.isEmpty()) {
+                break;
+            }
+            afterId = userIds.get(userIds.size() - 1);
+            userCount += userIds.size();
+
             try {
-                syncUserOrganizations(user.getId());
-                successCount++;
+                Map<Long, List<OrgAssignmentDto>> remote = organizationIntegrationService.fetchAssignmentsByEmployeeIds(userIds);
+                SyncChanges changes = transactionTemplate.execute(status -> applyChanges(userIds, remote));
+                inserted += changes.inserted;
+                updated += changes.updated;
+                deleted += changes.deleted;
+                userSearchIndexService.index(changes.changedUserIds);
             } catch (Exception e) {
-                log.error("사용자 조직 정보 동기화 실패: userId={}, error={}", user.getId(), e.getMessage());
-                failCount++;
+                log.error("조직 정보 동기화 실패: userIds={}~{}, error={}", userIds.get(0), afterId, e.getMessage());
+                failedUsers += userIds.size();
+            }
+
+            if (userIds.size() < pageSize) {
+                break;
+            }
+        }
+
+        long elapsedMillis = System.currentTimeMillis() - startedAt;
+        log.info("전체 사용자 조직 정보 동기화 완료: users={}, inserted={}, updated={}, deleted={}, failed={}, elapsed={}ms",
+                userCount, inserted, updated, deleted, failedUsers, elapsedMillis);
+        return OrganizationSyncResultDto.builder()
+                .userCount(userCount)
+                .inserted(inserted)
+                .updated(updated)
+                .deleted(deleted)
+                .failedUsers(failedUsers)
+                .elapsedMillis(elapsedMillis)
+                .build();
+    }
+
+    /**
+     * 인사발령 이벤트로 전달된 직원만 동기화 (페이지마다 org-service 일괄 조회 1회 + 별도 트랜잭션)
+     * 이 서비스에 없는 직원은 건너뛰며, 조회 실패 시 예외를 던진다.
+     * @return 조직 행이 바뀐 사용자 수
+     */
+    public int syncUsersOrganizations(Collection<Long> employeeIds) {
+        if (employeeIds == null || employeeIds.isEmpty()) {
+            return 0;
+        }
+        List<Long> userIds = userRepository.findExistingIds(Set.copyOf(employeeIds));
+
+        int changedUsers = 0;
+        for (int from = 0; from < userIds.size(); from += pageSize) {
+            List<Long> page = userIds.subList(from, Math.min(from + pageSize, userIds.size()));
+            Map<Long, List<OrgAssignmentDto>> remote = organizationIntegrationService.fetchAssignmentsByEmployeeIds(page);
+            SyncChanges changes = transactionTemplate.execute(status -> applyChanges(page, remote));
+            userSearchIndexService.index(changes.changedUserIds);
+            changedUsers += changes.changedUserIds.size();
+        }
+        log.info("인사발령 조직 정보 동기화 완료: requested={}, users={}, changed={}",
+                employeeIds.size(), userIds.size(), changedUsers);
+        return changedUsers;
+    }
+
+    /**
+     * 이미 조회/생성된 배정을 user_organizations에 반영 (org-service 재조회 없이 사용자 일괄 등록 직후 사용)
+     * @return 변경된 사용자 ID
+     */
+    @Transactional
+    public Set<Long> applyAssignments(Collection<Long> userIds, Map<Long, List<OrgAssignmentDto>> assignments) {
+        if (userIds.isEmpty()) {
+            return Set.of();
+        }
+        SyncChanges changes = applyChanges(userIds, assignments);
+        log.info("조직 정보 반영 완료: users={}, inserted={}, updated={}, deleted={}",
+                userIds.size(), changes.inserted, changes.updated, changes.deleted);
+        return changes.changedUserIds;
+    }
+
+    /**
+     * 현재 행과 원격 배정을 (사용자, 조직) 단위로 비교하여 변경분만 배치 반영
+     */
+    private SyncChanges applyChanges(Collection<Long> userIds, Map<Long, List<OrgAssignmentDto>> remote) {
+        Map<Long, Map<Long, CurrentRow>> currentByUser = loadCurrentRows(userIds);
+
+        List<Object[]> inserts = new ArrayList<>();
+        List<Object[]> updates = new ArrayList<>();
+        List<Object[]> deletes = new ArrayList<>();
+        Set<Long> changedUserIds = new HashSet<>();
+
+        for (Long userId : userIds) {
+            Map<Long, CurrentRow> current = new HashMap<>(currentByUser.getOrDefault(userId, Map.of()));
+
+            for (OrgAssignmentDto assignment : remote.getOrDefault(userId, List.of())) {
+                CurrentRow row = current.remove(assignment.getOrganizationId());
+                String organizationName = Objects.requireNonNullElse(assignment.getOrganizationName(), "");
+                boolean isPrimary = Boolean.TRUE.equals(assignment.getIsPrimary());
+                boolean isLeader = Boolean.TRUE.equals(assignment.getIsLeader());
+                LocalDateTime assignedAt = truncate(assignment.getAssignedAt());
+
+                if (row == null) {
+                    inserts.add(new Object[]{userId, assignment.getOrganizationId(), organizationName, isPrimary, isLeader,
+                            Timestamp.valueOf(assignedAt != null ? assignedAt : LocalDateTime.now())});
+                    changedUserIds.add(userId);
+                } else if (!organizationName.equals(row.organizationName()) || isPrimary != row.isPrimary()
+                        || isLeader != row.isLeader() || (assignedAt != null && !assignedAt.equals(row.assignedAt()))) {
+                    LocalDateTime newAssignedAt = assignedAt != null ? assignedAt : row.assignedAt();
+                    updates.add(new Object[]{organizationName, isPrimary, isLeader,
+                            newAssignedAt != null ? Timestamp.valueOf(newAssignedAt) : null, row.id()});
+                    changedUserIds.add(userId);
+                }
+            }
+
+            for (CurrentRow removed : current.values()) {
+                deletes.add(new Object[]{removed.id()});
+                changedUserIds.add(userId);
+            }
+        }
+
+        if (!deletes.isEmpty()) {
+            jdbcTemplate.batchUpdate(DELETE_SQL, deletes);
+        }
+        if (!updates.isEmpty()) {
+            jdbcTemplate.batchUpdate(UPDATE_SQL, updates);
+        }
+        if (!inserts.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_SQL, inserts);
+        }
+        return new SyncChanges(inserts.size(), updates.size(), deletes.size(), changedUserIds);
+    }
+
+    /**
+     * 사용자별 현재 조직 행 (같은 조직 중복 행이 있으면 첫 행만 유지되고 나머지는 삭제 대상)
+     */
+    private Map<Long, Map<Long, CurrentRow>> loadCurrentRows(Collection<Long> userIds) {
+        String placeholders = userIds.stream().map(id -> "?").collect(Collectors.joining(",", "(", ")"));
+        List<CurrentRow> rows = jdbcTemplate.query(SELECT_SQL_PREFIX + placeholders, (rs, rowNum) -> {
+            Timestamp assignedAt = rs.getTimestamp("assigned_at");
+            return new CurrentRow(
+                    rs.getLong("id"),
+                    rs.getLong("user_id"),
+                    rs.getLong("organization_id"),
+                    rs.getString("organization_name"),
+                    rs.getBoolean("is_primary"),
+                    rs.getBoolean("is_leader"),
+                    assignedAt != null ? truncate(assignedAt.toLocalDateTime()) : null);
+        }, userIds.toArray());
+
+        Map<Long, Map<Long, CurrentRow>> byUser = new HashMap<>();
+        List<CurrentRow> duplicates = new ArrayList<>();
+        for (CurrentRow row : rows) {
+            CurrentRow existing = byUser.computeIfAbsent(row.userId(), k -> new HashMap<>()).putIfAbsent(row.organizationId(), row);
+            if (existing != null) {
+                duplicates.add(row);
             }
         }
-        
-        log.info("전체 사용자 조직 정보 동기화 완료: 성공={}, 실패={}", successCount, failCount);
+        if (!duplicates.isEmpty()) {
+            jdbcTemplate.batchUpdate(DELETE_SQL, duplicates.stream().map(row -> new Object[]{row.id()}).toList());
+        }
+        return byUser;
+    }
+
+    private static LocalDateTime truncate(LocalDateTime dateTime) {
+        return dateTime != null ? dateTime.truncatedTo(ChronoUnit.MICROS) : null;
+    }
+
+    private record CurrentRow(long id, long userId, long organizationId, String organizationName,
+                              boolean isPrimary, boolean isLeader, LocalDateTime assignedAt) {
+    }
+
+    private record SyncChanges(int inserted, int updated, int deleted, Set<Long> changedUserIds) {
     }
-}
\ No newline at end of file
+}
@@ -1,50 +1,69 @@
 package com.hermes.userservice.service;
 
 import com.hermes.userservice.repository.RefreshTokenRepository;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
-import java.time.LocalDateTime;
+import java.time.Instant;
 
+/**
+ * 만료된 리프레시 토큰 정리
+ * 엔티티를 읽지 않고 배치 단위 DELETE를 반복하므로, 만료 건수와 무관하게 메모리 사용량과 락 보유 시간이 일정하다.
+ */
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class TokenCleanupService {
 
     private final RefreshTokenRepository refreshTokenRepository;
+    private final int batchSize;
+
+    public TokenCleanupService(RefreshTokenRepository refreshTokenRepository,
+                               @Value("${hermes.auth.token-cleanup.batch-size:5000}") int batchSize) {
+        // 0 이하이면 삭제 건수가 항상 batchSize와 같아 무한 반복하므로 기동 시 거부
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("hermes.auth.token-cleanup.batch-size는 1 이상이어야 합니다: " + batchSize);
+        }
+        this.refreshTokenRepository = refreshTokenRepository;
+        this.batchSize = batchSize;
+    }
 
     @Scheduled(fixedRate = 1800000) // 30분 (밀리초)
-    @Transactional
     public void cleanupExpiredTokens() {
         try {
-            LocalDateTime now = LocalDateTime.now();
-            log.info("만료된 토큰 정리 시작: {}", now);
-            
-            long expiredCount = refreshTokenRepository.findExpiredTokens(now).size();
-            
-            if (expiredCount > 0) {
-                refreshTokenRepository.deleteExpiredTokens(now);
-                log.info("만료된 토큰 {}개 정리 완료", expiredCount);
+            long deleted = deleteExpiredTokens(Instant.now());
+            if (deleted > 0) {
+                log.info("만료된 토큰 {}개 정리 완료", deleted);
             } else {
                 log.debug("정리할 만료된 토큰이 없습니다.");
             }
-            
         } catch (Exception e) {
             log.error("토큰 정리 중 오류 발생: {}", e.getMessage(), e);
         }
     }
 
-    @Transactional
+    /**
+     * 기준 시각 이전에 만료된 토큰을 batchSize 단위로 모두 삭제 (배치마다 별도 트랜잭션)
+     *
+     * @return 삭제된 토큰 수
+     */
+    public long deleteExpiredTokens(Instant now) {
+        long total = 0;
+        int deleted;
+        do {
+            deleted = refreshTokenRepository.deleteExpiredBatch(now, batchSize);
+            total += deleted;
+        } while (deleted == batchSize);
+        return total;
+    }
+
     public void cleanupExpiredTokensByUserId(Long userId) {
         try {
-            LocalDateTime now = LocalDateTime.now();
-            refreshTokenRepository.deleteExpiredTokensByUserId(userId, now);
+            refreshTokenRepository.deleteExpiredTokensByUserId(userId, Instant.now());
             log.debug("사용자 {}의 만료된 토큰 정리 완료", userId);
         } catch (Exception e) {
             log.error("사용자 {}의 토큰 정리 중 오류 발생: {}", userId, e.getMessage());
         }
     }
-}
\ No newline at end of file
+}
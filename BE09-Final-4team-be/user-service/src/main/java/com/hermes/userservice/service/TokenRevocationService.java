@@ -0,0 +1,110 @@
+package com.hermes.userservice.service;
+
+import com.hermes.auth.revocation.TokenRevocation;
+import com.hermes.auth.revocation.TokenRevocationRegistry;
+import com.hermes.userservice.entity.RevokedToken;
+import com.hermes.userservice.repository.RevokedTokenRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * 액세스 토큰 폐기 관리
+ * DB에 기록한 뒤 커밋 이후 RabbitMQ로 전파하며, 각 서비스는 TokenRevocationRegistry로 요청마다 확인한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TokenRevocationService {
+
+    private final RevokedTokenRepository revokedTokenRepository;
+    private final TokenRevocationRegistry tokenRevocationRegistry;
+    private final RabbitTemplate rabbitTemplate;
+
+    @Value("${hermes.user.events.exchange:user.events}")
+    private String userExchange;
+
+    @Value("${hermes.auth.revocation.routing-key:user.token.revoked}")
+    private String revocationRoutingKey;
+
+    /**
+     * 액세스 토큰 폐기 (jti가 없거나 이미 만료된 토큰은 무시)
+     */
+    @Transactional
+    public void revoke(String jti, Long userId, Instant expiresAt) {
+        if (jti == null || expiresAt == null || expiresAt.isBefore(Instant.now())) {
+            return;
+        }
+
+        revokedTokenRepository.save(RevokedToken.builder()
+                .jti(jti)
+                .userId(userId)
+                .expiresAt(expiresAt)
+                .build());
+
+        TokenRevocation revocation = new TokenRevocation(jti, userId, expiresAt.getEpochSecond());
+        tokenRevocationRegistry.revoke(revocation);
+        publishAfterCommit(revocation);
+    }
+
+    /**
+     * 만료되지 않은 폐기 목록 (다른 서비스 기동 시 스냅샷)
+     */
+    @Transactional(readOnly = true)
+    public List<TokenRevocation> getActiveRevocations() {
+        return revokedTokenRepository.findByExpiresAtAfter(Instant.now()).stream()
+                .map(token -> new TokenRevocation(token.getJti(), token.getUserId(), token.getExpiresAt().getEpochSecond()))
+                .toList();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadRevocations() {
+        List<TokenRevocation> revocations = getActiveRevocations();
+        tokenRevocationRegistry.revokeAll(revocations);
+        log.info("폐기 토큰 목록 적재 완료: {}건", revocations.size());
+    }
+
+    @Scheduled(fixedRate = 1800000) // 30분 (밀리초)
+    @Transactional
+    public void cleanupExpiredRevocations() {
+        int deleted = revokedTokenRepository.deleteExpired(Instant.now());
+        if (deleted > 0) {
+            log.info("만료된 폐기 토큰 {}건 정리 완료", deleted);
+        }
+    }
+
+    private void publishAfterCommit(TokenRevocation revocation) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    publish(revocation);
+                }
+            });
+        } else {
+            publish(revocation);
+        }
+    }
+
+    /**
+     * 발행 실패 시에도 다른 서비스는 주기 스냅샷 동기화로 따라잡는다.
+     */
+    private void publish(TokenRevocation revocation) {
+        try {
+            rabbitTemplate.convertAndSend(userExchange, revocationRoutingKey, revocation);
+        } catch (Exception e) {
+            log.error("Failed to publish token revocation: jti={}, error={}", revocation.jti(), e.getMessage(), e);
+        }
+    }
+}
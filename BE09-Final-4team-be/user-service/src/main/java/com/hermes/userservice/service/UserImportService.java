@@ -0,0 +1,413 @@
+package com.hermes.userservice.service;
+
+import com.hermes.userservice.dto.UserImportRequestDto;
+import com.hermes.userservice.dto.UserImportResultDto;
+import com.hermes.userservice.dto.UserImportRowDto;
+import com.hermes.userservice.dto.organization.OrgAssignmentDto;
+import com.hermes.userservice.entity.EmploymentType;
+import com.hermes.userservice.entity.Job;
+import com.hermes.userservice.entity.Position;
+import com.hermes.userservice.entity.Rank;
+import com.hermes.userservice.messaging.UserEventPublisher;
+import com.hermes.userservice.repository.EmploymentTypeRepository;
+import com.hermes.userservice.repository.JobRepository;
+import com.hermes.userservice.repository.PositionRepository;
+import com.hermes.userservice.repository.RankRepository;
+import com.hermes.userservice.repository.UserRepository;
+import jakarta.annotation.PreDestroy;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+/**
+ * 사용자 일괄 등록 (테넌트 초기 온보딩용)
+ * 참조 데이터(고용형태/직급/직책/직무/조직)와 기존 이메일을 한 번에 읽어 메모리에서 행을 검증하고,
+ * 통과한 행만 JDBC 배치 INSERT로 한 번에 저장한다. 실패한 행은 나머지 행을 막지 않고 행별 오류로 반환한다.
+ * BCrypt 해시는 공용 ForkJoinPool 대신 스레드 수가 제한된 전용 실행기에서 수행하여 로그인 검증 등 다른 작업과 CPU를 나눠 쓴다.
+ */
+@Slf4j
+@Service
+public class UserImportService {
+
+    private static final String INSERT_SQL = "INSERT INTO users " +
+            "(name, email, password, phone, address, join_date, is_admin, needs_password_reset, " +
+            "employment_type_wid, rank_id, position_id, job_id, role, work_policy_id, created_at, updated_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final int EMAIL_LOOKUP_CHUNK_SIZE = 1000;
+
+    private final UserRepository userRepository;
+    private final EmploymentTypeRepository employmentTypeRepository;
+    private final RankRepository rankRepository;
+    private final PositionRepository positionRepository;
+    private final JobRepository jobRepository;
+    private final OrganizationIntegrationService organizationIntegrationService;
+    private final OrganizationSyncService organizationSyncService;
+    private final UserSearchIndexService userSearchIndexService;
+    private final UserEventPublisher userEventPublisher;
+    private final PasswordEncoder passwordEncoder;
+    private final Validator validator;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final ExecutorService hashExecutor;
+
+    public UserImportService(UserRepository userRepository,
+                             EmploymentTypeRepository employmentTypeRepository,
+                             RankRepository rankRepository,
+                             PositionRepository positionRepository,
+                             JobRepository jobRepository,
+                             OrganizationIntegrationService organizationIntegrationService,
+                             OrganizationSyncService organizationSyncService,
+                             UserSearchIndexService userSearchIndexService,
+                             UserEventPublisher userEventPublisher,
+                             PasswordEncoder passwordEncoder,
+                             Validator validator,
+                             JdbcTemplate jdbcTemplate,
+                             PlatformTransactionManager transactionManager,
+                             @Value("${hermes.user.import.batch-size:500}") int batchSize,
+                             @Value("${hermes.user.import.hash-threads:0}") int hashThreads) {
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("hermes.user.import.batch-size는 1 이상이어야 합니다: " + batchSize);
+        }
+        this.userRepository = userRepository;
+        this.employmentTypeRepository = employmentTypeRepository;
+        this.rankRepository = rankRepository;
+        this.positionRepository = positionRepository;
+        this.jobRepository = jobRepository;
+        this.organizationIntegrationService = organizationIntegrationService;
+        this.organizationSyncService = organizationSyncService;
+        this.userSearchIndexService = userSearchIndexService;
+        this.userEventPublisher = userEventPublisher;
+        this.passwordEncoder = passwordEncoder;
+        this.validator = validator;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+
+        // 기본값은 코어 수의 절반 (가져오기 중에도 로그인 검증에 쓸 코어를 남김)
+        int poolSize = hashThreads > 0 ? hashThreads : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        AtomicInteger sequence = new AtomicInteger();
+        this.hashExecutor = Executors.newFixedThreadPool(poolSize, runnable -> {
+            Thread thread = new Thread(runnable, "user-import-hash-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    public UserImportResultDto importUsers(UserImportRequestDto request) {
+        List<UserImportRowDto> rows = request.getUsers();
+        log.info("사용자 일괄 등록 시작: rows={}", rows.size());
+        long startedAt = System.currentTimeMillis();
+
+        Map<Integer, UserImportResultDto.RowError> errors = new HashMap<>();
+        List<PendingUser> pending = validate(rows, errors);
+
+        encodePasswords(pending);
+
+        List<PendingUser> inserted = new ArrayList<>(pending.size());
+        for (int from = 0; from < pending.size(); from += batchSize) {
+            List<PendingUser> chunk = pending.subList(from, Math.min(from + batchSize, pending.size()));
+            inserted.addAll(insertChunk(chunk, errors));
+        }
+
+        String assignmentError = null;
+        List<Long> userIds = inserted.stream().map(user -> user.id).toList();
+        if (!userIds.isEmpty()) {
+            assignmentError = assignOrganizations(inserted);
+            userSearchIndexService.index(userIds);
+            userIds.forEach(userEventPublisher::publishUserCreated);
+        }
+
+        List<UserImportResultDto.RowError> rowErrors = errors.values().stream()
+                .sorted(Comparator.comparingInt(UserImportResultDto.RowError::getRow))
+                .toList();
+        long elapsedMillis = System.currentTimeMillis() - startedAt;
+        log.info("사용자 일괄 등록 완료: requested={}, imported={}, failed={}, elapsed={}ms",
+                rows.size(), inserted.size(), rowErrors.size(), elapsedMillis);
+
+        return UserImportResultDto.builder()
+                .requested(rows.size())
+                .imported(inserted.size())
+                .failed(rowErrors.size())
+                .errors(rowErrors)
+                .assignmentError(assignmentError)
+                .elapsedMillis(elapsedMillis)
+                .build();
+    }
+
+    /**
+     * 참조 데이터를 미리 읽어 두고 행마다 메모리에서 검증 (행 단위 DB 조회 없음)
+     */
+    private List<PendingUser> validate(List<UserImportRowDto> rows, Map<Integer, UserImportResultDto.RowError> errors) {
+        Set<Long> employmentTypeIds = employmentTypeRepository.findAll().stream().map(EmploymentType::getId).collect(Collectors.toSet());
+        Set<Long> rankIds = rankRepository.findAll().stream().map(Rank::getId).collect(Collectors.toSet());
+        Set<Long> positionIds = positionRepository.findAll().stream().map(Position::getId).collect(Collectors.toSet());
+        Set<Long> jobIds = jobRepository.findAll().stream().map(Job::getId).collect(Collectors.toSet());
+        Set<Long> organizationIds = loadOrganizationIds();
+        Set<String> existingEmails = loadExistingEmails(rows);
+
+        Set<String> seenEmails = new HashSet<>();
+        List<PendingUser> pending = new ArrayList<>(rows.size());
+        for (int index = 0; index < rows.size(); index++) {
+            UserImportRowDto row = rows.get(index);
+            if (row == null) {
+                errors.put(index, new UserImportResultDto.RowError(index, null, "빈 행입니다."));
+                continue;
+            }
+
+            String message = null;
+            Set<ConstraintViolation<UserImportRowDto>> violations = validator.validate(row);
+            if (!violations.isEmpty()) {
+                message = violations.stream()
+                        .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                        .sorted()
+                        .collect(Collectors.joining(", "));
+            } else {
+                String email = normalizeEmail(row.getEmail());
+                if (existingEmails.contains(email)) {
+                    message = "이미 존재하는 이메일입니다: " + row.getEmail();
+                } else if (!seenEmails.add(email)) {
+                    message = "요청 내에서 중복된 이메일입니다: " + row.getEmail();
+                } else if (isUnknown(row.getEmploymentTypeId(), employmentTypeIds)) {
+                    message = "존재하지 않는 고용 형태입니다: " + row.getEmploymentTypeId();
+                } else if (isUnknown(row.getRankId(), rankIds)) {
+                    message = "존재하지 않는 직급입니다: " + row.getRankId();
+                } else if (isUnknown(row.getPositionId(), positionIds)) {
+                    message = "존재하지 않는 직책입니다: " + row.getPositionId();
+                } else if (isUnknown(row.getJobId(), jobIds)) {
+                    message = "존재하지 않는 직무입니다: " + row.getJobId();
+                } else if (organizationIds != null && row.getOrganizationId() != null
+                        && !organizationIds.contains(row.getOrganizationId())) {
+                    message = "존재하지 않는 조직입니다: " + row.getOrganizationId();
+                }
+            }
+
+            if (message != null) {
+                errors.put(index, new UserImportResultDto.RowError(index, row.getEmail(), message));
+            } else {
+                pending.add(new PendingUser(index, row));
+            }
+        }
+        return pending;
+    }
+
+    /**
+     * BCrypt 해시가 가장 비싼 단계이므로 전용 실행기에서 병렬 처리 (모든 해시가 끝날 때까지 대기)
+     */
+    private void encodePasswords(List<PendingUser> pending) {
+        List<Future<?>> results = new ArrayList<>(pending.size());
+        for (PendingUser user : pending) {
+            results.add(hashExecutor.submit(() -> {
+                user.encodedPassword = passwordEncoder.encode(user.row.getPassword());
+            }));
+        }
+        try {
+            for (Future<?> result : results) {
+                result.get();
+            }
+        } catch (InterruptedException e) {
+            results.forEach(result -> result.cancel(true));
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("비밀번호 암호화가 중단되었습니다.", e);
+        } catch (ExecutionException e) {
+            results.forEach(result -> result.cancel(true));
+            throw new IllegalStateException("비밀번호 암호화 중 오류가 발생했습니다.", e.getCause());
+        }
+    }
+
+    /**
+     * 청크 단위 배치 INSERT (청크마다 별도 트랜잭션)
+     * 배치가 실패하면(동시 등록으로 인한 이메일 중복 등) 해당 청크만 행 단위로 다시 시도하여 실패 행을 가려낸다.
+     */
+    private List<PendingUser> insertChunk(List<PendingUser> chunk, Map<Integer, UserImportResultDto.RowError> errors) {
+        LocalDateTime now = LocalDateTime.now();
+        try {
+            List<Long> ids = transactionTemplate.execute(status -> insertBatch(chunk, now));
+            for (int i = 0; i < chunk.size(); i++) {
+                chunk.get(i).id = ids.get(i);
+            }
+            return chunk;
+        } catch (Exception e) {
+            log.warn("사용자 배치 등록 실패, 행 단위로 재시도: rows={}, error={}", chunk.size(), e.getMessage());
+        }
+
+        List<PendingUser> inserted = new ArrayList<>(chunk.size());
+        for (PendingUser user : chunk) {
+            try {
+                user.id = transactionTemplate.execute(status -> insertBatch(List.of(user), now)).get(0);
+                inserted.add(user);
+            } catch (Exception e) {
+                log.warn("사용자 등록 실패: row={}, email={}, error={}", user.index, user.row.getEmail(), e.getMessage());
+                errors.put(user.index, new UserImportResultDto.RowError(user.index, user.row.getEmail(), "사용자를 저장할 수 없습니다."));
+            }
+        }
+        return inserted;
+    }
+
+    private List<Long> insertBatch(List<PendingUser> users, LocalDateTime now) {
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        Timestamp timestamp = Timestamp.valueOf(now);
+        jdbcTemplate.batchUpdate(con -> con.prepareStatement(INSERT_SQL, new String[]{"id"}),
+                new BatchPreparedStatementSetter() {
+                    @Override
+                    public void setValues(PreparedStatement ps, int i) throws SQLException {
+                        UserImportRowDto row = users.get(i).row;
+                        ps.setString(1, row.getName());
+                        ps.setString(2, row.getEmail());
+                        ps.setString(3, users.get(i).encodedPassword);
+                        ps.setString(4, row.getPhone());
+                        ps.setString(5, row.getAddress());
+                        ps.setDate(6, Date.valueOf(row.getJoinDate() != null ? row.getJoinDate() : LocalDate.now()));
+                        ps.setBoolean(7, Boolean.TRUE.equals(row.getIsAdmin()));
+                        ps.setBoolean(8, Boolean.TRUE.equals(row.getNeedsPasswordReset()));
+                        setLong(ps, 9, row.getEmploymentTypeId());
+                        setLong(ps, 10, row.getRankId());
+                        setLong(ps, 11, row.getPositionId());
+                        setLong(ps, 12, row.getJobId());
+                        ps.setString(13, row.getRole());
+                        setLong(ps, 14, row.getWorkPolicyId());
+                        ps.setTimestamp(15, timestamp);
+                        ps.setTimestamp(16, timestamp);
+                    }
+
+                    @Override
+                    public int getBatchSize() {
+                        return users.size();
+                    }
+                }, keyHolder);
+
+        return keyHolder.getKeyList().stream()
+                .map(keys -> ((Number) keys.get("id")).longValue())
+                .toList();
+    }
+
+    /**
+     * 조직 배정을 org-service에 한 번에 요청하고, 생성된 배정을 user_organizations에 바로 반영
+     * 실패해도 사용자 등록은 유지하며 오류 메시지만 반환한다 (조직 동기화로 재시도 가능).
+     */
+    private String assignOrganizations(List<PendingUser> users) {
+        List<Map<String, Object>> requests = new ArrayList<>();
+        List<Long> assignedUserIds = new ArrayList<>();
+        for (PendingUser user : users) {
+            if (user.row.getOrganizationId() == null) {
+                continue;
+            }
+            Map<String, Object> assignment = new LinkedHashMap<>();
+            assignment.put("employeeId", user.id);
+            assignment.put("employeeName", user.row.getName());
+            assignment.put("organizationId", user.row.getOrganizationId());
+            assignment.put("isPrimary", true);
+            assignment.put("isLeader", Boolean.TRUE.equals(user.row.getIsLeader()));
+            requests.add(assignment);
+            assignedUserIds.add(user.id);
+        }
+        if (requests.isEmpty()) {
+            return null;
+        }
+
+        try {
+            Map<Long, List<OrgAssignmentDto>> assignments = organizationIntegrationService.createAssignments(requests);
+            organizationSyncService.applyAssignments(assignedUserIds, assignments);
+            return null;
+        } catch (Exception e) {
+            log.error("조직 일괄 배정 실패: count={}, error={}", requests.size(), e.getMessage());
+            return "조직 배정에 실패했습니다. 조직 동기화를 다시 실행해 주세요.";
+        }
+    }
+
+    /**
+     * 조직 ID 목록 (org-service 조회 실패 시 null을 반환하여 검증을 건너뛰고, 배정 요청 단계에서 오류로 보고)
+     */
+    private Set<Long> loadOrganizationIds() {
+        List<Map<String, Object>> organizations = organizationIntegrationService.getAllOrganizations();
+        if (organizations.isEmpty()) {
+            log.warn("조직 목록이 비어 있어 조직 ID 사전 검증을 건너뜁니다.");
+            return null;
+        }
+        return organizations.stream()
+                .map(organization -> organization.get("organizationId"))
+                .filter(Number.class::isInstance)
+                .map(id -> ((Number) id).longValue())
+                .collect(Collectors.toSet());
+    }
+
+    private Set<String> loadExistingEmails(List<UserImportRowDto> rows) {
+        List<String> emails = rows.stream()
+                .filter(row -> row != null && row.getEmail() != null)
+                .map(UserImportRowDto::getEmail)
+                .distinct()
+                .toList();
+        Set<String> existing = new HashSet<>();
+        for (int from = 0; from < emails.size(); from += EMAIL_LOOKUP_CHUNK_SIZE) {
+            userRepository.findExistingEmails(emails.subList(from, Math.min(from + EMAIL_LOOKUP_CHUNK_SIZE, emails.size())))
+                    .forEach(email -> existing.add(normalizeEmail(email)));
+        }
+        return existing;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        hashExecutor.shutdown();
+    }
+
+    private static boolean isUnknown(Long id, Set<Long> knownIds) {
+        return id != null && id != 0 && !knownIds.contains(id);
+    }
+
+    private static String normalizeEmail(String email) {
+        return email.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static void setLong(PreparedStatement ps, int index, Long value) throws SQLException {
+        // 기존 단건 등록과 동일하게 0은 미지정으로 취급
+        if (value == null || value == 0) {
+            ps.setNull(index, Types.BIGINT);
+        } else {
+            ps.setLong(index, value);
+        }
+    }
+
+    private static final class PendingUser {
+        private final int index;
+        private final UserImportRowDto row;
+        private String encodedPassword;
+        private Long id;
+
+        private PendingUser(int index, UserImportRowDto row) {
+            this.index = index;
+            this.row = row;
+        }
+    }
+}
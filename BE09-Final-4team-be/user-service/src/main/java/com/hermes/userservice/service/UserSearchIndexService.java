@@ -0,0 +1,216 @@
+package com.hermes.userservice.service;
+
+import com.hermes.userservice.dto.ColleagueResponseDto;
+import com.hermes.userservice.dto.ColleagueSearchRequestDto;
+import com.hermes.userservice.entity.User;
+import com.hermes.userservice.entity.UserOrganization;
+import com.hermes.userservice.repository.UserOrganizationRepository;
+import com.hermes.userservice.repository.UserRepository;
+import com.hermes.userservice.repository.UserSearchIndexRepository;
+import com.hermes.userservice.repository.UserSearchTokenRepository;
+import com.hermes.userservice.util.SearchTokenizer;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * 동료 검색 색인 관리 및 검색
+ * 이름/이메일/부서/직함을 2-gram 역색인으로 후보를 좁힌 뒤 LIKE로 부분 일치를 검증한다.
+ * 색인 갱신은 대상 사용자의 행을 일괄 삭제한 뒤 JDBC 배치로 다시 넣으므로 행마다 조회(merge)가 발생하지 않는다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class UserSearchIndexService {
+
+    private static final int REBUILD_PAGE_SIZE = 500;
+    private static final int DEFAULT_PAGE_SIZE = 50;
+    private static final int MAX_PAGE_SIZE = 200;
+    private static final String INSERT_INDEX_SQL = "INSERT INTO user_search_index " +
+            "(user_id, name, email, phone, department, title, profile_image_url, name_key, department_key, title_key, search_text, updated_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final String INSERT_TOKEN_SQL = "INSERT INTO user_search_token (id, token, user_id) " +
+            "VALUES (nextval('user_search_token_seq'), ?, ?)";
+
+    private final UserSearchIndexRepository userSearchIndexRepository;
+    private final UserSearchTokenRepository userSearchTokenRepository;
+    private final UserRepository userRepository;
+    private final UserOrganizationRepository userOrganizationRepository;
+    private final EntityManager entityManager;
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 사용자 한 명의 색인 갱신 (생성/수정/조직 동기화 후 호출)
+     */
+    public void index(User user) {
+        indexAll(List.of(user), userOrganizationRepository.findByUserId(user.getId()));
+    }
+
+    public void index(Long userId) {
+        userRepository.findById(userId).ifPresentOrElse(this::index, () -> remove(userId));
+    }
+
+    /**
+     * 여러 사용자의 색인 갱신 (사용자/조직 조회를 페이지당 한 번씩 수행)
+     */
+    public void index(Collection<Long> userIds) {
+        List<Long> ids = List.copyOf(userIds);
+        for (int from = 0; from < ids.size(); from += REBUILD_PAGE_SIZE) {
+            List<Long> page = ids.subList(from, Math.min(from + REBUILD_PAGE_SIZE, ids.size()));
+            indexAll(userRepository.findAllById(page), userOrganizationRepository.findByUserIdIn(page));
+            entityManager.flush();
+            entityManager.clear();
+        }
+    }
+
+    public void remove(Long userId) {
+        userSearchTokenRepository.deleteByUserIdIn(List.of(userId));
+        userSearchIndexRepository.deleteByUserIdIn(List.of(userId));
+    }
+
+    /**
+     * 전체 색인 재구성 (페이지 단위로 처리하여 영속성 컨텍스트 크기 제한)
+     * @return 색인된 사용자 수
+     */
+    public int rebuild() {
+        log.info("사용자 검색 색인 재구성 시작");
+        userSearchTokenRepository.deleteAllInBatch();
+        userSearchIndexRepository.deleteAllInBatch();
+
+        int indexed = 0;
+        Pageable pageable = PageRequest.of(0, REBUILD_PAGE_SIZE, Sort.by("id"));
+        Page<User> page;
+        do {
+            page = userRepository.findAll(pageable);
+            List<Long> userIds = page.getContent().stream().map(User::getId).toList();
+            indexAll(page.getContent(), userIds.isEmpty() ? List.of() : userOrganizationRepository.findByUserIdIn(userIds));
+            indexed += page.getNumberOfElements();
+
+            entityManager.flush();
+            entityManager.clear();
+            pageable = page.nextPageable();
+        } while (page.hasNext());
+
+        log.info("사용자 검색 색인 재구성 완료: {}명", indexed);
+        return indexed;
+    }
+
+    /**
+     * 기동 시 색인이 비어 있으면 기존 사용자로 채움 (최초 배포 대응)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void initializeIfEmpty() {
+        if (userSearchIndexRepository.count() == 0 && userRepository.count() > 0) {
+            rebuild();
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public Page<ColleagueResponseDto> searchColleagues(ColleagueSearchRequestDto request) {
+        String keyword = SearchTokenizer.normalize(request.getSearchKeyword());
+        String department = SearchTokenizer.containsPattern(SearchTokenizer.normalize(request.getDepartment()));
+        String title = SearchTokenizer.containsPattern(SearchTokenizer.normalize(request.getPosition()));
+        Pageable pageable = toPageable(request);
+
+        Set<String> tokens = SearchTokenizer.grams(keyword);
+        if (tokens.isEmpty()) {
+            return userSearchIndexRepository.search(
+                    SearchTokenizer.containsPattern(keyword), department, title, pageable);
+        }
+        return userSearchIndexRepository.searchByTokens(
+                tokens, tokens.size(), SearchTokenizer.containsPattern(keyword), department, title, pageable);
+    }
+
+    @Transactional(readOnly = true)
+    public List<Long> searchUserIdsByName(String name) {
+        String keyword = SearchTokenizer.normalize(name);
+        if (keyword.isEmpty()) {
+            return List.of();
+        }
+        Set<String> tokens = SearchTokenizer.grams(keyword);
+        String pattern = SearchTokenizer.containsPattern(keyword);
+        return tokens.isEmpty()
+                ? userSearchIndexRepository.findUserIdsByName(pattern)
+                : userSearchIndexRepository.findUserIdsByNameTokens(tokens, tokens.size(), pattern);
+    }
+
+    private void indexAll(List<User> users, List<UserOrganization> organizations) {
+        if (users.isEmpty()) {
+            return;
+        }
+        Map<Long, String> departments = organizations.stream()
+                .collect(Collectors.groupingBy(uo -> uo.getUser().getId(),
+                        Collectors.collectingAndThen(Collectors.toList(), UserSearchIndexService::primaryOrganizationName)));
+
+        List<Object[]> indexes = new ArrayList<>(users.size());
+        List<Object[]> tokens = new ArrayList<>();
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+        for (User user : users) {
+            String department = departments.get(user.getId());
+            String position = user.getPosition() != null ? user.getPosition().getName() : null;
+            String titleKey = Stream.of(
+                            user.getRank() != null ? user.getRank().getName() : null,
+                            position,
+                            user.getJob() != null ? user.getJob().getName() : null)
+                    .map(SearchTokenizer::normalize)
+                    .filter(value -> !value.isEmpty())
+                    .collect(Collectors.joining(" "));
+            String searchText = String.join("\n",
+                    SearchTokenizer.normalize(user.getName()),
+                    SearchTokenizer.normalize(user.getEmail()),
+                    SearchTokenizer.normalize(department),
+                    titleKey);
+
+            indexes.add(new Object[]{user.getId(), user.getName(), user.getEmail(), user.getPhone(), department, position,
+                    user.getProfileImageUrl(), SearchTokenizer.normalize(user.getName()), SearchTokenizer.normalize(department),
+                    titleKey, searchText, now});
+            SearchTokenizer.grams(searchText).forEach(token -> tokens.add(new Object[]{token, user.getId()}));
+        }
+
+        List<Long> userIds = users.stream().map(User::getId).toList();
+        userSearchTokenRepository.deleteByUserIdIn(userIds);
+        userSearchIndexRepository.deleteByUserIdIn(userIds);
+        jdbcTemplate.batchUpdate(INSERT_INDEX_SQL, indexes);
+        if (!tokens.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_TOKEN_SQL, tokens);
+        }
+    }
+
+    private static String primaryOrganizationName(List<UserOrganization> organizations) {
+        return organizations.stream()
+                .sorted(Comparator.comparing((UserOrganization uo) -> !Boolean.TRUE.equals(uo.getIsPrimary())))
+                .map(UserOrganization::getOrganizationName)
+                .findFirst()
+                .orElse(null);
+    }
+
+    private static Pageable toPageable(ColleagueSearchRequestDto request) {
+        int page = request.getPage() != null && request.getPage() >= 0 ? request.getPage() : 0;
+        int size = request.getSize() != null && request.getSize() > 0
+                ? Math.min(request.getSize(), MAX_PAGE_SIZE)
+                : DEFAULT_PAGE_SIZE;
+        return PageRequest.of(page, size, Sort.by("nameKey", "userId"));
+    }
+}
@@ -1,6 +1,7 @@
 package com.hermes.userservice.service;
 
 import com.hermes.userservice.dto.*;
+import com.hermes.userservice.dto.organization.OrgAssignmentDto;
 import com.hermes.userservice.dto.title.*;
 import com.hermes.userservice.dto.workpolicy.WorkPolicyResponseDto;
 import com.hermes.userservice.entity.User;
@@ -11,18 +12,26 @@ import com.hermes.userservice.entity.Job;
 import com.hermes.userservice.exception.DuplicateEmailException;
 import com.hermes.userservice.exception.UserNotFoundException;
 import com.hermes.userservice.mapper.UserMapper;
+import com.hermes.userservice.messaging.UserEventPublisher;
 import com.hermes.userservice.repository.*;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -40,6 +49,9 @@ public class UserService {
     private final RankRepository rankRepository;
     private final PositionRepository positionRepository;
     private final JobRepository jobRepository;
+    private final UserEventPublisher userEventPublisher;
+    private final UserSearchIndexService userSearchIndexService;
+    private final UserOrganizationRepository userOrganizationRepository;
 
     @Transactional(readOnly = true)
     public UserResponseDto getUserById(Long userId) {
@@ -47,7 +59,7 @@ public class UserService {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new UserNotFoundException("사용자를 찾을 수 없습니다: " + userId));
 
-        List<Map<String, Object>> remoteOrganizations = organizationIntegrationService.getUserOrganizations(userId);
+        List<OrgAssignmentDto> remoteOrganizations = organizationIntegrationService.getUserOrganizations(userId);
 
         WorkPolicyResponseDto workPolicy = null;
         if (user.getWorkPolicyId() != null) {
@@ -68,6 +80,12 @@ public class UserService {
             throw new DuplicateEmailException("이미 존재하는 이메일입니다: " + userCreateDto.getEmail());
         }
 
+        // 직급/직책/직무/고용형태를 먼저 조회하여 한 번에 저장
+        EmploymentType employmentType = findTitle(userCreateDto.getEmploymentType() != null ? userCreateDto.getEmploymentType().getId() : null, employmentTypeRepository);
+        Rank rank = findTitle(userCreateDto.getRank() != null ? userCreateDto.getRank().getId() : null, rankRepository);
+        Position position = findTitle(userCreateDto.getPosition() != null ? userCreateDto.getPosition().getId() : null, positionRepository);
+        Job job = findTitle(userCreateDto.getJob() != null ? userCreateDto.getJob().getId() : null, jobRepository);
+
         User user = User.builder()
                 .name(userCreateDto.getName())
                 .email(userCreateDto.getEmail())
@@ -77,53 +95,27 @@ public class UserService {
                 .joinDate(Optional.ofNullable(userCreateDto.getJoinDate()).orElse(LocalDate.now()))
                 .isAdmin(Optional.ofNullable(userCreateDto.getIsAdmin()).orElse(false))
                 .needsPasswordReset(Optional.ofNullable(userCreateDto.getNeedsPasswordReset()).orElse(false))
+                .employmentType(employmentType)
+                .rank(rank)
+                .position(position)
+                .job(job)
                 .role(userCreateDto.getRole())
                 .workPolicyId(userCreateDto.getWorkPolicyId())
                 .build();
 
-        User createdUser = userRepository.save(user);
-        log.info("User 저장 완료: userId={}", createdUser.getId());
-
-        EmploymentType employmentType = null;
-        Rank rank = null;
-        Position position = null;
-        Job job = null;
-
-        if (userCreateDto.getEmploymentType() != null && userCreateDto.getEmploymentType().getId() != null && userCreateDto.getEmploymentType().getId() != 0) {
-            employmentType = employmentTypeRepository.findById(userCreateDto.getEmploymentType().getId()).orElse(null);
-            log.info("EmploymentType 조회: id={}, result={}", userCreateDto.getEmploymentType().getId(), employmentType);
-        }
-
-        if (userCreateDto.getRank() != null && userCreateDto.getRank().getId() != null && userCreateDto.getRank().getId() != 0) {
-            rank = rankRepository.findById(userCreateDto.getRank().getId()).orElse(null);
-            log.info("Rank 조회: id={}, result={}", userCreateDto.getRank().getId(), rank);
-        }
-
-        if (userCreateDto.getPosition() != null && userCreateDto.getPosition().getId() != null && userCreateDto.getPosition().getId() != 0) {
-            position = positionRepository.findById(userCreateDto.getPosition().getId()).orElse(null);
-            log.info("Position 조회: id={}, result={}", userCreateDto.getPosition().getId(), position);
-        }
-
-        if (userCreateDto.getJob() != null && userCreateDto.getJob().getId() != null && userCreateDto.getJob().getId() != 0) {
-            job = jobRepository.findById(userCreateDto.getJob().getId()).orElse(null);
-            log.info("Job 조회: id={}, result={}", userCreateDto.getJob().getId(), job);
-        }
-
-        // updateWorkInfo 메서드를 사용해서 rank, position, job 설정
-        createdUser.updateWorkInfo(employmentType, rank, position, job, userCreateDto.getRole(), userCreateDto.getWorkPolicyId());
-        log.info("updateWorkInfo 완료: rank={}, position={}, job={}", createdUser.getRank(), createdUser.getPosition(), createdUser.getJob());
-
-        User finalUser = userRepository.save(createdUser);
-        log.info("최종 저장 완료: userId={}, rank={}, position={}, job={}", finalUser.getId(), finalUser.getRank(), finalUser.getPosition(), finalUser.getJob());
+        User finalUser = userRepository.save(user);
+        log.info("User 저장 완료: userId={}, rank={}, position={}, job={}", finalUser.getId(), rank, position, job);
+        userSearchIndexService.index(finalUser);
+        userEventPublisher.publishUserCreated(finalUser.getId());
 
-        List<Map<String, Object>> remoteOrganizations = organizationIntegrationService.getUserOrganizations(createdUser.getId());
+        List<OrgAssignmentDto> remoteOrganizations = organizationIntegrationService.getUserOrganizations(finalUser.getId());
 
         WorkPolicyResponseDto workPolicy = null;
-        if (createdUser.getWorkPolicyId() != null) {
+        if (finalUser.getWorkPolicyId() != null) {
             try {
-                workPolicy = workPolicyIntegrationService.getWorkPolicyById(createdUser.getWorkPolicyId());
+                workPolicy = workPolicyIntegrationService.getWorkPolicyById(finalUser.getWorkPolicyId());
             } catch (Exception e) {
-                log.warn("근무 정책 조회 실패, null로 처리: userId={}, workPolicyId={}", createdUser.getId(), createdUser.getWorkPolicyId(), e);
+                log.warn("근무 정책 조회 실패, null로 처리: userId={}, workPolicyId={}", finalUser.getId(), finalUser.getWorkPolicyId(), e);
             }
         }
 
@@ -176,8 +168,10 @@ public class UserService {
         User updatedUser = userRepository.save(user);
 
         log.info("DB 저장 완료: userId={}", updatedUser.getId());
+        userSearchIndexService.index(updatedUser);
+        userEventPublisher.publishUserUpdated(updatedUser.getId());
 
-        List<Map<String, Object>> remoteOrganizations = organizationIntegrationService.getUserOrganizations(updatedUser.getId());
+        List<OrgAssignmentDto> remoteOrganizations = organizationIntegrationService.getUserOrganizations(updatedUser.getId());
 
         WorkPolicyResponseDto workPolicy = null;
         if (updatedUser.getWorkPolicyId() != null) {
@@ -199,34 +193,53 @@ public class UserService {
             throw new UserNotFoundException("삭제할 사용자를 찾을 수 없습니다: " + userId);
         }
         userRepository.deleteById(userId);
+        userSearchIndexService.remove(userId);
+        userEventPublisher.publishUserDeleted(userId);
         log.info("사용자 삭제 완료: userId={}", userId);
     }
 
     @Transactional(readOnly = true)
     public List<UserResponseDto> getAllUsers() {
         log.info("전체 사용자 목록 조회 요청 (근무정책 및 조직 정보 포함)");
-        List<User> users = userRepository.findAll();
+        List<User> users = userRepository.findAllWithTitles();
 
-        Map<Long, List<Map<String, Object>>> allOrganizations = organizationIntegrationService.getAllUsersOrganizations();
+        Map<Long, List<OrgAssignmentDto>> allOrganizations = organizationIntegrationService.getAllUsersOrganizations();
+        Map<Long, WorkPolicyResponseDto> workPolicies = workPolicyIntegrationService.getWorkPoliciesByIds(
+                users.stream().map(User::getWorkPolicyId).collect(Collectors.toSet()));
 
-        List<UserResponseDto> result = users.stream()
-                .map(user -> {
-                    List<Map<String, Object>> userOrganizations = allOrganizations.getOrDefault(user.getId(), List.of());
+        return users.stream()
+                .map(user -> userMapper.toResponseDto(
+                        user,
+                        allOrganizations.getOrDefault(user.getId(), List.of()),
+                        user.getWorkPolicyId() != null ? workPolicies.get(user.getWorkPolicyId()) : null))
+                .collect(Collectors.toList());
+    }
 
-                    WorkPolicyResponseDto workPolicy = null;
-                    if (user.getWorkPolicyId() != null) {
-                        try {
-                            workPolicy = workPolicyIntegrationService.getWorkPolicyById(user.getWorkPolicyId());
-                        } catch (Exception e) {
-                            log.warn("근무 정책 조회 실패, null로 처리: userId={}, workPolicyId={}", user.getId(), user.getWorkPolicyId(), e);
-                        }
-                    }
+    /**
+     * 사용자 목록 페이지 조회 (프로젝션 + 페이지 사용자의 근무정책/조직만 일괄 조회)
+     */
+    @Transactional(readOnly = true)
+    public Page<UserSummaryDto> getUserSummaries(Pageable pageable) {
+        log.info("사용자 목록 페이지 조회 요청: page={}, size={}", pageable.getPageNumber(), pageable.getPageSize());
+        Page<UserSummaryDto> page = userRepository.findUserSummaries(pageable);
+        if (page.isEmpty()) {
+            return page;
+        }
 
-                    return userMapper.toResponseDto(user, userOrganizations, workPolicy);
-                })
-                .collect(Collectors.toList());
-        
-        return result;
+        Map<Long, List<OrgAssignmentDto>> organizations = organizationIntegrationService.getUsersOrganizations(
+                page.getContent().stream().map(UserSummaryDto::getId).toList());
+        Map<Long, WorkPolicyResponseDto> workPolicies = workPolicyIntegrationService.getWorkPoliciesByIds(
+                page.getContent().stream().map(UserSummaryDto::getWorkPolicyId).collect(Collectors.toSet()));
+
+        page.getContent().forEach(summary -> {
+            summary.setOrganizations(organizations.getOrDefault(summary.getId(), List.of()).stream()
+                    .map(userMapper::mapToUserOrganizationDto)
+                    .collect(Collectors.toList()));
+            if (summary.getWorkPolicyId() != null) {
+                summary.setWorkPolicy(workPolicies.get(summary.getWorkPolicyId()));
+            }
+        });
+        return page;
     }
 
     public User updateUserWorkPolicy(Long userId, Long workPolicyId) {
@@ -274,56 +287,68 @@ public class UserService {
 
     @Transactional(readOnly = true)
     public List<Long> searchUserIdsByName(String name) {
-        if (name == null || name.trim().isEmpty()) {
-            return List.of();
-        }
-        
-        List<User> users = userRepository.findByNameContaining(name.trim());
-        return users.stream()
-                .map(User::getId)
-                .collect(Collectors.toList());
+        return userSearchIndexService.searchUserIdsByName(name);
     }
 
     @Transactional(readOnly = true)
-    public List<ColleagueResponseDto> getColleagues(ColleagueSearchRequestDto searchRequest) {
+    public Page<ColleagueResponseDto> getColleagues(ColleagueSearchRequestDto searchRequest) {
         log.info("동료 목록 조회 요청: searchKeyword={}, department={}, position={}",
                 searchRequest.getSearchKeyword(), searchRequest.getDepartment(), searchRequest.getPosition());
+        return userSearchIndexService.searchColleagues(searchRequest);
+    }
 
-        List<User> users = userRepository.findAll();
+    /**
+     * 사용자 일괄 조회 (서비스 간 호출용, 기본 프로필은 단일 쿼리)
+     * 조직/근무정책은 include에 지정된 경우에만 일괄 조회하며, 요청 순서를 유지하고 없는 ID는 제외한다.
+     */
+    @Transactional(readOnly = true)
+    public List<UserSummaryDto> getUserSummariesByIds(Collection<Long> userIds, Set<String> include) {
+        List<Long> ids = userIds.stream().filter(Objects::nonNull).distinct().collect(Collectors.toList());
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        log.info("사용자 일괄 조회 요청: {}건, include={}", ids.size(), include);
+
+        Map<Long, UserSummaryDto> summaries = userRepository.findUserSummariesByIdIn(ids).stream()
+                .collect(Collectors.toMap(UserSummaryDto::getId, Function.identity()));
+
+        Set<String> includes = include != null ? include : Set.of();
+        if (includes.contains(UserBulkLookupRequestDto.INCLUDE_ORGANIZATIONS) && !summaries.isEmpty()) {
+            Map<Long, List<UserOrganizationDto>> organizations = userOrganizationRepository.findByUserIdIn(summaries.keySet()).stream()
+                    .collect(Collectors.groupingBy(uo -> uo.getUser().getId(),
+                            Collectors.mapping(userMapper::toUserOrganizationDto, Collectors.toList())));
+            summaries.values().forEach(summary ->
+                    summary.setOrganizations(organizations.getOrDefault(summary.getId(), List.of())));
+        }
+        if (includes.contains(UserBulkLookupRequestDto.INCLUDE_WORK_POLICY) && !summaries.isEmpty()) {
+            Map<Long, WorkPolicyResponseDto> workPolicies = workPolicyIntegrationService.getWorkPoliciesByIds(
+                    summaries.values().stream().map(UserSummaryDto::getWorkPolicyId).collect(Collectors.toSet()));
+            summaries.values().stream()
+                    .filter(summary -> summary.getWorkPolicyId() != null)
+                    .forEach(summary -> summary.setWorkPolicy(workPolicies.get(summary.getWorkPolicyId())));
+        }
 
-        return users.stream()
-                .filter(user -> {
-                    if (searchRequest.getSearchKeyword() != null && !searchRequest.getSearchKeyword().trim().isEmpty()) {
-                        String keyword = searchRequest.getSearchKeyword().toLowerCase();
-                        return user.getName().toLowerCase().contains(keyword) ||
-                                (user.getPosition() != null && user.getPosition().getName().toLowerCase().contains(keyword)) ||
-                                (user.getEmail() != null && user.getEmail().toLowerCase().contains(keyword));
-                    }
-                    return true;
-                })
-                .filter(user -> {
-                    if (searchRequest.getDepartment() != null && !searchRequest.getDepartment().trim().isEmpty()) {
-                        return true;
-                    }
-                    return true;
-                })
-                .filter(user -> {
-                    if (searchRequest.getPosition() != null && !searchRequest.getPosition().trim().isEmpty()) {
-                        return user.getPosition() != null &&
-                                user.getPosition().getName().toLowerCase().contains(searchRequest.getPosition().toLowerCase());
-                    }
-                    return true;
-                })
-                .map(user -> ColleagueResponseDto.builder()
-                        .userId(user.getId())
-                        .name(user.getName())
-                        .email(user.getEmail())
-                        .phoneNumber(user.getPhone())
-                        .avatar(user.getProfileImageUrl())
-                        .build())
+        return ids.stream()
+                .map(summaries::get)
+                .filter(Objects::nonNull)
                 .collect(Collectors.toList());
     }
 
+    /**
+     * 사용자 ID 커서 페이지 조회 (ID 오름차순, afterId 초과)
+     */
+    @Transactional(readOnly = true)
+    public UserIdPageDto getUserIdPage(Long afterId, int size) {
+        List<Long> ids = userRepository.findUserIdsAfter(afterId != null ? afterId : 0L, PageRequest.of(0, size + 1));
+        boolean hasNext = ids.size() > size;
+        List<Long> page = hasNext ? ids.subList(0, size) : ids;
+        return UserIdPageDto.builder()
+                .userIds(List.copyOf(page))
+                .nextCursor(hasNext ? page.get(page.size() - 1) : null)
+                .hasNext(hasNext)
+                .build();
+    }
+
     @Transactional(readOnly = true)
     public long getTotalEmployees() {
         log.info("전체 직원 수 조회");
@@ -347,7 +372,16 @@ public class UserService {
 
         // 프로필 이미지 URL만 업데이트
         userRepository.updateProfileImageUrl(userId, profileImageUrl);
+        userSearchIndexService.index(userId);
 
         log.info("프로필 이미지 업데이트 완료: userId={}", userId);
     }
-}
\ No newline at end of file
+
+    // 0 또는 존재하지 않는 ID는 미지정으로 처리
+    private static <T> T findTitle(Long id, JpaRepository<T, Long> repository) {
+        if (id == null || id == 0) {
+            return null;
+        }
+        return repository.findById(id).orElse(null);
+    }
+}
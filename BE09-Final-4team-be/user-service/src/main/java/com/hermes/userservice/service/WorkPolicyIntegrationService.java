@@ -1,5 +1,6 @@
 package com.hermes.userservice.service;
 
+import com.hermes.api.common.ApiResult;
 import com.hermes.userservice.client.WorkPolicyServiceClient;
 import com.hermes.userservice.dto.workpolicy.WorkPolicyRequestDto;
 import com.hermes.userservice.dto.workpolicy.WorkPolicyResponseDto;
@@ -14,7 +15,11 @@ import org.springframework.stereotype.Service;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.transaction.annotation.Transactional;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
 import java.util.stream.Collectors;
@@ -69,6 +74,35 @@ public class WorkPolicyIntegrationService {
         }
     }
 
+    /**
+     * 근무 정책 일괄 조회 (중복 제거 후 attendance-service 한 번 호출)
+     * 조회 실패 시 빈 Map을 반환하며, 호출 측은 근무 정책을 null로 처리한다.
+     */
+    public Map<Long, WorkPolicyResponseDto> getWorkPoliciesByIds(Collection<Long> workPolicyIds) {
+        List<Long> ids = workPolicyIds.stream()
+                .filter(Objects::nonNull)
+                .distinct()
+                .collect(Collectors.toList());
+        if (ids.isEmpty()) {
+            return Map.of();
+        }
+
+        log.info("근무 정책 일괄 조회: {}건", ids.size());
+        try {
+            ApiResult<List<WorkPolicyResponseDto>> response = workPolicyServiceClient.getWorkPoliciesByIds(ids);
+            if (response == null || response.getData() == null) {
+                log.warn("근무 정책 일괄 조회 결과 없음: ids={}", ids);
+                return Map.of();
+            }
+            return response.getData().stream()
+                    .filter(policy -> policy.getId() != null)
+                    .collect(Collectors.toMap(WorkPolicyResponseDto::getId, Function.identity(), (a, b) -> a));
+        } catch (Exception e) {
+            log.warn("근무 정책 일괄 조회 실패, 빈 결과로 처리: ids={}, error={}", ids, e.getMessage());
+            return Map.of();
+        }
+    }
+
     public List<AnnualLeaveResponseDto> getAnnualLeavesByWorkPolicyId(Long workPolicyId) {
         log.info("연차 정보 조회: workPolicyId={}", workPolicyId);
         return workPolicyServiceClient.getAnnualLeavesByWorkPolicyId(workPolicyId);
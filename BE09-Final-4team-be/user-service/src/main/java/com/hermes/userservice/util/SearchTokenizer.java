@@ -0,0 +1,55 @@
+package com.hermes.userservice.util;
+
+import lombok.experimental.UtilityClass;
+
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * 사용자 검색 색인용 n-gram 토크나이저
+ * 한글 이름(2~3자)도 부분 일치 검색이 되도록 2-gram을 사용한다.
+ */
+@UtilityClass
+public class SearchTokenizer {
+
+    public static final int GRAM_SIZE = 2;
+
+    /**
+     * 검색 비교용 정규화 (앞뒤 공백 제거, 소문자)
+     */
+    public static String normalize(String value) {
+        return value == null ? "" : value.trim().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * 정규화된 문자열의 2-gram 집합 (공백을 포함하는 gram은 제외)
+     */
+    public static Set<String> grams(String normalized) {
+        Set<String> grams = new LinkedHashSet<>();
+        if (normalized == null) {
+            return grams;
+        }
+        for (int i = 0; i + GRAM_SIZE <= normalized.length(); i++) {
+            String gram = normalized.substring(i, i + GRAM_SIZE);
+            if (gram.chars().noneMatch(Character::isWhitespace)) {
+                grams.add(gram);
+            }
+        }
+        return grams;
+    }
+
+    /**
+     * LIKE 부분 일치 패턴 (이스케이프 문자 '!')
+     */
+    public static String containsPattern(String normalized) {
+        if (normalized == null || normalized.isEmpty()) {
+            return "%";
+        }
+        String escaped = normalized
+                .replace("!", "!!")
+                .replace("%", "!%")
+                .replace("_", "!_");
+        return "%" + escaped + "%";
+    }
+}
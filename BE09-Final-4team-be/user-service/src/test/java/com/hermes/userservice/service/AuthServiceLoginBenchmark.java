@@ -0,0 +1,167 @@
+package com.hermes.userservice.service;
+
+import com.hermes.auth.enums.Role;
+import com.hermes.userservice.config.PasswordEncoderConfig;
+import com.hermes.userservice.dto.LoginRequestDto;
+import com.hermes.userservice.dto.LoginResult;
+import com.hermes.userservice.entity.User;
+import com.hermes.userservice.repository.RefreshTokenRepository;
+import com.hermes.userservice.repository.UserRepository;
+import com.hermes.userservice.support.JpaTestConfiguration;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestReporter;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.when;
+
+/**
+ * 동시 로그인 500건 부하 측정: 실제 BCrypt(기본 강도)를 검증 전용 실행기에서 수행하며 처리량과 p99 응답 시간을 보고한다.
+ * 500건이 모두 대기열에 들어가도록 대기열 용량과 시간 제한을 늘려 거절 없이 측정한다.
+ * 실행: ./gradlew :user-service:benchmark --tests '*AuthServiceLoginBenchmark'
+ */
+@Tag("benchmark")
+@DataJpaTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ContextConfiguration(classes = {JpaTestConfiguration.class, AuthService.class, LastLoginRecorder.class,
+        PasswordVerificationService.class, PasswordEncoderConfig.class, SimpleMeterRegistry.class})
+@TestPropertySource(properties = {
+        "hermes.auth.password-verify.queue-capacity=500",
+        "hermes.auth.password-verify.timeout-ms=120000"
+})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class AuthServiceLoginBenchmark {
+
+    private static final int CALLERS = 500;
+    private static final String PASSWORD = "password123";
+
+    @Autowired
+    private AuthService authService;
+
+    @Autowired
+    private LastLoginRecorder lastLoginRecorder;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @MockitoBean
+    private RefreshTokenRepository refreshTokenRepository;
+
+    @MockitoBean
+    private JwtTokenService jwtTokenService;
+
+    @MockitoBean
+    private TokenRevocationService tokenRevocationService;
+
+    @BeforeEach
+    void setUp() {
+        String encoded = passwordEncoder.encode(PASSWORD);
+        List<User> users = new ArrayList<>(CALLERS);
+        for (int i = 0; i < CALLERS; i++) {
+            users.add(User.builder()
+                    .name("부하" + i)
+                    .email(email(i))
+                    .password(encoded)
+                    .joinDate(LocalDate.of(2024, 1, 1))
+                    .build());
+        }
+        userRepository.saveAll(users);
+        when(jwtTokenService.createAccessToken(anyLong(), any(Role.class), any())).thenReturn("access");
+        when(jwtTokenService.createRefreshToken(anyLong())).thenReturn("refresh");
+        when(jwtTokenService.hashToken(anyString())).thenReturn("refresh-hash");
+        when(jwtTokenService.getRefreshTokenTTL()).thenReturn(3600L);
+    }
+
+    @AfterEach
+    void tearDown() {
+        lastLoginRecorder.flush();
+        userRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void concurrentLogins(TestReporter reporter) throws Exception {
+        long[] latencies = new long[CALLERS];
+        ExecutorService executor = Executors.newFixedThreadPool(CALLERS);
+        CountDownLatch ready = new CountDownLatch(CALLERS);
+        CountDownLatch start = new CountDownLatch(1);
+        long elapsedNanos;
+        try {
+            List<Future<LoginResult>> results = new ArrayList<>(CALLERS);
+            for (int i = 0; i < CALLERS; i++) {
+                int caller = i;
+                results.add(executor.submit(() -> {
+                    ready.countDown();
+                    start.await();
+                    long startedAt = System.nanoTime();
+                    LoginResult result = authService.login(new LoginRequestDto(email(caller), PASSWORD));
+                    latencies[caller] = System.nanoTime() - startedAt;
+                    return result;
+                }));
+            }
+            assertTrue(ready.await(30, TimeUnit.SECONDS));
+            long startedAt = System.nanoTime();
+            start.countDown();
+            for (Future<LoginResult> result : results) {
+                assertEquals("access", result.get(180, TimeUnit.SECONDS).getAccessToken());
+            }
+            elapsedNanos = System.nanoTime() - startedAt;
+        } finally {
+            executor.shutdownNow();
+        }
+
+        Arrays.sort(latencies);
+        long p50 = TimeUnit.NANOSECONDS.toMillis(latencies[CALLERS / 2]);
+        long p99 = TimeUnit.NANOSECONDS.toMillis(latencies[(int) Math.ceil(CALLERS * 0.99) - 1]);
+        double throughput = CALLERS * 1_000_000_000.0 / elapsedNanos;
+
+        reporter.publishEntry("callers", String.valueOf(CALLERS));
+        reporter.publishEntry("verify threads", String.valueOf(Runtime.getRuntime().availableProcessors()));
+        reporter.publishEntry("elapsed ms", String.valueOf(TimeUnit.NANOSECONDS.toMillis(elapsedNanos)));
+        reporter.publishEntry("logins/s", String.format("%.1f", throughput));
+        reporter.publishEntry("p50 ms", String.valueOf(p50));
+        reporter.publishEntry("p99 ms", String.valueOf(p99));
+        reporter.publishEntry("verify queue p99 ms", String.format("%.1f",
+                meterRegistry.get("auth.password.verify.queue").timer().percentile(0.99, TimeUnit.MILLISECONDS)));
+
+        assertEquals(0, meterRegistry.get("auth.password.verify.rejected").counter().count());
+        assertEquals(CALLERS, meterRegistry.get("auth.password.verify").timer().count());
+    }
+
+    private static String email(int index) {
+        return "load" + index + "@hermes.com";
+    }
+}
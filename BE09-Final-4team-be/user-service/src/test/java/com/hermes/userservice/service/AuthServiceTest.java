@@ -0,0 +1,149 @@
+package com.hermes.userservice.service;
+
+import com.hermes.auth.enums.Role;
+import com.hermes.userservice.dto.LoginRequestDto;
+import com.hermes.userservice.dto.LoginResult;
+import com.hermes.userservice.entity.User;
+import com.hermes.userservice.exception.InvalidCredentialsException;
+import com.hermes.userservice.exception.LoginOverloadedException;
+import com.hermes.userservice.repository.RefreshTokenRepository;
+import com.hermes.userservice.repository.UserRepository;
+import com.hermes.userservice.support.JpaTestConfiguration;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDate;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 로그인 경로 검증: BCrypt는 트랜잭션 밖에서 수행되고, 마지막 로그인 시각은 write-behind로 반영된다.
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ContextConfiguration(classes = {JpaTestConfiguration.class, AuthService.class, LastLoginRecorder.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class AuthServiceTest {
+
+    private static final String EMAIL = "login@hermes.com";
+
+    @Autowired
+    private AuthService authService;
+
+    @Autowired
+    private LastLoginRecorder lastLoginRecorder;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @MockitoBean
+    private RefreshTokenRepository refreshTokenRepository;
+
+    @MockitoBean
+    private JwtTokenService jwtTokenService;
+
+    @MockitoBean
+    private PasswordEncoder passwordEncoder;
+
+    @MockitoBean
+    private PasswordVerificationService passwordVerificationService;
+
+    @MockitoBean
+    private TokenRevocationService tokenRevocationService;
+
+    private Long userId;
+
+    @BeforeEach
+    void setUp() {
+        userId = userRepository.save(User.builder()
+                .name("로그인")
+                .email(EMAIL)
+                .password("{bcrypt}hashed")
+                .joinDate(LocalDate.of(2024, 1, 1))
+                .build()).getId();
+        when(jwtTokenService.createAccessToken(anyLong(), any(Role.class), any())).thenReturn("access");
+        when(jwtTokenService.createRefreshToken(anyLong())).thenReturn("refresh");
+        when(jwtTokenService.hashToken("refresh")).thenReturn("refresh-hash");
+        when(jwtTokenService.getRefreshTokenTTL()).thenReturn(3600L);
+    }
+
+    @AfterEach
+    void tearDown() {
+        lastLoginRecorder.flush();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    void testPasswordIsVerifiedOutsideTransaction() {
+        AtomicBoolean transactionActive = new AtomicBoolean(true);
+        when(passwordVerificationService.matches("password123", "{bcrypt}hashed")).thenAnswer(invocation -> {
+            transactionActive.set(TransactionSynchronizationManager.isActualTransactionActive());
+            return true;
+        });
+
+        LoginResult result = authService.login(new LoginRequestDto(EMAIL, "password123"));
+
+        assertEquals(userId, result.getUserId());
+        assertEquals("access", result.getAccessToken());
+        assertFalse(transactionActive.get(), "BCrypt 검증 중에는 트랜잭션(커넥션)을 잡지 않아야 한다");
+        // 리프레시 토큰은 조회 없이 upsert 한 번
+        verify(refreshTokenRepository, times(1)).upsertByUserId(eq(userId), eq("refresh-hash"), any(), any());
+        verify(refreshTokenRepository, never()).findByUserId(anyLong());
+        verify(passwordEncoder, never()).matches(any(), any());
+    }
+
+    @Test
+    void testLastLoginIsWrittenOnFlush() {
+        when(passwordVerificationService.matches(any(), any())).thenReturn(true);
+
+        for (int i = 0; i < 3; i++) {
+            authService.login(new LoginRequestDto(EMAIL, "password123"));
+        }
+        assertNull(userRepository.findById(userId).orElseThrow().getLastLoginAt(), "로그인 요청에서는 DB에 쓰지 않는다");
+
+        lastLoginRecorder.flush();
+        assertNotNull(userRepository.findById(userId).orElseThrow().getLastLoginAt());
+    }
+
+    @Test
+    void testWrongPasswordRecordsNothing() {
+        when(passwordVerificationService.matches(any(), any())).thenReturn(false);
+
+        assertThrows(InvalidCredentialsException.class,
+                () -> authService.login(new LoginRequestDto(EMAIL, "wrong")));
+
+        lastLoginRecorder.flush();
+        assertNull(userRepository.findById(userId).orElseThrow().getLastLoginAt());
+        verify(refreshTokenRepository, never()).upsertByUserId(any(), any(), any(), any());
+    }
+
+    @Test
+    void testOverloadIsPropagated() {
+        when(passwordVerificationService.matches(any(), any()))
+                .thenThrow(new LoginOverloadedException("로그인 요청이 많아 잠시 후 다시 시도해주세요."));
+
+        assertThrows(LoginOverloadedException.class,
+                () -> authService.login(new LoginRequestDto(EMAIL, "password123")));
+        verify(refreshTokenRepository, never()).upsertByUserId(any(), any(), any(), any());
+    }
+}
@@ -0,0 +1,72 @@
+package com.hermes.userservice.service;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+/**
+ * 마지막 로그인 시각 write-behind 검증 (사용자당 한 건으로 합쳐 배치 반영, 실패 시 재시도)
+ */
+class LastLoginRecorderTest {
+
+    private final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+    private final LastLoginRecorder recorder = new LastLoginRecorder(jdbcTemplate);
+
+    @Test
+    void testRepeatedLoginsAreFlushedAsOneBatch() {
+        for (int i = 0; i < 5; i++) {
+            recorder.record(1L);
+            recorder.record(2L);
+        }
+        verifyNoInteractions(jdbcTemplate);
+
+        recorder.flush();
+
+        assertEquals(Set.of(1L, 2L), flushedUserIds(1));
+        // 반영 후에는 보낼 것이 없다
+        recorder.flush();
+        verify(jdbcTemplate, times(1)).batchUpdate(anyString(), anyList());
+    }
+
+    @Test
+    void testFailedFlushIsRetried() {
+        recorder.record(1L);
+        when(jdbcTemplate.batchUpdate(anyString(), anyList()))
+                .thenThrow(new DataAccessResourceFailureException("db down"))
+                .thenReturn(new int[]{1});
+
+        assertDoesNotThrow(recorder::flush);
+        recorder.flush();
+
+        ArgumentCaptor<List<Object[]>> batches = batchCaptor(2);
+        assertEquals(1, batches.getAllValues().get(1).size());
+        assertEquals(1L, batches.getAllValues().get(1).get(0)[1]);
+    }
+
+    private Set<Long> flushedUserIds(int calls) {
+        return batchCaptor(calls).getValue().stream()
+                .map(args -> (Long) args[1])
+                .collect(Collectors.toSet());
+    }
+
+    @SuppressWarnings("unchecked")
+    private ArgumentCaptor<List<Object[]>> batchCaptor(int calls) {
+        ArgumentCaptor<List<Object[]>> batches = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate, times(calls)).batchUpdate(anyString(), batches.capture());
+        return batches;
+    }
+}
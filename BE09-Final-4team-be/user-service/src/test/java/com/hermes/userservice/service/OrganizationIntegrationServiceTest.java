@@ -0,0 +1,122 @@
+package com.hermes.userservice.service;
+
+import com.hermes.api.common.ApiResult;
+import com.hermes.auth.enums.Role;
+import com.hermes.auth.principal.UserPrincipal;
+import com.hermes.userservice.client.OrgServiceClient;
+import com.hermes.userservice.dto.organization.OrgAssignmentDto;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * org-service 조회 캐시의 원격 호출 횟수와 무효화 범위 검증
+ */
+class OrganizationIntegrationServiceTest {
+
+    private final OrgServiceClient orgServiceClient = mock(OrgServiceClient.class);
+    private final OrganizationIntegrationService service = new OrganizationIntegrationService(orgServiceClient, 300, 1000);
+
+    @BeforeEach
+    void setUp() {
+        List<Map<String, Object>> organizations = List.of(Map.of("organizationId", 10L, "memberCount", 1));
+        when(orgServiceClient.getAllOrganizations()).thenReturn(ApiResult.success(organizations));
+        when(orgServiceClient.getRootOrganizations()).thenReturn(ApiResult.success(organizations));
+        when(orgServiceClient.getOrganizationHierarchy()).thenReturn(ApiResult.success(organizations));
+        when(orgServiceClient.getOrganization(anyLong()))
+                .thenAnswer(invocation -> ApiResult.success(Map.of("organizationId", invocation.getArgument(0))));
+        when(orgServiceClient.getAssignmentsByEmployeeId(anyLong())).thenAnswer(invocation -> ApiResult.success(List.of(
+                OrgAssignmentDto.builder().employeeId(invocation.getArgument(0)).organizationId(10L).build())));
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void testRepeatedLookupsCallOrgServiceOnce() {
+        for (int i = 0; i < 3; i++) {
+            service.getAllOrganizations();
+            service.getOrganization(10L);
+            service.getUserOrganizations(1L);
+        }
+
+        verify(orgServiceClient, times(1)).getAllOrganizations();
+        verify(orgServiceClient, times(1)).getOrganization(10L);
+        verify(orgServiceClient, times(1)).getAssignmentsByEmployeeId(1L);
+    }
+
+    @Test
+    void testAssignmentChangeEvictsOrganizationViews() {
+        loadOrganizationViews();
+
+        // 구성원 수가 바뀌므로 조직 목록/루트/계층과 해당 조직 응답도 다시 조회해야 한다
+        service.evictAssignments(null, 10L, List.of(1L));
+        loadOrganizationViews();
+
+        verify(orgServiceClient, times(2)).getAllOrganizations();
+        verify(orgServiceClient, times(2)).getRootOrganizations();
+        verify(orgServiceClient, times(2)).getOrganizationHierarchy();
+        verify(orgServiceClient, times(2)).getOrganization(10L);
+        verify(orgServiceClient, times(1)).getOrganization(20L);
+        verify(orgServiceClient, times(2)).getAssignmentsByEmployeeId(1L);
+        verify(orgServiceClient, times(1)).getAssignmentsByEmployeeId(2L);
+    }
+
+    @Test
+    void testEvictionIsScopedToTenant() {
+        authenticate("tenant-a");
+        service.getAllOrganizations();
+        authenticate("tenant-b");
+        service.getAllOrganizations();
+        verify(orgServiceClient, times(2)).getAllOrganizations();
+
+        service.evictAssignments("tenant-a", 10L, List.of());
+        service.getAllOrganizations();
+        verify(orgServiceClient, times(2)).getAllOrganizations();
+
+        authenticate("tenant-a");
+        service.getAllOrganizations();
+        verify(orgServiceClient, times(3)).getAllOrganizations();
+    }
+
+    @Test
+    void testFailuresAreNotCached() {
+        when(orgServiceClient.getAllOrganizations()).thenThrow(new IllegalStateException("org-service down"));
+        assertTrue(service.getAllOrganizations().isEmpty());
+
+        when(orgServiceClient.getAllOrganizations()).thenReturn(ApiResult.success(List.of(Map.of("organizationId", 10L))));
+        assertEquals(1, service.getAllOrganizations().size());
+        assertEquals(1, service.getAllOrganizations().size());
+        verify(orgServiceClient, times(2)).getAllOrganizations();
+    }
+
+    private void loadOrganizationViews() {
+        service.getAllOrganizations();
+        service.getRootOrganizations();
+        service.getOrganizationHierarchy();
+        service.getOrganization(10L);
+        service.getOrganization(20L);
+        service.getUserOrganizations(1L);
+        service.getUserOrganizations(2L);
+    }
+
+    private static void authenticate(String tenantId) {
+        UserPrincipal principal = new UserPrincipal(1L, Role.USER, tenantId);
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities()));
+    }
+}
@@ -0,0 +1,245 @@
+package com.hermes.userservice.service;
+
+import com.hermes.auth.jwt.ServiceTokenProvider;
+import com.hermes.events.organization.OrganizationEvent;
+import com.hermes.userservice.dto.OrganizationSyncResultDto;
+import com.hermes.userservice.dto.organization.OrgAssignmentDto;
+import com.hermes.userservice.entity.User;
+import com.hermes.userservice.entity.UserOrganization;
+import com.hermes.userservice.messaging.OrganizationEventListener;
+import com.hermes.userservice.repository.UserOrganizationRepository;
+import com.hermes.userservice.repository.UserRepository;
+import com.hermes.userservice.support.JpaTestConfiguration;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestReporter;
+import org.mockito.ArgumentMatchers;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * user_organizations 동기화 검증 (인사발령 이벤트 경로, 변경 없는 동기화의 쓰기 0건 포함)
+ * 동기화는 페이지마다 별도 트랜잭션으로 커밋하므로 테스트 트랜잭션은 사용하지 않는다.
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ContextConfiguration(classes = {JpaTestConfiguration.class, OrganizationSyncService.class, OrganizationEventListener.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class OrganizationSyncServiceTest {
+
+    private static final int BENCHMARK_USERS = 10_000;
+    private static final LocalDateTime ASSIGNED_AT = LocalDateTime.of(2025, 1, 2, 9, 0);
+
+    @Autowired
+    private OrganizationSyncService organizationSyncService;
+
+    @Autowired
+    private OrganizationEventListener organizationEventListener;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private UserOrganizationRepository userOrganizationRepository;
+
+    @MockitoBean
+    private OrganizationIntegrationService organizationIntegrationService;
+
+    @MockitoBean
+    private UserSearchIndexService userSearchIndexService;
+
+    @MockitoBean
+    private ServiceTokenProvider serviceTokenProvider;
+
+    @MockitoSpyBean
+    private JdbcTemplate jdbcTemplate;
+
+    private final List<Long> userIds = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        for (int i = 0; i < 3; i++) {
+            userIds.add(userRepository.save(User.builder()
+                    .name("사용자" + i)
+                    .email("user" + i + "@hermes.com")
+                    .password("password")
+                    .joinDate(LocalDate.of(2024, 1, 1))
+                    .build()).getId());
+        }
+        when(serviceTokenProvider.callAsService(any(), any()))
+                .thenAnswer(invocation -> ((Supplier<?>) invocation.getArgument(1)).get());
+    }
+
+    @AfterEach
+    void tearDown() {
+        userOrganizationRepository.deleteAllInBatch();
+        userRepository.deleteAllInBatch();
+        userIds.clear();
+    }
+
+    @Test
+    void testAssignmentEventSyncsOnlyListedEmployees() {
+        Long moved = userIds.get(0);
+        Long untouched = userIds.get(1);
+        Long unknown = 9999L;
+        organizationSyncService.applyAssignments(List.of(moved, untouched), Map.of(
+                moved, List.of(assignment(moved, 10L, "영업팀", true)),
+                untouched, List.of(assignment(untouched, 10L, "영업팀", true))));
+
+        // 직원 0은 영업팀 -> 마케팅팀 이동, 이 서비스에 없는 직원은 건너뛴다
+        when(organizationIntegrationService.fetchAssignmentsByEmployeeIds(anyCollection())).thenAnswer(invocation -> {
+            Collection<Long> employeeIds = invocation.getArgument(0);
+            assertEquals(List.of(moved), List.copyOf(employeeIds));
+            return Map.of(moved, List.of(assignment(moved, 20L, "마케팅팀", true)));
+        });
+
+        organizationEventListener.handleOrganizationEvent(
+                OrganizationEvent.assignmentsChanged("tenant-a", List.of(10L, 20L), List.of(moved, unknown)));
+
+        assertEquals(Set.of(20L), organizationIds(moved));
+        assertEquals(Set.of(10L), organizationIds(untouched));
+        verify(serviceTokenProvider).callAsService(eq("tenant-a"), any());
+        verify(organizationIntegrationService).evictAssignments("tenant-a", 10L, List.of());
+        verify(organizationIntegrationService).evictAssignments("tenant-a", 20L, List.of());
+        verify(userSearchIndexService).index(Set.of(moved));
+    }
+
+    @Test
+    void testEventSyncFailureIsNotRethrown() {
+        Long userId = userIds.get(0);
+        when(organizationIntegrationService.fetchAssignmentsByEmployeeIds(anyCollection()))
+                .thenThrow(new IllegalStateException("org-service down"));
+
+        assertDoesNotThrow(() -> organizationEventListener.handleOrganizationEvent(
+                OrganizationEvent.assignmentChanged("tenant-a", 10L, List.of(userId))));
+        assertTrue(organizationIds(userId).isEmpty());
+    }
+
+    @Test
+    void testOrganizationEventOnlyEvictsCache() {
+        organizationEventListener.handleOrganizationEvent(new OrganizationEvent(
+                OrganizationEvent.EventType.ORGANIZATION_UPDATED, "tenant-a", 10L, List.of(), List.of(), LocalDateTime.now()));
+
+        verify(organizationIntegrationService).evictTenant("tenant-a");
+        verify(organizationIntegrationService, never()).fetchAssignmentsByEmployeeIds(anyCollection());
+    }
+
+    @Test
+    void testUnchangedFullSyncIssuesNoWrites() {
+        stubAssignmentsByUserId();
+        OrganizationSyncResultDto first = organizationSyncService.syncAllUsersOrganizations();
+        assertEquals(userIds.size(), first.getInserted());
+
+        clearInvocations(jdbcTemplate, userSearchIndexService);
+        OrganizationSyncResultDto second = organizationSyncService.syncAllUsersOrganizations();
+
+        assertEquals(userIds.size(), second.getUserCount());
+        assertEquals(0, second.getInserted());
+        assertEquals(0, second.getUpdated());
+        assertEquals(0, second.getDeleted());
+        assertEquals(0, second.getFailedUsers());
+        // 현재 행 조회(SELECT)만 있고 INSERT/UPDATE/DELETE 배치는 없다
+        verify(jdbcTemplate, never()).batchUpdate(anyString(), anyList());
+        verify(jdbcTemplate, never()).update(anyString(), any(Object[].class));
+        verify(userSearchIndexService, never()).index(ArgumentMatchers.<Collection<Long>>argThat(ids -> !ids.isEmpty()));
+    }
+
+    @Tag("benchmark")
+    @Test
+    void benchmarkFullSyncOfTenThousandUsers(TestReporter reporter) {
+        List<User> users = new ArrayList<>(BENCHMARK_USERS);
+        for (int i = 0; i < BENCHMARK_USERS; i++) {
+            users.add(User.builder()
+                    .name("벤치" + i)
+                    .email("bench" + i + "@hermes.com")
+                    .password("password")
+                    .joinDate(LocalDate.of(2024, 1, 1))
+                    .build());
+        }
+        userRepository.saveAll(users).forEach(user -> userIds.add(user.getId()));
+        stubAssignmentsByUserId();
+
+        long startedAt = System.nanoTime();
+        OrganizationSyncResultDto initial = organizationSyncService.syncAllUsersOrganizations();
+        long initialMillis = (System.nanoTime() - startedAt) / 1_000_000;
+
+        clearInvocations(jdbcTemplate, organizationIntegrationService);
+        startedAt = System.nanoTime();
+        OrganizationSyncResultDto unchanged = organizationSyncService.syncAllUsersOrganizations();
+        long unchangedMillis = (System.nanoTime() - startedAt) / 1_000_000;
+
+        assertEquals(userIds.size(), initial.getInserted());
+        assertEquals(userIds.size(), unchanged.getUserCount());
+        assertEquals(0, unchanged.getInserted() + unchanged.getUpdated() + unchanged.getDeleted());
+        verify(jdbcTemplate, never()).batchUpdate(anyString(), anyList());
+        // 페이지(500명)마다 org-service 일괄 조회 1회
+        int pages = (userIds.size() + 499) / 500;
+        verify(organizationIntegrationService, times(pages)).fetchAssignmentsByEmployeeIds(anyCollection());
+
+        reporter.publishEntry("users", String.valueOf(userIds.size()));
+        reporter.publishEntry("initial sync ms", String.valueOf(initialMillis));
+        reporter.publishEntry("unchanged sync ms", String.valueOf(unchangedMillis));
+    }
+
+    /**
+     * 사용자마다 주 소속 1건 (조직 ID = 사용자 ID % 7)
+     */
+    private void stubAssignmentsByUserId() {
+        when(organizationIntegrationService.fetchAssignmentsByEmployeeIds(anyCollection())).thenAnswer(invocation -> {
+            Collection<Long> employeeIds = invocation.getArgument(0);
+            return employeeIds.stream().collect(Collectors.toMap(Function.identity(),
+                    id -> List.of(assignment(id, id % 7, "조직" + id % 7, true))));
+        });
+    }
+
+    private Set<Long> organizationIds(Long userId) {
+        return userOrganizationRepository.findByUserIdIn(List.of(userId)).stream()
+                .map(UserOrganization::getOrganizationId)
+                .collect(Collectors.toSet());
+    }
+
+    private static OrgAssignmentDto assignment(Long employeeId, Long organizationId, String organizationName, boolean isPrimary) {
+        return OrgAssignmentDto.builder()
+                .employeeId(employeeId)
+                .organizationId(organizationId)
+                .organizationName(organizationName)
+                .isPrimary(isPrimary)
+                .isLeader(false)
+                .assignedAt(ASSIGNED_AT)
+                .build();
+    }
+}
@@ -0,0 +1,101 @@
+package com.hermes.userservice.service;
+
+import com.hermes.userservice.exception.LoginOverloadedException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * BCrypt 검증 실행기의 결과, 과부하 거절, 시간 초과, 메트릭 검증
+ */
+class PasswordVerificationServiceTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final CountDownLatch release = new CountDownLatch(1);
+    private PasswordVerificationService service;
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        if (service != null) {
+            service.shutdown();
+        }
+    }
+
+    @Test
+    void testMatchesRunsBcryptOnVerifyThread() {
+        PasswordEncoder bcrypt = new BCryptPasswordEncoder(4);
+        AtomicReference<String> verifyThread = new AtomicReference<>();
+        PasswordEncoder encoder = mock(PasswordEncoder.class);
+        when(encoder.matches(any(), any())).thenAnswer(invocation -> {
+            verifyThread.set(Thread.currentThread().getName());
+            return bcrypt.matches(invocation.getArgument(0), invocation.getArgument(1));
+        });
+        service = new PasswordVerificationService(encoder, meterRegistry, 2, 10, 5000);
+        String encoded = bcrypt.encode("password123");
+
+        assertTrue(service.matches("password123", encoded));
+        assertFalse(service.matches("wrong", encoded));
+
+        assertTrue(verifyThread.get().startsWith("password-verify-"));
+        assertEquals(2, meterRegistry.get("auth.password.verify").timer().count());
+        assertEquals(2, meterRegistry.get("auth.password.verify.queue").timer().count());
+        assertEquals(0, meterRegistry.get("auth.password.verify.rejected").counter().count());
+    }
+
+    @Test
+    void testFullQueueIsRejectedImmediately() throws Exception {
+        service = new PasswordVerificationService(blockingEncoder(), meterRegistry, 1, 1, 10_000);
+
+        // 검증 스레드 1개 점유 + 대기열 1개 점유
+        CompletableFuture<Boolean> running = CompletableFuture.supplyAsync(() -> service.matches("a", "a"));
+        awaitQueueSize(0);
+        CompletableFuture<Boolean> queued = CompletableFuture.supplyAsync(() -> service.matches("b", "b"));
+        awaitQueueSize(1);
+
+        long startedAt = System.nanoTime();
+        assertThrows(LoginOverloadedException.class, () -> service.matches("c", "c"));
+        assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt) < 1000, "대기 없이 바로 거절되어야 한다");
+        assertEquals(1, meterRegistry.get("auth.password.verify.rejected").counter().count());
+
+        release.countDown();
+        assertTrue(running.get(5, TimeUnit.SECONDS));
+        assertTrue(queued.get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void testSlowVerificationTimesOut() {
+        service = new PasswordVerificationService(blockingEncoder(), meterRegistry, 1, 10, 100);
+
+        assertThrows(LoginOverloadedException.class, () -> service.matches("a", "a"));
+        assertEquals(1, meterRegistry.get("auth.password.verify.rejected").counter().count());
+    }
+
+    private PasswordEncoder blockingEncoder() {
+        PasswordEncoder encoder = mock(PasswordEncoder.class);
+        when(encoder.matches(any(), any())).thenAnswer(invocation -> release.await(10, TimeUnit.SECONDS));
+        return encoder;
+    }
+
+    private void awaitQueueSize(int size) throws InterruptedException {
+        // 첫 요청은 스레드가 가져갈 때까지, 두 번째 요청은 대기열에 들어갈 때까지 기다림
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (meterRegistry.get("auth.password.verify.queue.size").gauge().value() != size
+                || (size == 0 && meterRegistry.get("auth.password.verify.queue").timer().count() == 0)) {
+            assertTrue(System.nanoTime() < deadline, "대기열 크기 " + size + " 대기 시간 초과");
+            Thread.sleep(5);
+        }
+    }
+}
@@ -0,0 +1,132 @@
+package com.hermes.userservice.service;
+
+import com.hermes.userservice.repository.RefreshTokenRepository;
+import com.hermes.userservice.support.JpaTestConfiguration;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestReporter;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 만료 리프레시 토큰 100만 건 정리: 기본 배치 크기(5000)로 모두 삭제되는지와, 삭제 중 힙 증가량이 건수와 무관하게 제한되는지 측정한다.
+ * 인메모리 H2는 행 자체를 힙에 두므로 기준선은 적재 직후에 잡고, 삭제 중 최대 사용량과의 차이를 증가량으로 본다.
+ * 실행: ./gradlew :user-service:benchmark --tests '*TokenCleanupBenchmark'
+ */
+@Tag("benchmark")
+@DataJpaTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ContextConfiguration(classes = {JpaTestConfiguration.class, TokenCleanupService.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class TokenCleanupBenchmark {
+
+    private static final Instant NOW = Instant.parse("2025-03-01T00:00:00Z");
+    private static final int EXPIRED = 1_000_000;
+    private static final int LIVE = 1_000;
+    private static final int INSERT_BATCH = 10_000;
+    // 엔티티 100만 개를 읽으면 수백 MB가 필요하므로, 배치 삭제라면 이 한도를 넘지 않아야 한다
+    private static final long HEAP_GROWTH_BUDGET_BYTES = 64L * 1024 * 1024;
+
+    @Autowired
+    private TokenCleanupService tokenCleanupService;
+
+    @Autowired
+    private RefreshTokenRepository refreshTokenRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        insertTokens(0, EXPIRED, NOW.minus(1, ChronoUnit.DAYS));
+        insertTokens(EXPIRED, LIVE, NOW.plus(1, ChronoUnit.DAYS));
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM refresh_tokens");
+    }
+
+    @Test
+    void deleteMillionExpiredTokens(TestReporter reporter) throws Exception {
+        Runtime runtime = Runtime.getRuntime();
+        System.gc();
+        long baseline = runtime.totalMemory() - runtime.freeMemory();
+
+        AtomicLong peak = new AtomicLong(baseline);
+        AtomicBoolean running = new AtomicBoolean(true);
+        Thread sampler = new Thread(() -> {
+            while (running.get()) {
+                peak.accumulateAndGet(runtime.totalMemory() - runtime.freeMemory(), Math::max);
+                try {
+                    Thread.sleep(5);
+                } catch (InterruptedException e) {
+                    return;
+                }
+            }
+        }, "heap-sampler");
+        sampler.setDaemon(true);
+        sampler.start();
+
+        long startedAt = System.nanoTime();
+        long deleted;
+        try {
+            deleted = tokenCleanupService.deleteExpiredTokens(NOW);
+        } finally {
+            running.set(false);
+            sampler.join();
+        }
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+        long growth = Math.max(0, peak.get() - baseline);
+
+        reporter.publishEntry("expired rows", String.valueOf(EXPIRED));
+        reporter.publishEntry("elapsed ms", String.valueOf(elapsedMillis));
+        reporter.publishEntry("rows/s", String.format("%.0f", deleted * 1000.0 / Math.max(1, elapsedMillis)));
+        reporter.publishEntry("peak heap growth MB", String.format("%.1f", growth / (1024.0 * 1024.0)));
+
+        assertEquals(EXPIRED, deleted);
+        assertEquals(LIVE, refreshTokenRepository.count());
+        assertEquals(0, jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM refresh_tokens WHERE expiration < ?", Long.class,
+                OffsetDateTime.ofInstant(NOW, ZoneOffset.UTC)));
+        assertTrue(growth < HEAP_GROWTH_BUDGET_BYTES,
+                "삭제 중 힙 증가량은 만료 건수와 무관하게 제한되어야 한다: " + growth + " bytes");
+    }
+
+    private void insertTokens(int offset, int count, Instant expiration) {
+        OffsetDateTime expiresAt = OffsetDateTime.ofInstant(expiration, ZoneOffset.UTC);
+        OffsetDateTime createdAt = OffsetDateTime.ofInstant(NOW.minus(30, ChronoUnit.DAYS), ZoneOffset.UTC);
+        List<Object[]> rows = new ArrayList<>(INSERT_BATCH);
+        for (int i = 0; i < count; i++) {
+            long userId = offset + i + 1L;
+            rows.add(new Object[]{userId, "hash-" + userId, expiresAt, createdAt});
+            if (rows.size() == INSERT_BATCH || i == count - 1) {
+                jdbcTemplate.batchUpdate(
+                        "INSERT INTO refresh_tokens (user_id, token_hash, expiration, created_at) VALUES (?, ?, ?, ?)",
+                        rows);
+                rows.clear();
+            }
+        }
+    }
+}
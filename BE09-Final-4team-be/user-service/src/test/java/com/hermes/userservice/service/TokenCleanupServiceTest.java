@@ -0,0 +1,88 @@
+package com.hermes.userservice.service;
+
+import com.hermes.userservice.entity.RefreshToken;
+import com.hermes.userservice.repository.RefreshTokenRepository;
+import com.hermes.userservice.support.JpaTestConfiguration;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+/**
+ * 만료 리프레시 토큰 배치 삭제 검증 (배치 크기의 배수/비배수, 잘못된 배치 크기 거부)
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ContextConfiguration(classes = {JpaTestConfiguration.class, TokenCleanupService.class})
+@TestPropertySource(properties = "hermes.auth.token-cleanup.batch-size=5")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class TokenCleanupServiceTest {
+
+    private static final Instant NOW = Instant.parse("2025-03-01T00:00:00Z");
+
+    private final AtomicLong userIds = new AtomicLong();
+
+    @Autowired
+    private TokenCleanupService tokenCleanupService;
+
+    @Autowired
+    private RefreshTokenRepository refreshTokenRepository;
+
+    @AfterEach
+    void tearDown() {
+        refreshTokenRepository.deleteAll();
+    }
+
+    @Test
+    void testDeletesAllExpiredAcrossBatches() {
+        saveTokens(12, NOW.minus(1, ChronoUnit.DAYS));
+        saveTokens(3, NOW.plus(1, ChronoUnit.DAYS));
+
+        assertEquals(12, tokenCleanupService.deleteExpiredTokens(NOW));
+        assertEquals(3, refreshTokenRepository.count());
+        assertTrue(refreshTokenRepository.findAll().stream().noneMatch(token -> token.getExpiration().isBefore(NOW)));
+    }
+
+    @Test
+    void testExactMultipleOfBatchSizeTerminates() {
+        saveTokens(10, NOW.minus(1, ChronoUnit.HOURS));
+
+        assertEquals(10, tokenCleanupService.deleteExpiredTokens(NOW));
+        assertEquals(0, refreshTokenRepository.count());
+        assertEquals(0, tokenCleanupService.deleteExpiredTokens(NOW));
+    }
+
+    @Test
+    void testNonPositiveBatchSizeIsRejected() {
+        RefreshTokenRepository repository = mock(RefreshTokenRepository.class);
+
+        assertThrows(IllegalArgumentException.class, () -> new TokenCleanupService(repository, 0));
+        assertThrows(IllegalArgumentException.class, () -> new TokenCleanupService(repository, -1));
+        verifyNoInteractions(repository);
+    }
+
+    private void saveTokens(int count, Instant expiration) {
+        for (int i = 0; i < count; i++) {
+            refreshTokenRepository.save(RefreshToken.builder()
+                    .userId(userIds.incrementAndGet())
+                    .tokenHash("hash-" + userIds.get())
+                    .expiration(expiration)
+                    .build());
+        }
+    }
+}
@@ -0,0 +1,245 @@
+package com.hermes.userservice.service;
+
+import com.hermes.userservice.dto.UserImportRequestDto;
+import com.hermes.userservice.dto.UserImportResultDto;
+import com.hermes.userservice.dto.UserImportRowDto;
+import com.hermes.userservice.dto.organization.OrgAssignmentDto;
+import com.hermes.userservice.entity.Rank;
+import com.hermes.userservice.entity.User;
+import com.hermes.userservice.messaging.UserEventPublisher;
+import com.hermes.userservice.repository.RankRepository;
+import com.hermes.userservice.repository.UserOrganizationRepository;
+import com.hermes.userservice.repository.UserRepository;
+import com.hermes.userservice.support.JpaTestConfiguration;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestReporter;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementCreator;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.validation.beanvalidation.LocalValidatorFactoryBean;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 사용자 일괄 등록 검증: 5,000행 요청의 소요 시간과 문장 수, 행별 오류가 나머지 행을 막지 않는지 확인
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ContextConfiguration(classes = {JpaTestConfiguration.class, UserImportService.class, OrganizationSyncService.class,
+        LocalValidatorFactoryBean.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class UserImportServiceTest {
+
+    private static final int ROWS = UserImportRequestDto.MAX_ROWS;
+    private static final int BATCH_SIZE = 500;
+
+    @Autowired
+    private UserImportService userImportService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private UserOrganizationRepository userOrganizationRepository;
+
+    @Autowired
+    private RankRepository rankRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @MockitoSpyBean
+    private JdbcTemplate jdbcTemplate;
+
+    @MockitoBean
+    private OrganizationIntegrationService organizationIntegrationService;
+
+    @MockitoBean
+    private UserSearchIndexService userSearchIndexService;
+
+    @MockitoBean
+    private UserEventPublisher userEventPublisher;
+
+    @MockitoBean
+    private PasswordEncoder passwordEncoder;
+
+    private Long rankId;
+
+    @BeforeEach
+    void setUp() {
+        rankId = rankRepository.save(Rank.builder().name("사원").sortOrder(1).build()).getId();
+        userRepository.save(User.builder()
+                .name("기존 직원")
+                .email("existing@hermes.com")
+                .password("password")
+                .joinDate(LocalDate.of(2024, 1, 1))
+                .build());
+
+        when(passwordEncoder.encode(anyString())).thenAnswer(invocation -> "encoded:" + invocation.getArgument(0));
+        when(organizationIntegrationService.getAllOrganizations()).thenReturn(List.of(
+                Map.of("organizationId", 1L), Map.of("organizationId", 2L), Map.of("organizationId", 3L)));
+        when(organizationIntegrationService.createAssignments(anyList())).thenAnswer(invocation -> {
+            List<Map<String, Object>> requests = invocation.getArgument(0);
+            return requests.stream()
+                    .map(request -> OrgAssignmentDto.builder()
+                            .employeeId((Long) request.get("employeeId"))
+                            .organizationId((Long) request.get("organizationId"))
+                            .organizationName("조직" + request.get("organizationId"))
+                            .isPrimary(true)
+                            .isLeader(false)
+                            .build())
+                    .collect(Collectors.groupingBy(OrgAssignmentDto::getEmployeeId));
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        userOrganizationRepository.deleteAllInBatch();
+        userRepository.deleteAllInBatch();
+        rankRepository.deleteAll();
+    }
+
+    @Test
+    void testFiveThousandRowsWithRowErrors(TestReporter reporter) {
+        List<UserImportRowDto> rows = new ArrayList<>(ROWS);
+        for (int i = 0; i < ROWS; i++) {
+            rows.add(row(i));
+        }
+        // 검증 단계 오류
+        for (int i = 10; i < ROWS; i += 1000) {
+            rows.get(i).setEmail("not-an-email");
+        }
+        rows.get(20).setEmail("existing@hermes.com");
+        rows.get(30).setRankId(9999L);
+        rows.get(40).setOrganizationId(99L);
+        rows.get(ROWS - 1).setEmail(rows.get(0).getEmail());
+        // 검증은 통과하지만 저장 시 실패 (이름 컬럼 길이 초과) -> 해당 청크만 행 단위 재시도
+        rows.get(1500).setName("가".repeat(150));
+        int validationErrors = 9;
+        int pending = ROWS - validationErrors;
+
+        UserImportRequestDto request = new UserImportRequestDto();
+        request.setUsers(rows);
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        long startedAt = System.nanoTime();
+        UserImportResultDto result = userImportService.importUsers(request);
+        long elapsedMillis = (System.nanoTime() - startedAt) / 1_000_000;
+
+        assertEquals(ROWS, result.getRequested());
+        assertEquals(ROWS - 10, result.getImported());
+        assertEquals(10, result.getFailed());
+        assertNull(result.getAssignmentError());
+        assertEquals(List.of(10, 20, 30, 40, 1010, 1500, 2010, 3010, 4010, ROWS - 1),
+                result.getErrors().stream().map(UserImportResultDto.RowError::getRow).toList());
+        assertEquals(ROWS - 10 + 1, userRepository.count());
+        assertEquals(ROWS - 10, userOrganizationRepository.count());
+
+        // Hibernate 문장: 참조 데이터 4종 + 기존 이메일 조회(1,000건 단위) - 행 수와 무관
+        long distinctEmails = rows.stream().map(UserImportRowDto::getEmail).distinct().count();
+        assertEquals(4 + (distinctEmails + 999) / 1000, statistics.getPrepareStatementCount());
+        // INSERT 배치: 청크마다 1회 + 실패한 청크의 행 단위 재시도
+        int chunks = (pending + BATCH_SIZE - 1) / BATCH_SIZE;
+        verify(jdbcTemplate, times(chunks + BATCH_SIZE)).batchUpdate(
+                any(PreparedStatementCreator.class), any(BatchPreparedStatementSetter.class), any(KeyHolder.class));
+        verify(organizationIntegrationService, times(1)).createAssignments(anyList());
+        verify(userSearchIndexService, times(1)).index(anyCollection());
+        verify(userEventPublisher, times(ROWS - 10)).publishUserCreated(anyLong());
+
+        reporter.publishEntry("rows", String.valueOf(ROWS));
+        reporter.publishEntry("import ms", String.valueOf(elapsedMillis));
+        assertTrue(elapsedMillis < 60_000, "5,000행 등록이 1분 안에 끝나야 한다: " + elapsedMillis + "ms");
+    }
+
+    @Test
+    void testAssignmentFailureKeepsImportedUsers() {
+        when(organizationIntegrationService.createAssignments(anyList()))
+                .thenThrow(new IllegalStateException("org-service down"));
+        UserImportRequestDto request = new UserImportRequestDto();
+        request.setUsers(List.of(row(0), row(1)));
+
+        UserImportResultDto result = userImportService.importUsers(request);
+
+        assertEquals(2, result.getImported());
+        assertNotNull(result.getAssignmentError());
+        assertEquals(3, userRepository.count());
+        assertEquals(0, userOrganizationRepository.count());
+    }
+
+    @Test
+    void testNonPositiveBatchSizeIsRejected() {
+        assertThrows(IllegalArgumentException.class, () -> new UserImportService(
+                userRepository, null, rankRepository, null, null, organizationIntegrationService, null,
+                userSearchIndexService, userEventPublisher, passwordEncoder, new LocalValidatorFactoryBean(),
+                jdbcTemplate, mock(PlatformTransactionManager.class), 0, 0));
+    }
+
+    @Test
+    void testPasswordsAreHashedOnDedicatedExecutor() {
+        Set<String> hashThreads = ConcurrentHashMap.newKeySet();
+        when(passwordEncoder.encode(anyString())).thenAnswer(invocation -> {
+            hashThreads.add(Thread.currentThread().getName());
+            return "encoded:" + invocation.getArgument(0);
+        });
+        List<UserImportRowDto> rows = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            rows.add(row(i));
+        }
+        UserImportRequestDto request = new UserImportRequestDto();
+        request.setUsers(rows);
+
+        UserImportResultDto result = userImportService.importUsers(request);
+
+        assertEquals(50, result.getImported());
+        assertFalse(hashThreads.isEmpty());
+        assertTrue(hashThreads.stream().allMatch(name -> name.startsWith("user-import-hash-")),
+                "BCrypt 해시는 공용 ForkJoinPool이 아닌 전용 실행기에서 수행되어야 한다: " + hashThreads);
+    }
+
+    private UserImportRowDto row(int index) {
+        UserImportRowDto row = new UserImportRowDto();
+        row.setName("직원" + index);
+        row.setEmail("import" + index + "@hermes.com");
+        row.setPassword("password" + index);
+        row.setJoinDate(LocalDate.of(2025, 1, 2));
+        row.setRankId(rankId);
+        row.setOrganizationId((long) (index % 3) + 1);
+        return row;
+    }
+}
@@ -0,0 +1,205 @@
+package com.hermes.userservice.service;
+
+import com.hermes.userservice.dto.ColleagueResponseDto;
+import com.hermes.userservice.dto.ColleagueSearchRequestDto;
+import com.hermes.userservice.entity.Position;
+import com.hermes.userservice.entity.User;
+import com.hermes.userservice.entity.UserOrganization;
+import com.hermes.userservice.entity.UserSearchToken;
+import com.hermes.userservice.repository.PositionRepository;
+import com.hermes.userservice.repository.UserOrganizationRepository;
+import com.hermes.userservice.repository.UserRepository;
+import com.hermes.userservice.repository.UserSearchIndexRepository;
+import com.hermes.userservice.repository.UserSearchTokenRepository;
+import com.hermes.userservice.support.JpaTestConfiguration;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 동료 검색 색인 갱신/검색 검증 (색인 갱신의 Hibernate 쿼리 수가 사용자 수와 무관한지 포함)
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ContextConfiguration(classes = {JpaTestConfiguration.class, UserSearchIndexService.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class UserSearchIndexServiceTest {
+
+    @Autowired
+    private UserSearchIndexService userSearchIndexService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private UserOrganizationRepository userOrganizationRepository;
+
+    @Autowired
+    private PositionRepository positionRepository;
+
+    @Autowired
+    private UserSearchIndexRepository userSearchIndexRepository;
+
+    @Autowired
+    private UserSearchTokenRepository userSearchTokenRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private final List<Long> userIds = new ArrayList<>();
+    private Position manager;
+
+    @BeforeEach
+    void setUp() {
+        manager = positionRepository.save(Position.builder().name("팀장").sortOrder(1).build());
+        Long hong = createUser("홍길동", "Gildong.Hong@hermes.com", manager);
+        createUser("김영희", "younghee@hermes.com", null);
+        createUser("이철수", "chulsoo_lee@hermes.com", null);
+        assignOrganization(hong, "개발팀");
+        assignOrganization(userIds.get(1), "영업팀");
+        userSearchIndexService.index(userIds);
+    }
+
+    @AfterEach
+    void tearDown() {
+        userSearchTokenRepository.deleteAllInBatch();
+        userSearchIndexRepository.deleteAllInBatch();
+        userOrganizationRepository.deleteAll();
+        userRepository.deleteAll();
+        positionRepository.deleteAll();
+        userIds.clear();
+    }
+
+    @Test
+    void testSearchByPartialNameEmailAndDepartment() {
+        assertEquals(List.of("홍길동"), names(search("길동", null, null)));
+        assertEquals(List.of("홍길동"), names(search("GILDONG", null, null)));
+        assertEquals(List.of("김영희"), names(search("영업", null, null)));
+        // 1자 검색어는 n-gram 없이 부분 일치로 조회
+        assertEquals(List.of("김영희"), names(search("희", null, null)));
+        // 어느 사용자에게도 없는 gram("동홍")이 있으면 후보가 없다
+        assertTrue(search("길동홍", null, null).isEmpty());
+    }
+
+    @Test
+    void testSearchFiltersByDepartmentAndPosition() {
+        assertEquals(List.of("홍길동"), names(search(null, "개발", null)));
+        assertEquals(List.of("홍길동"), names(search(null, null, "팀장")));
+        assertTrue(search("영희", "개발", null).isEmpty());
+        assertEquals(3, search(null, null, null).size());
+    }
+
+    @Test
+    void testWildcardsInKeywordAreLiteral() {
+        assertEquals(List.of("이철수"), names(search("o_l", null, null)));
+        assertTrue(search("%", null, null).isEmpty());
+    }
+
+    @Test
+    void testReindexReplacesOldTokens() {
+        Long hong = userIds.get(0);
+        User user = userRepository.findById(hong).orElseThrow();
+        user.updateName("홍민준");
+        userRepository.save(user);
+
+        userSearchIndexService.index(hong);
+
+        assertTrue(search("길동", null, null).isEmpty());
+        assertEquals(List.of("홍민준"), names(search("민준", null, null)));
+        assertEquals(List.of(hong), userSearchIndexService.searchUserIdsByName("홍민"));
+        assertEquals(3, userSearchIndexRepository.count());
+    }
+
+    @Test
+    void testRemoveDeletesIndexAndTokens() {
+        Long hong = userIds.get(0);
+        userSearchIndexService.remove(hong);
+
+        assertTrue(search("길동", null, null).isEmpty());
+        assertFalse(userSearchIndexRepository.existsById(hong));
+        assertEquals(Set.of(userIds.get(1), userIds.get(2)), Set.copyOf(userSearchTokenRepository.findAll().stream()
+                .map(UserSearchToken::getUserId)
+                .toList()));
+    }
+
+    @Test
+    void testRebuildIndexesAllUsers() {
+        userSearchTokenRepository.deleteAllInBatch();
+        userSearchIndexRepository.deleteAllInBatch();
+
+        assertEquals(3, userSearchIndexService.rebuild());
+        assertEquals(List.of("홍길동"), names(search("길동", null, null)));
+    }
+
+    @Test
+    void testReindexQueryCountIsIndependentOfUserCount() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        userSearchIndexService.index(userIds.subList(0, 1));
+        long single = statistics.getPrepareStatementCount();
+
+        for (int i = 0; i < 50; i++) {
+            createUser("사용자" + i, "user" + i + "@hermes.com", manager);
+        }
+        statistics.clear();
+        userSearchIndexService.index(userIds);
+
+        // 기존 색인 행이 있어도 행마다 merge 조회가 발생하지 않는다 (색인 행/토큰 INSERT는 JDBC 배치)
+        assertEquals(single, statistics.getPrepareStatementCount(),
+                "사용자 수와 무관하게 Hibernate 쿼리 수가 같아야 한다");
+        assertEquals(userIds.size(), userSearchIndexRepository.count());
+        assertEquals(List.of("사용자7"), names(search("자7", null, null)));
+    }
+
+    private List<ColleagueResponseDto> search(String keyword, String department, String position) {
+        return userSearchIndexService.searchColleagues(ColleagueSearchRequestDto.builder()
+                .searchKeyword(keyword)
+                .department(department)
+                .position(position)
+                .build()).getContent();
+    }
+
+    private static List<String> names(List<ColleagueResponseDto> colleagues) {
+        return colleagues.stream().map(ColleagueResponseDto::getName).toList();
+    }
+
+    private Long createUser(String name, String email, Position position) {
+        Long id = userRepository.save(User.builder()
+                .name(name)
+                .email(email)
+                .password("password")
+                .joinDate(LocalDate.of(2024, 1, 1))
+                .position(position)
+                .build()).getId();
+        userIds.add(id);
+        return id;
+    }
+
+    private void assignOrganization(Long userId, String organizationName) {
+        userOrganizationRepository.save(UserOrganization.builder()
+                .user(userRepository.getReferenceById(userId))
+                .organizationId(userId * 10)
+                .organizationName(organizationName)
+                .isPrimary(true)
+                .isLeader(false)
+                .build());
+    }
+}
@@ -0,0 +1,312 @@
+package com.hermes.userservice.service;
+
+import com.hermes.api.common.ApiResult;
+import com.hermes.userservice.client.OrgServiceClient;
+import com.hermes.userservice.dto.UserBulkLookupRequestDto;
+import com.hermes.userservice.dto.UserIdPageDto;
+import com.hermes.userservice.dto.UserResponseDto;
+import com.hermes.userservice.dto.UserSummaryDto;
+import com.hermes.userservice.dto.organization.OrgAssignmentDto;
+import com.hermes.userservice.dto.workpolicy.WorkPolicyResponseDto;
+import com.hermes.userservice.entity.User;
+import com.hermes.userservice.entity.UserOrganization;
+import com.hermes.userservice.mapper.UserMapper;
+import com.hermes.userservice.messaging.UserEventPublisher;
+import com.hermes.userservice.repository.UserOrganizationRepository;
+import com.hermes.userservice.repository.UserRepository;
+import com.hermes.userservice.support.JpaTestConfiguration;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+/**
+ * 사용자 상세/목록 조회의 org-service 호출 횟수 검증 (목록 페이지는 페이지 사용자로 한정)
+ * 일괄 프로필 조회와 사용자 ID 커서 페이지 포함
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ContextConfiguration(classes = {JpaTestConfiguration.class, UserService.class, UserMapper.class,
+        OrganizationIntegrationService.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class UserServiceTest {
+
+    private static final int USERS = 25;
+    private static final int PAGE_SIZE = 10;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private UserOrganizationRepository userOrganizationRepository;
+
+    @Autowired
+    private OrganizationIntegrationService organizationIntegrationService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @MockitoBean
+    private OrgServiceClient orgServiceClient;
+
+    @MockitoBean
+    private WorkPolicyIntegrationService workPolicyIntegrationService;
+
+    @MockitoBean
+    private PasswordEncoder passwordEncoder;
+
+    @MockitoBean
+    private UserEventPublisher userEventPublisher;
+
+    @MockitoBean
+    private UserSearchIndexService userSearchIndexService;
+
+    private final List<Long> userIds = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        for (int i = 0; i < USERS; i++) {
+            userIds.add(userRepository.save(User.builder()
+                    .name("사용자" + i)
+                    .email("user" + i + "@hermes.com")
+                    .password("password")
+                    .joinDate(LocalDate.of(2024, 1, 1))
+                    .build()).getId());
+        }
+        when(orgServiceClient.getAssignmentsByEmployeeId(anyLong())).thenAnswer(invocation ->
+                ApiResult.success(List.of(assignment(invocation.getArgument(0)))));
+        when(orgServiceClient.getAllAssignments()).thenAnswer(invocation ->
+                ApiResult.success(userIds.stream().map(UserServiceTest::assignment).toList()));
+        // 요청한 직원마다 배정 1건 (조직 ID = 직원 ID % 3)
+        when(orgServiceClient.getAssignmentsByEmployeeIds(anyCollection())).thenAnswer(invocation -> {
+            Collection<Long> employeeIds = invocation.getArgument(0);
+            return ApiResult.success(employeeIds.stream().map(UserServiceTest::assignment).toList());
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        userOrganizationRepository.deleteAll();
+        userRepository.deleteAll();
+        userIds.clear();
+        organizationIntegrationService.evictTenant(null);
+    }
+
+    @Test
+    void testUserDetailCallsOrgServiceOnce() {
+        Long userId = userIds.get(0);
+        for (int i = 0; i < 3; i++) {
+            UserResponseDto user = userService.getUserById(userId);
+            assertEquals(1, user.getOrganizations().size());
+        }
+
+        verify(orgServiceClient, times(1)).getAssignmentsByEmployeeId(userId);
+        verify(orgServiceClient, never()).getAllAssignments();
+        verifyNoMoreInteractions(orgServiceClient);
+    }
+
+    @Test
+    void testUserListCallsEachRemoteOnce() {
+        List<UserResponseDto> users = userService.getAllUsers();
+        userService.getAllUsers();
+
+        assertEquals(USERS, users.size());
+        users.forEach(user -> assertEquals(1, user.getOrganizations().size()));
+        verify(orgServiceClient, times(1)).getAllAssignments();
+        verify(orgServiceClient, never()).getAssignmentsByEmployeeId(anyLong());
+        // 근무 정책은 목록마다 일괄 조회 1회
+        verify(workPolicyIntegrationService, times(2)).getWorkPoliciesByIds(anyCollection());
+        verify(workPolicyIntegrationService, never()).getWorkPolicyById(anyLong());
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    void testSummariesFetchOnlyPageUsersOnce() {
+        Page<UserSummaryDto> page = userService.getUserSummaries(PageRequest.of(0, PAGE_SIZE, Sort.by("id")));
+
+        assertEquals(PAGE_SIZE, page.getNumberOfElements());
+        assertEquals(USERS, page.getTotalElements());
+        ArgumentCaptor<Collection<Long>> requested = ArgumentCaptor.forClass(Collection.class);
+        verify(orgServiceClient, times(1)).getAssignmentsByEmployeeIds(requested.capture());
+        assertEquals(Set.copyOf(userIds.subList(0, PAGE_SIZE)), Set.copyOf(requested.getValue()));
+        verify(orgServiceClient, never()).getAllAssignments();
+
+        for (UserSummaryDto summary : page.getContent()) {
+            assertEquals(1, summary.getOrganizations().size());
+            assertEquals(summary.getId() % 3, summary.getOrganizations().get(0).getOrganizationId());
+        }
+    }
+
+    @Test
+    void testRepeatedPageIsServedFromCache() {
+        userService.getUserSummaries(PageRequest.of(0, PAGE_SIZE, Sort.by("id")));
+        userService.getUserSummaries(PageRequest.of(0, PAGE_SIZE, Sort.by("id")));
+        verify(orgServiceClient, times(1)).getAssignmentsByEmployeeIds(anyCollection());
+
+        // 다음 페이지는 그 페이지 사용자만 한 번 더 조회
+        userService.getUserSummaries(PageRequest.of(1, PAGE_SIZE, Sort.by("id")));
+        verify(orgServiceClient, times(2)).getAssignmentsByEmployeeIds(anyCollection());
+
+        // 배정이 바뀐 직원만 무효화되면 그 직원만 다시 조회
+        Long changed = userIds.get(3);
+        organizationIntegrationService.evictAssignments(null, null, List.of(changed));
+        userService.getUserSummaries(PageRequest.of(0, PAGE_SIZE, Sort.by("id")));
+        verify(orgServiceClient, times(1)).getAssignmentsByEmployeeIds(List.of(changed));
+        verify(orgServiceClient, times(3)).getAssignmentsByEmployeeIds(anyCollection());
+    }
+
+    @Test
+    void testOrgServiceFailureLeavesOrganizationsEmpty() {
+        when(orgServiceClient.getAssignmentsByEmployeeIds(any())).thenThrow(new IllegalStateException("org-service down"));
+
+        Page<UserSummaryDto> page = userService.getUserSummaries(PageRequest.of(0, PAGE_SIZE, Sort.by("id")));
+
+        assertEquals(PAGE_SIZE, page.getNumberOfElements());
+        page.getContent().forEach(summary -> assertTrue(summary.getOrganizations().isEmpty()));
+
+        // 실패는 캐시하지 않으므로 복구 후 다시 조회한다
+        when(orgServiceClient.getAssignmentsByEmployeeIds(any())).thenReturn(ApiResult.success(List.of()));
+        userService.getUserSummaries(PageRequest.of(0, PAGE_SIZE, Sort.by("id")));
+        verify(orgServiceClient, times(2)).getAssignmentsByEmployeeIds(anyCollection());
+    }
+
+    @Test
+    void testBulkProfilesKeepRequestOrderInOneQuery() {
+        Long first = userIds.get(5);
+        Long second = userIds.get(2);
+        Statistics statistics = statistics();
+
+        List<UserSummaryDto> profiles = userService.getUserSummariesByIds(List.of(first, 9999L, second, first), Set.of());
+
+        // 요청 순서 유지, 없는 ID와 중복 ID는 제외
+        assertEquals(List.of(first, second), profiles.stream().map(UserSummaryDto::getId).toList());
+        assertEquals("사용자5", profiles.get(0).getName());
+        assertTrue(profiles.get(0).getOrganizations().isEmpty());
+        assertNull(profiles.get(0).getWorkPolicy());
+        assertEquals(1, statistics.getPrepareStatementCount());
+        verifyNoMoreInteractions(orgServiceClient, workPolicyIntegrationService);
+    }
+
+    @Test
+    void testBulkProfilesLoadIncludesInOneQueryEach() {
+        List<Long> requested = userIds.subList(0, PAGE_SIZE);
+        for (Long userId : requested) {
+            User user = userRepository.findById(userId).orElseThrow();
+            user.updateWorkPolicyId(userId % 2 + 1);
+            userRepository.save(user);
+            userOrganizationRepository.save(UserOrganization.builder()
+                    .user(user)
+                    .organizationId(userId % 3)
+                    .organizationName("조직" + userId % 3)
+                    .isPrimary(true)
+                    .isLeader(false)
+                    .build());
+        }
+        when(workPolicyIntegrationService.getWorkPoliciesByIds(anyCollection())).thenReturn(Map.of(
+                1L, WorkPolicyResponseDto.builder().id(1L).name("기본 근무").build(),
+                2L, WorkPolicyResponseDto.builder().id(2L).name("시차 출퇴근").build()));
+        Statistics statistics = statistics();
+
+        List<UserSummaryDto> profiles = userService.getUserSummariesByIds(requested, Set.of(
+                UserBulkLookupRequestDto.INCLUDE_ORGANIZATIONS, UserBulkLookupRequestDto.INCLUDE_WORK_POLICY));
+
+        assertEquals(requested, profiles.stream().map(UserSummaryDto::getId).toList());
+        for (UserSummaryDto profile : profiles) {
+            assertEquals(1, profile.getOrganizations().size());
+            assertEquals(profile.getId() % 3, profile.getOrganizations().get(0).getOrganizationId());
+            assertEquals(profile.getId() % 2 + 1, profile.getWorkPolicy().getId());
+        }
+        // 프로필 1회 + 조직 1회, 근무 정책은 일괄 호출 1회이며 org-service는 호출하지 않는다
+        assertEquals(2, statistics.getPrepareStatementCount());
+        verify(workPolicyIntegrationService, times(1)).getWorkPoliciesByIds(Set.of(1L, 2L));
+        verifyNoMoreInteractions(orgServiceClient);
+    }
+
+    @Test
+    void testUserIdPagesVisitEveryUserOnce() {
+        List<Long> visited = new ArrayList<>();
+        Long cursor = null;
+        int pages = 0;
+        UserIdPageDto page;
+        do {
+            page = userService.getUserIdPage(cursor, PAGE_SIZE);
+            visited.addAll(page.getUserIds());
+            cursor = page.getNextCursor();
+            pages++;
+        } while (page.isHasNext());
+
+        assertEquals(userIds, visited);
+        assertEquals(3, pages);
+        assertEquals(USERS - 2 * PAGE_SIZE, page.getUserIds().size());
+        assertNull(page.getNextCursor());
+    }
+
+    @Test
+    void testUserIdPageOnExactBoundaryHasNoNext() {
+        UserIdPageDto first = userService.getUserIdPage(null, 5);
+        assertEquals(userIds.subList(0, 5), first.getUserIds());
+        assertTrue(first.isHasNext());
+        assertEquals(userIds.get(4), first.getNextCursor());
+
+        UserIdPageDto last = userService.getUserIdPage(userIds.get(USERS - 6), 5);
+        assertEquals(userIds.subList(USERS - 5, USERS), last.getUserIds());
+        assertFalse(last.isHasNext());
+        assertNull(last.getNextCursor());
+
+        UserIdPageDto empty = userService.getUserIdPage(userIds.get(USERS - 1), 5);
+        assertTrue(empty.getUserIds().isEmpty());
+        assertFalse(empty.isHasNext());
+    }
+
+    private Statistics statistics() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        return statistics;
+    }
+
+    private static OrgAssignmentDto assignment(Long employeeId) {
+        return OrgAssignmentDto.builder()
+                .employeeId(employeeId)
+                .organizationId(employeeId % 3)
+                .organizationName("조직" + employeeId % 3)
+                .isPrimary(true)
+                .isLeader(false)
+                .build();
+    }
+}
@@ -0,0 +1,16 @@
+package com.hermes.userservice.support;
+
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+
+/**
+ * JPA 슬라이스 테스트용 설정
+ * UserServiceApplication의 @EnableFeignClients가 슬라이스 컨텍스트에 Feign 클라이언트를 등록하지 않도록
+ * 테스트에서는 @ContextConfiguration으로 이 클래스와 대상 서비스만 지정한다.
+ */
+@Configuration
+@EntityScan("com.hermes.userservice.entity")
+@EnableJpaRepositories("com.hermes.userservice.repository")
+public class JpaTestConfiguration {
+}
@@ -0,0 +1,43 @@
+package com.hermes.userservice.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 검색 색인 토크나이저 검증 (정규화, 2-gram, LIKE 이스케이프)
+ */
+class SearchTokenizerTest {
+
+    @Test
+    void testNormalize() {
+        assertEquals("hong@hermes.com", SearchTokenizer.normalize("  Hong@Hermes.COM "));
+        assertEquals("", SearchTokenizer.normalize(null));
+    }
+
+    @Test
+    void testGramsSkipWhitespace() {
+        assertEquals(List.of("홍길", "길동"), List.copyOf(SearchTokenizer.grams("홍길동")));
+        assertEquals(Set.of("개발", "발팀", "팀장"), SearchTokenizer.grams("개발팀장"));
+        // 공백을 걸치는 gram("발 ", " 팀")은 만들지 않는다
+        assertEquals(List.of("개발", "팀장"), List.copyOf(SearchTokenizer.grams("개발 팀장")));
+        assertTrue(SearchTokenizer.grams("홍").isEmpty());
+        assertTrue(SearchTokenizer.grams(null).isEmpty());
+    }
+
+    @Test
+    void testGramsAreDistinct() {
+        assertEquals(List.of("aa"), List.copyOf(SearchTokenizer.grams("aaaa")));
+    }
+
+    @Test
+    void testContainsPatternEscapesWildcards() {
+        assertEquals("%", SearchTokenizer.containsPattern(""));
+        assertEquals("%", SearchTokenizer.containsPattern(null));
+        assertEquals("%길동%", SearchTokenizer.containsPattern("길동"));
+        assertEquals("%100!%!_a!!b%", SearchTokenizer.containsPattern("100%_a!b"));
+    }
+}